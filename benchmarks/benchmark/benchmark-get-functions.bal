@@ -12,7 +12,9 @@ function getFunction(string name) returns (function()) {
 function addFunctions() {
     addJSONFunctions();
     addIntFunctions();
+    addOptionalIntFunctions();
     addFloatFunctions();
+    addDecimalFunctions();
     addTimeFunctions();
     addSprintfFunctions();
     addIoFunctions();
@@ -61,6 +63,12 @@ function addIntFunctions() {
     functions["benchmarkIntegerTypesDivision"] = benchmarktypes:benchmarkIntegerTypesDivision;
 }
 
+function addOptionalIntFunctions() {
+    functions["benchmarkOptionalIntMax"] = benchmarktypes:benchmarkOptionalIntMax;
+    functions["benchmarkOptionalIntSum"] = benchmarktypes:benchmarkOptionalIntSum;
+    functions["benchmarkIntOrFloatAccumulation"] = benchmarktypes:benchmarkIntOrFloatAccumulation;
+}
+
 function addPrintFunctions() {
     functions["benchmarkPrintAnyVal"] = benchmarktypes:benchmarkPrintAnyVal;
     functions["benchmarkPrintlnAnyVal"] = benchmarktypes:benchmarkPrintlnAnyVal;
@@ -77,6 +85,15 @@ function addFloatFunctions() {
     functions["benchmarkFloatDivisionWithReturn"] = benchmarktypes:benchmarkFloatDivisionWithReturn;
 }
 
+function addDecimalFunctions() {
+    functions["benchmarkDecimalAddition"] = benchmarktypes:benchmarkDecimalAddition;
+    functions["benchmarkDecimalMultiplication"] = benchmarktypes:benchmarkDecimalMultiplication;
+    functions["benchmarkDecimalSubtraction"] = benchmarktypes:benchmarkDecimalSubtraction;
+    functions["benchmarkDecimalPriceSummation"] = benchmarktypes:benchmarkDecimalPriceSummation;
+    functions["benchmarkDecimalOrderTotal"] = benchmarktypes:benchmarkDecimalOrderTotal;
+    functions["benchmarkDecimalBalanceAfterFees"] = benchmarktypes:benchmarkDecimalBalanceAfterFees;
+}
+
 function addTimeFunctions() {
     functions["benchmarkCurrentTimeFunction"] = benchmarktypes:benchmarkCurrentTimeFunction;
     functions["benchmarkCreateTimeWithZoneIDFunction"] = benchmarktypes:benchmarkCreateTimeWithZoneIDFunction;
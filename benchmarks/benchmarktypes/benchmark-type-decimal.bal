@@ -0,0 +1,47 @@
+public function benchmarkDecimalAddition() {
+    decimal a = 10.15;
+    decimal b = 9.85;
+    decimal c = a + b;
+}
+
+public function benchmarkDecimalMultiplication() {
+    decimal a = 2.5;
+    decimal b = 5.25;
+    decimal c = a * b;
+}
+
+public function benchmarkDecimalSubtraction() {
+    decimal a = 25.5;
+    decimal b = 15.25;
+    decimal c = a - b;
+}
+
+public function benchmarkDecimalPriceSummation() {
+    decimal[] prices = [19.99, 5.49, 102.75, 0.99, 12.50, 7.25, 49.95, 3.10];
+    decimal total = 0;
+    foreach decimal price in prices {
+        total = total + price;
+    }
+}
+
+public function benchmarkDecimalOrderTotal() {
+    decimal[] prices = [19.99, 5.49, 102.75, 0.99, 12.50, 7.25, 49.95, 3.10];
+    decimal[] quantities = [3, 12, 1, 40, 2, 6, 1, 25];
+    decimal taxRate = 0.0825;
+    decimal total = 0;
+    int i = 0;
+    while (i < prices.length()) {
+        decimal lineTotal = prices[i] * quantities[i];
+        total = total + lineTotal + lineTotal * taxRate;
+        i = i + 1;
+    }
+}
+
+public function benchmarkDecimalBalanceAfterFees() {
+    decimal[] transactions = [1500.00, -250.75, -19.99, 320.10, -1200.00, 75.25, -5.00, 640.40];
+    decimal fee = 0.35;
+    decimal balance = 10000.00;
+    foreach decimal amount in transactions {
+        balance = balance + amount - fee;
+    }
+}
@@ -0,0 +1,40 @@
+public function benchmarkOptionalIntMax() {
+    int? max = ();
+    foreach int i in 0 ..< 1000 {
+        int value = (i * 7919) % 1000;
+        if max is () {
+            max = value;
+        } else if value > max {
+            max = value;
+        }
+    }
+}
+
+public function benchmarkOptionalIntSum() {
+    int? sum = ();
+    foreach int i in 0 ..< 1000 {
+        if i % 3 == 0 {
+            continue;
+        }
+        if sum is int {
+            sum = sum + i;
+        } else {
+            sum = i;
+        }
+    }
+}
+
+public function benchmarkIntOrFloatAccumulation() {
+    int|float total = 0;
+    foreach int i in 0 ..< 1000 {
+        if total is int {
+            if total > 100000 {
+                total = <float> total / 2.0;
+            } else {
+                total = total + i;
+            }
+        } else {
+            total = total + 1.5;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+#!/bin/bash
+# Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+#
+# WSO2 Inc. licenses this file to you under the Apache License,
+# Version 2.0 (the "License"); you may not use this file except
+# in compliance with the License.
+# You may obtain a copy of the License at
+#
+# http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing,
+# software distributed under the License is distributed on an
+# "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+# KIND, either express or implied.  See the License for the
+# specific language governing permissions and limitations
+# under the License.
+
+# Measures the time from starting the sample service until it serves its first request, with and without the
+# class data sharing archive created by 'ballerina build --cds-archive'.
+#
+# Usage: ./startup-benchmark.sh [iterations]
+
+set -e
+
+ITERATIONS=${1:-10}
+SCRIPT_DIR=$(cd "$(dirname "$0")" && pwd)
+URL="http://localhost:9090/hello/greet"
+
+cd "$SCRIPT_DIR"
+ballerina build --cds-archive startup_service.bal > /dev/null
+
+# Prints the milliseconds taken until the first request to the service succeeds.
+time_to_first_request() {
+    local start end pid
+    start=$(date +%s%N)
+    java "$@" -jar startup_service.jar > /dev/null 2>&1 &
+    pid=$!
+    until curl -sf "$URL" > /dev/null; do
+        sleep 0.01
+    done
+    end=$(date +%s%N)
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo $(((end - start) / 1000000))
+}
+
+run() {
+    local label=$1 total=0 time
+    shift
+    for ((i = 0; i < ITERATIONS; i++)); do
+        time=$(time_to_first_request "$@")
+        total=$((total + time))
+    done
+    echo "$label: $((total / ITERATIONS)) ms (average of $ITERATIONS runs)"
+}
+
+run "Without CDS archive" -Xshare:auto
+run "With CDS archive" -XX:SharedArchiveFile=startup_service.jsa
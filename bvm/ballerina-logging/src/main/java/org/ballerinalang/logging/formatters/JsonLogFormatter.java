@@ -19,19 +19,264 @@
 package org.ballerinalang.logging.formatters;
 
 import com.google.gson.Gson;
+import org.ballerinalang.logging.util.BLogLevelMapper;
+import org.ballerinalang.logging.util.StructuredLogRecord;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.logging.Formatter;
 import java.util.logging.LogRecord;
 
 /**
- * JSON log formatter for formatting HTTP trace log files.
+ * JSON log formatter for formatting HTTP trace log files, and the log API when configured for its handler.
+ * <p>
+ * {@link StructuredLogRecord}s are written field by field into a reusable, per thread buffer instead of being
+ * serialized reflectively. The buffer holds characters when formatting to a string and UTF-8 bytes when formatting
+ * to a stream, so neither path encodes or decodes the record twice.
  *
  * @since 0.970.0
  */
 public class JsonLogFormatter extends Formatter {
 
+    private static final Gson GSON = new Gson();
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<CharJsonWriter> CHAR_WRITER = ThreadLocal.withInitial(CharJsonWriter::new);
+    private static final ThreadLocal<ByteJsonWriter> BYTE_WRITER = ThreadLocal.withInitial(ByteJsonWriter::new);
+
     @Override
     public String format(LogRecord record) {
-        return new Gson().toJson(record) + System.getProperty("line.separator");
+        if (record instanceof StructuredLogRecord) {
+            CharJsonWriter writer = CHAR_WRITER.get();
+            writer.reset();
+            writeRecord((StructuredLogRecord) record, writer);
+            return writer.chars.toString();
+        }
+        return GSON.toJson(record) + LINE_SEPARATOR;
+    }
+
+    /**
+     * Formats the given record as a single JSON line and writes it directly to the output stream, without creating
+     * an intermediate string.
+     *
+     * @param record log record to be formatted
+     * @param out    stream to write the formatted record to
+     * @throws IOException if writing to the stream fails
+     */
+    public void format(StructuredLogRecord record, OutputStream out) throws IOException {
+        ByteJsonWriter writer = BYTE_WRITER.get();
+        writer.reset();
+        writeRecord(record, writer);
+        out.write(writer.bytes, 0, writer.count);
+    }
+
+    private static void writeRecord(StructuredLogRecord record, JsonWriter writer) {
+        writer.writeAscii("{\"time\":");
+        writer.writeAscii(Long.toString(record.getMillis()));
+        writer.writeAscii(",\"level\":");
+        writer.writeString(BLogLevelMapper.getBallerinaLogLevel(record.getLevel()));
+        if (record.getLoggerName() != null) {
+            writer.writeAscii(",\"logger\":");
+            writer.writeString(record.getLoggerName());
+        }
+        writer.writeAscii(",\"message\":");
+        writer.writeString(record.getRawMessage());
+        for (int i = 0; i < record.getFieldCount(); i++) {
+            writer.writeAscii(',');
+            writer.writeString(record.getFieldKey(i));
+            writer.writeAscii(':');
+            writer.writeValue(record.getFieldValue(i));
+        }
+        if (record.getThrown() != null) {
+            writer.writeAscii(",\"error\":");
+            writer.writeString(record.getThrown().toString());
+        }
+        writer.writeAscii('}');
+        writer.writeAscii(LINE_SEPARATOR);
+    }
+
+    /**
+     * Writes JSON tokens into a reusable buffer. Subclasses decide how characters are stored; escaping is shared.
+     */
+    private abstract static class JsonWriter {
+
+        abstract void writeAscii(char value);
+
+        abstract void writeAscii(String value);
+
+        /**
+         * Writes a character which is not ASCII and not a surrogate.
+         */
+        abstract void writeChar(char value);
+
+        abstract void writeCodePoint(char high, char low);
+
+        void writeValue(Object value) {
+            if (value == null) {
+                writeAscii("null");
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Boolean) {
+                writeAscii(value.toString());
+            } else if (value instanceof Double && Double.isFinite((Double) value)) {
+                writeAscii(value.toString());
+            } else {
+                writeString(value.toString());
+            }
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeAscii("null");
+                return;
+            }
+            writeAscii('"');
+            int length = value.length();
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"':
+                        writeAscii("\\\"");
+                        break;
+                    case '\\':
+                        writeAscii("\\\\");
+                        break;
+                    case '\n':
+                        writeAscii("\\n");
+                        break;
+                    case '\r':
+                        writeAscii("\\r");
+                        break;
+                    case '\t':
+                        writeAscii("\\t");
+                        break;
+                    default:
+                        if (c < 0x20) {
+                            writeUnicodeEscape(c);
+                        } else if (c < 0x80) {
+                            writeAscii(c);
+                        } else if (Character.isHighSurrogate(c) && i + 1 < length
+                                && Character.isLowSurrogate(value.charAt(i + 1))) {
+                            writeCodePoint(c, value.charAt(++i));
+                        } else if (Character.isSurrogate(c)) {
+                            // Unpaired surrogates cannot be encoded as UTF-8, hence escape them.
+                            writeUnicodeEscape(c);
+                        } else {
+                            writeChar(c);
+                        }
+                }
+            }
+            writeAscii('"');
+        }
+
+        private void writeUnicodeEscape(char c) {
+            writeAscii('\\');
+            writeAscii('u');
+            writeAscii(HEX[(c >> 12) & 0xf]);
+            writeAscii(HEX[(c >> 8) & 0xf]);
+            writeAscii(HEX[(c >> 4) & 0xf]);
+            writeAscii(HEX[c & 0xf]);
+        }
+    }
+
+    /**
+     * A JSON writer which appends to a string builder, used when the record is formatted to a string.
+     */
+    private static class CharJsonWriter extends JsonWriter {
+
+        private StringBuilder chars = new StringBuilder(INITIAL_BUFFER_SIZE);
+
+        void reset() {
+            // Do not hold on to the memory of an unusually large record for the lifetime of the thread
+            if (chars.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+                chars = new StringBuilder(INITIAL_BUFFER_SIZE);
+            } else {
+                chars.setLength(0);
+            }
+        }
+
+        @Override
+        void writeAscii(char value) {
+            chars.append(value);
+        }
+
+        @Override
+        void writeAscii(String value) {
+            chars.append(value);
+        }
+
+        @Override
+        void writeChar(char value) {
+            chars.append(value);
+        }
+
+        @Override
+        void writeCodePoint(char high, char low) {
+            chars.append(high).append(low);
+        }
+    }
+
+    /**
+     * A JSON writer which encodes to a growable UTF-8 byte buffer, used when the record is written to a stream.
+     */
+    private static class ByteJsonWriter extends JsonWriter {
+
+        private byte[] bytes = new byte[INITIAL_BUFFER_SIZE];
+        private int count;
+
+        void reset() {
+            count = 0;
+            // Do not hold on to the memory of an unusually large record for the lifetime of the thread
+            if (bytes.length > MAX_RETAINED_BUFFER_SIZE) {
+                bytes = new byte[INITIAL_BUFFER_SIZE];
+            }
+        }
+
+        @Override
+        void writeAscii(char value) {
+            ensureCapacity(1);
+            bytes[count++] = (byte) value;
+        }
+
+        @Override
+        void writeAscii(String value) {
+            int length = value.length();
+            ensureCapacity(length);
+            for (int i = 0; i < length; i++) {
+                bytes[count++] = (byte) value.charAt(i);
+            }
+        }
+
+        @Override
+        void writeChar(char value) {
+            if (value < 0x800) {
+                ensureCapacity(2);
+                bytes[count++] = (byte) (0xc0 | (value >> 6));
+                bytes[count++] = (byte) (0x80 | (value & 0x3f));
+            } else {
+                ensureCapacity(3);
+                bytes[count++] = (byte) (0xe0 | (value >> 12));
+                bytes[count++] = (byte) (0x80 | ((value >> 6) & 0x3f));
+                bytes[count++] = (byte) (0x80 | (value & 0x3f));
+            }
+        }
+
+        @Override
+        void writeCodePoint(char high, char low) {
+            int codePoint = Character.toCodePoint(high, low);
+            ensureCapacity(4);
+            bytes[count++] = (byte) (0xf0 | (codePoint >> 18));
+            bytes[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+            bytes[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+            bytes[count++] = (byte) (0x80 | (codePoint & 0x3f));
+        }
+
+        private void ensureCapacity(int length) {
+            if (count + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length << 1, count + length));
+            }
+        }
     }
 }
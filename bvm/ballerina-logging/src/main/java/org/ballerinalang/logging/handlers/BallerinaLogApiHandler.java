@@ -15,15 +15,65 @@
   *  specific language governing permissions and limitations
   *  under the License.
   */
+
  package org.ballerinalang.logging.handlers;
 
+ import org.ballerinalang.logging.formatters.JsonLogFormatter;
+ import org.ballerinalang.logging.util.StructuredLogRecord;
+
+ import java.io.IOException;
+ import java.io.OutputStream;
+ import java.nio.charset.Charset;
+ import java.nio.charset.StandardCharsets;
  import java.util.logging.ConsoleHandler;
+ import java.util.logging.ErrorManager;
+ import java.util.logging.Formatter;
+ import java.util.logging.LogRecord;
 
  /**
   * Console log handler used for Ballerina Log API.
+  * <p>
+  * When configured with a {@link JsonLogFormatter}, the structured records of the log API are written to the console
+  * as UTF-8 bytes by the formatter, without creating a string for each record.
   */
  public class BallerinaLogApiHandler extends ConsoleHandler {
 
+     private final OutputStream out;
+
      public BallerinaLogApiHandler() {
+         // The console handler writes to the standard error stream as it is at the time of its creation
+         this.out = System.err;
+     }
+
+     @Override
+     public synchronized void publish(LogRecord record) {
+         Formatter formatter = getFormatter();
+         if (!(record instanceof StructuredLogRecord) || !(formatter instanceof JsonLogFormatter) || !isUtf8()) {
+             super.publish(record);
+             return;
+         }
+         if (!isLoggable(record)) {
+             return;
+         }
+         try {
+             // Write out any characters of earlier records which are still buffered by the writer of the handler
+             super.flush();
+             ((JsonLogFormatter) formatter).format((StructuredLogRecord) record, out);
+             out.flush();
+         } catch (IOException e) {
+             reportError(null, e, ErrorManager.WRITE_FAILURE);
+         } catch (RuntimeException e) {
+             reportError(null, e, ErrorManager.FORMAT_FAILURE);
+         }
+     }
+
+     private boolean isUtf8() {
+         String encoding = getEncoding();
+         try {
+             Charset charset = encoding == null ? Charset.defaultCharset() : Charset.forName(encoding);
+             return StandardCharsets.UTF_8.equals(charset);
+         } catch (IllegalArgumentException e) {
+             return false;
+         }
      }
  }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.logging.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A log record which carries key/value fields as-is along with a lazily evaluated message. The message supplier is
+ * only invoked when a handler actually asks for the message, i.e. after the level of the record has been checked.
+ *
+ * @since 2.0.0
+ */
+public class StructuredLogRecord extends LogRecord {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient Supplier<String> messageSupplier;
+    private final List<String> keys = new ArrayList<>(4);
+    private final List<Object> values = new ArrayList<>(4);
+    private String renderedMessage;
+
+    public StructuredLogRecord(Level level, Supplier<String> messageSupplier) {
+        super(level, null);
+        this.messageSupplier = messageSupplier;
+    }
+
+    /**
+     * Adds a key/value field to the record. The value is kept as-is and is only converted to a string when the
+     * record is formatted.
+     *
+     * @param key   field name
+     * @param value field value
+     * @return this record
+     */
+    public StructuredLogRecord addField(String key, Object value) {
+        keys.add(key);
+        values.add(value);
+        return this;
+    }
+
+    public int getFieldCount() {
+        return keys.size();
+    }
+
+    public String getFieldKey(int index) {
+        return keys.get(index);
+    }
+
+    public Object getFieldValue(int index) {
+        return values.get(index);
+    }
+
+    /**
+     * Returns the raw message, evaluating the message supplier once if it has not been evaluated yet. Unlike
+     * {@link #getMessage()}, the key/value fields are not appended.
+     *
+     * @return the log message
+     */
+    public String getRawMessage() {
+        if (messageSupplier != null) {
+            super.setMessage(messageSupplier.get());
+            messageSupplier = null;
+        }
+        return super.getMessage();
+    }
+
+    /**
+     * Returns the message with the key/value fields appended, so that plain text formatters which only know about
+     * {@link LogRecord#getMessage()} still render the fields.
+     *
+     * @return the rendered log message
+     */
+    @Override
+    public String getMessage() {
+        if (renderedMessage != null) {
+            return renderedMessage;
+        }
+        String message = getRawMessage();
+        if (keys.isEmpty()) {
+            renderedMessage = message;
+            return message;
+        }
+        StringBuilder builder = new StringBuilder(message == null ? "" : message);
+        for (int i = 0; i < keys.size(); i++) {
+            builder.append(' ').append(keys.get(i)).append('=').append(values.get(i));
+        }
+        renderedMessage = builder.toString();
+        return renderedMessage;
+    }
+
+    @Override
+    public void setMessage(String message) {
+        this.messageSupplier = null;
+        this.renderedMessage = null;
+        super.setMessage(message);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime;
+
+import io.ballerina.runtime.api.values.BXML;
+import io.ballerina.runtime.util.exceptions.BallerinaException;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import static javax.xml.stream.XMLStreamConstants.END_DOCUMENT;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+/**
+ * Reads the elements at a given path of an xml document one at a time, using {@code XMLStreamReader}. Only the
+ * element being returned is built, and the other elements are skipped without being built, hence documents which
+ * are too large to be built as a whole can be processed.
+ *
+ * @since 2.0.0
+ */
+public class XMLElementReader implements Iterator<BXML> {
+
+    private final XMLStreamReader xmlStreamReader;
+    private final List<QName> path;
+    // Number of elements in the path, which are currently open in the document.
+    private int matched;
+    private BXML nextElement;
+    private boolean done;
+
+    /**
+     * Create a reader for the elements at the given path. Each name in the path is a qualified name, in the
+     * {@code {namespace}localName} form. The first name is matched against the document element. If the path is
+     * empty, the top level elements are read.
+     *
+     * @param reader reader of the xml document
+     * @param path qualified names of the elements, starting from the document element
+     */
+    public XMLElementReader(Reader reader, List<String> path) {
+        this.xmlStreamReader = XMLTreeBuilder.createXMLStreamReader(reader);
+        this.path = new ArrayList<>(path.size());
+        for (String name : path) {
+            this.path.add(QName.valueOf(name));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextElement == null && !done) {
+            nextElement = readNextElement();
+            done = nextElement == null;
+        }
+        return nextElement != null;
+    }
+
+    @Override
+    public BXML next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        BXML element = nextElement;
+        nextElement = null;
+        return element;
+    }
+
+    private BXML readNextElement() {
+        try {
+            while (xmlStreamReader.hasNext()) {
+                switch (xmlStreamReader.next()) {
+                    case START_ELEMENT:
+                        if (matched == path.size()) {
+                            return new XMLTreeBuilder(xmlStreamReader).parseElement();
+                        }
+                        if (!xmlStreamReader.getName().equals(path.get(matched))) {
+                            skipElement();
+                        } else if (matched == path.size() - 1) {
+                            return new XMLTreeBuilder(xmlStreamReader).parseElement();
+                        } else {
+                            matched++;
+                        }
+                        break;
+                    case END_ELEMENT:
+                        // Elements which are not in the path are skipped, hence this is the end of an element in it.
+                        matched--;
+                        break;
+                    case END_DOCUMENT:
+                        xmlStreamReader.close();
+                        return null;
+                    default:
+                        break;
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new BallerinaException(e.getMessage(), e);
+        }
+        return null;
+    }
+
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int next = xmlStreamReader.next();
+            if (next == START_ELEMENT) {
+                depth++;
+            } else if (next == END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+}
@@ -46,8 +46,6 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
@@ -145,51 +143,20 @@ public class XMLFactory {
      * @return Concatenated XML sequence
      */
     public static XMLValue concatenate(XMLValue firstSeq, XMLValue secondSeq) {
-        ArrayList<BXML> concatenatedList = new ArrayList<>();
-
         if (firstSeq.getNodeType() == XMLNodeType.TEXT && secondSeq.getNodeType() == XMLNodeType.TEXT) {
             return new XMLText(firstSeq.getTextValue() + secondSeq.getTextValue());
         }
 
-        // Add all the items in the first sequence
-        if (firstSeq.getNodeType() == XMLNodeType.SEQUENCE) {
-            concatenatedList.addAll(((XMLSequence) firstSeq).getChildrenList());
-        } else if (!firstSeq.isEmpty()) {
-            concatenatedList.add(firstSeq);
-        }
-
-        // When last item of left seq and first item of right seq are both text nodes merge them into single consecutive
-        // text node.
-        if (!concatenatedList.isEmpty()) {
-            int lastIndexOFLeftChildren = concatenatedList.size() - 1;
-            BXML lastItem = concatenatedList.get(lastIndexOFLeftChildren);
-            if (lastItem.getNodeType() == XMLNodeType.TEXT && secondSeq.getNodeType() == XMLNodeType.SEQUENCE) {
-                List<BXML> rightChildren = ((XMLSequence) secondSeq).getChildrenList();
-                if (!rightChildren.isEmpty()) {
-                    BXML firsOfRightSeq = rightChildren.get(0);
-                    if (firsOfRightSeq.getNodeType() == XMLNodeType.TEXT) {
-                        concatenatedList.remove(lastIndexOFLeftChildren); // remove last item, from already copied list
-                        concatenatedList.addAll(rightChildren);
-                        String merged = ((XMLText) lastItem).getTextValue() + ((XMLText) firsOfRightSeq).getTextValue();
-                        concatenatedList.set(lastIndexOFLeftChildren, new XMLText(merged));
-                        return new XMLSequence(concatenatedList);
-                    }
-                }
-            } else if (lastItem.getNodeType() == XMLNodeType.TEXT && secondSeq.getNodeType() == XMLNodeType.TEXT) {
-                String merged = lastItem.getTextValue() + secondSeq.getTextValue();
-                concatenatedList.set(lastIndexOFLeftChildren, new XMLText(merged));
-                return new XMLSequence(concatenatedList);
-            }
-        }
+        // The items are not copied here. When the last item of left seq and the first item of right seq are both
+        // text nodes, they are merged into a single text node when the concatenated sequence is flattened.
+        return XMLSequence.concat(toSequence(firstSeq), toSequence(secondSeq));
+    }
 
-        // Add all the items in the second sequence
-        if (secondSeq.getNodeType() == XMLNodeType.SEQUENCE) {
-            concatenatedList.addAll(((XMLSequence) secondSeq).getChildrenList());
-        } else if (!secondSeq.isEmpty()) {
-            concatenatedList.add(secondSeq);
+    private static XMLSequence toSequence(XMLValue xmlValue) {
+        if (xmlValue.getNodeType() == XMLNodeType.SEQUENCE) {
+            return (XMLSequence) xmlValue;
         }
-
-        return new XMLSequence(concatenatedList);
+        return new XMLSequence(xmlValue);
     }
 
     /**
@@ -73,24 +73,39 @@ public class XMLTreeBuilder {
     private Map<String, String> namespaces; // xml ns declarations from Bal source [xmlns "http://ns.com" as ns]
     private Deque<BXMLSequence> seqDeque;
     private Deque<List<BXML>> siblingDeque;
+    private Deque<XMLItem> elementDeque;
 
     public XMLTreeBuilder(String str) {
         this(new StringReader(str));
     }
 
     public XMLTreeBuilder(Reader stringReader) {
+        this(createXMLStreamReader(stringReader));
+    }
+
+    /**
+     * Create a tree builder which reads from the given cursor. This is used to build one element at a time from a
+     * document, see {@link #parseElement()}.
+     *
+     * @param xmlStreamReader cursor to read xml from
+     */
+    XMLTreeBuilder(XMLStreamReader xmlStreamReader) {
+        this.xmlStreamReader = xmlStreamReader;
         namespaces = new HashMap<>();
         seqDeque = new ArrayDeque<>();
         siblingDeque = new ArrayDeque<>();
+        elementDeque = new ArrayDeque<>();
 
         ArrayList<BXML> siblings = new ArrayList<>();
         siblingDeque.push(siblings);
         seqDeque.push(new XMLSequence(siblings));
+    }
 
+    static XMLStreamReader createXMLStreamReader(Reader reader) {
         try {
-            xmlStreamReader = xmlInputFactory.createXMLStreamReader(stringReader);
+            return xmlInputFactory.createXMLStreamReader(reader);
         } catch (XMLStreamException e) {
-            handleXMLStreamException(e);
+            throw new BallerinaException(e.getMessage(), e);
         }
     }
 
@@ -103,31 +118,10 @@ public class XMLTreeBuilder {
         try {
             while (xmlStreamReader.hasNext()) {
                 int next = xmlStreamReader.next();
-                switch (next) {
-                    case START_ELEMENT:
-                        readElement(xmlStreamReader);
-                        break;
-                    case END_ELEMENT:
-                        endElement();
-                        break;
-                    case PROCESSING_INSTRUCTION:
-                        readPI(xmlStreamReader);
-                        break;
-                    case COMMENT:
-                        readComment(xmlStreamReader);
-                        break;
-                    case CDATA:
-                    case CHARACTERS:
-                        readText(xmlStreamReader);
-                        break;
-                    case END_DOCUMENT:
-                        return buildDocument();
-                    case DTD:
-                        handleDTD(xmlStreamReader);
-                        break;
-                    default:
-                        assert false;
+                if (next == END_DOCUMENT) {
+                    return buildDocument();
                 }
+                readNode(next);
             }
         } catch (Exception e) {
             handleXMLStreamException(e);
@@ -136,6 +130,75 @@ public class XMLTreeBuilder {
         return null;
     }
 
+    /**
+     * Build the element which starts at the current position of the cursor. The cursor is left at the end of the
+     * element.
+     *
+     * @return the element
+     */
+    BXML parseElement() {
+        try {
+            int depth = 0;
+            int next = xmlStreamReader.getEventType();
+            while (true) {
+                readNode(next);
+                if (next == START_ELEMENT) {
+                    if (depth++ == 0) {
+                        declareInheritedDefaultNamespace(elementDeque.peek());
+                    }
+                } else if (next == END_ELEMENT && --depth == 0) {
+                    break;
+                }
+                next = xmlStreamReader.next();
+            }
+        } catch (Exception e) {
+            handleXMLStreamException(e);
+        }
+
+        return siblingDeque.peek().get(0);
+    }
+
+    /**
+     * Declare the default namespace in scope on the element being built, when it is declared on an ancestor which is
+     * not part of the built element. Prefixed namespaces are already declared on each element which uses them.
+     *
+     * @param xmlItem element which is built without its ancestors
+     */
+    private void declareInheritedDefaultNamespace(XMLItem xmlItem) {
+        MapValue<BString, BString> attributesMap = xmlItem.getAttributesMap();
+        BString defaultNS = StringUtils.fromString(XMLItem.XMLNS_URL_PREFIX + "xmlns");
+        String namespaceURI = xmlStreamReader.getNamespaceURI("");
+        if (namespaceURI != null && !namespaceURI.isEmpty() && !attributesMap.containsKey(defaultNS)) {
+            attributesMap.put(defaultNS, StringUtils.fromString(namespaceURI));
+        }
+    }
+
+    private void readNode(int next) {
+        switch (next) {
+            case START_ELEMENT:
+                readElement(xmlStreamReader);
+                break;
+            case END_ELEMENT:
+                endElement();
+                break;
+            case PROCESSING_INSTRUCTION:
+                readPI(xmlStreamReader);
+                break;
+            case COMMENT:
+                readComment(xmlStreamReader);
+                break;
+            case CDATA:
+            case CHARACTERS:
+                readText(xmlStreamReader);
+                break;
+            case DTD:
+                handleDTD(xmlStreamReader);
+                break;
+            default:
+                assert false;
+        }
+    }
+
     private void handleDTD(XMLStreamReader xmlStreamReader) {
         // ignore
     }
@@ -163,6 +226,7 @@ public class XMLTreeBuilder {
     private void endElement() {
         this.siblingDeque.pop();
         this.seqDeque.pop();
+        this.elementDeque.pop();
     }
 
     private void readElement(XMLStreamReader xmlStreamReader) {
@@ -171,6 +235,10 @@ public class XMLTreeBuilder {
                 elemName.getNamespaceURI(), elemName.getPrefix());
         XMLItem xmlItem = (XMLItem) XMLFactory.createXMLElement(name, name, null);
 
+        if (!elementDeque.isEmpty()) {
+            xmlItem.setParent(elementDeque.peek());
+        }
+        elementDeque.push(xmlItem);
         seqDeque.push(xmlItem.getChildrenSeq());
 
         siblingDeque.peek().add(xmlItem);
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.api;
+
+import io.ballerina.runtime.api.types.AttachedFunctionType;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.scheduling.Strand;
+
+/**
+ * A method of a Ballerina object which is looked up once, so that it can be called repeatedly without resolving
+ * the method name on each call. Listeners can create one for each resource when a service is attached.
+ *
+ * @since 2.0.0
+ */
+public class MethodInvoker {
+
+    private final BObject object;
+    private final String methodName;
+    private final int methodIndex;
+    private final int argCount;
+
+    public MethodInvoker(BObject object, String methodName) {
+        this.object = object;
+        this.methodName = methodName;
+        this.methodIndex = object.getMethodIndex(methodName);
+        this.argCount = getParamCount(object, methodName) * 2;
+    }
+
+    private static int getParamCount(BObject object, String methodName) {
+        for (AttachedFunctionType function : object.getType().getAttachedFunctions()) {
+            if (function.getName().equals(methodName)) {
+                return function.getParameterTypes().length;
+            }
+        }
+        return 0;
+    }
+
+    public BObject getObject() {
+        return object;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * Returns a new argument array for a call to the method. Each parameter takes two elements of the array, the
+     * argument and whether the argument is provided.
+     *
+     * @return argument array sized for the parameters of the method
+     */
+    public Object[] newArgs() {
+        return new Object[argCount];
+    }
+
+    public Object call(Strand strand, Object[] args) {
+        if (methodIndex < 0) {
+            // Objects which are not generated from Ballerina code may only support calls by name
+            return object.call(strand, methodName, args);
+        }
+        return object.call(strand, methodIndex, args);
+    }
+}
@@ -98,4 +98,49 @@ public class Runtime {
         scheduler.schedule(new Object[1], func, null, callback, properties, PredefinedTypes.TYPE_NULL, strandName,
                            metadata);
     }
+
+    /**
+     * Invoke an Object method, which was looked up beforehand, asynchronously. This will schedule the function and
+     * block the strand.
+     *
+     * @param method     Object method to invoke.
+     * @param strandName Name for newly creating strand which is used to execute the function pointer. This is optional
+     *                   and can be null.
+     * @param metadata   Meta data of new strand.
+     * @param callback   Callback which will get notify once method execution done.
+     * @param args       Ballerina function arguments, see {@link MethodInvoker#newArgs()}.
+     * @return the result of the function invocation
+     */
+    public Object invokeMethodAsync(MethodInvoker method, String strandName, StrandMetadata metadata,
+                                    Callback callback, Object[] args) {
+        Function<?, ?> func = o -> method.call((Strand) (((Object[]) o)[0]), args);
+        return scheduler.schedule(new Object[1], func, null, callback, strandName, metadata).result;
+    }
+
+    /**
+     * Invoke an Object method, which was looked up beforehand, asynchronously. This will schedule the function and
+     * block the strand.
+     *
+     * @param method     Object method to invoke.
+     * @param strandName Name for newly creating strand which is used to execute the function pointer. This is
+     *                   optional and can be null.
+     * @param metadata   Meta data of new strand.
+     * @param callback   Callback which will get notify once method execution done.
+     * @param properties Set of properties for strand
+     * @param args       Ballerina function arguments, see {@link MethodInvoker#newArgs()}.
+     */
+    public void invokeMethodAsync(MethodInvoker method, String strandName, StrandMetadata metadata,
+                                  Callback callback, Map<String, Object> properties, Object[] args) {
+        Function<Object[], Object> func = objects -> {
+            Strand strand = (Strand) objects[0];
+            if (ObserveUtils.isObservabilityEnabled() && properties != null &&
+                    properties.containsKey(ObservabilityConstants.KEY_OBSERVER_CONTEXT)) {
+                strand.observerContext =
+                        (ObserverContext) properties.remove(ObservabilityConstants.KEY_OBSERVER_CONTEXT);
+            }
+            return method.call(strand, args);
+        };
+        scheduler.schedule(new Object[1], func, null, callback, properties, PredefinedTypes.TYPE_NULL, strandName,
+                           metadata);
+    }
 }
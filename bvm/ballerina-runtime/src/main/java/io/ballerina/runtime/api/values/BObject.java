@@ -19,6 +19,7 @@ package io.ballerina.runtime.api.values;
 
 import io.ballerina.runtime.api.types.ObjectType;
 import io.ballerina.runtime.scheduling.Strand;
+import io.ballerina.runtime.util.exceptions.BLangRuntimeException;
 
 import java.util.HashMap;
 
@@ -33,6 +34,28 @@ public interface BObject extends BValue {
 
     Object call(Strand strand, String funcName, Object... args);
 
+    /**
+     * Returns the index of the given method, which can be used to call the method without looking it up by name.
+     *
+     * @param funcName name of the method
+     * @return index of the method or -1 if the method cannot be called by index
+     */
+    default int getMethodIndex(String funcName) {
+        return -1;
+    }
+
+    /**
+     * Calls the method with the given index, as returned by {@link #getMethodIndex(String)}.
+     *
+     * @param strand      strand to call the method on
+     * @param methodIndex index of the method
+     * @param args        method arguments
+     * @return the result of the method
+     */
+    default Object call(Strand strand, int methodIndex, Object... args) {
+        throw new BLangRuntimeException("No method with index: " + methodIndex);
+    }
+
     BFuture start(Strand strand, String funcName, Object... args);
 
     ObjectType getType();
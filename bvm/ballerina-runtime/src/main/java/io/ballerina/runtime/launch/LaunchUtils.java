@@ -39,6 +39,7 @@ import static io.ballerina.runtime.observability.ObservabilityConstants.CONFIG_O
 import static io.ballerina.runtime.observability.ObservabilityConstants.CONFIG_TRACING_ENABLED;
 import static io.ballerina.runtime.util.BLangConstants.BALLERINA_ARGS_INIT_PREFIX;
 import static io.ballerina.runtime.util.BLangConstants.BALLERINA_ARGS_INIT_PREFIX_LENGTH;
+import static io.ballerina.runtime.util.BLangConstants.CDS_TRAINING_RUN_PROPERTY;
 import static io.ballerina.runtime.util.BLangConstants.CONFIG_FILE_PROPERTY;
 import static io.ballerina.runtime.util.BLangConstants.CONFIG_SEPARATOR;
 import static io.ballerina.runtime.util.BLangConstants.UTIL_LOGGING_CONFIG_CLASS_PROPERTY;
@@ -103,6 +104,16 @@ public class LaunchUtils {
         listeners.forEach(listener -> listener.afterRunProgram(isService));
     }
 
+    /**
+     * Ends the program once the modules are initialized, if it is run to record the classes to be stored in the
+     * class data sharing archive of the executable. The shutdown hooks are not run, since nothing has been started.
+     */
+    public static void endTrainingRun() {
+        if (Boolean.getBoolean(CDS_TRAINING_RUN_PROPERTY)) {
+            Runtime.getRuntime().halt(0);
+        }
+    }
+
     /**
      * Initializes the {@link ConfigRegistry} and loads {@link LogManager} configs.
      */
@@ -52,6 +52,7 @@ public class BLangConstants {
     public static final int BALLERINA_ARGS_INIT_PREFIX_LENGTH = BALLERINA_ARGS_INIT_PREFIX.length();
     public static final String CONFIG_SEPARATOR = "=";
     public static final String CONFIG_FILE_PROPERTY = "b7a.config.file";
+    public static final String CDS_TRAINING_RUN_PROPERTY = "ballerina.cds.trainingRun";
 
     public static final String EMPTY = "";
     public static final String ANON_ORG = "$anon";
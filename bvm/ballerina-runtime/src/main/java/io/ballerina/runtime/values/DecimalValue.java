@@ -42,6 +42,16 @@ import java.util.Map;
  */
 public class DecimalValue implements SimpleValue, BDecimal {
 
+    // Largest scale of a decimal in the compact representation. Any two scales in the compact representation can be
+    // aligned by multiplying with one of the LONG_TEN_POWERS.
+    private static final int MAX_COMPACT_SCALE = 18;
+
+    private static final long[] LONG_TEN_POWERS = {
+            1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L, 10000000000L,
+            100000000000L, 1000000000000L, 10000000000000L, 100000000000000L, 1000000000000000L,
+            10000000000000000L, 100000000000000000L, 1000000000000000000L
+    };
+
     private static final DecimalValue POSITIVE_INF =
             new DecimalValue("9.999999999999999999999999999999999E6144", DecimalValueKind.POSITIVE_INFINITY);
 
@@ -54,15 +64,35 @@ public class DecimalValue implements SimpleValue, BDecimal {
     @Deprecated
     public DecimalValueKind valueKind = DecimalValueKind.OTHER;
 
+    // The value is null until it is first used, if the decimal was created in the compact representation.
     private BigDecimal value;
 
+    // Compact representation of a decimal with at most 18 digits, as an unscaled value and a scale. Results of addition,
+    // subtraction and multiplication of such decimals have at most 19 digits, and are never rounded with decimal128.
+    // Hence, they are computed with long arithmetic when they fit in a long, and are equal to the BigDecimal results.
+    private final boolean compact;
+    private final long unscaledValue;
+    private final int scale;
+
     public DecimalValue(BigDecimal value) {
         this.value = value;
+        this.compact = isCompact(value);
+        this.unscaledValue = compact ? value.unscaledValue().longValue() : 0;
+        this.scale = value.scale();
         if (!this.booleanValue()) {
             this.valueKind = DecimalValueKind.ZERO;
         }
     }
 
+    private DecimalValue(long unscaledValue, int scale) {
+        this.compact = true;
+        this.unscaledValue = unscaledValue;
+        this.scale = scale;
+        if (unscaledValue == 0) {
+            this.valueKind = DecimalValueKind.ZERO;
+        }
+    }
+
     public DecimalValue(String value) {
         // Check whether the number provided is a hexadecimal value.
         if (isHexValueString(value)) {
@@ -70,6 +100,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
         } else {
             this.value = new BigDecimal(value, MathContext.DECIMAL128);
         }
+        this.compact = isCompact(this.value);
+        this.unscaledValue = compact ? this.value.unscaledValue().longValue() : 0;
+        this.scale = this.value.scale();
         if (!this.booleanValue()) {
             this.valueKind = DecimalValueKind.ZERO;
         }
@@ -80,6 +113,17 @@ public class DecimalValue implements SimpleValue, BDecimal {
         this.valueKind = valueKind;
     }
 
+    private static boolean isCompact(BigDecimal value) {
+        return value.scale() >= 0 && value.scale() <= MAX_COMPACT_SCALE && value.precision() < LONG_TEN_POWERS.length;
+    }
+
+    private static DecimalValue valueOfCompact(long unscaledValue, int scale) {
+        if (scale <= MAX_COMPACT_SCALE) {
+            return new DecimalValue(unscaledValue, scale);
+        }
+        return new DecimalValue(BigDecimal.valueOf(unscaledValue, scale));
+    }
+
     private static boolean isHexValueString(String value) {
         String upperCaseValue = value.toUpperCase();
         return upperCaseValue.startsWith("0X") || upperCaseValue.startsWith("-0X");
@@ -142,7 +186,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the value
      */
     public BigDecimal decimalValue() {
-        return this.value;
+        BigDecimal value = this.value;
+        if (value == null) {
+            value = BigDecimal.valueOf(unscaledValue, scale);
+            this.value = value;
+        }
+        return value;
     }
 
     /**
@@ -160,11 +209,11 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 throw ErrorUtils.createNumericConversionError(POSITIVE_INF, PredefinedTypes.TYPE_INT);
         }
 
-        if (!isDecimalWithinIntRange(value)) {
+        if (!isDecimalWithinIntRange(decimalValue())) {
             throw ErrorUtils.createNumericConversionError(this.stringValue(null), PredefinedTypes.TYPE_DECIMAL,
                                                           PredefinedTypes.TYPE_INT);
         }
-        return (long) Math.rint(value.doubleValue());
+        return (long) Math.rint(decimalValue().doubleValue());
     }
 
     /**
@@ -192,9 +241,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 throw ErrorUtils.createNumericConversionError(POSITIVE_INF, PredefinedTypes.TYPE_BYTE);
         }
 
-        int intVal = (int) Math.rint(this.value.doubleValue());
+        int intVal = (int) Math.rint(decimalValue().doubleValue());
         if (!isByteLiteral(intVal)) {
-            throw ErrorUtils.createNumericConversionError(value, PredefinedTypes.TYPE_DECIMAL,
+            throw ErrorUtils.createNumericConversionError(decimalValue(), PredefinedTypes.TYPE_DECIMAL,
                                                           PredefinedTypes.TYPE_BYTE);
         }
         return intVal;
@@ -212,7 +261,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind == DecimalValueKind.NOT_A_NUMBER) {
             return Double.NaN;
         }
-        return value.doubleValue();
+        return decimalValue().doubleValue();
     }
 
     /**
@@ -220,6 +269,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return true if the value is non zero
      */
     public boolean booleanValue() {
+        if (compact) {
+            return unscaledValue != 0;
+        }
         return value.compareTo(BigDecimal.ZERO) != 0;
     }
 
@@ -242,7 +294,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue();
         }
-        return value.toString();
+        return decimalValue().toString();
     }
 
     /**
@@ -254,7 +306,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue() + "d";
         }
-        return value.toString() + "d";
+        return decimalValue().toString() + "d";
     }
 
     /**
@@ -262,7 +314,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the decimal value
      */
     public BigDecimal value() {
-        return this.value;
+        return decimalValue();
     }
 
     /**
@@ -303,12 +355,51 @@ public class DecimalValue implements SimpleValue, BDecimal {
                     return this;
                 }
                 if (augend.valueKind == DecimalValueKind.OTHER) {
+                    if (this.compact && augend.compact) {
+                        DecimalValue sum = addCompact(this.unscaledValue, this.scale, augend.unscaledValue,
+                                                      augend.scale);
+                        if (sum != null) {
+                            return sum;
+                        }
+                    }
                     return new DecimalValue(this.decimalValue().add(augend.decimalValue(), MathContext.DECIMAL128));
                 }
                 return augend;
         }
     }
 
+    /**
+     * Adds two decimals in the compact representation.
+     *
+     * @return the sum, or null if it does not fit in a long
+     */
+    private static DecimalValue addCompact(long x, int xScale, long y, int yScale) {
+        // The preferred scale of the sum is the larger scale, as with BigDecimal.
+        if (xScale < yScale) {
+            x = scaleUp(x, yScale - xScale);
+        } else if (yScale < xScale) {
+            y = scaleUp(y, xScale - yScale);
+        }
+        if (x == Long.MIN_VALUE || y == Long.MIN_VALUE) {
+            return null;
+        }
+
+        long sum = x + y;
+        if (((x ^ sum) & (y ^ sum)) < 0) {
+            return null;
+        }
+        return new DecimalValue(sum, Math.max(xScale, yScale));
+    }
+
+    // Returns Long.MIN_VALUE if the result does not fit in a long.
+    private static long scaleUp(long value, int scaleDifference) {
+        long power = LONG_TEN_POWERS[scaleDifference];
+        if (value > Long.MAX_VALUE / power || value < -(Long.MAX_VALUE / power)) {
+            return Long.MIN_VALUE;
+        }
+        return value * power;
+    }
+
     /**
      * Returns a decimal whose value is {@code (this - subtrahend)}.
      * @param subtrahend value to be subtracted
@@ -341,6 +432,13 @@ public class DecimalValue implements SimpleValue, BDecimal {
                     return this;
                 }
                 if (subtrahend.valueKind == DecimalValueKind.OTHER) {
+                    if (this.compact && subtrahend.compact && subtrahend.unscaledValue != Long.MIN_VALUE) {
+                        DecimalValue difference = addCompact(this.unscaledValue, this.scale,
+                                                             -subtrahend.unscaledValue, subtrahend.scale);
+                        if (difference != null) {
+                            return difference;
+                        }
+                    }
                     return new DecimalValue(this.decimalValue().subtract(subtrahend.decimalValue(),
                             MathContext.DECIMAL128));
                 }
@@ -384,6 +482,14 @@ public class DecimalValue implements SimpleValue, BDecimal {
                 return NaN;
             default:
                 if (multiplicand.valueKind == DecimalValueKind.OTHER) {
+                    if (this.compact && multiplicand.compact) {
+                        long x = this.unscaledValue;
+                        long y = multiplicand.unscaledValue;
+                        long product = x * y;
+                        if (Math.multiplyHigh(x, y) == (product >> 63)) {
+                            return valueOfCompact(product, this.scale + multiplicand.scale);
+                        }
+                    }
                     return new DecimalValue(this.decimalValue().multiply(multiplicand.decimalValue(),
                             MathContext.DECIMAL128));
                 }
@@ -476,6 +582,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
     public DecimalValue negate() {
         switch (this.valueKind) {
             case OTHER:
+                if (compact && unscaledValue != Long.MIN_VALUE) {
+                    return new DecimalValue(-unscaledValue, scale);
+                }
                 return new DecimalValue(this.decimalValue().negate());
             case POSITIVE_INFINITY:
                 return NEGATIVE_INF;
@@ -532,12 +641,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
         }
 
         DecimalValue bDecimal = (DecimalValue) obj;
-        return ((value.compareTo(bDecimal.value) == 0) && (this.valueKind == bDecimal.valueKind));
+        return ((decimalValue().compareTo(bDecimal.decimalValue()) == 0) && (this.valueKind == bDecimal.valueKind));
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return decimalValue().hashCode();
     }
 
     /**
@@ -555,7 +664,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return decimal value
      */
     public static DecimalValue valueOf(int value) {
-        return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, BigDecimal.ROUND_HALF_EVEN));
+        return new DecimalValue(value * 10L, 1);
     }
 
     /**
@@ -564,6 +673,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return decimal value
      */
     public static DecimalValue valueOf(long value) {
+        if (value <= Long.MAX_VALUE / 10 && value >= Long.MIN_VALUE / 10) {
+            return new DecimalValue(value * 10, 1);
+        }
         return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, BigDecimal.ROUND_HALF_EVEN));
     }
 
@@ -36,23 +36,22 @@ import org.apache.axiom.om.OMException;
 import org.apache.axiom.om.OMNode;
 
 import java.io.ByteArrayOutputStream;
-import java.lang.ref.WeakReference;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
 
 import static io.ballerina.runtime.XMLNodeType.ELEMENT;
-import static io.ballerina.runtime.XMLNodeType.TEXT;
 import static io.ballerina.runtime.util.BLangConstants.STRING_NULL_VALUE;
 import static io.ballerina.runtime.util.BLangConstants.XML_LANG_LIB;
 
@@ -70,18 +69,19 @@ public final class XMLItem extends XMLValue implements BXMLItem {
     private QName name;
     private XMLSequence children;
     private AttributeMapValueImpl attributes;
-    // Keep track of probable parents of xml element to detect probable cycles in xml.
-    private List<WeakReference<XMLItem>> probableParents;
+    // The element which has this element as a child. An element has at most one parent, which is used to detect
+    // cycles in xml.
+    private XMLItem parent;
+    // Descendant elements by their expanded names, in document order. This is built on the first query for the
+    // descendants of this element, and cleared when this element or one of its descendants is modified. The index is
+    // fully built before it is published, so that concurrent queries either build their own or see a complete one.
+    private volatile Map<String, List<BXML>> descendantIndex;
 
     public XMLItem(QName name, XMLSequence children) {
         this.name = name;
-        this.children = children;
-        for (BXML child : children.children) {
-            addParent(child, this);
-        }
+        this.children = adoptChildren(children);
         attributes = new AttributeMapValueImpl(false);
         addDefaultNamespaceAttribute(name, attributes);
-        probableParents = new ArrayList<>();
         this.type = PredefinedTypes.TYPE_ELEMENT;
     }
 
@@ -96,15 +96,10 @@ public final class XMLItem extends XMLValue implements BXMLItem {
     }
 
     public XMLItem(QName name, boolean readonly) {
-        XMLSequence children = new XMLSequence(new ArrayList<>());
         this.name = name;
-        this.children = children;
-        for (BXML child : children.children) {
-            addParent(child, this);
-        }
+        this.children = new XMLSequence(new ArrayList<>());
         attributes = new AttributeMapValueImpl(readonly);
         addDefaultNamespaceAttribute(name, attributes);
-        probableParents = new ArrayList<>();
 
         this.type = readonly ? PredefinedTypes.TYPE_READONLY_ELEMENT : PredefinedTypes.TYPE_ELEMENT;
     }
@@ -170,6 +165,7 @@ public final class XMLItem extends XMLValue implements BXMLItem {
 
     public void setQName(QName name) {
         this.name = name;
+        invalidateDescendantIndex();
     }
 
     /**
@@ -266,7 +262,9 @@ public final class XMLItem extends XMLValue implements BXMLItem {
      */
     @Override
     public XMLValue children() {
-        return new XMLSequence(new ArrayList<>(children.getChildrenList()));
+        // The children list is replaced instead of being modified, when the children are updated. Hence it is shared
+        // with the result.
+        return new XMLSequence(children.getChildrenList());
     }
 
     /**
@@ -290,15 +288,19 @@ public final class XMLItem extends XMLValue implements BXMLItem {
             return;
         }
 
-        if (seq.getNodeType() == XMLNodeType.SEQUENCE) {
-            children = (XMLSequence) seq;
-            for (BXML child : children.children) {
-                addParent(child);
+        XMLSequence newChildren = seq.getNodeType() == XMLNodeType.SEQUENCE ? (XMLSequence) seq :
+                new XMLSequence(seq);
+        newChildren = adoptChildren(newChildren);
+
+        Set<BXML> retained = Collections.newSetFromMap(new IdentityHashMap<>());
+        retained.addAll(newChildren.getChildrenList());
+        for (BXML child : children.getChildrenList()) {
+            if (!retained.contains(child)) {
+                removeParentReference(child);
             }
-        } else {
-            addParent(seq);
-            children = new XMLSequence(seq);
         }
+        children = newChildren;
+        invalidateDescendantIndex();
     }
 
     /**
@@ -316,72 +318,78 @@ public final class XMLItem extends XMLValue implements BXMLItem {
             return;
         }
 
-        List<BXML> leftList = new ArrayList<>(children.children);
-
-        if (seq.getNodeType() == XMLNodeType.SEQUENCE) {
-            List<BXML> appendingList = ((XMLSequence) seq).getChildrenList();
-            if (isLastChildIsTextNode(leftList) && !appendingList.isEmpty()
-                    && appendingList.get(0).getNodeType() == TEXT) {
-                mergeAdjoiningTextNodesIntoList(leftList, appendingList);
-            } else {
-                for (BXML bxml : appendingList) {
-                    addParent(bxml, this);
-                }
-                leftList.addAll(appendingList);
-            }
-        } else {
-            addParent(seq, this);
-            leftList.add(seq);
-        }
-        this.children = new XMLSequence(leftList);
+        XMLSequence appendingSeq = seq.getNodeType() == XMLNodeType.SEQUENCE ? (XMLSequence) seq :
+                new XMLSequence(seq);
+        // Adjoining text nodes are merged when the concatenated sequence is flattened.
+        this.children = XMLSequence.concat(children, adoptChildren(appendingSeq));
+        invalidateDescendantIndex();
     }
 
+    /**
+     * Make this element the parent of the elements in the given sequence. An element can only have one parent, hence
+     * an element which is already a child of another element is copied. Read-only elements cannot be modified, and
+     * are shared instead.
+     *
+     * @param seq the children to adopt
+     * @return the sequence of adopted children
+     */
+    private XMLSequence adoptChildren(XMLSequence seq) {
+        List<BXML> items = seq.getChildrenList();
+        List<BXML> adoptedItems = null;
+        XMLItem root = null;
+        for (int i = 0; i < items.size(); i++) {
+            BXML item = items.get(i);
+            if (item.getNodeType() != ELEMENT || item.getType().isReadOnly()) {
+                continue;
+            }
 
-    private void addParent(BXML child) {
-        ensureAcyclicGraph(child, this);
-        addParent(child, this);
-    }
-
-    // This method does not ensure acyclicness of tree after adding the children. Hence this method shold only be
-    // use in scenarios where cyclic xml construction is impossible, that is only when constructing xml tree from
-    // xml literal syntax, or after ensuring the new xml tree is not cyclic.
-    private void addParent(BXML child, XMLItem thisElem) {
-        if (child.getNodeType() == ELEMENT) {
-            ((XMLItem) child).probableParents.add(new WeakReference<>(thisElem));
-        }
-    }
+            XMLItem child = (XMLItem) item;
+            if (child.parent == this) {
+                continue;
+            }
 
-    private void ensureAcyclicGraph(BXML newSubTree, XMLItem current) {
-        for (WeakReference<XMLItem> probableParentRef : current.probableParents) {
-            XMLItem parent = probableParentRef.get();
-            // probable parent is the actual parent.
-            if (parent.children.children.contains(current)) {
-                // If new subtree is in the lineage of current node, adding this newSubTree forms a cycle.
-                if (parent == newSubTree) {
+            if (child.parent == null) {
+                // A new child can form a cycle only if it is the root of the tree this element belongs to.
+                if (root == null) {
+                    root = getRoot();
+                }
+                if (child == root) {
                     throw createXMLCycleError();
                 }
-                ensureAcyclicGraph(newSubTree, parent);
+                child.parent = this;
+                continue;
             }
+
+            XMLItem copy = (XMLItem) child.copy(new HashMap<>());
+            copy.parent = this;
+            if (adoptedItems == null) {
+                adoptedItems = new ArrayList<>(items);
+            }
+            adoptedItems.set(i, copy);
         }
+        return adoptedItems == null ? seq : new XMLSequence(adoptedItems);
     }
 
-    private BallerinaException createXMLCycleError() {
-        return new BallerinaException(BallerinaErrorReasons.XML_OPERATION_ERROR.getValue(), "Cycle detected");
+    /**
+     * Set the parent of this element. This is only used when building an xml tree by adding elements directly to
+     * the children list of their parent.
+     *
+     * @param parent the element which has this element as a child
+     */
+    public void setParent(XMLItem parent) {
+        this.parent = parent;
     }
 
-    private void mergeAdjoiningTextNodesIntoList(List leftList, List<BXML> appendingList) {
-        XMLPi lastChild = (XMLPi) leftList.get(leftList.size() - 1);
-        String firstChildContent = ((XMLPi) appendingList.get(0)).getData();
-        String mergedTextContent = lastChild.getData() + firstChildContent;
-        XMLText text = new XMLText(mergedTextContent);
-        leftList.set(leftList.size() - 1, text);
-        for (int i = 1; i < appendingList.size(); i++) {
-            leftList.add(appendingList.get(i));
+    private XMLItem getRoot() {
+        XMLItem root = this;
+        while (root.parent != null) {
+            root = root.parent;
         }
+        return root;
     }
 
-    private boolean isLastChildIsTextNode(List<BXML> childList) {
-        return !childList.isEmpty() && childList.get(childList.size() - 1).getNodeType() == TEXT;
+    private BallerinaException createXMLCycleError() {
+        return new BallerinaException(BallerinaErrorReasons.XML_OPERATION_ERROR.getValue(), "Cycle detected");
     }
 
     /**
@@ -406,12 +414,61 @@ public final class XMLItem extends XMLValue implements BXMLItem {
      */
     @Override
     public XMLValue descendants(List<String> qnames) {
-        if (qnames.contains(getQName().toString())) {
-            List<BXML> descendants = Arrays.asList(this);
+        boolean isMatch = qnames.contains(getElementName());
+        if (!isMatch && qnames.size() == 1) {
+            // The indexed list is not modified, hence it is shared with the result.
+            return new XMLSequence(getDescendants(qnames.get(0)));
+        }
+
+        List<BXML> descendants = new ArrayList<>();
+        if (isMatch) {
+            descendants.add(this);
+        }
+        addDescendants(descendants, qnames);
+        return new XMLSequence(descendants);
+    }
+
+    /**
+     * Add the descendants of this element with the given names to the descendants list, in document order.
+     *
+     * @param descendants list to add descendants
+     * @param qnames qualified names of the descendants to search
+     */
+    void addDescendants(List<BXML> descendants, List<String> qnames) {
+        if (qnames.size() == 1) {
+            descendants.addAll(getDescendants(qnames.get(0)));
+        } else {
             addDescendants(descendants, this, qnames);
-            return new XMLSequence(descendants);
         }
-        return children.descendants(qnames);
+    }
+
+    private List<BXML> getDescendants(String qname) {
+        Map<String, List<BXML>> index = descendantIndex;
+        if (index == null) {
+            index = new HashMap<>();
+            indexDescendants(index, this);
+            for (Map.Entry<String, List<BXML>> entry : index.entrySet()) {
+                entry.setValue(Collections.unmodifiableList(entry.getValue()));
+            }
+            descendantIndex = index;
+        }
+        return index.getOrDefault(qname, Collections.emptyList());
+    }
+
+    private static void indexDescendants(Map<String, List<BXML>> index, XMLItem element) {
+        for (BXML child : element.children.getChildrenList()) {
+            if (child.getNodeType() == ELEMENT) {
+                index.computeIfAbsent(child.getElementName(), key -> new ArrayList<>()).add(child);
+                indexDescendants(index, (XMLItem) child);
+            }
+        }
+    }
+
+    private void invalidateDescendantIndex() {
+        // Read-only descendants are shared without a parent, but they are never modified.
+        for (XMLItem element = this; element != null; element = element.parent) {
+            element.descendantIndex = null;
+        }
     }
 
     /**
@@ -560,20 +617,18 @@ public final class XMLItem extends XMLValue implements BXMLItem {
             ReadOnlyUtils.handleInvalidUpdate(XML_LANG_LIB);
         }
 
-        List<BXML> children = this.children.children;
-        List<Integer> toRemove = new ArrayList<>();
-        for (int i = 0; i < children.size(); i++) {
-            BXML child = children.get(i);
+        // The children sequence may be shared with a concatenated sequence, hence it is replaced instead of being
+        // modified in place.
+        List<BXML> remaining = new ArrayList<>();
+        for (BXML child : this.children.getChildrenList()) {
             if (child.getNodeType() == ELEMENT && ((XMLItem) child).getElementName().equals(qname)) {
-                toRemove.add(i);
+                removeParentReference(child);
+            } else {
+                remaining.add(child);
             }
         }
-
-        Collections.reverse(toRemove);
-        for (Integer index : toRemove) {
-            BXML removed = children.remove(index.intValue());
-            removeParentReference(removed);
-        }
+        this.children = new XMLSequence(remaining);
+        invalidateDescendantIndex();
     }
 
     private void setAttributes(BMap<BString, ?> attributes, SetAttributeFunction func) {
@@ -600,13 +655,8 @@ public final class XMLItem extends XMLValue implements BXMLItem {
         }
 
         XMLItem item = (XMLItem) removedItem;
-        for (Iterator<WeakReference<XMLItem>> iterator = item.probableParents.iterator(); iterator.hasNext();) {
-            WeakReference<XMLItem> probableParent = iterator.next();
-            XMLItem parent = probableParent.get();
-            if (parent == this) {
-                probableParent.clear();
-                iterator.remove();
-            }
+        if (item.parent == this) {
+            item.parent = null;
         }
     }
 
@@ -678,14 +728,14 @@ public final class XMLItem extends XMLValue implements BXMLItem {
         }
         if (obj instanceof XMLSequence) {
             XMLSequence other = (XMLSequence) obj;
-            return other.children.size() == 1 && this.equals(other.children.get(0));
+            return other.size() == 1 && this.equals(other.getChildrenList().get(0));
         }
         return false;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, children, attributes, probableParents);
+        return Objects.hash(name, children, attributes);
     }
 
     private interface SetAttributeFunction {
@@ -30,7 +30,9 @@ import io.ballerina.runtime.types.BArrayType;
 import io.ballerina.runtime.util.BLangConstants;
 import io.ballerina.runtime.util.exceptions.BallerinaErrorReasons;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -51,8 +53,16 @@ import static io.ballerina.runtime.util.BLangConstants.XML_LANG_LIB;
  */
 public final class XMLSequence extends XMLValue implements BXMLSequence {
 
+    // Items of the sequence. This is null until a concatenation, created with concat(), is flattened.
     List<BXML> children;
 
+    // Operands of a concatenation which is not flattened yet. These are set to null once flattened.
+    private volatile XMLSequence concatLeft;
+    private volatile XMLSequence concatRight;
+    private int concatSize;
+    private XMLNodeType concatFirstItemType;
+    private XMLNodeType concatLastItemType;
+
     /**
      * Create an empty xml sequence.
      */
@@ -71,10 +81,92 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
         }
     }
 
+    private XMLSequence(XMLSequence left, XMLSequence right) {
+        this.concatSize = left.size() + right.size();
+        if (left.lastItemType() == XMLNodeType.TEXT && right.firstItemType() == XMLNodeType.TEXT) {
+            // Adjoining text items are merged into a single text item, when flattened.
+            this.concatSize--;
+        }
+        this.concatFirstItemType = left.size() == 0 ? right.firstItemType() : left.firstItemType();
+        this.concatLastItemType = right.size() == 0 ? left.lastItemType() : right.lastItemType();
+        this.concatRight = right;
+        this.concatLeft = left;
+    }
+
+    /**
+     * Concatenate two xml sequences without copying their items. The items are collected into a single list only
+     * when the items of the resulting sequence are accessed, hence building a sequence by repeatedly concatenating
+     * to it takes linear time.
+     *
+     * @param left the sequence with the first items
+     * @param right the sequence with the last items
+     * @return concatenated sequence
+     */
+    public static XMLSequence concat(XMLSequence left, XMLSequence right) {
+        return new XMLSequence(left, right);
+    }
+
     public List<BXML> getChildrenList() {
+        if (concatLeft != null) {
+            flatten();
+        }
         return children;
     }
 
+    private synchronized void flatten() {
+        if (concatLeft == null) {
+            return;
+        }
+
+        // Collect the items of the leaf sequences from left to right. Two consecutive leaves always meet at the
+        // boundary of a concatenation, so a text item starting a leaf is merged with a text item ending the list.
+        List<BXML> items = new ArrayList<>(concatSize);
+        Deque<XMLSequence> pending = new ArrayDeque<>();
+        pending.push(this);
+        while (!pending.isEmpty()) {
+            XMLSequence seq = pending.pop();
+            XMLSequence left = seq.concatLeft;
+            XMLSequence right = seq.concatRight;
+            if (left != null && right != null) {
+                pending.push(right);
+                pending.push(left);
+                continue;
+            }
+
+            List<BXML> leafItems = seq.children;
+            if (leafItems.isEmpty()) {
+                continue;
+            }
+            int last = items.size() - 1;
+            BXML first = leafItems.get(0);
+            if (last >= 0 && items.get(last).getNodeType() == XMLNodeType.TEXT &&
+                    first.getNodeType() == XMLNodeType.TEXT) {
+                items.set(last, new XMLText(items.get(last).getTextValue() + first.getTextValue()));
+                items.addAll(leafItems.subList(1, leafItems.size()));
+            } else {
+                items.addAll(leafItems);
+            }
+        }
+
+        this.children = items;
+        this.concatRight = null;
+        this.concatLeft = null;
+    }
+
+    private XMLNodeType firstItemType() {
+        if (concatLeft != null) {
+            return concatFirstItemType;
+        }
+        return children.isEmpty() ? null : children.get(0).getNodeType();
+    }
+
+    private XMLNodeType lastItemType() {
+        if (concatLeft != null) {
+            return concatLastItemType;
+        }
+        return children.isEmpty() ? null : children.get(children.size() - 1).getNodeType();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -88,7 +180,7 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
      */
     @Override
     public boolean isEmpty() {
-        return children.isEmpty();
+        return size() == 0;
     }
 
     /**
@@ -96,7 +188,7 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
      */
     @Override
     public boolean isSingleton() {
-        return children.size() == 1 && children.get(0).isSingleton();
+        return size() == 1 && getChildrenList().get(0).isSingleton();
     }
 
     /**
@@ -105,7 +197,7 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
     @Override
     public String getItemType() {
         if (isSingleton()) {
-            return children.get(0).getItemType();
+            return getChildrenList().get(0).getItemType();
         }
 
         return XMLNodeType.SEQUENCE.value();
@@ -117,7 +209,7 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
     @Override
     public String getElementName() {
         if (isSingleton()) {
-            return children.get(0).getElementName();
+            return getChildrenList().get(0).getElementName();
         }
         return STRING_EMPTY_VALUE.getValue();
     }
@@ -128,7 +220,7 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
     @Override
     public String getTextValue() {
         StringBuilder seqTextBuilder = new StringBuilder();
-        for (BXML x : children) {
+        for (BXML x : getChildrenList()) {
             if (x.getNodeType() == XMLNodeType.ELEMENT || x.getNodeType() == XMLNodeType.TEXT) {
                 seqTextBuilder.append(x.getTextValue());
             }
@@ -142,7 +234,7 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
     @Override
     public BString getAttribute(String localName, String namespace) {
         if (isSingleton()) {
-            return children.get(0).getAttribute(localName, namespace);
+            return getChildrenList().get(0).getAttribute(localName, namespace);
         }
 
         return BLangConstants.BSTRING_NULL_VALUE;
@@ -154,7 +246,7 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
     @Override
     public BString getAttribute(String localName, String namespace, String prefix) {
         if (isSingleton()) {
-            return children.get(0).getAttribute(localName, namespace, prefix);
+            return getChildrenList().get(0).getAttribute(localName, namespace, prefix);
         }
 
         return BLangConstants.BSTRING_NULL_VALUE;
@@ -170,7 +262,7 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
         }
 
         if (isSingleton()) {
-            children.get(0).setAttribute(localName, namespace, prefix, value);
+            getChildrenList().get(0).setAttribute(localName, namespace, prefix, value);
         }
     }
 
@@ -180,7 +272,7 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
     @Override
     public MapValue<BString, BString> getAttributesMap() {
         if (isSingleton()) {
-            return (MapValue<BString, BString>) children.get(0).getAttributesMap();
+            return (MapValue<BString, BString>) getChildrenList().get(0).getAttributesMap();
         }
 
         return null;
@@ -194,7 +286,7 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
         }
 
         if (isSingleton()) {
-            children.get(0).setAttributes(attributes);
+            getChildrenList().get(0).setAttributes(attributes);
         }
     }
 
@@ -204,7 +296,7 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
     @Override
     public XMLValue elements() {
         List elementsSeq = new ArrayList<XMLValue>();
-        for (BXML child : children) {
+        for (BXML child : getChildrenList()) {
             if (child.getNodeType() == XMLNodeType.ELEMENT) {
                 elementsSeq.add(child);
             }
@@ -219,7 +311,7 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
     public XMLValue elements(String qname) {
         List<BXML> elementsSeq = new ArrayList<>();
         String qnameStr = getQname(qname).toString();
-        for (BXML child : children) {
+        for (BXML child : getChildrenList()) {
             if (child.getNodeType() == XMLNodeType.ELEMENT && child.getElementName().equals(qnameStr)) {
                 elementsSeq.add(child);
             }
@@ -232,10 +324,10 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
      */
     @Override
     public XMLValue children() {
-        if (children.size() == 1) {
-            return (XMLValue) children.get(0).children();
+        if (size() == 1) {
+            return (XMLValue) getChildrenList().get(0).children();
         }
-        return new XMLSequence(new ArrayList<>(children));
+        return new XMLSequence(new ArrayList<>(getChildrenList()));
     }
 
     /**
@@ -244,18 +336,15 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
     @Override
     public XMLValue children(String qname) {
         List<BXML> selected = new ArrayList<>();
-        if (this.children.size() == 1) {
-            BXML bxml = this.children.get(0);
+        if (size() == 1) {
+            BXML bxml = getChildrenList().get(0);
             return (XMLValue) bxml.children(qname);
         }
 
-        for (BXML elem : this.children) {
-            XMLSequence elements = (XMLSequence) elem.children().elements(qname);
-            List<BXML> childrenList = elements.getChildrenList();
-            if (childrenList.size() == 1) {
-                selected.add(childrenList.get(0));
-            } else if (childrenList.size() > 1) {
-                selected.addAll(childrenList);
+        for (BXML elem : getChildrenList()) {
+            if (elem.getNodeType() == XMLNodeType.ELEMENT) {
+                XMLSequence elements = (XMLSequence) ((XMLItem) elem).getChildrenSeq().elements(qname);
+                selected.addAll(elements.getChildrenList());
             }
         }
 
@@ -275,11 +364,11 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
             ReadOnlyUtils.handleInvalidUpdate(XML_LANG_LIB);
         }
 
-        if (children.size() != 1) {
+        if (size() != 1) {
             throw ErrorCreator.createError(StringUtils.fromString(("not an " + XMLNodeType.ELEMENT)));
         }
 
-        children.get(0).setChildren(seq);
+        getChildrenList().get(0).setChildren(seq);
     }
 
     /**
@@ -288,11 +377,11 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
     @Override
     @Deprecated
     public void addChildren(BXML seq) {
-        if (children.size() != 1) {
+        if (size() != 1) {
             throw ErrorCreator.createError(StringUtils.fromString(("not an " + XMLNodeType.ELEMENT)));
         }
 
-        children.get(0).addChildren(seq);
+        getChildrenList().get(0).addChildren(seq);
     }
 
     /**
@@ -304,7 +393,7 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
         boolean prevChildWasATextNode = false;
         String prevConsecutiveText = null;
 
-        for (BXML x : children) {
+        for (BXML x : getChildrenList()) {
             XMLValue item = (XMLValue) x;
             if (item.getNodeType() == XMLNodeType.TEXT) {
                 if (prevChildWasATextNode) {
@@ -332,7 +421,7 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
 
     @Override
     public int hashCode() {
-        return Objects.hash(children);
+        return Objects.hash(getChildrenList());
     }
 
     /**
@@ -340,7 +429,8 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
      */
     @Override
     public XMLValue slice(long startIndex, long endIndex) {
-        if (startIndex > this.children.size() || endIndex > this.children.size() || startIndex < -1 || endIndex < -1) {
+        int size = size();
+        if (startIndex > size || endIndex > size || startIndex < -1 || endIndex < -1) {
             throw ErrorCreator
                     .createError(
                             StringUtils.fromString(("index out of range: [" + startIndex + "," + endIndex + "]")));
@@ -351,7 +441,7 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
         }
 
         if (endIndex == -1) {
-            endIndex = children.size();
+            endIndex = size;
         }
 
         if (startIndex == endIndex) {
@@ -364,6 +454,7 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
         }
 
         int j = 0;
+        List<BXML> children = getChildrenList();
         List<BXML> elementsSeq = new ArrayList<>();
         for (int i = (int) startIndex; i < endIndex; i++) {
             elementsSeq.add(j++, children.get(i));
@@ -378,14 +469,13 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
     @Override
     public XMLValue descendants(List<String> qnames) {
         List<BXML> descendants = new ArrayList<>();
-        for (BXML child : children) {
+        for (BXML child : getChildrenList()) {
             if (child.getNodeType() == XMLNodeType.ELEMENT) {
                 XMLItem element = (XMLItem) child;
-                String name = element.getQName().toString();
-                if (qnames.contains(name)) {
+                if (qnames.contains(element.getElementName())) {
                     descendants.add(element);
                 }
-                addDescendants(descendants, element, qnames);
+                element.addDescendants(descendants, qnames);
             }
         }
 
@@ -398,7 +488,7 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
     @Override
     public Object value() {
         BArrayType bArrayType = new BArrayType(PredefinedTypes.TYPE_XML);
-        return new ArrayValueImpl(children.toArray(), bArrayType);
+        return new ArrayValueImpl(getChildrenList().toArray(), bArrayType);
     }
 
     /**
@@ -422,7 +512,7 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
     public String stringValue(BLink parent) {
         try {
             StringBuilder sb = new StringBuilder();
-            for (BXML child : children) {
+            for (BXML child : getChildrenList()) {
                 sb.append(child.stringValue(new CycleUtils.Node(this, parent)));
             }
             return sb.toString();
@@ -455,10 +545,10 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
             return refs.get(this);
         }
 
-        ArrayList<BXML> copiedChildrenList = new ArrayList<>(children.size());
+        ArrayList<BXML> copiedChildrenList = new ArrayList<>(size());
         XMLSequence copiedSeq = new XMLSequence(copiedChildrenList);
         refs.put(this, copiedSeq);
-        for (BXML child : children) {
+        for (BXML child : getChildrenList()) {
             copiedChildrenList.add((XMLValue) child.copy(refs));
         }
 
@@ -483,10 +573,10 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
     @Override
     public XMLValue getItem(int index) {
         try {
-            if (index >= this.children.size()) {
+            if (index >= size()) {
                 return new XMLSequence();
             }
-            return (XMLValue) this.children.get(index);
+            return (XMLValue) getChildrenList().get(index);
         } catch (Exception e) {
             throw ErrorCreator.createError(BallerinaErrorReasons.XML_OPERATION_ERROR,
                                            StringUtils.fromString(e.getMessage()));
@@ -498,7 +588,10 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
      */
     @Override
     public int size() {
-        return this.children.size();
+        if (concatLeft != null) {
+            return concatSize;
+        }
+        return children.size();
     }
 
     /**
@@ -506,7 +599,7 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
      */
     @Override
     public void build() {
-        for (BXML child : children) {
+        for (BXML child : getChildrenList()) {
             child.build();
         }
     }
@@ -514,13 +607,13 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
     @Override
     protected void setAttributesOnInitialization(BMap<BString, ?> attributes) {
         if (isSingleton()) {
-            ((XMLValue) children.get(0)).setAttributesOnInitialization(attributes);
+            ((XMLValue) getChildrenList().get(0)).setAttributesOnInitialization(attributes);
         }
     }
 
     @Override
     protected void setAttributeOnInitialization(String localName, String namespace, String prefix, String value) {
-        ((XMLValue) children.get(0)).setAttributeOnInitialization(localName, namespace, prefix, value);
+        ((XMLValue) getChildrenList().get(0)).setAttributeOnInitialization(localName, namespace, prefix, value);
     }
 
     @Override
@@ -529,11 +622,11 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
             ReadOnlyUtils.handleInvalidUpdate(XML_LANG_LIB);
         }
 
-        if (children.size() != 1) {
+        if (size() != 1) {
             throw ErrorCreator.createError(StringUtils.fromString(("not an " + XMLNodeType.ELEMENT)));
         }
 
-        children.get(0).removeAttribute(qname);
+        getChildrenList().get(0).removeAttribute(qname);
     }
 
     @Override
@@ -543,17 +636,17 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
             ReadOnlyUtils.handleInvalidUpdate(XML_LANG_LIB);
         }
 
-        if (children.size() != 1) {
+        if (size() != 1) {
             throw ErrorCreator.createError(StringUtils.fromString(("not an " + XMLNodeType.ELEMENT)));
         }
 
-        children.get(0).removeChildren(qname);
+        getChildrenList().get(0).removeChildren(qname);
     }
 
     @Override
     public void freezeDirect() {
         this.type = ReadOnlyUtils.setImmutableTypeAndGetEffectiveType(this.type);
-        for (BXML elem : children) {
+        for (BXML elem : getChildrenList()) {
             elem.freezeDirect();
         }
     }
@@ -564,7 +657,7 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
             return true;
         }
 
-        for (BXML child : this.children) {
+        for (BXML child : getChildrenList()) {
             if (!child.isFrozen()) {
                 return false;
             }
@@ -576,7 +669,7 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
     @Override
     public IteratorValue getIterator() {
         return new IteratorValue() {
-            Iterator<BXML> iterator = children.iterator();
+            Iterator<BXML> iterator = getChildrenList().iterator();
 
             @Override
             public boolean hasNext() {
@@ -598,10 +691,10 @@ public final class XMLSequence extends XMLValue implements BXMLSequence {
 
         if (obj instanceof XMLSequence) {
             XMLSequence that = (XMLSequence) obj;
-            return that.children.equals(this.children);
+            return that.getChildrenList().equals(getChildrenList());
         }
         if (obj instanceof XMLItem) {
-            return this.children.size() == 1 && this.children.get(0).equals(obj);
+            return size() == 1 && getChildrenList().get(0).equals(obj);
         }
         return false;
     }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.values.DecimalValue;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Test cases for the long arithmetic of {@link DecimalValue}, against the decimal128 results of {@link BigDecimal}.
+ */
+public class DecimalValueTests {
+
+    // -2^31 * 2^32 is Long.MIN_VALUE, which is computed with long arithmetic but cannot be negated as a long
+    private static final String LONG_MIN_FACTOR_1 = "-2147483648";
+    private static final String LONG_MIN_FACTOR_2 = "4294967296";
+
+    @DataProvider
+    public Object[][] additions() {
+        return new Object[][]{
+                {"1.25", "2.5"},
+                {"0.1", "0.2"},
+                {"-7.125", "3"},
+                {"999999999999999999", "1"},
+                {"-999999999999999999", "-999999999999999999"},
+                // Aligning the scales overflows a long
+                {"999999999999999999", "0.000000000000000001"},
+                {"0.000000000000000001", "-999999999999999999"},
+                // The aligned values fit in a long, but their sum does not
+                {"900000000000000000", "90000000000000000.0"},
+                {"-900000000000000000", "-90000000000000000.0"},
+        };
+    }
+
+    @Test(dataProvider = "additions")
+    void testAdd(String x, String y) {
+        assertDecimal(new DecimalValue(x).add(new DecimalValue(y)),
+                new BigDecimal(x).add(new BigDecimal(y), MathContext.DECIMAL128));
+        assertDecimal(new DecimalValue(y).add(new DecimalValue(x)),
+                new BigDecimal(y).add(new BigDecimal(x), MathContext.DECIMAL128));
+    }
+
+    @Test(dataProvider = "additions")
+    void testSubtract(String x, String y) {
+        assertDecimal(new DecimalValue(x).subtract(new DecimalValue(y)),
+                new BigDecimal(x).subtract(new BigDecimal(y), MathContext.DECIMAL128));
+        assertDecimal(new DecimalValue(y).subtract(new DecimalValue(x)),
+                new BigDecimal(y).subtract(new BigDecimal(x), MathContext.DECIMAL128));
+    }
+
+    @DataProvider
+    public Object[][] multiplications() {
+        return new Object[][]{
+                {"1.5", "2.25"},
+                {"-0.001", "1000"},
+                {"3037000499", "3037000499"},
+                {LONG_MIN_FACTOR_1, LONG_MIN_FACTOR_2},
+                // The product overflows a long
+                {"999999999999999999", "999999999999999999"},
+                {"-3037000500", "3037000500"},
+                // The scale of the product is larger than the largest scale of the long representation
+                {"0.000000001", "0.0000000001"},
+                {"0.000000000000000001", "-123.45"},
+        };
+    }
+
+    @Test(dataProvider = "multiplications")
+    void testMultiply(String x, String y) {
+        assertDecimal(new DecimalValue(x).multiply(new DecimalValue(y)),
+                new BigDecimal(x).multiply(new BigDecimal(y), MathContext.DECIMAL128));
+    }
+
+    @Test
+    void testLargeScaleProductArithmetic() {
+        DecimalValue product = new DecimalValue("0.000000001").multiply(new DecimalValue("0.0000000001"));
+        BigDecimal expected = new BigDecimal("1E-19");
+        assertDecimal(product, expected);
+        assertDecimal(product.add(new DecimalValue("1")), expected.add(BigDecimal.ONE, MathContext.DECIMAL128));
+        assertDecimal(product.negate(), expected.negate());
+    }
+
+    @Test
+    void testLongMinValueUnscaledValue() {
+        DecimalValue min = new DecimalValue(LONG_MIN_FACTOR_1).multiply(new DecimalValue(LONG_MIN_FACTOR_2));
+        BigDecimal expected = BigDecimal.valueOf(Long.MIN_VALUE);
+        assertDecimal(min, expected);
+        assertDecimal(min.negate(), expected.negate());
+        assertDecimal(new DecimalValue("1").subtract(min), BigDecimal.ONE.subtract(expected));
+        assertDecimal(new DecimalValue("-1").add(min), expected.subtract(BigDecimal.ONE));
+        assertDecimal(min.add(min), expected.add(expected));
+        assertDecimal(min.subtract(new DecimalValue("0.5")), expected.subtract(new BigDecimal("0.5")));
+        assertDecimal(min.multiply(new DecimalValue("2")), expected.multiply(BigDecimal.valueOf(2)));
+    }
+
+    @DataProvider
+    public Object[][] longValues() {
+        return new Object[][]{
+                {0L}, {1L}, {-1L},
+                {Long.MAX_VALUE / 10}, {Long.MAX_VALUE / 10 + 1}, {Long.MAX_VALUE},
+                {Long.MIN_VALUE / 10}, {Long.MIN_VALUE / 10 - 1}, {Long.MIN_VALUE},
+        };
+    }
+
+    @Test(dataProvider = "longValues")
+    void testValueOfLong(long value) {
+        assertDecimal(DecimalValue.valueOf(value),
+                new BigDecimal(value, MathContext.DECIMAL128).setScale(1, RoundingMode.HALF_EVEN));
+    }
+
+    @Test
+    void testValueOfInt() {
+        assertDecimal(DecimalValue.valueOf(Integer.MAX_VALUE), BigDecimal.valueOf(Integer.MAX_VALUE).setScale(1));
+        assertDecimal(DecimalValue.valueOf(Integer.MIN_VALUE), BigDecimal.valueOf(Integer.MIN_VALUE).setScale(1));
+    }
+
+    private static void assertDecimal(DecimalValue actual, BigDecimal expected) {
+        BigDecimal actualValue = actual.decimalValue();
+        Assert.assertEquals(actualValue.compareTo(expected), 0, actualValue + " != " + expected);
+        Assert.assertEquals(actualValue.scale(), expected.scale(), "scale of " + actualValue);
+    }
+}
@@ -69,6 +69,7 @@ public class BuildContext extends HashMap<BuildContextField, Object> {
     private static final long serialVersionUID = 6363519534259706585L;
     private transient Path executableDir;
     private transient Path targetJarCacheDir;
+    private transient Path targetDependencyJarCacheDir;
     private transient Path targetBirCacheDir;
     private transient Path targetTestJsonCacheDir;
     private transient Path baloCacheDir;
@@ -120,6 +121,11 @@ public class BuildContext extends HashMap<BuildContextField, Object> {
                         .resolve(ProjectDirConstants.CACHES_DIR_NAME)
                         .resolve(ProjectDirConstants.JAR_CACHE_DIR_NAME);
 
+                // save '<target>/cache/dependency_jar_cache' dir for the merged dependency jars of executables
+                this.targetDependencyJarCacheDir = targetPath
+                        .resolve(ProjectDirConstants.CACHES_DIR_NAME)
+                        .resolve(ProjectDirConstants.DEPENDENCY_JAR_CACHE_DIR_NAME);
+
                 // save '<target>/cache/json_cache' dir for jar files
                 this.targetTestJsonCacheDir = targetPath
                         .resolve(ProjectDirConstants.CACHES_DIR_NAME)
@@ -507,6 +513,15 @@ public class BuildContext extends HashMap<BuildContextField, Object> {
         }
     }
     
+    public Path getDependencyJarCacheDir() {
+        try {
+            return Files.createDirectories(targetDependencyJarCacheDir);
+        } catch (IOException e) {
+            throw new BLangCompilerException("error creating dependency_jar_cache dir: " +
+                                             targetDependencyJarCacheDir);
+        }
+    }
+
     public Path getExecutablePathFromTarget(PackageID moduleID) {
         try {
             Files.createDirectories(this.executableDir);
@@ -32,6 +32,8 @@ import org.ballerinalang.packerina.task.CopyObservabilitySymbolsTask;
 import org.ballerinalang.packerina.task.CopyResourcesTask;
 import org.ballerinalang.packerina.task.CreateBaloTask;
 import org.ballerinalang.packerina.task.CreateBirTask;
+import org.ballerinalang.packerina.task.CreateCdsArchiveTask;
+import org.ballerinalang.packerina.task.CreateCompilerProfileTask;
 import org.ballerinalang.packerina.task.CreateExecutableTask;
 import org.ballerinalang.packerina.task.CreateJarTask;
 import org.ballerinalang.packerina.task.CreateLockFileTask;
@@ -39,6 +41,7 @@ import org.ballerinalang.packerina.task.CreateTargetDirTask;
 import org.ballerinalang.packerina.task.PrintExecutablePathTask;
 import org.ballerinalang.packerina.task.RunCompilerPluginTask;
 import org.ballerinalang.packerina.task.RunTestsTask;
+import org.ballerinalang.packerina.task.UpdateBuildCacheTask;
 import org.ballerinalang.tool.BLauncherCmd;
 import org.ballerinalang.tool.LauncherUtils;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
@@ -57,13 +60,21 @@ import java.util.HashMap;
 import java.util.List;
 
 import static io.ballerina.runtime.util.RuntimeConstants.SYSTEM_PROP_BAL_DEBUG;
+import static org.ballerinalang.compiler.CompilerOptionName.BUILD_CACHE_ENABLED;
+import static org.ballerinalang.compiler.CompilerOptionName.CDS_ARCHIVE;
+import static org.ballerinalang.compiler.CompilerOptionName.CODE_COVERAGE;
 import static org.ballerinalang.compiler.CompilerOptionName.COMPILER_PHASE;
+import static org.ballerinalang.compiler.CompilerOptionName.DEBUG_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR_FILE;
+import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR_INLINING;
 import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL_FEATURES_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.LOCK_ENABLED;
+import static org.ballerinalang.compiler.CompilerOptionName.OBSERVABILITY_INCLUDED;
 import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
+import static org.ballerinalang.compiler.CompilerOptionName.PARALLEL_COMPILATION;
 import static org.ballerinalang.compiler.CompilerOptionName.PRESERVE_WHITESPACE;
+import static org.ballerinalang.compiler.CompilerOptionName.PROFILE_COMPILATION;
 import static org.ballerinalang.compiler.CompilerOptionName.PROJECT_DIR;
 import static org.ballerinalang.compiler.CompilerOptionName.SKIP_TESTS;
 import static org.ballerinalang.compiler.CompilerOptionName.TEST_ENABLED;
@@ -151,6 +162,9 @@ public class BuildCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--dump-bir-file", hidden = true)
     private String dumpBIRFile;
 
+    @CommandLine.Option(names = "--dump-bir-inlining", hidden = true)
+    private boolean dumpBIRInlining;
+
     @CommandLine.Option(names = "--dump-llvm-ir", hidden = true)
     private boolean dumpLLVMIR;
 
@@ -178,6 +192,21 @@ public class BuildCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--code-coverage", description = "enable code coverage")
     private boolean coverage;
 
+    @CommandLine.Option(names = "--parallel", description = "Generate code for independent modules in parallel.")
+    private boolean parallelCompilation;
+
+    @CommandLine.Option(names = "--skip-build-cache", description = "Compile all the modules from sources without " +
+            "using the build cache.")
+    private boolean skipBuildCache;
+
+    @CommandLine.Option(names = "--profile-compilation", description = "Record the time and the allocations of the " +
+            "compiler phases of each module in 'target/compiler-profile.json'.")
+    private boolean profileCompilation;
+
+    @CommandLine.Option(names = "--cds-archive", description = "Create an application class data sharing archive " +
+            "next to each executable, which reduces the startup time of the executable.")
+    private boolean cdsArchive;
+
     @CommandLine.Option(names = "--observability-included", description = "package observability in the executable " +
             "JAR file(s).")
     private boolean observabilityIncluded;
@@ -390,6 +419,7 @@ public class BuildCommand implements BLauncherCmd {
         options.put(PROJECT_DIR, this.sourceRootPath.toString());
         options.put(DUMP_BIR, Boolean.toString(dumpBIR));
         options.put(DUMP_BIR_FILE, dumpBIRFile);
+        options.put(DUMP_BIR_INLINING, Boolean.toString(dumpBIRInlining));
         options.put(OFFLINE, Boolean.toString(this.offline));
         options.put(COMPILER_PHASE, CompilerPhase.CODE_GEN.toString());
         options.put(LOCK_ENABLED, Boolean.toString(!this.skipLock));
@@ -397,6 +427,11 @@ public class BuildCommand implements BLauncherCmd {
         options.put(TEST_ENABLED, Boolean.toString(!this.skipTests));
         options.put(EXPERIMENTAL_FEATURES_ENABLED, Boolean.toString(this.experimentalFlag));
         options.put(PRESERVE_WHITESPACE, "true");
+        options.put(PARALLEL_COMPILATION, Boolean.toString(this.parallelCompilation));
+        options.put(CDS_ARCHIVE, Boolean.toString(this.cdsArchive));
+        options.put(OBSERVABILITY_INCLUDED, Boolean.toString(this.observabilityIncluded));
+        options.put(CODE_COVERAGE, Boolean.toString(this.coverage));
+        options.put(DEBUG_ENABLED, Boolean.toString(!this.skipTests && this.debugPort != null));
 
         // create builder context
         BuildContext buildContext = new BuildContext(this.sourceRootPath, targetPath, sourcePath, compilerContext);
@@ -407,6 +442,8 @@ public class BuildCommand implements BLauncherCmd {
         buildContext.setErr(errStream);
 
         boolean isSingleFileBuild = buildContext.getSourceType().equals(SINGLE_BAL_FILE);
+        options.put(BUILD_CACHE_ENABLED, Boolean.toString(!this.skipBuildCache && !isSingleFileBuild));
+        options.put(PROFILE_COMPILATION, Boolean.toString(this.profileCompilation && !isSingleFileBuild));
         // output path is the current directory if -o flag is not given.
         Path outputPath = null == this.output ? Paths.get(System.getProperty("user.dir")) : Paths.get(this.output);
 
@@ -422,11 +459,17 @@ public class BuildCommand implements BLauncherCmd {
                 .addTask(new CreateJarTask())   // create the jar
                 .addTask(new CopyResourcesTask(), isSingleFileBuild)
                 .addTask(new CopyObservabilitySymbolsTask(), isSingleFileBuild)
+                .addTask(new UpdateBuildCacheTask(), this.skipBuildCache || isSingleFileBuild) // update the build
+                                                                                            // cache(projects only)
+                .addTask(new CreateCompilerProfileTask(), !this.profileCompilation || isSingleFileBuild) // write the
+                                                                                // compiler profile(projects only)
                 .addTask(new RunTestsTask(testReport, coverage, args), this.skipTests || isSingleFileBuild) // run tests
                                                                                                 // (projects only)
                 .addTask(new CreateExecutableTask(), this.compile)  // create the executable.jar
                                                                                         // file
                 .addTask(new CopyExecutableTask(outputPath), !isSingleFileBuild)    // copy executable
+                .addTask(new CreateCdsArchiveTask(), this.compile || !this.cdsArchive) // create the class data
+                                                                                       // sharing archives
                 .addTask(new PrintExecutablePathTask(), this.compile)   // print the location of the executable
                 .addTask(new RunCompilerPluginTask(), this.compile) // run compiler plugins
                 .addTask(new CleanTargetDirTask(), !isSingleFileBuild)  // clean the target dir(single bals only)
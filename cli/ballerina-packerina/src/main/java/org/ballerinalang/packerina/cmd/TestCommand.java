@@ -52,7 +52,9 @@ import java.util.HashMap;
 import java.util.List;
 
 import static io.ballerina.runtime.util.RuntimeConstants.SYSTEM_PROP_BAL_DEBUG;
+import static org.ballerinalang.compiler.CompilerOptionName.CODE_COVERAGE;
 import static org.ballerinalang.compiler.CompilerOptionName.COMPILER_PHASE;
+import static org.ballerinalang.compiler.CompilerOptionName.DEBUG_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR;
 import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL_FEATURES_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.LOCK_ENABLED;
@@ -400,6 +402,8 @@ public class TestCommand implements BLauncherCmd {
         options.put(TEST_ENABLED, "true");
         options.put(SKIP_TESTS, "false");
         options.put(EXPERIMENTAL_FEATURES_ENABLED, Boolean.toString(this.experimentalFlag));
+        options.put(CODE_COVERAGE, Boolean.toString(this.coverage));
+        options.put(DEBUG_ENABLED, Boolean.toString(this.debugPort != null));
 
         // create builder context
         BuildContext buildContext = new BuildContext(this.sourceRootPath, targetPath, sourcePath, compilerContext);
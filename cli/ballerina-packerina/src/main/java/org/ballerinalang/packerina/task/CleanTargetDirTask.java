@@ -28,7 +28,10 @@ import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.ballerinalang.packerina.utils.FileUtils.deleteDirectory;
 import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
@@ -58,8 +61,18 @@ public class CleanTargetDirTask implements Task {
                         + File.separator + ProjectDirConstants.BIN_DIR_NAME).toPath());
                 deleteResource(new File(targetDir.toAbsolutePath().toString()
                         + File.separator + ProjectDirConstants.TARGET_BALO_DIRECTORY).toPath());
-                deleteResource(new File(targetDir.toAbsolutePath().toString()
-                        + File.separator + ProjectDirConstants.CACHES_DIR_NAME).toPath());
+                // The merged dependency jars are kept, since they are reused as long as the dependencies are unchanged
+                Path cachesDir = targetDir.toAbsolutePath().resolve(ProjectDirConstants.CACHES_DIR_NAME);
+                if (Files.isDirectory(cachesDir)) {
+                    try (Stream<Path> caches = Files.list(cachesDir)) {
+                        for (Path cache : caches.collect(Collectors.toList())) {
+                            if (!cache.getFileName().toString()
+                                    .equals(ProjectDirConstants.DEPENDENCY_JAR_CACHE_DIR_NAME)) {
+                                deleteResource(cache);
+                            }
+                        }
+                    }
+                }
             }
         } catch (IOException e) {
             throw createLauncherException("Unable to clean target : " + targetDir.toString() + "\n", e);
@@ -21,6 +21,7 @@ package org.ballerinalang.packerina.task;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.packerina.buildcontext.BuildContext;
 import org.ballerinalang.packerina.buildcontext.BuildContextField;
+import org.wso2.ballerinalang.compiler.ModuleBuildCache;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.ObserverbilitySymbolCollectorRunner;
 import org.wso2.ballerinalang.compiler.spi.ObservabilitySymbolCollector;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
@@ -47,12 +48,15 @@ public class CopyObservabilitySymbolsTask implements Task {
 
     @Override
     public void execute(BuildContext buildContext) {
+        CompilerContext compilerContext = buildContext.get(BuildContextField.COMPILER_CONTEXT);
+        ModuleBuildCache moduleBuildCache = ModuleBuildCache.getInstance(compilerContext);
+        // The jars of modules loaded from the build cache already contain the collected symbols.
         List<BLangPackage> modulesWithEntryPoints = buildContext.getModules().stream()
                 .filter(m -> m.symbol.entryPointExists)
+                .filter(m -> !moduleBuildCache.isCached(m.packageID))
                 .collect(Collectors.toList());
 
         if (!modulesWithEntryPoints.isEmpty()) {
-            CompilerContext compilerContext = buildContext.get(BuildContextField.COMPILER_CONTEXT);
             ObservabilitySymbolCollector observabilitySymbolCollector
                     = ObserverbilitySymbolCollectorRunner.getInstance(compilerContext);
 
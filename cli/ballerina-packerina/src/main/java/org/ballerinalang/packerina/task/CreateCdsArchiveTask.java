@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina.task;
+
+import org.ballerinalang.packerina.buildcontext.BuildContext;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.util.Lists;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.ballerina.runtime.util.BLangConstants.CDS_TRAINING_RUN_PROPERTY;
+import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BLANG_COMPILED_JAR_EXT;
+
+/**
+ * Task for creating an application class data sharing (AppCDS) archive for each executable. The archive holds the
+ * classes loaded while the modules of the executable are initialized, already parsed and verified, so that the JVM
+ * does not have to load them from the jar on startup. This requires the {@link CreateExecutableTask} and the
+ * {@link CopyExecutableTask} to be completed, since the archive is created for the final location of the executable.
+ * <p>
+ * The classes are recorded with a training run of the executable, which ends once the modules are initialized. The
+ * JVM only accepts an archive if the executable is given in the same way as when the archive was dumped, hence the
+ * archive is dumped in the directory of the executable, referring to the executable by its file name. Executables
+ * are started with the archive from their directory using
+ * {@code java -XX:SharedArchiveFile=<archive> -jar <executable>}.
+ *
+ * @since 2.0.0
+ */
+public class CreateCdsArchiveTask implements Task {
+
+    private static final String CDS_ARCHIVE_EXT = ".jsa";
+    private static final String CLASS_LIST_EXT = ".classlist";
+
+    @Override
+    public void execute(BuildContext buildContext) {
+        boolean headerPrinted = false;
+        for (BLangPackage module : buildContext.getModules()) {
+            if (!module.symbol.entryPointExists) {
+                continue;
+            }
+            if (!headerPrinted) {
+                buildContext.out().println();
+                buildContext.out().println("Generating class data sharing archives");
+                headerPrinted = true;
+            }
+
+            // For single files, this is the location the executable is copied to.
+            Path executablePath = buildContext.getExecutablePathFromTarget(module.packageID).toAbsolutePath();
+            Path executableDir = executablePath.getParent();
+            String executableFileName = String.valueOf(executablePath.getFileName());
+            String executableName = executableFileName;
+            if (executableName.endsWith(BLANG_COMPILED_JAR_EXT)) {
+                executableName = executableName.substring(0, executableName.length() -
+                        BLANG_COMPILED_JAR_EXT.length());
+            }
+            Path classListPath = executablePath.resolveSibling(executableName + CLASS_LIST_EXT);
+            Path archivePath = executablePath.resolveSibling(executableName + CDS_ARCHIVE_EXT);
+
+            try {
+                // Record the classes loaded while the modules are initialized.
+                runJava(executableDir, Lists.of("-XX:DumpLoadedClassList=" + classListPath,
+                        "-D" + CDS_TRAINING_RUN_PROPERTY + "=true", "-jar", executableFileName),
+                        "the training run of '" + executablePath + "' failed");
+
+                // Dump the recorded classes to the archive. The class path has to be the same as the one used to
+                // run the executable, hence the executable is given by its file name, as when it is run with -jar.
+                runJava(executableDir, Lists.of("-Xshare:dump", "-XX:SharedClassListFile=" + classListPath,
+                        "-XX:SharedArchiveFile=" + archivePath, "-cp", executableFileName),
+                        "unable to create the class data sharing archive of '" + executablePath + "'");
+                buildContext.out().println("\t" + archivePath);
+            } finally {
+                try {
+                    Files.deleteIfExists(classListPath);
+                } catch (IOException e) {
+                    // The class list is only an intermediate file.
+                }
+            }
+        }
+    }
+
+    private void runJava(Path workingDir, List<String> args, String errorMessage) {
+        List<String> cmdArgs = new ArrayList<>();
+        cmdArgs.add(System.getProperty("java.command"));
+        cmdArgs.addAll(args);
+        try {
+            ProcessBuilder processBuilder = new ProcessBuilder(cmdArgs).directory(workingDir.toFile())
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .redirectError(ProcessBuilder.Redirect.INHERIT);
+            int exitCode = processBuilder.start().waitFor();
+            if (exitCode != 0) {
+                throw createLauncherException(errorMessage + " with exit code " + exitCode);
+            }
+        } catch (IOException | InterruptedException e) {
+            throw createLauncherException(errorMessage + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina.task;
+
+import org.ballerinalang.compiler.BLangCompilerException;
+import org.ballerinalang.packerina.buildcontext.BuildContext;
+import org.ballerinalang.packerina.buildcontext.BuildContextField;
+import org.wso2.ballerinalang.compiler.CompilerPhaseProfiler;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
+
+import java.nio.file.Path;
+
+import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
+
+/**
+ * Task for writing the numbers recorded by the compiler phase profiler to the target directory. This runs after the
+ * module jars are written, so that writing the jars is part of the report.
+ *
+ * @since 2.0.0
+ */
+public class CreateCompilerProfileTask implements Task {
+
+    @Override
+    public void execute(BuildContext buildContext) {
+        CompilerContext context = buildContext.get(BuildContextField.COMPILER_CONTEXT);
+        CompilerPhaseProfiler profiler = CompilerPhaseProfiler.getInstance(context);
+        if (!profiler.isEnabled()) {
+            return;
+        }
+
+        Path targetDir = buildContext.get(BuildContextField.TARGET_DIR);
+        Path reportPath = targetDir.resolve(ProjectDirConstants.COMPILER_PROFILE_FILE_NAME);
+        try {
+            profiler.writeReport(reportPath);
+        } catch (BLangCompilerException e) {
+            throw createLauncherException(e.getMessage());
+        }
+        buildContext.out().println("Compiler profile written to " + reportPath);
+    }
+}
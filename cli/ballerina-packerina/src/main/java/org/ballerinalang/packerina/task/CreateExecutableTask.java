@@ -35,13 +35,26 @@ import java.io.BufferedOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BLANG_COMPILED_JAR_EXT;
 
 /**
  * Task for creating the executable jar file.
@@ -49,6 +62,11 @@ import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
 public class CreateExecutableTask implements Task {
 
     private static HashSet<String> excludeExtensions = new HashSet<>(Lists.of("DSA", "SF"));
+    // Number of merged dependency jars kept in the cache, one for each set of dependencies.
+    private static final int MAX_CACHED_DEPENDENCY_JARS = 8;
+    // Merged dependency jars are named after the SHA-256 digest of their dependency set.
+    private static final Pattern MERGED_JAR_NAME =
+            Pattern.compile("[0-9a-f]{64}" + Pattern.quote(BLANG_COMPILED_JAR_EXT));
 
     @Override
     public void execute(BuildContext buildContext) {
@@ -60,14 +78,29 @@ public class CreateExecutableTask implements Task {
         if (modulesWithEntryPoints.isPresent()) {
             buildContext.out().println();
             buildContext.out().println("Generating executables");
+            Path targetDir = ((Path) buildContext.get(BuildContextField.TARGET_DIR)).toAbsolutePath();
             for (BLangPackage module : buildContext.getModules()) {
                 if (module.symbol.entryPointExists) {
                     Path executablePath = buildContext.getExecutablePathFromTarget(module.packageID);
                     Path jarFromCachePath = buildContext.getJarPathFromTargetCache(module.packageID);
-                    HashSet<Path> dependencies = new HashSet<>(jarResolver.allDependencies(module));
+                    // The jars of the project modules change from build to build, while the other dependencies
+                    // rarely do. Hence the latter are merged once into a cached jar which is reused by later builds.
+                    List<Path> jars = new ArrayList<>();
+                    jars.add(jarFromCachePath);
+                    TreeSet<Path> externalDependencies = new TreeSet<>();
+                    for (Path dependency : new TreeSet<>(jarResolver.allDependencies(module))) {
+                        if (dependency.toAbsolutePath().startsWith(targetDir)) {
+                            jars.add(dependency);
+                        } else {
+                            externalDependencies.add(dependency);
+                        }
+                    }
+                    if (!externalDependencies.isEmpty()) {
+                        jars.add(getMergedDependencyJar(buildContext, externalDependencies));
+                    }
                     try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(new BufferedOutputStream(
                             new FileOutputStream(String.valueOf(executablePath))))) {
-                        assembleExecutable(jarFromCachePath, dependencies, outStream);
+                        assembleExecutable(jars, outStream);
                     } catch (IOException e) {
                         throw createLauncherException("unable to extract the uber jar :" + e.getMessage());
                     }
@@ -92,19 +125,97 @@ public class CreateExecutableTask implements Task {
         }
     }
 
-    private void assembleExecutable(Path jarFromCachePath, HashSet<Path> dependencySet,
-                                    ZipArchiveOutputStream outStream) {
+    /**
+     * Returns a jar holding the entries of all the given dependency jars, with their SPI service entries merged. A jar
+     * is cached for each set of dependencies, and is only created again when one of the dependency jars changes.
+     *
+     * @param buildContext The build context.
+     * @param dependencies Paths of the dependency jars.
+     * @return Path of the merged jar.
+     */
+    private Path getMergedDependencyJar(BuildContext buildContext, TreeSet<Path> dependencies) {
+        Path cacheDir = buildContext.getDependencyJarCacheDir();
+        try {
+            Path mergedJar = cacheDir.resolve(getDependencySetKey(dependencies) + BLANG_COMPILED_JAR_EXT);
+            if (Files.exists(mergedJar)) {
+                // The modified time of a cached jar is the time it was last used, which decides the jars to evict.
+                Files.setLastModifiedTime(mergedJar, FileTime.fromMillis(System.currentTimeMillis()));
+                return mergedJar;
+            }
+
+            // The jar is written to a temporary file first, so that an interrupted build never leaves a partially
+            // written jar in the cache.
+            Path tempJar = Files.createTempFile(cacheDir, "dependencies", ".tmp");
+            try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(new BufferedOutputStream(
+                    new FileOutputStream(String.valueOf(tempJar))))) {
+                assembleExecutable(new ArrayList<>(dependencies), outStream);
+            }
+            Files.move(tempJar, mergedJar, StandardCopyOption.REPLACE_EXISTING);
+            evictMergedDependencyJars(cacheDir);
+            return mergedJar;
+        } catch (IOException e) {
+            throw createLauncherException("unable to create the merged dependency jar: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the least recently used merged jars, when the cache holds more than
+     * {@link #MAX_CACHED_DEPENDENCY_JARS} of them. Only the merged jars are deleted, since the other files in the
+     * cache directory are not created by this task.
+     *
+     * @param cacheDir The dependency jar cache directory.
+     * @throws IOException If the cache directory cannot be read.
+     */
+    private void evictMergedDependencyJars(Path cacheDir) throws IOException {
+        List<Path> mergedJars;
+        try (Stream<Path> paths = Files.list(cacheDir)) {
+            mergedJars = paths.filter(path -> MERGED_JAR_NAME.matcher(path.getFileName().toString()).matches())
+                    .collect(Collectors.toList());
+        }
+        if (mergedJars.size() <= MAX_CACHED_DEPENDENCY_JARS) {
+            return;
+        }
+
+        Map<Path, FileTime> lastUsedTimes = new HashMap<>();
+        for (Path mergedJar : mergedJars) {
+            lastUsedTimes.put(mergedJar, Files.getLastModifiedTime(mergedJar));
+        }
+        mergedJars.sort(Comparator.comparing(lastUsedTimes::get));
+        for (Path mergedJar : mergedJars.subList(0, mergedJars.size() - MAX_CACHED_DEPENDENCY_JARS)) {
+            Files.deleteIfExists(mergedJar);
+        }
+    }
+
+    private String getDependencySetKey(TreeSet<Path> dependencies) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw createLauncherException("unable to compute the dependency set key: " + e.getMessage());
+        }
+        for (Path dependency : dependencies) {
+            // The size and the modified time identify a version of a jar without reading it.
+            String entry = dependency.toAbsolutePath() + "|" + Files.size(dependency) + "|" +
+                    Files.getLastModifiedTime(dependency).toMillis() + "\n";
+            digest.update(entry.getBytes(StandardCharsets.UTF_8));
+        }
+
+        StringBuilder key = new StringBuilder();
+        for (byte b : digest.digest()) {
+            key.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return key.toString();
+    }
+
+    private void assembleExecutable(List<Path> jars, ZipArchiveOutputStream outStream) {
         try {
             // Used to prevent adding duplicated entries during the final jar creation.
             HashSet<String> entries = new HashSet<>();
             // Used to process SPI related metadata entries separately. The reason is unlike the other entry types,
             // service loader related information should be merged together in the final executable jar creation.
             HashMap<String, StringBuilder> serviceEntries = new HashMap<>();
-            // Copy executable thin jar and the dependency jars.
-            // Executable is created at given location.
-            // If no entry point is found, we do nothing.
-            copyJarToJar(outStream, jarFromCachePath.toString(), entries, serviceEntries);
-            for (Path path : dependencySet) {
+            // Copy the jars in the given order, so that the entries of the executable thin jar take precedence.
+            for (Path path : jars) {
                 copyJarToJar(outStream, path.toString(), entries, serviceEntries);
             }
             // Copy merged spi services.
@@ -18,20 +18,24 @@
 
 package org.ballerinalang.packerina.task;
 
+import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.packerina.buildcontext.BuildContext;
 import org.ballerinalang.packerina.buildcontext.BuildContextField;
 import org.ballerinalang.packerina.writer.JarFileWriter;
+import org.wso2.ballerinalang.compiler.ModuleBuildCache;
 import org.wso2.ballerinalang.compiler.PackageCache;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.ProjectDirs;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -55,6 +59,7 @@ public class CreateJarTask implements Task {
         PackageCache packageCache = PackageCache.getInstance(context);
 
         JarFileWriter jarFileWriter = JarFileWriter.getInstance(context);
+        ModuleBuildCache moduleBuildCache = ModuleBuildCache.getInstance(context);
 
         List<BLangPackage> moduleBirMap = buildContext.getModules();
         Set<PackageID> alreadyImportedModuleSet = new HashSet<>();
@@ -66,13 +71,13 @@ public class CreateJarTask implements Task {
             }
 
             // write module child imports jars
-            writeImportJar(jarFileWriter, bLangPackage.symbol.imports, sourceRoot, buildContext,
+            writeImportJar(jarFileWriter, moduleBuildCache, bLangPackage.symbol.imports, sourceRoot, buildContext,
                     alreadyImportedModuleSet, balHomePath);
 
             // get the jar path of the module.
             Path jarOutput = buildContext.getJarPathFromTargetCache(module.packageID);
             if (!Files.exists(jarOutput)) {
-                jarFileWriter.write(bLangPackage, jarOutput);
+                writeJar(jarFileWriter, moduleBuildCache, bLangPackage.symbol, jarOutput);
                 alreadyImportedModuleSet.add(module.packageID);
             }
 
@@ -80,8 +85,8 @@ public class CreateJarTask implements Task {
             if (!buildContext.skipTests() && bLangPackage.hasTestablePackage()) {
                 for (BLangPackage testPkg : bLangPackage.getTestablePkgs()) {
                     // write its child imports jar file to cache
-                    writeImportJar(jarFileWriter, testPkg.symbol.imports, sourceRoot, buildContext,
-                            alreadyImportedModuleSet, balHomePath);
+                    writeImportJar(jarFileWriter, moduleBuildCache, testPkg.symbol.imports, sourceRoot,
+                            buildContext, alreadyImportedModuleSet, balHomePath);
 
                     // get the jar path of the module.
                     Path testJarOutput = buildContext.getTestJarPathFromTargetCache(testPkg.packageID);
@@ -95,9 +100,9 @@ public class CreateJarTask implements Task {
         ConfigRegistry.getInstance().setInitialized(false);
     }
 
-    private void writeImportJar(JarFileWriter jarFileWriter, List<BPackageSymbol> imports, Path sourceRoot,
-                                BuildContext buildContext, Set<PackageID> alreadyImportedModuleSet,
-                                String balHomePath) {
+    private void writeImportJar(JarFileWriter jarFileWriter, ModuleBuildCache moduleBuildCache,
+                                List<BPackageSymbol> imports, Path sourceRoot, BuildContext buildContext,
+                                Set<PackageID> alreadyImportedModuleSet, String balHomePath) {
 
         for (BPackageSymbol bimport : imports) {
             PackageID id = bimport.pkgID;
@@ -122,11 +127,27 @@ public class CreateJarTask implements Task {
             } else {
                 jarFilePath = buildContext.getJarPathFromHomeCache(id);
             }
-            writeImportJar(jarFileWriter, bimport.imports, sourceRoot, buildContext, alreadyImportedModuleSet,
-                    balHomePath);
-            if (bimport.bir != null) {
-                jarFileWriter.write(bimport, jarFilePath);
+            writeImportJar(jarFileWriter, moduleBuildCache, bimport.imports, sourceRoot, buildContext,
+                    alreadyImportedModuleSet, balHomePath);
+            if (bimport.bir != null || moduleBuildCache.isCached(id)) {
+                writeJar(jarFileWriter, moduleBuildCache, bimport, jarFilePath);
             }
         }
     }
+
+    private void writeJar(JarFileWriter jarFileWriter, ModuleBuildCache moduleBuildCache, BPackageSymbol symbol,
+                          Path jarFilePath) {
+        // Modules loaded from the build cache are not code generated, hence their cached jar is reused.
+        Path cachedJar = moduleBuildCache.getCachedJar(symbol.pkgID);
+        if (cachedJar == null) {
+            jarFileWriter.write(symbol, jarFilePath);
+            return;
+        }
+        try {
+            Files.copy(cachedJar, jarFilePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new BLangCompilerException("error copying the cached jar of '" + symbol.pkgID + "' to '" +
+                    jarFilePath + "': " + e.getMessage(), e);
+        }
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina.task;
+
+import org.ballerinalang.packerina.buildcontext.BuildContext;
+import org.ballerinalang.packerina.buildcontext.BuildContextField;
+import org.wso2.ballerinalang.compiler.ModuleBuildCache;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+
+/**
+ * Task for updating the build cache with the bir and the jar of the modules compiled from sources. This runs after
+ * the module jars are complete, i.e. after the resources and the observability symbols are added to them.
+ *
+ * @since 2.0.0
+ */
+public class UpdateBuildCacheTask implements Task {
+
+    @Override
+    public void execute(BuildContext buildContext) {
+        CompilerContext context = buildContext.get(BuildContextField.COMPILER_CONTEXT);
+        ModuleBuildCache moduleBuildCache = ModuleBuildCache.getInstance(context);
+        if (!moduleBuildCache.isEnabled()) {
+            return;
+        }
+
+        for (BLangPackage module : buildContext.getModules()) {
+            if (module.hasErrors()) {
+                continue;
+            }
+            moduleBuildCache.update(module.symbol, buildContext.getBirPathFromTargetCache(module.packageID),
+                    buildContext.getJarPathFromTargetCache(module.packageID));
+        }
+    }
+}
@@ -19,6 +19,7 @@ package org.ballerinalang.packerina.writer;
 
 import org.ballerinalang.compiler.BLangCompilerException;
 import org.wso2.ballerinalang.compiler.CompiledJarFile;
+import org.wso2.ballerinalang.compiler.CompilerPhaseProfiler;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
@@ -42,6 +43,8 @@ public class JarFileWriter {
 
     private static final CompilerContext.Key<JarFileWriter> JAR_FILE_WRITER_KEY = new CompilerContext.Key<>();
 
+    private final CompilerPhaseProfiler profiler;
+
     public static JarFileWriter getInstance(CompilerContext context) {
 
         JarFileWriter jarFileWriter = context.get(JAR_FILE_WRITER_KEY);
@@ -54,6 +57,7 @@ public class JarFileWriter {
     private JarFileWriter(CompilerContext context) {
 
         context.put(JAR_FILE_WRITER_KEY, this);
+        this.profiler = CompilerPhaseProfiler.getInstance(context);
     }
 
     /**
@@ -79,6 +83,12 @@ public class JarFileWriter {
             return;
         }
 
+        profiler.profile(packageSymbol.pkgID, CompilerPhaseProfiler.JAR_WRITE,
+                () -> writeJar(packageSymbol, jarFilePath));
+    }
+
+    private void writeJar(BPackageSymbol packageSymbol, Path jarFilePath) {
+
         CompiledJarFile compiledJarFile = packageSymbol.compiledJarFile;
         Manifest manifest = new Manifest();
         Attributes mainAttributes = manifest.getMainAttributes();
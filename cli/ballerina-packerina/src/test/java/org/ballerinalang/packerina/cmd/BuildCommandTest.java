@@ -32,6 +32,7 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.FileSystems;
@@ -43,10 +44,16 @@ import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
@@ -124,6 +131,35 @@ public class BuildCommandTest extends CommandTest {
         readOutput(true);
     }
     
+    @Test(description = "Build a valid ballerina file with a class data sharing archive")
+    public void testBuildBalFileWithCdsArchive() throws IOException, InterruptedException {
+        Path validBalFilePath = this.testResources.resolve("valid-bal-file");
+        BuildCommand buildCommand = new BuildCommand(validBalFilePath, printStream, printStream, false, true,
+                validBalFilePath);
+        new CommandLine(buildCommand).parse("--cds-archive", "hello_world.bal");
+        buildCommand.execute();
+
+        // The archive is created next to the copied executable, not in the target directory which is deleted.
+        Path executablePath = validBalFilePath.resolve("hello_world.jar");
+        Path archivePath = validBalFilePath.resolve("hello_world.jsa");
+        Assert.assertTrue(Files.exists(executablePath));
+        Assert.assertTrue(Files.exists(archivePath));
+
+        // The JVM fails to start with -Xshare:on if the archive does not match the executable.
+        Process process = new ProcessBuilder(System.getProperty("java.command"), "-Xshare:on",
+                "-XX:SharedArchiveFile=hello_world.jsa", "-jar", "hello_world.jar")
+                .directory(validBalFilePath.toFile())
+                .redirectErrorStream(true)
+                .start();
+        String output = new String(process.getInputStream().readAllBytes());
+        Assert.assertEquals(process.waitFor(), 0, output);
+        Assert.assertTrue(output.contains("Hello, World!"), output);
+
+        Files.delete(executablePath);
+        Files.delete(archivePath);
+        readOutput(true);
+    }
+
     @Test(description = "Build a valid ballerina file with output flag")
     public void testBuildBalFileWithOutputFlag() throws IOException {
         Path validBalFilePath = this.testResources.resolve("valid-bal-file");
@@ -514,6 +550,184 @@ public class BuildCommandTest extends CommandTest {
         readOutput(true);
     }
 
+    @Test(description = "Test Build Command in a Project which has modules with different dependencies")
+    public void testBuildCommandWithDependencyJarCache() throws IOException {
+        Path sourceRoot = this.testResources.resolve("dependency-jar-cache-project");
+        Path target = sourceRoot.resolve(ProjectDirConstants.TARGET_DIR_NAME);
+        Path cacheDir = target.resolve(ProjectDirConstants.CACHES_DIR_NAME)
+                .resolve(ProjectDirConstants.DEPENDENCY_JAR_CACHE_DIR_NAME);
+        // A file in the cache directory, which is not created by the build.
+        Files.createDirectories(cacheDir);
+        Path otherFile = cacheDir.resolve("other.txt");
+        Files.write(otherFile, Collections.singletonList("other"));
+
+        // Build the project
+        String[] compileArgs = {"--all", "--skip-tests"};
+        BuildCommand buildCommand = new BuildCommand(sourceRoot, printStream, printStream, false, true);
+        new CommandLine(buildCommand).parse(compileArgs);
+        buildCommand.execute();
+
+        Path bin = target.resolve(ProjectDirConstants.BIN_DIR_NAME);
+        Assert.assertTrue(Files.exists(bin.resolve("greeter" + BLANG_COMPILED_JAR_EXT)));
+        Assert.assertTrue(Files.exists(bin.resolve("counter" + BLANG_COMPILED_JAR_EXT)));
+        // A merged jar is cached for the dependencies of each module.
+        List<Path> mergedJars = listMergedDependencyJars(cacheDir);
+        Assert.assertEquals(mergedJars.size(), 2);
+        Assert.assertTrue(Files.exists(otherFile));
+
+        // The merged jars are reused by the next build.
+        buildCommand = new BuildCommand(sourceRoot, printStream, printStream, false, true);
+        new CommandLine(buildCommand).parse(compileArgs);
+        buildCommand.execute();
+        Assert.assertEquals(listMergedDependencyJars(cacheDir), mergedJars);
+        Assert.assertTrue(Files.exists(otherFile));
+        readOutput(true);
+    }
+
+    @Test(description = "Test loading the unchanged modules of a project from the build cache")
+    public void testBuildCommandWithBuildCache() throws IOException {
+        Path sourceRoot = this.testResources.resolve("build-cache-project");
+        Path index = sourceRoot.resolve(ProjectDirConstants.TARGET_DIR_NAME)
+                .resolve(ProjectDirConstants.BUILD_CACHE_DIR_NAME).resolve("counter").resolve("module.properties");
+        Path executable = sourceRoot.resolve(ProjectDirConstants.TARGET_DIR_NAME)
+                .resolve(ProjectDirConstants.BIN_DIR_NAME).resolve("counter" + BLANG_COMPILED_JAR_EXT);
+        // The cache entry of a module is only written when the module is compiled from sources.
+        FileTime unchanged = FileTime.fromMillis(0);
+
+        build(sourceRoot, "--all", "--skip-tests");
+        Assert.assertTrue(Files.exists(index));
+        String key = readBuildCacheKey(index);
+
+        // An unchanged module is not compiled again.
+        Files.setLastModifiedTime(index, unchanged);
+        build(sourceRoot, "--all", "--skip-tests");
+        Assert.assertEquals(Files.getLastModifiedTime(index), unchanged);
+        Assert.assertEquals(readBuildCacheKey(index), key);
+        Assert.assertTrue(Files.exists(executable));
+
+        // Changing a compiler option invalidates the entry.
+        build(sourceRoot, "--all", "--skip-tests", "--experimental");
+        Assert.assertNotEquals(Files.getLastModifiedTime(index), unchanged);
+        String experimentalKey = readBuildCacheKey(index);
+        Assert.assertNotEquals(experimentalKey, key);
+        Assert.assertTrue(Files.exists(executable));
+
+        Files.setLastModifiedTime(index, unchanged);
+        build(sourceRoot, "--all", "--skip-tests", "--experimental");
+        Assert.assertEquals(Files.getLastModifiedTime(index), unchanged);
+
+        // Changing a source invalidates the entry.
+        Files.write(sourceRoot.resolve(ProjectDirConstants.SOURCE_DIR_NAME).resolve("counter").resolve("main.bal"),
+                Collections.singletonList("function count() returns int {\n    return 1;\n}"),
+                StandardOpenOption.APPEND);
+        build(sourceRoot, "--all", "--skip-tests", "--experimental");
+        Assert.assertNotEquals(Files.getLastModifiedTime(index), unchanged);
+        Assert.assertNotEquals(readBuildCacheKey(index), experimentalKey);
+        Assert.assertTrue(Files.exists(executable));
+
+        // Changing the body of an imported function only invalidates the entry of the imported module.
+        Path utilIndex = index.getParent().resolveSibling("util").resolve("module.properties");
+        Path utilSource = sourceRoot.resolve(ProjectDirConstants.SOURCE_DIR_NAME).resolve("util").resolve("util.bal");
+        Files.setLastModifiedTime(index, unchanged);
+        Files.setLastModifiedTime(utilIndex, unchanged);
+        Files.write(utilSource, Collections.singletonList(
+                "public function twice(int value) returns int {\n    return value + value;\n}"));
+        build(sourceRoot, "--all", "--skip-tests", "--experimental");
+        Assert.assertNotEquals(Files.getLastModifiedTime(utilIndex), unchanged);
+        Assert.assertEquals(Files.getLastModifiedTime(index), unchanged);
+
+        // Changing its signature invalidates the entries of the modules importing it as well.
+        Files.write(utilSource, Collections.singletonList(
+                "public function twice(int value, int times = 2) returns int {\n    return value * times;\n}"));
+        build(sourceRoot, "--all", "--skip-tests", "--experimental");
+        Assert.assertNotEquals(Files.getLastModifiedTime(index), unchanged);
+        String signatureKey = readBuildCacheKey(index);
+
+        // Dumping the BIR compiles the modules again, without changing their entries.
+        Files.setLastModifiedTime(index, unchanged);
+        build(sourceRoot, "--all", "--skip-tests", "--experimental", "--dump-bir-inlining");
+        Assert.assertNotEquals(Files.getLastModifiedTime(index), unchanged);
+        Assert.assertEquals(readBuildCacheKey(index), signatureKey);
+        Assert.assertTrue(Files.exists(executable));
+        readOutput(true);
+    }
+
+    @Test(description = "Test that building the modules of a project in parallel generates the same jars")
+    public void testBuildCommandInParallel() throws IOException {
+        Path sourceRoot = this.testResources.resolve("parallel-build-project");
+        Path target = sourceRoot.resolve(ProjectDirConstants.TARGET_DIR_NAME);
+
+        build(sourceRoot, "--all", "--skip-tests");
+        Map<String, Map<String, byte[]>> sequentialJars = readJars(target);
+        Path bin = Paths.get(ProjectDirConstants.BIN_DIR_NAME);
+        Assert.assertTrue(sequentialJars.containsKey(bin.resolve("greeter" + BLANG_COMPILED_JAR_EXT).toString()));
+        Assert.assertTrue(sequentialJars.containsKey(bin.resolve("counter" + BLANG_COMPILED_JAR_EXT).toString()));
+        // Otherwise the parallel build loads the modules from the build cache.
+        deleteDirectory(target);
+
+        build(sourceRoot, "--all", "--skip-tests", "--parallel");
+        Map<String, Map<String, byte[]>> parallelJars = readJars(target);
+        Assert.assertEquals(parallelJars.keySet(), sequentialJars.keySet());
+        for (Map.Entry<String, Map<String, byte[]>> jar : sequentialJars.entrySet()) {
+            Map<String, byte[]> parallelEntries = parallelJars.get(jar.getKey());
+            Assert.assertEquals(parallelEntries.keySet(), jar.getValue().keySet(), jar.getKey());
+            for (Map.Entry<String, byte[]> entry : jar.getValue().entrySet()) {
+                Assert.assertEquals(parallelEntries.get(entry.getKey()), entry.getValue(),
+                        jar.getKey() + "!" + entry.getKey());
+            }
+        }
+        readOutput(true);
+    }
+
+    private void build(Path sourceRoot, String... args) {
+        BuildCommand buildCommand = new BuildCommand(sourceRoot, printStream, printStream, false, true);
+        new CommandLine(buildCommand).parse(args);
+        buildCommand.execute();
+    }
+
+    private static String readBuildCacheKey(Path index) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(index)) {
+            properties.load(inputStream);
+        }
+        return properties.getProperty("key");
+    }
+
+    /**
+     * Reads the entries of all the jars in the given directory. The entry timestamps are left out, since they differ
+     * between builds.
+     */
+    private static Map<String, Map<String, byte[]>> readJars(Path dir) throws IOException {
+        List<Path> jarPaths;
+        try (Stream<Path> paths = Files.walk(dir)) {
+            jarPaths = paths.filter(path -> path.toString().endsWith(BLANG_COMPILED_JAR_EXT))
+                    .collect(Collectors.toList());
+        }
+        Map<String, Map<String, byte[]>> jars = new TreeMap<>();
+        for (Path jarPath : jarPaths) {
+            Map<String, byte[]> entries = new TreeMap<>();
+            try (JarFile jarFile = new JarFile(jarPath.toFile())) {
+                Enumeration<JarEntry> jarEntries = jarFile.entries();
+                while (jarEntries.hasMoreElements()) {
+                    JarEntry jarEntry = jarEntries.nextElement();
+                    try (InputStream inputStream = jarFile.getInputStream(jarEntry)) {
+                        entries.put(jarEntry.getName(), inputStream.readAllBytes());
+                    }
+                }
+            }
+            jars.put(dir.relativize(jarPath).toString(), entries);
+        }
+        return jars;
+    }
+
+    private static List<Path> listMergedDependencyJars(Path cacheDir) throws IOException {
+        try (Stream<Path> paths = Files.list(cacheDir)) {
+            return paths.filter(path -> path.toString().endsWith(BLANG_COMPILED_JAR_EXT))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
     @Test(dependsOnMethods = {"testBuildCommand"})
     public void testBuildOutput() throws IOException {
         Path bin = this.testResources.resolve("valid-project").resolve(ProjectDirConstants.TARGET_DIR_NAME)
@@ -730,6 +944,14 @@ public class BuildCommandTest extends CommandTest {
         // check if each module has a bit in cache directory
     }
 
+    @Test(dependsOnMethods = {"testBuildCommand"})
+    public void testBuildCacheDirectory() {
+        // modules compiled from sources are added to the build cache
+        Path moduleCache = this.testResources.resolve("valid-project").resolve(ProjectDirConstants.TARGET_DIR_NAME)
+                .resolve(ProjectDirConstants.BUILD_CACHE_DIR_NAME).resolve("mymodule");
+        Assert.assertTrue(Files.exists(moduleCache.resolve("module.properties")));
+    }
+
     @Test(description = "Test the cleaning of target resources in the build command.",
             dependsOnMethods = {"testBuildCommand"})
     public void testTargetClean() throws IOException {
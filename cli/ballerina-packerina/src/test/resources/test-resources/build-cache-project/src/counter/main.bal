@@ -0,0 +1,5 @@
+import testOrg/util;
+
+public function main(string... args) {
+    int count = util:twice(args.length());
+}
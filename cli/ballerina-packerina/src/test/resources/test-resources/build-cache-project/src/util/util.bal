@@ -0,0 +1,3 @@
+public function twice(int value) returns int {
+    return value * 2;
+}
@@ -0,0 +1,3 @@
+public function main(string... args) {
+    int count = args.length();
+}
@@ -0,0 +1,5 @@
+import ballerina/io;
+
+public function main(string... args) {
+    io:println("Hello World");
+}
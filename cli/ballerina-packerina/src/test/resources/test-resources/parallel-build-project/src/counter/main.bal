@@ -0,0 +1,18 @@
+import testOrg/text;
+
+class Counter {
+    int count = 0;
+
+    function increment(int step) returns int {
+        self.count += step;
+        return self.count;
+    }
+}
+
+public function main(string... args) {
+    Counter counter = new;
+    foreach string arg in args {
+        _ = counter.increment(arg.length());
+    }
+    string summary = text:join(args, ",");
+}
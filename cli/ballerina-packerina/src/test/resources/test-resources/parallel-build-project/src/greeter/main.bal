@@ -0,0 +1,6 @@
+import testOrg/text;
+
+public function main(string... args) {
+    text:Greeting greeting = {salutation: "Hello", name: text:join(args, " ")};
+    string message = text:format(greeting);
+}
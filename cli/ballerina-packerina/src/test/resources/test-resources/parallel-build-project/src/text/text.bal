@@ -0,0 +1,19 @@
+public type Greeting record {|
+    string salutation;
+    string name;
+|};
+
+public function format(Greeting greeting) returns string {
+    return greeting.salutation + ", " + greeting.name + "!";
+}
+
+public function join(string[] words, string separator) returns string {
+    string result = "";
+    foreach int i in 0 ..< words.length() {
+        if (i > 0) {
+            result += separator;
+        }
+        result += words[i];
+    }
+    return result;
+}
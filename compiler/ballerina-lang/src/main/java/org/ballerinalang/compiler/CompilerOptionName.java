@@ -54,11 +54,27 @@ public enum CompilerOptionName {
 
     DUMP_BIR_FILE("dumpBIRFile"),
 
+    DUMP_BIR_INLINING("dumpBIRInlining"),
+
     LOCK_ENABLED("lockEnabled"),
 
     EXPERIMENTAL_FEATURES_ENABLED("experimentalFeaturesEnabled"),
 
-    TOOLING_COMPILATION("toolingCompilation");
+    TOOLING_COMPILATION("toolingCompilation"),
+
+    PARALLEL_COMPILATION("parallelCompilation"),
+
+    BUILD_CACHE_ENABLED("buildCacheEnabled"),
+
+    PROFILE_COMPILATION("profileCompilation"),
+
+    CDS_ARCHIVE("cdsArchive"),
+
+    OBSERVABILITY_INCLUDED("observabilityIncluded"),
+
+    CODE_COVERAGE("codeCoverage"),
+
+    DEBUG_ENABLED("debugEnabled");
 
     public final String name;
 
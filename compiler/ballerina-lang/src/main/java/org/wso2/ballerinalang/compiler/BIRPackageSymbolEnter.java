@@ -141,8 +141,6 @@ public class BIRPackageSymbolEnter {
     private static final CompilerContext.Key<BIRPackageSymbolEnter> COMPILED_PACKAGE_SYMBOL_ENTER_KEY =
             new CompilerContext.Key<>();
 
-    private Map<String, BVarSymbol> globalVarMap = new HashMap<>();
-
     public static BIRPackageSymbolEnter getInstance(CompilerContext context) {
         BIRPackageSymbolEnter packageReader = context.get(COMPILED_PACKAGE_SYMBOL_ENTER_KEY);
         if (packageReader == null) {
@@ -164,9 +162,9 @@ public class BIRPackageSymbolEnter {
         this.dlog = BLangDiagnosticLog.getInstance(context);
     }
 
-    public BPackageSymbol definePackage(PackageID packageId,
-                                        RepoHierarchy packageRepositoryHierarchy,
-                                        byte[] packageBinaryContent) {
+    public synchronized BPackageSymbol definePackage(PackageID packageId,
+                                                     RepoHierarchy packageRepositoryHierarchy,
+                                                     byte[] packageBinaryContent) {
         BPackageSymbol pkgSymbol = definePackage(packageId, packageRepositoryHierarchy,
                 new ByteArrayInputStream(packageBinaryContent));
 
@@ -247,8 +245,10 @@ public class BIRPackageSymbolEnter {
 
         readTypeDefBodies(dataInStream);
 
-        // Define functions.
+        // Define functions. The module private functions are only defined when they are looked up, since they are
+        // not visible to the modules being compiled.
         defineSymbols(dataInStream, rethrow(this::defineFunction));
+        defineSymbols(dataInStream, rethrow(this::definePrivateFunction));
 
         // Define annotations.
         defineSymbols(dataInStream, rethrow(this::defineAnnotations));
@@ -347,7 +347,39 @@ public class BIRPackageSymbolEnter {
         this.env.pkgSymbol.imports.add(importPackageSymbol);
     }
 
+    private void definePrivateFunction(DataInputStream dataInStream) throws IOException {
+        Name funcName = names.fromString(getStringCPEntryValue(dataInStream));
+        byte[] funcBytes = readByteArray(dataInStream);
+        BIRPackageSymbolEnv pkgEnv = this.env;
+        pkgEnv.pkgSymbol.scope.defineLazily(funcName, () -> readPrivateFunction(pkgEnv, funcBytes));
+    }
+
+    private synchronized BInvokableSymbol readPrivateFunction(BIRPackageSymbolEnv pkgEnv, byte[] funcBytes) {
+        BIRPackageSymbolEnv prevEnv = this.env;
+        BStructureTypeSymbol prevStructure = this.currentStructure;
+        this.env = pkgEnv;
+        this.currentStructure = null;
+        try (DataInputStream dataInStream = new DataInputStream(new ByteArrayInputStream(funcBytes))) {
+            return readFunction(dataInStream);
+        } catch (IOException e) {
+            throw new BLangCompilerException(e.getMessage(), e);
+        } finally {
+            this.env = prevEnv;
+            this.currentStructure = prevStructure;
+        }
+    }
+
     private void defineFunction(DataInputStream dataInStream) throws IOException {
+        BInvokableSymbol invokableSymbol = readFunction(dataInStream);
+        Scope scopeToDefine = this.env.pkgSymbol.scope;
+        if (this.currentStructure != null && (this.currentStructure.type.tag == TypeTags.OBJECT
+                || this.currentStructure.type.tag == TypeTags.RECORD)) {
+            scopeToDefine = this.currentStructure.type.tsymbol.scope;
+        }
+        scopeToDefine.define(invokableSymbol.name, invokableSymbol);
+    }
+
+    private BInvokableSymbol readFunction(DataInputStream dataInStream) throws IOException {
         DiagnosticPos pos = readPosition(dataInStream);
 
         // Consider attached functions.. remove the first variable
@@ -364,8 +396,6 @@ public class BIRPackageSymbolEnter {
         invokableSymbol.source = pos.src.cUnitName;
         invokableSymbol.retType = funcType.retType;
 
-        Scope scopeToDefine = this.env.pkgSymbol.scope;
-
         if (this.currentStructure != null) {
             BType attachedType = this.currentStructure.type;
 
@@ -374,7 +404,6 @@ public class BIRPackageSymbolEnter {
             invokableSymbol.name =
                     names.fromString(Symbols.getAttachedFuncSymbolName(attachedType.tsymbol.name.value, funcName));
             if (attachedType.tag == TypeTags.OBJECT || attachedType.tag == TypeTags.RECORD) {
-                scopeToDefine = attachedType.tsymbol.scope;
                 BAttachedFunction attachedFunc =
                         new BAttachedFunction(names.fromString(funcName), invokableSymbol, funcType,
                                               symTable.builtinPos);
@@ -408,7 +437,7 @@ public class BIRPackageSymbolEnter {
 
         dataInStream.skip(dataInStream.readLong()); // read and skip method body
 
-        scopeToDefine.define(invokableSymbol.name, invokableSymbol);
+        return invokableSymbol;
     }
 
     private void defineGlobalVarDependencies(BInvokableSymbol invokableSymbol, DataInputStream dataInStream)
@@ -417,7 +446,7 @@ public class BIRPackageSymbolEnter {
         long length = dataInStream.readInt();
         for (int i = 0; i < length; i++) {
             String globalVarName = getStringCPEntryValue(dataInStream.readInt());
-            invokableSymbol.dependentGlobalVars.add(this.globalVarMap.get(globalVarName));
+            invokableSymbol.dependentGlobalVars.add(this.env.globalVarMap.get(globalVarName));
         }
     }
 
@@ -689,7 +718,7 @@ public class BIRPackageSymbolEnter {
             }
         }
 
-        this.globalVarMap.put(varName, varSymbol);
+        this.env.globalVarMap.put(varName, varSymbol);
 
         defineMarkDownDocAttachment(varSymbol, docBytes);
 
@@ -915,6 +944,7 @@ public class BIRPackageSymbolEnter {
         PackageID requestedPackageId;
         RepoHierarchy repoHierarchy;
         Map<Integer, byte[]> unparsedBTypeCPs = new HashMap<>();
+        Map<String, BVarSymbol> globalVarMap = new HashMap<>();
         BPackageSymbol pkgSymbol;
         CPEntry[] constantPool;
         List<UnresolvedType> unresolvedTypes;
@@ -51,6 +51,7 @@ public class Compiler {
     private final BLangDiagnosticLog dlog;
     private final PackageLoader pkgLoader;
     private final Manifest manifest;
+    private final ModuleCompilationScheduler moduleCompilationScheduler;
     private boolean langLibsLoaded;
     private PrintStream outStream;
     private PrintStream errorStream;
@@ -64,6 +65,7 @@ public class Compiler {
         this.dlog = BLangDiagnosticLog.getInstance(context);
         this.pkgLoader = PackageLoader.getInstance(context);
         this.manifest = ManifestProcessor.getInstance(context).getManifest();
+        this.moduleCompilationScheduler = ModuleCompilationScheduler.getInstance(context);
         this.outStream = System.out;
         this.errorStream = System.err;
         this.langLibsLoaded = false;
@@ -171,6 +173,10 @@ public class Compiler {
         }
 
         // 3) Invoke compiler phases. e.g. type_check, code_analyze, taint_analyze, desugar etc.
+        if (this.moduleCompilationScheduler.isParallel()) {
+            compilePackagesInParallel(packages);
+            return packages;
+        }
         for (BLangPackage pkgNode : packages) {
             if (pkgNode.symbol != null) {
                 this.compilerDriver.compilePackage(pkgNode);
@@ -181,6 +187,29 @@ public class Compiler {
         return packages;
     }
 
+    private void compilePackagesInParallel(List<BLangPackage> packages) {
+        // Compile in dependency order, so that the code generation of a module overlaps with the compilation of the
+        // modules which do not depend on it.
+        try {
+            for (BLangPackage pkgNode : this.moduleCompilationScheduler.order(packages)) {
+                if (pkgNode.symbol != null) {
+                    dlog.resetErrorCount();
+                    this.compilerDriver.compilePackage(pkgNode);
+                }
+            }
+        } finally {
+            this.moduleCompilationScheduler.awaitCodeGen();
+        }
+
+        // Diagnostics are logged in the original order of the modules, as in a sequential build.
+        for (BLangPackage pkgNode : packages) {
+            if (pkgNode.symbol != null) {
+                logDiagnostics(pkgNode);
+            }
+        }
+        dlog.resetErrorCount();
+    }
+
     /**
      * Log the diagnostics in the package to the output stream.
      * 
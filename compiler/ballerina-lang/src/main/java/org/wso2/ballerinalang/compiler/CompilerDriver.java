@@ -46,6 +46,7 @@ import org.wso2.ballerinalang.compiler.util.Constants;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 
 import static org.ballerinalang.compiler.CompilerOptionName.TOOLING_COMPILATION;
 import static org.ballerinalang.model.elements.PackageID.ANNOTATIONS;
@@ -102,6 +103,8 @@ public class CompilerDriver {
     private final CompilerPhase compilerPhase;
     private final DataflowAnalyzer dataflowAnalyzer;
     private final IsolationAnalyzer isolationAnalyzer;
+    private final ModuleCompilationScheduler moduleCompilationScheduler;
+    private final CompilerPhaseProfiler profiler;
     private boolean isToolingCompilation;
 
     public static CompilerDriver getInstance(CompilerContext context) {
@@ -135,6 +138,8 @@ public class CompilerDriver {
         this.compilerPhase = this.options.getCompilerPhase();
         this.dataflowAnalyzer = DataflowAnalyzer.getInstance(context);
         this.isolationAnalyzer = IsolationAnalyzer.getInstance(context);
+        this.moduleCompilationScheduler = ModuleCompilationScheduler.getInstance(context);
+        this.profiler = CompilerPhaseProfiler.getInstance(context);
         this.isToolingCompilation = this.options.isSet(TOOLING_COMPILATION)
                 && Boolean.parseBoolean(this.options.get(TOOLING_COMPILATION));
     }
@@ -257,7 +262,13 @@ public class CompilerDriver {
                 this.compilePackageSymbol(pkg.symbol);
             }
         }
-        compile(pkgNode);
+        // Code generation of the imported modules may still be running, and it rewrites their identifiers.
+        this.moduleCompilationScheduler.awaitDependencies(pkgNode);
+        // Code generation links the BIR of the dependencies of a module, which is shared with the front end, while
+        // holding the lock of the package cache.
+        synchronized (this.pkgCache) {
+            compile(pkgNode);
+        }
     }
 
     private void compile(BLangPackage pkgNode) {
@@ -320,7 +331,13 @@ public class CompilerDriver {
             return;
         }
 
-        codeGen(pkgNode);
+        // A parallel build only considers the errors of this module, since the global error count also changes
+        // with the code generation of other modules running concurrently.
+        boolean hasPriorErrors = this.moduleCompilationScheduler.isParallel() ?
+                pkgNode.hasErrors() || pkgNode.getTestablePkgs().stream().anyMatch(BLangPackage::hasErrors) :
+                this.dlog.errorCount() > 0;
+        this.moduleCompilationScheduler.submitCodeGen(pkgNode, () -> this.profiler.profile(pkgNode.packageID,
+                CompilerPhase.CODE_GEN, () -> this.codeGenerator.generate(pkgNode, hasPriorErrors)));
     }
 
     private BLangPackage codeGen(BLangPackage pkgNode) {
@@ -328,7 +345,8 @@ public class CompilerDriver {
     }
 
     private void generateObservabilityData(BLangPackage pkgNode) {
-        this.observabilitySymbolCollector.process(pkgNode);
+        this.profiler.profile(pkgNode.packageID, CompilerPhase.OBSERVABILITY_DATA_GEN.toString(),
+                () -> this.observabilitySymbolCollector.process(pkgNode));
     }
 
     public BLangPackage define(BLangPackage pkgNode) {
@@ -336,46 +354,64 @@ public class CompilerDriver {
     }
 
     private BLangPackage typeCheck(BLangPackage pkgNode) {
-        return this.semAnalyzer.analyze(pkgNode);
+        return this.profiler.profile(pkgNode.packageID, CompilerPhase.TYPE_CHECK,
+                () -> this.semAnalyzer.analyze(pkgNode));
     }
 
     private BLangPackage documentationAnalyze(BLangPackage pkgNode) {
-        return this.documentationAnalyzer.analyze(pkgNode);
+        return this.profiler.profile(pkgNode.packageID, CompilerPhase.DOCUMENTATION_ANALYZE,
+                () -> this.documentationAnalyzer.analyze(pkgNode));
     }
 
     private BLangPackage codeAnalyze(BLangPackage pkgNode) {
-        return this.codeAnalyzer.analyze(pkgNode);
+        return this.profiler.profile(pkgNode.packageID, CompilerPhase.CODE_ANALYZE,
+                () -> this.codeAnalyzer.analyze(pkgNode));
     }
 
     private BLangPackage dataflowAnalyze(BLangPackage pkgNode) {
-        return this.dataflowAnalyzer.analyze(pkgNode);
+        return this.profiler.profile(pkgNode.packageID, CompilerPhase.DATAFLOW_ANALYZE,
+                () -> this.dataflowAnalyzer.analyze(pkgNode));
     }
 
     private BLangPackage isolationAnalyze(BLangPackage pkgNode) {
-        return this.isolationAnalyzer.analyze(pkgNode);
+        return this.profiler.profile(pkgNode.packageID, CompilerPhase.ISOLATION_ANALYZE,
+                () -> this.isolationAnalyzer.analyze(pkgNode));
     }
 
     private BLangPackage taintAnalyze(BLangPackage pkgNode) {
-        return this.taintAnalyzer.analyze(pkgNode);
+        return this.profiler.profile(pkgNode.packageID, CompilerPhase.TAINT_ANALYZE,
+                () -> this.taintAnalyzer.analyze(pkgNode));
     }
 
     private BLangPackage propagateConstants(BLangPackage pkgNode) {
-        return this.constantPropagation.perform(pkgNode);
+        return this.profiler.profile(pkgNode.packageID, CompilerPhase.CONSTANT_PROPAGATION,
+                () -> this.constantPropagation.perform(pkgNode));
     }
 
     private BLangPackage annotationProcess(BLangPackage pkgNode) {
-        return this.compilerPluginRunner.runPlugins(pkgNode);
+        return this.profiler.profile(pkgNode.packageID, CompilerPhase.COMPILER_PLUGIN,
+                () -> this.compilerPluginRunner.runPlugins(pkgNode));
     }
 
     public BLangPackage desugar(BLangPackage pkgNode) {
-        return this.desugar.perform(pkgNode);
+        return this.profiler.profile(pkgNode.packageID, CompilerPhase.DESUGAR,
+                () -> this.desugar.perform(pkgNode));
     }
 
     public BLangPackage birGen(BLangPackage pkgNode) {
-        return this.birGenerator.genBIR(pkgNode);
+        return this.profiler.profile(pkgNode.packageID, CompilerPhase.BIR_GEN,
+                () -> this.birGenerator.genBIR(pkgNode));
     }
 
     private boolean stopCompilation(BLangPackage pkgNode, CompilerPhase nextPhase) {
+        if (Thread.currentThread().isInterrupted()) {
+            // Tools such as the language server cancel a compilation by interrupting its thread. The module is only
+            // partially compiled, hence it is removed from the cache to be compiled from the start next time. The
+            // symbol is removed as well, since imports are resolved through the cached symbols first.
+            this.pkgCache.put(pkgNode.packageID, null);
+            this.pkgCache.removeSymbol(pkgNode.packageID);
+            throw new CancellationException("compilation of module '" + pkgNode.packageID + "' is cancelled");
+        }
         if (compilerPhase.compareTo(nextPhase) < 0) {
             return true;
         }
@@ -0,0 +1,286 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.ballerinalang.compiler.BLangCompilerException;
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Records the wall time, the CPU time and the allocated bytes of the compiler phases, per module.
+ * <p>
+ * Profiling is enabled with the {@link CompilerOptionName#PROFILE_COMPILATION} option. Apart from the phases run by
+ * the {@link CompilerDriver}, the parsing of the modules, each compiler plugin, the JVM class generation and the
+ * writing of the module jars are recorded. CPU time and allocations are measured on the thread which runs the phase,
+ * hence the numbers are also accurate for the code generation of modules running in parallel. A phase which runs
+ * more than once for a module, e.g. the code generation of a module and of its tests, is accumulated. The recorded
+ * numbers are written as a JSON report at the end of the build.
+ * <p>
+ * A phase which runs within another phase on the same thread, e.g. the JVM class generation within the code
+ * generation, or a compiler plugin within the compiler plugin phase, is recorded as a nested phase of the enclosing
+ * phase. Nested phases are reported under their enclosing phase, and are not added to the total, since their numbers
+ * are already part of the numbers of the enclosing phase.
+ *
+ * @since 2.0.0
+ */
+public class CompilerPhaseProfiler {
+
+    private static final CompilerContext.Key<CompilerPhaseProfiler> COMPILER_PHASE_PROFILER_KEY =
+            new CompilerContext.Key<>();
+
+    public static final String PARSE = "parse";
+    public static final String JVM_CLASS_GEN = "jvmClassGen";
+    public static final String JAR_WRITE = "jarWrite";
+    private static final String COMPILER_PLUGIN_PREFIX = CompilerPhase.COMPILER_PLUGIN + ":";
+
+    private final boolean enabled;
+    private final ThreadMXBean threadMXBean;
+    private final boolean allocationsSupported;
+    private final Map<String, Map<String, PhaseStats>> moduleStats = new LinkedHashMap<>();
+    // Phases running on the current thread, innermost first
+    private final ThreadLocal<Deque<PhaseStats>> activePhases = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public static CompilerPhaseProfiler getInstance(CompilerContext context) {
+        CompilerPhaseProfiler profiler = context.get(COMPILER_PHASE_PROFILER_KEY);
+        if (profiler == null) {
+            profiler = new CompilerPhaseProfiler(context);
+        }
+        return profiler;
+    }
+
+    private CompilerPhaseProfiler(CompilerContext context) {
+        context.put(COMPILER_PHASE_PROFILER_KEY, this);
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        this.enabled = Boolean.parseBoolean(options.get(CompilerOptionName.PROFILE_COMPILATION));
+        this.threadMXBean = ManagementFactory.getThreadMXBean();
+        this.allocationsSupported = this.threadMXBean instanceof com.sun.management.ThreadMXBean &&
+                ((com.sun.management.ThreadMXBean) this.threadMXBean).isThreadAllocatedMemorySupported();
+        if (this.enabled && this.threadMXBean.isCurrentThreadCpuTimeSupported()) {
+            this.threadMXBean.setThreadCpuTimeEnabled(true);
+        }
+        if (this.enabled && this.allocationsSupported) {
+            ((com.sun.management.ThreadMXBean) this.threadMXBean).setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public <T> T profile(PackageID pkgId, CompilerPhase phase, Supplier<T> task) {
+        return profile(pkgId, phase.toString(), task);
+    }
+
+    public void profile(PackageID pkgId, String phase, Runnable task) {
+        profile(pkgId, phase, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public void profileCompilerPlugin(PackageID pkgId, Object plugin, Runnable task) {
+        if (!enabled) {
+            task.run();
+            return;
+        }
+        profile(pkgId, COMPILER_PLUGIN_PREFIX + plugin.getClass().getName(), task);
+    }
+
+    /**
+     * Runs the given task, and records its wall time, CPU time and allocated bytes against the given phase of the
+     * given module.
+     *
+     * @param pkgId ID of the module
+     * @param phase name of the phase
+     * @param task  task to run
+     * @param <T>   type of the result of the task
+     * @return the result of the task
+     */
+    public <T> T profile(PackageID pkgId, String phase, Supplier<T> task) {
+        if (!enabled) {
+            return task.get();
+        }
+
+        Deque<PhaseStats> phases = activePhases.get();
+        PhaseStats stats = getPhaseStats(String.valueOf(pkgId), phase, phases.peek());
+        phases.push(stats);
+        long startWallTime = System.nanoTime();
+        long startCpuTime = getCurrentThreadCpuTime();
+        long startAllocatedBytes = getCurrentThreadAllocatedBytes();
+        try {
+            return task.get();
+        } finally {
+            long wallTime = System.nanoTime() - startWallTime;
+            long cpuTime = getCurrentThreadCpuTime() - startCpuTime;
+            long allocatedBytes = getCurrentThreadAllocatedBytes() - startAllocatedBytes;
+            phases.pop();
+            synchronized (moduleStats) {
+                stats.add(1, wallTime, cpuTime, allocatedBytes);
+            }
+        }
+    }
+
+    /**
+     * Writes the recorded numbers as a JSON report to the given path. Times are in milliseconds. The nested phases of
+     * a phase are listed in its {@code phases}, and the {@code total} is the sum of the phases which are not nested.
+     *
+     * @param reportPath path of the report
+     */
+    public void writeReport(Path reportPath) {
+        JsonArray modules = new JsonArray();
+        Map<String, PhaseStats> totals = new LinkedHashMap<>();
+        PhaseStats total = new PhaseStats(null, null);
+        synchronized (moduleStats) {
+            for (Map.Entry<String, Map<String, PhaseStats>> module : moduleStats.entrySet()) {
+                JsonObject moduleJson = new JsonObject();
+                moduleJson.addProperty("module", module.getKey());
+                moduleJson.add("phases", toJson(module.getValue(), module.getKey()));
+                modules.add(moduleJson);
+
+                for (PhaseStats stats : module.getValue().values()) {
+                    totals.computeIfAbsent(stats.phase, key -> new PhaseStats(null, stats.phase)).addAll(stats);
+                    total.add(stats);
+                }
+            }
+        }
+
+        JsonObject report = new JsonObject();
+        report.addProperty("allocationsSupported", allocationsSupported);
+        report.add("modules", modules);
+        report.add("totals", toJson(totals, null));
+        report.add("total", toJson(total));
+
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        try (Writer writer = Files.newBufferedWriter(reportPath, StandardCharsets.UTF_8)) {
+            gson.toJson(report, writer);
+        } catch (IOException e) {
+            throw new BLangCompilerException("error writing the compiler profile to '" + reportPath + "': " +
+                    e.getMessage(), e);
+        }
+    }
+
+    private PhaseStats getPhaseStats(String module, String phase, PhaseStats enclosingPhase) {
+        synchronized (moduleStats) {
+            Map<String, PhaseStats> phases = enclosingPhase == null ?
+                    moduleStats.computeIfAbsent(module, key -> new LinkedHashMap<>()) : enclosingPhase.nestedPhases;
+            String key = enclosingPhase == null || module.equals(enclosingPhase.module) ? phase : module + "/" + phase;
+            return phases.computeIfAbsent(key, k -> new PhaseStats(module, phase));
+        }
+    }
+
+    private JsonArray toJson(Map<String, PhaseStats> phaseStats, String module) {
+        JsonArray phases = new JsonArray();
+        for (PhaseStats stats : phaseStats.values()) {
+            JsonObject phaseJson = toJson(stats);
+            if (module != null && !module.equals(stats.module)) {
+                // A phase of another module, which ran within a phase of this module
+                phaseJson.addProperty("module", stats.module);
+            }
+            phases.add(phaseJson);
+        }
+        return phases;
+    }
+
+    private JsonObject toJson(PhaseStats stats) {
+        JsonObject phaseJson = new JsonObject();
+        if (stats.phase != null) {
+            phaseJson.addProperty("phase", stats.phase);
+        }
+        phaseJson.addProperty("count", stats.count);
+        phaseJson.addProperty("wallTimeMs", toMillis(stats.wallTime));
+        phaseJson.addProperty("cpuTimeMs", toMillis(stats.cpuTime));
+        phaseJson.addProperty("allocatedBytes", stats.allocatedBytes);
+        if (!stats.nestedPhases.isEmpty()) {
+            phaseJson.add("phases", toJson(stats.nestedPhases, stats.module));
+        }
+        return phaseJson;
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 1000.0) / 1000.0;
+    }
+
+    private long getCurrentThreadCpuTime() {
+        return threadMXBean.isCurrentThreadCpuTimeSupported() ? threadMXBean.getCurrentThreadCpuTime() : 0;
+    }
+
+    private long getCurrentThreadAllocatedBytes() {
+        if (!allocationsSupported) {
+            return 0;
+        }
+        return ((com.sun.management.ThreadMXBean) threadMXBean)
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Accumulated numbers of a phase of a module, and of the phases nested in it.
+     */
+    private static class PhaseStats {
+        final String module;
+        final String phase;
+        final Map<String, PhaseStats> nestedPhases = new LinkedHashMap<>();
+        int count;
+        long wallTime;
+        long cpuTime;
+        long allocatedBytes;
+
+        PhaseStats(String module, String phase) {
+            this.module = module;
+            this.phase = phase;
+        }
+
+        void add(int count, long wallTime, long cpuTime, long allocatedBytes) {
+            this.count += count;
+            this.wallTime += wallTime;
+            this.cpuTime += cpuTime;
+            this.allocatedBytes += allocatedBytes;
+        }
+
+        void add(PhaseStats stats) {
+            add(stats.count, stats.wallTime, stats.cpuTime, stats.allocatedBytes);
+        }
+
+        void addAll(PhaseStats stats) {
+            add(stats);
+            for (PhaseStats nestedStats : stats.nestedPhases.values()) {
+                this.nestedPhases.computeIfAbsent(nestedStats.phase, key -> new PhaseStats(null, nestedStats.phase))
+                        .addAll(nestedStats);
+            }
+        }
+    }
+}
@@ -0,0 +1,445 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler;
+
+import org.ballerinalang.compiler.BLangCompilerException;
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.toml.model.Manifest;
+import org.ballerinalang.toml.parser.ManifestProcessor;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.writer.BIRBinaryWriter;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.NullObservabiltySymbolCollector;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.ObserverbilitySymbolCollectorRunner;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
+import org.wso2.ballerinalang.compiler.util.ProjectDirs;
+import org.wso2.ballerinalang.programfile.CompiledBinaryFile.BIRPackageFile;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BLANG_COMPILED_JAR_EXT;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BLANG_COMPILED_PKG_BIR_EXT;
+
+/**
+ * Persistent cache of the compiled modules of a project, kept under {@code target/cache}.
+ * <p>
+ * An entry stores the BIR and the jar of a module, content addressed by a key derived from the hashes of the module
+ * sources, the interface hashes of the project modules it imports, the IDs of the other modules it imports and the
+ * build environment (compiler and BIR versions, {@code Ballerina.toml}, {@code Ballerina.lock} and the compiler
+ * options which affect the generated code, see {@link #KEY_OPTIONS}). A module whose
+ * entry is still valid is loaded from the cached BIR, in the same way as a module from the home BIR cache, and none
+ * of the compiler phases are run for it.
+ * <p>
+ * The interface hash of a module only covers its public signatures, see {@link BIRBinaryWriter#serializeInterface()}.
+ * Hence changing the body of a function, or a module private function, does not invalidate the entries of the
+ * modules importing it. Modules are never loaded from the cache when the BIR is dumped, since nothing would be
+ * dumped for them.
+ * <p>
+ * The tests of a module are compiled along with its sources, hence a module with tests is always compiled from
+ * sources unless the tests are skipped. If an observability symbol collector is present, the collected symbols of
+ * all the project modules are packed together, hence modules are only loaded from the cache if all of them are
+ * unchanged.
+ *
+ * @since 2.0.0
+ */
+public class ModuleBuildCache {
+
+    private static final CompilerContext.Key<ModuleBuildCache> MODULE_BUILD_CACHE_KEY = new CompilerContext.Key<>();
+
+    private static final String INDEX_FILE_NAME = "module.properties";
+    private static final String KEY = "key";
+    private static final String INTERFACE_HASH = "interfaceHash";
+    private static final String ENTRY_POINT = "entryPoint";
+    private static final String MODULE_PREFIX = "module.";
+    private static final String IMPORT_PREFIX = "import.";
+
+    // Compiler options which change the generated BIR or jar of a module
+    private static final CompilerOptionName[] KEY_OPTIONS = {
+            CompilerOptionName.EXPERIMENTAL_FEATURES_ENABLED,
+            CompilerOptionName.OBSERVABILITY_INCLUDED,
+            CompilerOptionName.CODE_COVERAGE,
+            CompilerOptionName.DEBUG_ENABLED,
+            CompilerOptionName.CDS_ARCHIVE,
+    };
+
+    private final CompilerContext context;
+    private final boolean enabled;
+    private final boolean skipTests;
+    private final boolean dumpingBir;
+    private final Path projectDir;
+    private final Path cacheDir;
+    private final Manifest manifest;
+    private final CompilerOptions options;
+    private final Map<String, CacheEntry> validEntries = new HashMap<>();
+    private final Map<String, CacheEntry> cachedModules = new HashMap<>();
+    private final Map<String, String> interfaceHashes = new HashMap<>();
+    private String environmentHash;
+    private Boolean allModulesValid;
+
+    public static ModuleBuildCache getInstance(CompilerContext context) {
+        ModuleBuildCache moduleBuildCache = context.get(MODULE_BUILD_CACHE_KEY);
+        if (moduleBuildCache == null) {
+            moduleBuildCache = new ModuleBuildCache(context);
+        }
+        return moduleBuildCache;
+    }
+
+    private ModuleBuildCache(CompilerContext context) {
+        context.put(MODULE_BUILD_CACHE_KEY, this);
+        this.context = context;
+
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        String projectDir = options.get(CompilerOptionName.PROJECT_DIR);
+        this.projectDir = projectDir == null ? null : Paths.get(projectDir);
+        this.enabled = this.projectDir != null &&
+                Boolean.parseBoolean(options.get(CompilerOptionName.BUILD_CACHE_ENABLED)) &&
+                RepoUtils.isBallerinaProject(this.projectDir);
+        this.skipTests = Boolean.parseBoolean(options.get(CompilerOptionName.SKIP_TESTS));
+        this.dumpingBir = Boolean.parseBoolean(options.get(CompilerOptionName.DUMP_BIR)) ||
+                Boolean.parseBoolean(options.get(CompilerOptionName.DUMP_BIR_INLINING)) ||
+                options.get(CompilerOptionName.DUMP_BIR_FILE) != null;
+        this.cacheDir = this.enabled ? this.projectDir.resolve(ProjectDirConstants.TARGET_DIR_NAME)
+                .resolve(ProjectDirConstants.BUILD_CACHE_DIR_NAME) : null;
+        this.manifest = ManifestProcessor.getInstance(context).getManifest();
+        this.options = options;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the cached BIR of the given module if its cache entry is still valid. From then on, the module is
+     * considered to be loaded from the cache.
+     *
+     * @param pkgId ID of the module
+     * @return the BIR content of the module, or null if the module has to be compiled from sources
+     */
+    public byte[] getCachedBir(PackageID pkgId) {
+        if (dumpingBir || !isProjectModule(pkgId)) {
+            return null;
+        }
+
+        String moduleName = pkgId.name.value;
+        CacheEntry entry = getValidEntry(moduleName);
+        if (entry == null || (requiresAllModules() && !allModulesValid())) {
+            return null;
+        }
+
+        try {
+            byte[] birContent = Files.readAllBytes(entry.getBirPath());
+            cachedModules.put(moduleName, entry);
+            return birContent;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public boolean isCached(PackageID pkgId) {
+        return enabled && cachedModules.containsKey(pkgId.name.value) && isProjectModule(pkgId);
+    }
+
+    public boolean hasEntryPoint(PackageID pkgId) {
+        CacheEntry entry = cachedModules.get(pkgId.name.value);
+        return entry != null && Boolean.parseBoolean(entry.index.getProperty(ENTRY_POINT));
+    }
+
+    /**
+     * Returns the cached jar of a module loaded from the cache.
+     *
+     * @param pkgId ID of the module
+     * @return path to the cached jar, or null if the module was compiled from sources
+     */
+    public Path getCachedJar(PackageID pkgId) {
+        if (!isCached(pkgId)) {
+            return null;
+        }
+        return cachedModules.get(pkgId.name.value).getJarPath();
+    }
+
+    /**
+     * Computes the interface hash of a module compiled from sources. This is done on the optimized BIR of the module,
+     * before code generation modifies it.
+     *
+     * @param symbol symbol of the module
+     * @param birPkg BIR of the module
+     */
+    public void computeInterfaceHash(BPackageSymbol symbol, BIRPackage birPkg) {
+        if (!isProjectModule(symbol.pkgID)) {
+            return;
+        }
+        byte[] moduleInterface = new BIRBinaryWriter(birPkg).serializeInterface();
+        interfaceHashes.put(symbol.pkgID.name.value, toHex(getDigest().digest(moduleInterface)));
+    }
+
+    /**
+     * Updates the cache entry of a module compiled from sources with its BIR and jar.
+     *
+     * @param symbol  symbol of the compiled module
+     * @param birPath path to the BIR of the module
+     * @param jarPath path to the jar of the module
+     */
+    public void update(BPackageSymbol symbol, Path birPath, Path jarPath) {
+        if (!isProjectModule(symbol.pkgID) || isCached(symbol.pkgID) || symbol.birPackageFile == null ||
+                !Files.exists(birPath) || !Files.exists(jarPath)) {
+            return;
+        }
+
+        Properties index = new Properties();
+        for (BPackageSymbol importSymbol : symbol.imports) {
+            if (!isProjectModule(importSymbol.pkgID)) {
+                index.setProperty(IMPORT_PREFIX + importSymbol.pkgID, "");
+                continue;
+            }
+            String interfaceHash = getInterfaceHash(importSymbol);
+            if (interfaceHash == null) {
+                // The imported module has errors.
+                return;
+            }
+            index.setProperty(MODULE_PREFIX + importSymbol.pkgID.name.value, interfaceHash);
+        }
+        String interfaceHash = getInterfaceHash(symbol);
+        if (interfaceHash == null) {
+            return;
+        }
+
+        String moduleName = symbol.pkgID.name.value;
+        Path entryDir = cacheDir.resolve(moduleName);
+        try {
+            String key = getKey(moduleName, index);
+            index.setProperty(KEY, key);
+            index.setProperty(INTERFACE_HASH, interfaceHash);
+            index.setProperty(ENTRY_POINT, Boolean.toString(symbol.entryPointExists));
+
+            // Remove the previous entry of the module. The index is written last, so that a partially written entry
+            // is never considered to be valid.
+            if (Files.exists(entryDir)) {
+                try (Stream<Path> paths = Files.list(entryDir)) {
+                    for (Path path : paths.collect(Collectors.toList())) {
+                        Files.delete(path);
+                    }
+                }
+            }
+            Files.createDirectories(entryDir);
+            Files.copy(birPath, entryDir.resolve(key + BLANG_COMPILED_PKG_BIR_EXT));
+            Files.copy(jarPath, entryDir.resolve(key + BLANG_COMPILED_JAR_EXT));
+            try (OutputStream outputStream = Files.newOutputStream(entryDir.resolve(INDEX_FILE_NAME))) {
+                index.store(outputStream, null);
+            }
+        } catch (IOException e) {
+            throw new BLangCompilerException("error updating the build cache of module '" + symbol.pkgID + "': " +
+                    e.getMessage(), e);
+        }
+    }
+
+    private boolean isProjectModule(PackageID pkgId) {
+        return enabled && manifest.getProject().getOrgName() != null &&
+                manifest.getProject().getOrgName().equals(pkgId.orgName.value) &&
+                ProjectDirs.isModuleExist(projectDir, pkgId.name.value);
+    }
+
+    private boolean requiresAllModules() {
+        return !(ObserverbilitySymbolCollectorRunner.getInstance(context) instanceof NullObservabiltySymbolCollector);
+    }
+
+    private boolean allModulesValid() {
+        if (allModulesValid == null) {
+            SourceDirectory sourceDirectory = context.get(SourceDirectory.class);
+            allModulesValid = sourceDirectory.getSourcePackageNames().stream()
+                    .allMatch(moduleName -> getValidEntry(moduleName) != null);
+        }
+        return allModulesValid;
+    }
+
+    private CacheEntry getValidEntry(String moduleName) {
+        if (validEntries.containsKey(moduleName)) {
+            return validEntries.get(moduleName);
+        }
+        // Guards against cyclic imports, which are reported when compiling the module from sources.
+        validEntries.put(moduleName, null);
+        CacheEntry entry = readEntry(moduleName);
+        validEntries.put(moduleName, entry);
+        return entry;
+    }
+
+    private CacheEntry readEntry(String moduleName) {
+        Path moduleDir = projectDir.resolve(ProjectDirConstants.SOURCE_DIR_NAME).resolve(moduleName);
+        if (!skipTests && Files.isDirectory(moduleDir.resolve(ProjectDirConstants.TEST_DIR_NAME))) {
+            return null;
+        }
+
+        Path indexFile = cacheDir.resolve(moduleName).resolve(INDEX_FILE_NAME);
+        if (!Files.isRegularFile(indexFile)) {
+            return null;
+        }
+
+        try {
+            Properties index = new Properties();
+            try (InputStream inputStream = Files.newInputStream(indexFile)) {
+                index.load(inputStream);
+            }
+            CacheEntry entry = new CacheEntry(indexFile.getParent(), index);
+            if (!Files.exists(entry.getBirPath()) || !Files.exists(entry.getJarPath()) ||
+                    !entry.key.equals(getKey(moduleName, index))) {
+                return null;
+            }
+
+            // The project modules imported by the module should be unchanged as well.
+            for (String property : index.stringPropertyNames()) {
+                if (!property.startsWith(MODULE_PREFIX)) {
+                    continue;
+                }
+                CacheEntry importEntry = getValidEntry(property.substring(MODULE_PREFIX.length()));
+                if (importEntry == null ||
+                        !index.getProperty(property).equals(importEntry.index.getProperty(INTERFACE_HASH))) {
+                    return null;
+                }
+            }
+            return entry;
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String getKey(String moduleName, Properties index) throws IOException {
+        MessageDigest digest = getDigest();
+        digest.update(getEnvironmentHash().getBytes(StandardCharsets.UTF_8));
+        digest.update(getSourceHash(moduleName).getBytes(StandardCharsets.UTF_8));
+        for (String property : new TreeSet<>(index.stringPropertyNames())) {
+            if (property.startsWith(MODULE_PREFIX) || property.startsWith(IMPORT_PREFIX)) {
+                digest.update((property + "=" + index.getProperty(property) + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    private String getSourceHash(String moduleName) throws IOException {
+        Path moduleDir = projectDir.resolve(ProjectDirConstants.SOURCE_DIR_NAME).resolve(moduleName);
+        Path testDir = moduleDir.resolve(ProjectDirConstants.TEST_DIR_NAME);
+        List<Path> sourceFiles;
+        try (Stream<Path> paths = Files.walk(moduleDir)) {
+            // Tests do not contribute to the module jar, and a module with tests is only cached if tests are skipped.
+            sourceFiles = paths.filter(Files::isRegularFile)
+                    .filter(path -> !path.startsWith(testDir))
+                    .sorted()
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+
+        MessageDigest digest = getDigest();
+        for (Path sourceFile : sourceFiles) {
+            String relativePath = moduleDir.relativize(sourceFile).toString().replace('\\', '/');
+            digest.update(relativePath.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(Files.readAllBytes(sourceFile));
+        }
+        return toHex(digest.digest());
+    }
+
+    private String getEnvironmentHash() throws IOException {
+        if (environmentHash == null) {
+            MessageDigest digest = getDigest();
+            digest.update(RepoUtils.getBallerinaVersion().getBytes(StandardCharsets.UTF_8));
+            digest.update(Integer.toString(BIRPackageFile.BIR_VERSION).getBytes(StandardCharsets.UTF_8));
+            for (String fileName : new String[]{ProjectDirConstants.MANIFEST_FILE_NAME,
+                    ProjectDirConstants.LOCK_FILE_NAME}) {
+                Path file = projectDir.resolve(fileName);
+                digest.update(fileName.getBytes(StandardCharsets.UTF_8));
+                if (Files.exists(file)) {
+                    digest.update(Files.readAllBytes(file));
+                }
+            }
+            for (CompilerOptionName optionName : KEY_OPTIONS) {
+                String value = options.isSet(optionName) ? options.get(optionName) : "";
+                digest.update((optionName + "=" + value + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+            environmentHash = toHex(digest.digest());
+        }
+        return environmentHash;
+    }
+
+    private String getInterfaceHash(BPackageSymbol symbol) {
+        if (symbol.birPackageFile == null) {
+            return null;
+        }
+        CacheEntry entry = cachedModules.get(symbol.pkgID.name.value);
+        if (entry != null) {
+            return entry.index.getProperty(INTERFACE_HASH);
+        }
+        return interfaceHashes.get(symbol.pkgID.name.value);
+    }
+
+    private static MessageDigest getDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new BLangCompilerException("unable to compute the build cache key: " + e.getMessage(), e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Cache entry of a module.
+     */
+    private static class CacheEntry {
+
+        final Path dir;
+        final Properties index;
+        final String key;
+
+        CacheEntry(Path dir, Properties index) {
+            this.dir = dir;
+            this.index = index;
+            this.key = index.getProperty(KEY, "");
+        }
+
+        Path getBirPath() {
+            return dir.resolve(key + BLANG_COMPILED_PKG_BIR_EXT);
+        }
+
+        Path getJarPath() {
+            return dir.resolve(key + BLANG_COMPILED_JAR_EXT);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler;
+
+import org.ballerinalang.compiler.BLangCompilerException;
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.wso2.ballerinalang.compiler.tree.BLangImportPackage;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.Constants;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Schedules the compilation of the modules of a project according to their dependency graph.
+ * <p>
+ * The front end phases share the analyzers of the compiler context and hence always run on the calling thread, in
+ * dependency order. When parallel compilation is enabled, the code generation of each module is submitted to a
+ * fork-join pool as soon as its front end completes, and runs concurrently with the code generation of independent
+ * modules and with the front end of modules that do not depend on it. A module is only processed further once the
+ * code generation of the project modules it imports has completed, since code generation rewrites the identifiers of
+ * the module. Diagnostics are kept per module in sorted order, hence the output is the same as that of a sequential
+ * build.
+ * <p>
+ * The symbol table is not thread-safe, and the front end keeps defining symbols in it while code generation runs.
+ * Code generation therefore only reads the predefined types of the symbol table, which are all set up when the lang
+ * modules are loaded, before any project module is compiled. It must not look up or define symbols in it.
+ *
+ * @since 2.0.0
+ */
+public class ModuleCompilationScheduler {
+
+    private static final CompilerContext.Key<ModuleCompilationScheduler> MODULE_COMPILATION_SCHEDULER_KEY =
+            new CompilerContext.Key<>();
+
+    private final CompilerOptions options;
+    private final boolean parallel;
+    private final Map<String, CompletableFuture<Void>> codeGenTasks = new ConcurrentHashMap<>();
+    private ForkJoinPool pool;
+
+    public static ModuleCompilationScheduler getInstance(CompilerContext context) {
+        ModuleCompilationScheduler scheduler = context.get(MODULE_COMPILATION_SCHEDULER_KEY);
+        if (scheduler == null) {
+            scheduler = new ModuleCompilationScheduler(context);
+        }
+        return scheduler;
+    }
+
+    private ModuleCompilationScheduler(CompilerContext context) {
+        context.put(MODULE_COMPILATION_SCHEDULER_KEY, this);
+        this.options = CompilerOptions.getInstance(context);
+        this.parallel = Boolean.parseBoolean(this.options.get(CompilerOptionName.PARALLEL_COMPILATION));
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Orders the given modules so that every module comes after the modules of the list it imports. Modules which
+     * do not depend on each other keep their original relative order.
+     *
+     * @param packages modules to be ordered
+     * @return modules in dependency order
+     */
+    public List<BLangPackage> order(List<BLangPackage> packages) {
+        Map<String, BLangPackage> moduleMap = new HashMap<>();
+        for (BLangPackage pkgNode : packages) {
+            moduleMap.put(PackageCache.getCacheID(pkgNode.packageID), pkgNode);
+        }
+
+        List<BLangPackage> orderedPackages = new ArrayList<>(packages.size());
+        Set<BLangPackage> visited = new LinkedHashSet<>();
+        for (BLangPackage pkgNode : packages) {
+            visit(pkgNode, moduleMap, visited, orderedPackages);
+        }
+        return orderedPackages;
+    }
+
+    private void visit(BLangPackage pkgNode, Map<String, BLangPackage> moduleMap, Set<BLangPackage> visited,
+                       List<BLangPackage> orderedPackages) {
+        if (!visited.add(pkgNode)) {
+            // Either already ordered, or a cyclic import which is reported by the semantic analyzer.
+            return;
+        }
+        for (String importedModule : getImportedModules(pkgNode)) {
+            BLangPackage importedPkgNode = moduleMap.get(importedModule);
+            if (importedPkgNode != null) {
+                visit(importedPkgNode, moduleMap, visited, orderedPackages);
+            }
+        }
+        orderedPackages.add(pkgNode);
+    }
+
+    /**
+     * Waits until the code generation of the modules imported by the given module has completed.
+     *
+     * @param pkgNode module to be compiled
+     */
+    void awaitDependencies(BLangPackage pkgNode) {
+        if (!parallel) {
+            return;
+        }
+        for (String importedModule : getImportedModules(pkgNode)) {
+            CompletableFuture<Void> codeGenTask = codeGenTasks.get(importedModule);
+            if (codeGenTask != null) {
+                join(codeGenTask);
+            }
+        }
+    }
+
+    /**
+     * Runs the code generation of the given module. If parallel compilation is enabled, the code generation is run
+     * on the fork-join pool once the code generation of the modules it imports has completed.
+     *
+     * @param pkgNode module to be code generated
+     * @param codeGen code generation task
+     */
+    void submitCodeGen(BLangPackage pkgNode, Runnable codeGen) {
+        if (!parallel) {
+            codeGen.run();
+            return;
+        }
+
+        List<CompletableFuture<Void>> dependencies = new ArrayList<>();
+        for (String importedModule : getImportedModules(pkgNode)) {
+            CompletableFuture<Void> codeGenTask = codeGenTasks.get(importedModule);
+            if (codeGenTask != null) {
+                dependencies.add(codeGenTask);
+            }
+        }
+
+        CompletableFuture<Void> codeGenTask = CompletableFuture
+                .allOf(dependencies.toArray(new CompletableFuture[0]))
+                .thenRunAsync(codeGen, getPool());
+        codeGenTasks.put(PackageCache.getCacheID(pkgNode.packageID), codeGenTask);
+    }
+
+    /**
+     * Waits until all the submitted code generation tasks have completed.
+     */
+    public void awaitCodeGen() {
+        if (!parallel) {
+            return;
+        }
+        try {
+            for (CompletableFuture<Void> codeGenTask : codeGenTasks.values()) {
+                join(codeGenTask);
+            }
+        } finally {
+            codeGenTasks.clear();
+            if (pool != null) {
+                pool.shutdown();
+                pool = null;
+            }
+        }
+    }
+
+    private synchronized ForkJoinPool getPool() {
+        if (pool == null) {
+            pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        }
+        return pool;
+    }
+
+    private Set<String> getImportedModules(BLangPackage pkgNode) {
+        Set<BLangImportPackage> importPkgList = new LinkedHashSet<>(pkgNode.imports);
+        // If tests are enabled then the imports of the testable package are compiled as well.
+        String testsEnabled = this.options.get(CompilerOptionName.SKIP_TESTS);
+        if (testsEnabled != null && testsEnabled.equals(Constants.SKIP_TESTS)) {
+            pkgNode.getTestablePkgs().forEach(testablePackage -> importPkgList.addAll(testablePackage.imports));
+        }
+
+        Set<String> importedModules = new LinkedHashSet<>();
+        for (BLangImportPackage importPkg : importPkgList) {
+            if (importPkg.symbol != null) {
+                importedModules.add(PackageCache.getCacheID(importPkg.symbol.pkgID));
+            }
+        }
+        return importedModules;
+    }
+
+    private static void join(CompletableFuture<Void> task) {
+        try {
+            task.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new BLangCompilerException(e.getMessage(), e.getCause());
+        }
+    }
+}
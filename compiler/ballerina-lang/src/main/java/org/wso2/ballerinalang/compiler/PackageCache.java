@@ -23,13 +23,16 @@ import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Names;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A cache of parsed package nodes.
+ * <p>
+ * The cache is safe to be accessed concurrently, since code generation of independent modules may run in parallel.
  *
  * @since 0.965.0
  */
@@ -55,8 +58,8 @@ public class PackageCache {
 
     protected PackageCache(CompilerContext context) {
         context.put(PACKAGE_CACHE_KEY, this);
-        this.packageMap = new HashMap<>();
-        this.packageSymbolMap = new HashMap<>();
+        this.packageMap = new ConcurrentHashMap<>();
+        this.packageSymbolMap = new ConcurrentHashMap<>();
     }
 
     public BLangPackage get(PackageID packageID) {
@@ -68,9 +71,11 @@ public class PackageCache {
     }
 
     public void put(PackageID packageID, BLangPackage bLangPackage) {
-        if (bLangPackage != null) {
-            bLangPackage.packageID = packageID;
+        if (bLangPackage == null) {
+            packageMap.remove(getCacheID(packageID));
+            return;
         }
+        bLangPackage.packageID = packageID;
         packageMap.put(getCacheID(packageID), bLangPackage);
     }
 
@@ -93,9 +98,11 @@ public class PackageCache {
             if (packageElements.length > 1) {
                 return versionMap.get(packageElements[1]);
             } else {
-                Iterator<BPackageSymbol> itr = versionMap.values().iterator();
-                if (itr.hasNext()) {
-                    return itr.next();
+                synchronized (versionMap) {
+                    Iterator<BPackageSymbol> itr = versionMap.values().iterator();
+                    if (itr.hasNext()) {
+                        return itr.next();
+                    }
                 }
             }
         }
@@ -105,11 +112,20 @@ public class PackageCache {
     public void putSymbol(PackageID packageID, BPackageSymbol packageSymbol) {
         String[] packageElements = packageID.toString().split(Names.VERSION_SEPARATOR.value);
         Map<String, BPackageSymbol> versionMap =
-                packageSymbolMap.computeIfAbsent(packageElements[0], k -> new LinkedHashMap<>());
+                packageSymbolMap.computeIfAbsent(packageElements[0],
+                        k -> Collections.synchronizedMap(new LinkedHashMap<>()));
         if (packageElements.length > 1) {
             versionMap.put(packageElements[1], packageSymbol);
         } else {
             versionMap.put(Names.DEFAULT_VERSION.value, packageSymbol);
         }
     }
+
+    public void removeSymbol(PackageID packageID) {
+        String[] packageElements = packageID.toString().split(Names.VERSION_SEPARATOR.value);
+        Map<String, BPackageSymbol> versionMap = packageSymbolMap.get(packageElements[0]);
+        if (versionMap != null) {
+            versionMap.remove(packageElements.length > 1 ? packageElements[1] : Names.DEFAULT_VERSION.value);
+        }
+    }
 }
@@ -18,6 +18,7 @@
 package org.wso2.ballerinalang.compiler;
 
 import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.repository.CompiledPackage;
 import org.ballerinalang.repository.CompilerInput;
@@ -33,6 +34,7 @@ import org.ballerinalang.toml.model.LockFileImport;
 import org.ballerinalang.toml.model.Manifest;
 import org.ballerinalang.toml.parser.LockFileProcessor;
 import org.ballerinalang.toml.parser.ManifestProcessor;
+import org.wso2.ballerinalang.compiler.desugar.ASTBuilderUtil;
 import org.wso2.ballerinalang.compiler.packaging.GenericPackageSource;
 import org.wso2.ballerinalang.compiler.packaging.Patten;
 import org.wso2.ballerinalang.compiler.packaging.RepoHierarchy;
@@ -53,6 +55,7 @@ import org.wso2.ballerinalang.compiler.packaging.repo.Repo;
 import org.wso2.ballerinalang.compiler.parser.Parser;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.SymbolEnter;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangImportPackage;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
@@ -69,6 +72,7 @@ import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -110,10 +114,12 @@ public class PackageLoader {
 
     private final CompilerOptions options;
     private final Parser parser;
+    private final CompilerPhaseProfiler profiler;
     private final SourceDirectory sourceDirectory;
     private final PackageCache packageCache;
     private final SymbolEnter symbolEnter;
     private final BIRPackageSymbolEnter birPackageSymbolEnter;
+    private final ModuleBuildCache moduleBuildCache;
     private final Names names;
     private static final boolean shouldReadBalo = true;
     private final CompilerPhase compilerPhase;
@@ -143,9 +149,11 @@ public class PackageLoader {
         this.options = CompilerOptions.getInstance(context);
         this.compilerPhase = this.options.getCompilerPhase();
         this.parser = Parser.getInstance(context);
+        this.profiler = CompilerPhaseProfiler.getInstance(context);
         this.packageCache = PackageCache.getInstance(context);
         this.symbolEnter = SymbolEnter.getInstance(context);
         this.birPackageSymbolEnter = BIRPackageSymbolEnter.getInstance(context);
+        this.moduleBuildCache = ModuleBuildCache.getInstance(context);
         this.names = Names.getInstance(context);
         this.offline = Boolean.parseBoolean(options.get(OFFLINE));
         this.testEnabled = Boolean.parseBoolean(options.get(TEST_ENABLED));
@@ -371,6 +379,11 @@ public class PackageLoader {
             return null;
         }
 
+        byte[] cachedBir = this.moduleBuildCache.getCachedBir(pkgId);
+        if (cachedBir != null) {
+            return loadCachedPackage(pkgId, cachedBir);
+        }
+
         BLangPackage packageNode = parse(pkgId, (PackageSource) pkgEntity);
         define(packageNode);
         return packageNode;
@@ -428,6 +441,10 @@ public class PackageLoader {
         }
 
         if (pkgEntity.getKind() == PackageEntity.Kind.SOURCE) {
+            byte[] cachedBir = this.moduleBuildCache.getCachedBir(packageId);
+            if (cachedBir != null) {
+                return loadCachedPackage(packageId, cachedBir).symbol;
+            }
             return parseAndDefine(packageId, (PackageSource) pkgEntity);
         } else if (pkgEntity.getKind() == Kind.COMPILED || pkgEntity.getKind() == Kind.COMPILED_BIR) {
             return loadCompiledPackageAndDefine(packageId, (PackageBinary) pkgEntity);
@@ -484,7 +501,8 @@ public class PackageLoader {
     }
 
     private BLangPackage parse(PackageID pkgId, PackageSource pkgSource) {
-        BLangPackage packageNode = this.parser.parse(pkgSource, this.sourceDirectory.getPath());
+        BLangPackage packageNode = this.profiler.profile(pkgId, CompilerPhaseProfiler.PARSE,
+                () -> this.parser.parse(pkgSource, this.sourceDirectory.getPath()));
         packageNode.packageID = pkgId;
         // Set the same packageId to the testable node
         packageNode.getTestablePkgs().forEach(testablePkg -> testablePkg.packageID = pkgId);
@@ -502,6 +520,33 @@ public class PackageLoader {
         return pkgSymbol;
     }
 
+    private BLangPackage loadCachedPackage(PackageID pkgId, byte[] birContent) {
+        BPackageSymbol pkgSymbol = this.birPackageSymbolEnter.definePackage(pkgId, this.repos, birContent);
+        pkgSymbol.entryPointExists = this.moduleBuildCache.hasEntryPoint(pkgId);
+        this.packageCache.putSymbol(pkgSymbol.pkgID, pkgSymbol);
+
+        // The package node only carries the symbol and the imports of the module. All the compiler phases are marked
+        // as completed, so that they are skipped for the module.
+        BLangPackage pkgNode = (BLangPackage) TreeBuilder.createPackageNode();
+        pkgNode.packageID = pkgId;
+        pkgNode.symbol = pkgSymbol;
+        pkgNode.completedPhases.addAll(EnumSet.allOf(CompilerPhase.class));
+        for (BPackageSymbol importSymbol : pkgSymbol.imports) {
+            BLangImportPackage importPkgNode = (BLangImportPackage) TreeBuilder.createImportPackageNode();
+            importPkgNode.orgName = ASTBuilderUtil.createIdentifier(null, importSymbol.pkgID.orgName.value);
+            importPkgNode.pkgNameComps = importSymbol.pkgID.nameComps.stream()
+                    .map(nameComp -> ASTBuilderUtil.createIdentifier(null, nameComp.value))
+                    .collect(Collectors.toList());
+            importPkgNode.version = ASTBuilderUtil.createIdentifier(null, importSymbol.pkgID.version.value);
+            importPkgNode.alias = ASTBuilderUtil.createIdentifier(null, importSymbol.pkgID.name.value);
+            importPkgNode.symbol = importSymbol;
+            pkgNode.imports.add(importPkgNode);
+        }
+        pkgSymbol.compiledPackage = createInMemoryCompiledPackage(pkgNode);
+        this.packageCache.put(pkgId, pkgNode);
+        return pkgNode;
+    }
+
     private CompiledPackage createInMemoryCompiledPackage(BLangPackage pkgNode) {
         PackageID packageID = pkgNode.packageID;
         InMemoryCompiledPackage compiledPackage = new InMemoryCompiledPackage(packageID);
@@ -26,6 +26,7 @@ import org.ballerinalang.model.tree.NodeKind;
 import org.ballerinalang.model.tree.OperatorKind;
 import org.ballerinalang.model.tree.TopLevelNode;
 import org.ballerinalang.model.tree.expressions.RecordLiteralNode;
+import org.wso2.ballerinalang.compiler.ModuleBuildCache;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRAnnotation;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRAnnotationAttachment;
@@ -60,6 +61,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.symbols.BAttachedFunction
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BConstantSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BObjectTypeSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
@@ -205,6 +207,7 @@ public class BIRGen extends BLangNodeVisitor {
     private Names names;
     private final SymbolTable symTable;
     private BIROptimizer birOptimizer;
+    private final ModuleBuildCache moduleBuildCache;
 
     // Required variables to generate code for assignment statements
     private boolean varAssignment = false;
@@ -243,6 +246,7 @@ public class BIRGen extends BLangNodeVisitor {
         this.names = Names.getInstance(context);
         this.symTable = SymbolTable.getInstance(context);
         this.birOptimizer = BIROptimizer.getInstance(context);
+        this.moduleBuildCache = ModuleBuildCache.getInstance(context);
     }
 
     public BLangPackage genBIR(BLangPackage astPkg) {
@@ -255,7 +259,11 @@ public class BIRGen extends BLangNodeVisitor {
         astPkg.accept(this);
 
         this.birOptimizer.optimizePackage(birPkg);
+        markYieldFreeFunctions(astPkg.symbol, birPkg);
         astPkg.symbol.birPackageFile = new BIRPackageFile(new BIRBinaryWriter(birPkg).serialize());
+        if (this.moduleBuildCache.isEnabled()) {
+            this.moduleBuildCache.computeInterfaceHash(astPkg.symbol, birPkg);
+        }
 
         if (astPkg.hasTestablePackage()) {
             BIRPackage testBirPkg = new BIRPackage(astPkg.pos, astPkg.packageID.orgName, astPkg.packageID.name,
@@ -271,12 +279,13 @@ public class BIRGen extends BLangNodeVisitor {
                     testPkg.imports.remove(mod);
                 }
                 testPkg.accept(this);
-                this.birOptimizer.optimizePackage(testBirPkg);
-                testPkg.symbol.bir = testBirPkg;
+                // Mocked functions are replaced before optimizing, so that the calls to them are not inlined.
                 Map<String, String> mockFunctionMap = astPkg.getTestablePkg().getMockFunctionNamesMap();
                 if (!mockFunctionMap.isEmpty()) {
                     replaceMockedFunctions(testBirPkg, mockFunctionMap);
                 }
+                this.birOptimizer.optimizePackage(testBirPkg);
+                testPkg.symbol.bir = testBirPkg;
             });
         }
 
@@ -284,6 +293,20 @@ public class BIRGen extends BLangNodeVisitor {
         return astPkg;
     }
 
+    private void markYieldFreeFunctions(BPackageSymbol pkgSymbol, BIRPackage birPkg) {
+        // Modules compiled in the same build resolve the calls to this module through its symbols, instead of the BIR.
+        for (BIRFunction function : birPkg.functions) {
+            if (!Symbols.isFlagOn(function.flags, Flags.YIELD_FREE)) {
+                continue;
+            }
+
+            BSymbol symbol = pkgSymbol.scope.lookup(function.name).symbol;
+            if (symbol != null && (symbol.tag & SymTag.FUNCTION) == SymTag.FUNCTION) {
+                symbol.flags |= Flags.YIELD_FREE;
+            }
+        }
+    }
+
     private void setEntryPoints(BLangPackage pkgNode) {
         BLangFunction mainFunc = getMainFunction(pkgNode);
         if (mainFunc != null) {
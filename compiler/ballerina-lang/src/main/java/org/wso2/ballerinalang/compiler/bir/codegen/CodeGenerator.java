@@ -21,6 +21,7 @@ import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.compiler.JarResolver;
 import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.CompilerPhaseProfiler;
 import org.wso2.ballerinalang.compiler.PackageCache;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.InteropValidator;
 import org.wso2.ballerinalang.compiler.bir.emit.BIREmitter;
@@ -66,12 +67,14 @@ public class CodeGenerator {
     private PackageCache packageCache;
     private BLangDiagnosticLog dlog;
     private BIREmitter birEmitter;
+    private CompilerPhaseProfiler profiler;
     private boolean baloGen;
     private CompilerContext compilerContext;
     private boolean skipTests;
     private boolean dumbBIR;
     private final String dumpBIRFile;
     private boolean skipModuleDependencies;
+    private boolean cdsArchive;
     private Path ballerinaHome = Paths.get(System.getProperty(BALLERINA_HOME));
 
     private CodeGenerator(CompilerContext compilerContext) {
@@ -81,6 +84,7 @@ public class CodeGenerator {
         this.packageCache = PackageCache.getInstance(compilerContext);
         this.dlog = BLangDiagnosticLog.getInstance(compilerContext);
         this.birEmitter = BIREmitter.getInstance(compilerContext);
+        this.profiler = CompilerPhaseProfiler.getInstance(compilerContext);
         this.compilerContext = compilerContext;
         CompilerOptions compilerOptions = CompilerOptions.getInstance(compilerContext);
         this.skipTests = getBooleanValueIfSet(compilerOptions, CompilerOptionName.SKIP_TESTS);
@@ -89,6 +93,7 @@ public class CodeGenerator {
         this.dumpBIRFile = compilerOptions.get(CompilerOptionName.DUMP_BIR_FILE);
         this.skipModuleDependencies = getBooleanValueIfSet(compilerOptions,
                 CompilerOptionName.SKIP_MODULE_DEPENDENCIES);
+        this.cdsArchive = getBooleanValueIfSet(compilerOptions, CompilerOptionName.CDS_ARCHIVE);
     }
 
     public static CodeGenerator getInstance(CompilerContext context) {
@@ -108,6 +113,19 @@ public class CodeGenerator {
 
     public BLangPackage generate(BLangPackage bLangPackage) {
 
+        return generate(bLangPackage, dlog.errorCount() > 0);
+    }
+
+    /**
+     * Generates the module jar for the given package.
+     *
+     * @param bLangPackage   package to be generated
+     * @param hasPriorErrors whether errors were logged before the generation was scheduled, in which case the module
+     *                       jar is not generated
+     * @return the given package
+     */
+    public BLangPackage generate(BLangPackage bLangPackage, boolean hasPriorErrors) {
+
         if (dumbBIR) {
             birEmitter.emit(bLangPackage.symbol.bir);
         }
@@ -125,7 +143,7 @@ public class CodeGenerator {
         Set<Path> moduleDependencies = findDependencies(bLangPackage.packageID);
 
         // generate module jar
-        generate(bLangPackage.symbol, moduleDependencies);
+        boolean hasErrors = generate(bLangPackage.symbol, moduleDependencies, hasPriorErrors);
 
         if (skipTests || !bLangPackage.hasTestablePackage()) {
             return bLangPackage;
@@ -137,15 +155,16 @@ public class CodeGenerator {
             Set<Path> testDependencies = findTestDependencies(testablePackage.packageID, moduleDependencies);
 
             // generate test module jar
-            generate(testablePackage.symbol, testDependencies);
+            generate(testablePackage.symbol, testDependencies, hasErrors);
         });
 
         return bLangPackage;
     }
 
-    private void generate(BPackageSymbol packageSymbol, Set<Path> moduleDependencies) {
+    private boolean generate(BPackageSymbol packageSymbol, Set<Path> moduleDependencies, boolean hasPriorErrors) {
 
-        final JvmPackageGen jvmPackageGen = new JvmPackageGen(symbolTable, packageCache, dlog);
+        final JvmPackageGen jvmPackageGen = new JvmPackageGen(symbolTable, packageCache, dlog, hasPriorErrors,
+                                                              cdsArchive);
 
         populateExternalMap(jvmPackageGen);
 
@@ -155,7 +174,9 @@ public class CodeGenerator {
         //Rewrite identiifier names with encoding special characters
         encodeModuleIdentifiers(packageSymbol.bir, Names.getInstance(this.compilerContext));
 
-        packageSymbol.compiledJarFile = jvmPackageGen.generate(packageSymbol.bir, interopValidator, true);
+        packageSymbol.compiledJarFile = profiler.profile(packageSymbol.pkgID, CompilerPhaseProfiler.JVM_CLASS_GEN,
+                () -> jvmPackageGen.generate(packageSymbol.bir, interopValidator, true));
+        return jvmPackageGen.hasErrors();
     }
 
     private Set<Path> findDependencies(PackageID packageID) {
@@ -51,6 +51,7 @@ import static org.objectweb.asm.Opcodes.I2F;
 import static org.objectweb.asm.Opcodes.I2L;
 import static org.objectweb.asm.Opcodes.I2S;
 import static org.objectweb.asm.Opcodes.IFNE;
+import static org.objectweb.asm.Opcodes.IFNONNULL;
 import static org.objectweb.asm.Opcodes.IFNULL;
 import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
@@ -87,6 +88,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_TO_ST
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_TO_UNSIGNED_INT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LONG_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.NON_BMP_STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.NUMBER;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.REF_VALUE;
@@ -110,7 +112,9 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.interop.InteropMethodG
  */
 public class JvmCastGen {
 
-    //the symbol table is currently set from package gen class
+    // The symbol table is set from the package gen class. When modules are generated in parallel, every worker
+    // writes the symbol table of the same compiler context, so a worker reads the same table whichever write it
+    // observes. Only its predefined types are read, which no longer change once code generation starts.
     static SymbolTable symbolTable;
 
     static void generatePlatformCheckCast(MethodVisitor mv, BIRVarToJVMIndexMap indexMap, BType sourceType,
@@ -448,7 +452,10 @@ public class JvmCastGen {
                         break;
                 }
 
-                checkCast(mv, targetType);
+                // A value wrapped in a handle value above is always of the handle type
+                if (targetType.tag != TypeTags.HANDLE) {
+                    generateJToBTypeCheck(mv, sourceType, targetType);
+                }
                 String targetTypeClass = getTargetClass(targetType);
                 if (targetTypeClass != null) {
                     mv.visitTypeInsn(CHECKCAST, targetTypeClass);
@@ -457,6 +464,43 @@ public class JvmCastGen {
         }
     }
 
+    private static void generateJToBTypeCheck(MethodVisitor mv, JType sourceType, BType targetType) {
+
+        if (!isJTypeAlwaysOfBType(sourceType, targetType)) {
+            checkCast(mv, targetType);
+            return;
+        }
+
+        // Every non-null value of the Java type belongs to the target type, hence the type checker is only
+        // called to report the error for a null value.
+        Label afterTypeCheck = new Label();
+        mv.visitInsn(DUP);
+        mv.visitJumpInsn(IFNONNULL, afterTypeCheck);
+        checkCast(mv, targetType);
+        mv.visitLabel(afterTypeCheck);
+    }
+
+    private static boolean isJTypeAlwaysOfBType(JType sourceType, BType targetType) {
+
+        if (sourceType.jTag != JTypeTags.JREF) {
+            return false;
+        }
+
+        String sourceClass = ((JType.JRefType) sourceType).typeValue;
+        switch (targetType.tag) {
+            case TypeTags.STRING:
+                return sourceClass.equals(B_STRING_VALUE) || sourceClass.equals(BMP_STRING_VALUE) ||
+                        sourceClass.equals(NON_BMP_STRING_VALUE);
+            case TypeTags.ERROR:
+                return targetType == symbolTable.errorType &&
+                        (sourceClass.equals(BERROR) || sourceClass.equals(ERROR_VALUE));
+            case TypeTags.XML:
+                return targetType == symbolTable.xmlType && sourceClass.equals(XML_VALUE);
+            default:
+                return false;
+        }
+    }
+
     private static void generateCheckCastJToBInt(MethodVisitor mv, JType sourceType) {
 
         switch (sourceType.jTag) {
@@ -1355,13 +1399,13 @@ public class JvmCastGen {
 
     static void addBoxInsn(MethodVisitor mv, BType bType) {
         if (bType != null) {
-            generateCast(mv, bType, JvmInstructionGen.anyType);
+            generateCast(mv, bType, symbolTable.anyType);
         }
     }
 
     public static void addUnboxInsn(MethodVisitor mv, BType bType) {
         if (bType != null) {
-            generateCast(mv, JvmInstructionGen.anyType, bType);
+            generateCast(mv, symbolTable.anyType, bType);
         }
     }
     // ------------------------------------------------------------------
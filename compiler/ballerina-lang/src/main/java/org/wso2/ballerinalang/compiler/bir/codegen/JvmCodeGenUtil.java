@@ -275,6 +275,10 @@ public class JvmCodeGenUtil {
         return (func.flags & Flags.NATIVE) == Flags.NATIVE;
     }
 
+    static boolean isYieldFreeFunc(BIRNode.BIRFunction func) {
+        return (func.flags & Flags.YIELD_FREE) == Flags.YIELD_FREE;
+    }
+
     public static String getPackageName(PackageID packageID) {
         return getPackageName(packageID.orgName, packageID.name, packageID.version);
     }
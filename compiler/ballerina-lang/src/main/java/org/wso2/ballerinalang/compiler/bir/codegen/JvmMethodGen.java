@@ -257,12 +257,43 @@ public class JvmMethodGen {
         genLocalVars(indexMap, mv, func.localVars);
 
         int returnVarRefIndex = getReturnVarRefIndex(func, indexMap, retType, mv);
+
+        LabelGenerator labelGen = new LabelGenerator();
+        JvmInstructionGen instGen = new JvmInstructionGen(mv, indexMap, module, jvmPackageGen);
+        JvmErrorGen errorGen = new JvmErrorGen(mv, indexMap, instGen);
+        JvmTerminatorGen termGen = new JvmTerminatorGen(mv, indexMap, labelGen, errorGen, module, instGen,
+                                                        jvmPackageGen);
+
+        if (JvmCodeGenUtil.isYieldFreeFunc(func)) {
+            // A function which never yields is never resumed either, hence it does not need the state machine.
+            generateBasicBlocks(mv, labelGen, errorGen, instGen, termGen, func, returnVarRefIndex, -1,
+                                localVarOffset, module, attachedType, moduleClassName, asyncDataCollector);
+        } else {
+            genStateMachine(func, mv, module, moduleClassName, attachedType, asyncDataCollector, indexMap,
+                            localVarOffset, funcName, returnVarRefIndex, labelGen, instGen, errorGen, termGen);
+        }
+
+        Label methodEndLabel = new Label();
+        mv.visitLabel(methodEndLabel);
+        termGen.genReturnTerm(returnVarRefIndex, func);
+
+        // Create Local Variable Table
+        createLocalVariableTable(func, indexMap, localVarOffset, mv, methodStartLabel, labelGen, methodEndLabel);
+
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private void genStateMachine(BIRFunction func, MethodVisitor mv, BIRPackage module, String moduleClassName,
+                                 BType attachedType, AsyncDataCollector asyncDataCollector,
+                                 BIRVarToJVMIndexMap indexMap, int localVarOffset, String funcName,
+                                 int returnVarRefIndex, LabelGenerator labelGen, JvmInstructionGen instGen,
+                                 JvmErrorGen errorGen, JvmTerminatorGen termGen) {
         int stateVarIndex = getStateVarIndex(indexMap, mv);
 
         mv.visitVarInsn(ALOAD, localVarOffset);
         mv.visitFieldInsn(GETFIELD, STRAND_CLASS, RESUME_INDEX, "I");
 
-        LabelGenerator labelGen = new LabelGenerator();
         Label resumeLabel = labelGen.getLabel(funcName + "resume");
         mv.visitJumpInsn(IFGT, resumeLabel);
 
@@ -275,11 +306,6 @@ public class JvmMethodGen {
 
         addCasesForBasicBlocks(func, funcName, labelGen, labels, states);
 
-        JvmInstructionGen instGen = new JvmInstructionGen(mv, indexMap, module, jvmPackageGen);
-        JvmErrorGen errorGen = new JvmErrorGen(mv, indexMap, instGen);
-        JvmTerminatorGen termGen = new JvmTerminatorGen(mv, indexMap, labelGen, errorGen, module, instGen,
-                                                        jvmPackageGen);
-
         mv.visitVarInsn(ILOAD, stateVarIndex);
         Label yieldLable = labelGen.getLabel(funcName + "yield");
         mv.visitLookupSwitchInsn(yieldLable, toIntArray(states), labels.toArray(new Label[0]));
@@ -308,16 +334,6 @@ public class JvmMethodGen {
         mv.visitFieldInsn(PUTFIELD, frameName, STATE, "I");
 
         generateGetFrame(indexMap, localVarOffset, mv);
-
-        Label methodEndLabel = new Label();
-        mv.visitLabel(methodEndLabel);
-        termGen.genReturnTerm(returnVarRefIndex, func);
-
-        // Create Local Variable Table
-        createLocalVariableTable(func, indexMap, localVarOffset, mv, methodStartLabel, labelGen, methodEndLabel);
-
-        mv.visitMaxs(0, 0);
-        mv.visitEnd();
     }
 
     private void generateGetFrame(BIRVarToJVMIndexMap indexMap, int localVarOffset, MethodVisitor mv) {
@@ -1252,6 +1268,7 @@ public class JvmMethodGen {
                                     BType attachedType, String moduleClassName, AsyncDataCollector asyncDataCollector) {
 
         String funcName = JvmCodeGenUtil.cleanupFunctionName(func.name.value);
+        boolean yieldFree = JvmCodeGenUtil.isYieldFreeFunc(func);
         BirScope lastScope = null;
         Set<BirScope> visitedScopesSet = new HashSet<>();
 
@@ -1261,7 +1278,7 @@ public class JvmMethodGen {
             // create jvm label
             Label bbLabel = labelGen.getLabel(funcName + bb.id.value);
             mv.visitLabel(bbLabel);
-            if (i == 0) {
+            if (i == 0 && !yieldFree) {
                 pushShort(mv, stateVarIndex, caseIndex);
                 caseIndex += 1;
             }
@@ -1275,8 +1292,10 @@ public class JvmMethodGen {
             mv.visitLabel(bbEndLabel);
 
             BIRTerminator terminator = bb.terminator;
-            pushShort(mv, stateVarIndex, caseIndex);
-            caseIndex += 1;
+            if (!yieldFree) {
+                pushShort(mv, stateVarIndex, caseIndex);
+                caseIndex += 1;
+            }
 
             processTerminator(mv, func, module, funcName, terminator);
             termGen.genTerminator(terminator, moduleClassName, func, funcName, localVarOffset, returnVarRefIndex,
@@ -1285,7 +1304,13 @@ public class JvmMethodGen {
             errorGen.generateTryCatch(func, funcName, bb, termGen, labelGen);
 
             BIRBasicBlock thenBB = terminator.thenBB;
-            if (thenBB != null) {
+            if (thenBB == null) {
+                continue;
+            }
+
+            if (yieldFree) {
+                mv.visitJumpInsn(GOTO, labelGen.getLabel(funcName + thenBB.id.value));
+            } else {
                 JvmCodeGenUtil.genYieldCheck(mv, termGen.getLabelGenerator(), thenBB, funcName, localVarOffset);
             }
         }
@@ -1648,6 +1673,11 @@ public class JvmMethodGen {
                                INIT_FUNCTION_SUFFIX, "initdummy");
         }
 
+        // end the program here, if it is a training run for the class data sharing archive
+        if (jvmPackageGen.cdsArchive) {
+            mv.visitMethodInsn(INVOKESTATIC, LAUNCH_UTILS, "endTrainingRun", "()V", false);
+        }
+
         if (userMainFunc != null) {
             generateUserMainFunctionCall(userMainFunc, initClass, asyncDataCollector, mv, indexMap, schedulerVarIndex);
         }
@@ -2076,6 +2106,11 @@ public class JvmMethodGen {
 
     private void generateFrameClassForFunction(BIRPackage pkg, BIRFunction func, Map<String, byte[]> pkgEntries,
                                                BType attachedType) {
+        if (JvmCodeGenUtil.isYieldFreeFunc(func)) {
+            // Frames are only created when a function yields.
+            return;
+        }
+
         String frameClassName = getFrameClassName(JvmCodeGenUtil.getPackageName(pkg), func.name.value,
                                                   attachedType);
         ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
@@ -55,6 +55,7 @@ import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.ResolvedTypeBuilder;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.compiler.util.diagnotic.DiagnosticPos;
 import org.wso2.ballerinalang.util.Flags;
 
 import java.util.ArrayList;
@@ -117,7 +118,8 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.interop.ExternalMethod
  */
 public class JvmPackageGen {
 
-    private static ResolvedTypeBuilder typeBuilder;
+    private static final ThreadLocal<ResolvedTypeBuilder> typeBuilder =
+            ThreadLocal.withInitial(ResolvedTypeBuilder::new);
 
     public final SymbolTable symbolTable;
     public final PackageCache packageCache;
@@ -127,8 +129,12 @@ public class JvmPackageGen {
     private Map<String, String> globalVarClassMap;
     private Map<String, PackageID> dependentModules;
     private BLangDiagnosticLog dlog;
+    private final boolean hasPriorErrors;
+    final boolean cdsArchive;
+    private volatile boolean hasCodeGenErrors;
 
-    JvmPackageGen(SymbolTable symbolTable, PackageCache packageCache, BLangDiagnosticLog dlog) {
+    JvmPackageGen(SymbolTable symbolTable, PackageCache packageCache, BLangDiagnosticLog dlog,
+                  boolean hasPriorErrors, boolean cdsArchive) {
 
         birFunctionMap = new HashMap<>();
         globalVarClassMap = new HashMap<>();
@@ -137,11 +143,11 @@ public class JvmPackageGen {
         this.symbolTable = symbolTable;
         this.packageCache = packageCache;
         this.dlog = dlog;
+        this.hasPriorErrors = hasPriorErrors;
+        this.cdsArchive = cdsArchive;
         jvmMethodGen = new JvmMethodGen(this);
-        typeBuilder = new ResolvedTypeBuilder();
 
         JvmCastGen.symbolTable = symbolTable;
-        JvmInstructionGen.anyType = symbolTable.anyType;
     }
 
     private static String getBvmAlias(String orgName, String moduleName) {
@@ -308,7 +314,7 @@ public class JvmPackageGen {
 
         BType retType = functionTypeDesc.retType;
         if (isExternFunc(currentFunc) && Symbols.isFlagOn(retType.flags, Flags.PARAMETERIZED)) {
-            retType = typeBuilder.build(retType);
+            retType = typeBuilder.get().build(retType);
         }
 
         String jvmMethodDescription;
@@ -394,12 +400,16 @@ public class JvmPackageGen {
 
         addBuiltinImports(module, moduleImports);
 
-        for (BIRNode.BIRImportModule importModule : module.importModules) {
-            BPackageSymbol pkgSymbol = packageCache.getSymbol(getBvmAlias(importModule.org.value,
-                    importModule.name.value));
-            generateDependencyList(pkgSymbol, interopValidator);
-            if (dlog.errorCount() > 0) {
-                return new CompiledJarFile(Collections.emptyMap());
+        // Linking rewrites the BIR of the dependencies, which is shared with the modules generated concurrently and
+        // with the front end, which holds the same lock while compiling a module.
+        synchronized (packageCache) {
+            for (BIRNode.BIRImportModule importModule : module.importModules) {
+                BPackageSymbol pkgSymbol = packageCache.getSymbol(getBvmAlias(importModule.org.value,
+                        importModule.name.value));
+                generateDependencyList(pkgSymbol, interopValidator);
+                if (hasErrors()) {
+                    return new CompiledJarFile(Collections.emptyMap());
+                }
             }
         }
 
@@ -411,7 +421,7 @@ public class JvmPackageGen {
         String pkgName = JvmCodeGenUtil.getPackageName(module);
         Map<String, JavaClass> jvmClassMapping = generateClassNameLinking(module, pkgName, moduleInitClass,
                                                                           interopValidator, isEntry);
-        if (!isEntry || dlog.errorCount() > 0) {
+        if (!isEntry || hasErrors()) {
             return new CompiledJarFile(Collections.emptyMap());
         }
 
@@ -619,7 +629,7 @@ public class JvmPackageGen {
                                                   className, lookupKey);
                     birFunctionMap.put(pkgName + lookupKey, birFuncWrapperOrError);
                 } catch (JInteropException e) {
-                    dlog.error(func.pos, e.getCode(), e.getMessage());
+                    logError(func.pos, e.getCode(), e.getMessage());
                 }
             }
         }
@@ -719,7 +729,7 @@ public class JvmPackageGen {
                                               birModuleClassName, birFuncName);
                 birFunctionMap.put(pkgName + birFuncName, birFuncWrapperOrError);
             } catch (JInteropException e) {
-                dlog.error(birFunc.pos, e.getCode(), e.getMessage());
+                logError(birFunc.pos, e.getCode(), e.getMessage());
             }
         }
     }
@@ -756,10 +766,10 @@ public class JvmPackageGen {
         } catch (MethodTooLargeException e) {
             String funcName = e.getMethodName();
             BIRFunction func = findFunction(node, funcName);
-            dlog.error(func.pos, DiagnosticCode.METHOD_TOO_LARGE, func.name.value);
+            logError(func.pos, DiagnosticCode.METHOD_TOO_LARGE, func.name.value);
             result = new byte[0];
         } catch (ClassTooLargeException e) {
-            dlog.error(node.pos, DiagnosticCode.FILE_TOO_LARGE, e.getClassName());
+            logError(node.pos, DiagnosticCode.FILE_TOO_LARGE, e.getClassName());
             result = new byte[0];
         } catch (Exception e) {
             throw new BLangCompilerException(e.getMessage(), e);
@@ -768,6 +778,23 @@ public class JvmPackageGen {
         return result;
     }
 
+    private void logError(DiagnosticPos pos, DiagnosticCode code, Object... args) {
+
+        hasCodeGenErrors = true;
+        dlog.error(pos, code, args);
+    }
+
+    /**
+     * Checks for errors logged before or during the generation of this module. Errors of modules which are being
+     * generated concurrently are not taken into account.
+     *
+     * @return true if there are errors
+     */
+    boolean hasErrors() {
+
+        return hasPriorErrors || hasCodeGenErrors;
+    }
+
     private void clearPackageGenInfo() {
 
         birFunctionMap.clear();
@@ -200,7 +200,8 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeVal
  */
 class JvmTypeGen {
 
-    private static ResolvedTypeBuilder typeBuilder = new ResolvedTypeBuilder();
+    private static final ThreadLocal<ResolvedTypeBuilder> typeBuilder =
+            ThreadLocal.withInitial(ResolvedTypeBuilder::new);
 
     /**
      * Create static fields to hold the user defined types.
@@ -1653,7 +1654,7 @@ class JvmTypeGen {
 
         BType retType;
         if (Symbols.isFlagOn(bType.retType.flags, Flags.PARAMETERIZED)) {
-            retType = typeBuilder.build(bType.retType);
+            retType = typeBuilder.get().build(bType.retType);
         } else {
             retType = bType.retType;
         }
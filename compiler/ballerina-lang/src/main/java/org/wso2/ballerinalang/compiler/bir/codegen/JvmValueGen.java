@@ -70,7 +70,9 @@ import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
+import static org.objectweb.asm.Opcodes.ICONST_M1;
 import static org.objectweb.asm.Opcodes.IFEQ;
+import static org.objectweb.asm.Opcodes.IFLT;
 import static org.objectweb.asm.Opcodes.IFNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
@@ -379,27 +381,92 @@ class JvmValueGen {
 
     private void createCallMethod(ClassWriter cw, List<BIRNode.BIRFunction> functions, String objClassName) {
 
+        // sort the functions before generating switch case. The position of a function in the sorted list is
+        // its method index.
+        functions.sort(NAME_HASH_COMPARATOR);
+        this.createGetMethodIndexMethod(cw, functions);
+        this.createIndexedCallMethod(cw, functions, objClassName);
+
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "call", String.format(
                 "(L%s;L%s;[L%s;)L%s;", STRAND_CLASS, STRING_VALUE, OBJECT, OBJECT), null, null);
         mv.visitCode();
 
         int funcNameRegIndex = 2;
+        int methodIndexRegIndex = 4;
 
         Label defaultCaseLabel = new Label();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, funcNameRegIndex);
+        mv.visitMethodInsn(INVOKEVIRTUAL, objClassName, "getMethodIndex", String.format("(L%s;)I", STRING_VALUE),
+                           false);
+        mv.visitVarInsn(ISTORE, methodIndexRegIndex);
+        mv.visitVarInsn(ILOAD, methodIndexRegIndex);
+        mv.visitJumpInsn(IFLT, defaultCaseLabel);
 
-        // sort the fields before generating switch case
-        functions.sort(NAME_HASH_COMPARATOR);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitVarInsn(ILOAD, methodIndexRegIndex);
+        mv.visitVarInsn(ALOAD, 3);
+        mv.visitMethodInsn(INVOKEVIRTUAL, objClassName, "call",
+                           String.format("(L%s;I[L%s;)L%s;", STRAND_CLASS, OBJECT, OBJECT), false);
+        mv.visitInsn(ARETURN);
+
+        createDefaultCase(mv, defaultCaseLabel, funcNameRegIndex);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private void createGetMethodIndexMethod(ClassWriter cw, List<BIRNode.BIRFunction> functions) {
+
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "getMethodIndex", String.format("(L%s;)I", STRING_VALUE),
+                                          null, null);
+        mv.visitCode();
 
+        int funcNameRegIndex = 1;
+
+        Label defaultCaseLabel = new Label();
         List<Label> labels = createLabelsForSwitch(mv, funcNameRegIndex, functions, defaultCaseLabel);
         List<Label> targetLabels = createLabelsForEqualCheck(mv, funcNameRegIndex, functions, labels,
                                                              defaultCaseLabel);
 
+        for (int i = 0; i < functions.size(); i++) {
+            mv.visitLabel(targetLabels.get(i));
+            mv.visitLdcInsn(i);
+            mv.visitInsn(IRETURN);
+        }
+
+        mv.visitLabel(defaultCaseLabel);
+        mv.visitInsn(ICONST_M1);
+        mv.visitInsn(IRETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private void createIndexedCallMethod(ClassWriter cw, List<BIRNode.BIRFunction> functions, String objClassName) {
+
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "call", String.format(
+                "(L%s;I[L%s;)L%s;", STRAND_CLASS, OBJECT, OBJECT), null, null);
+        mv.visitCode();
+
+        int methodIndexRegIndex = 2;
+
+        Label defaultCaseLabel = new Label();
+        Label[] caseLabels = new Label[functions.size()];
+        for (int i = 0; i < caseLabels.length; i++) {
+            caseLabels[i] = new Label();
+        }
+        if (caseLabels.length > 0) {
+            mv.visitVarInsn(ILOAD, methodIndexRegIndex);
+            mv.visitTableSwitchInsn(0, caseLabels.length - 1, defaultCaseLabel, caseLabels);
+        } else {
+            mv.visitJumpInsn(GOTO, defaultCaseLabel);
+        }
+
         // case body
         int i = 0;
         for (BIRNode.BIRFunction optionalFunc : functions) {
             BIRNode.BIRFunction func = getFunction(optionalFunc);
-            Label targetLabel = targetLabels.get(i);
-            mv.visitLabel(targetLabel);
+            mv.visitLabel(caseLabels[i]);
 
             List<BType> paramTypes = func.type.paramTypes;
             BType retType = func.type.retType;
@@ -442,7 +509,17 @@ class JvmValueGen {
             i += 1;
         }
 
-        createDefaultCase(mv, defaultCaseLabel, funcNameRegIndex);
+        mv.visitLabel(defaultCaseLabel);
+        mv.visitTypeInsn(NEW, BLANG_RUNTIME_EXCEPTION);
+        mv.visitInsn(DUP);
+        mv.visitLdcInsn("No method with index: ");
+        mv.visitVarInsn(ILOAD, methodIndexRegIndex);
+        mv.visitMethodInsn(INVOKESTATIC, STRING_VALUE, "valueOf", String.format("(I)L%s;", STRING_VALUE), false);
+        mv.visitMethodInsn(INVOKEVIRTUAL, STRING_VALUE, "concat",
+                           String.format("(L%s;)L%s;", STRING_VALUE, STRING_VALUE), false);
+        mv.visitMethodInsn(INVOKESPECIAL, BLANG_RUNTIME_EXCEPTION, JVM_INIT_METHOD,
+                           String.format("(L%s;)V", STRING_VALUE), false);
+        mv.visitInsn(ATHROW);
         mv.visitMaxs(functions.size() + 10, functions.size() + 10);
         mv.visitEnd();
     }
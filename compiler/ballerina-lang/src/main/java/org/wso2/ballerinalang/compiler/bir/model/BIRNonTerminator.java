@@ -214,7 +214,19 @@ public abstract class BIRNonTerminator extends BIRAbstractInstruction implements
 
         @Override
         public BIROperand[] getRhsOperands() {
-            return new BIROperand[]{rhsOp};
+            List<BIROperand> operands = new ArrayList<>();
+            operands.add(rhsOp);
+            for (BIRMappingConstructorEntry initialValue : initialValues) {
+                if (initialValue.isKeyValuePair()) {
+                    BIRMappingConstructorKeyValueEntry keyValueEntry =
+                            (BIRMappingConstructorKeyValueEntry) initialValue;
+                    operands.add(keyValueEntry.keyOp);
+                    operands.add(keyValueEntry.valueOp);
+                } else {
+                    operands.add(((BIRMappingConstructorSpreadFieldEntry) initialValue).exprOp);
+                }
+            }
+            return operands.toArray(new BIROperand[0]);
         }
     }
 
@@ -0,0 +1,453 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRErrorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRMappingConstructorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRMappingConstructorKeyValueEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.FieldAccess;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.NewArray;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.NewStructure;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeCast;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTupleType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Replaces the tuples and records which never escape the function creating them with one local variable per member.
+ * <p>
+ * A tuple or record value does not escape if it is created by a tuple or record constructor, is only copied to local
+ * variables right after it is created, and is otherwise only used to load or store a member with a constant index or
+ * field name. Passing the value to a function, returning it, storing it in another structure or accessing it with a
+ * key which is not a constant makes it escape, and the value is then created as usual.
+ * <p>
+ * The members of a replaced user variable are kept in locals named after the variable and the member, e.g.
+ * {@code p.x} or {@code t[0]}, which take over its debug information.
+ * <p>
+ * Only records all of whose fields are required are replaced, since creating a record with default field values
+ * evaluates the default values, which may have side effects.
+ *
+ * @since 2.0.0
+ */
+public class BIRAggregateScalarizer {
+
+    private static final String SCALAR_VAR_PREFIX = "%agg";
+
+    // Instructions which store into the structure in their lhs operand, rather than assigning to it.
+    private static final Set<InstructionKind> STORE_INSTRUCTIONS =
+            EnumSet.of(InstructionKind.MAP_STORE, InstructionKind.ARRAY_STORE, InstructionKind.OBJECT_STORE,
+                       InstructionKind.XML_SEQ_STORE, InstructionKind.XML_ATTRIBUTE_STORE,
+                       InstructionKind.TABLE_STORE);
+
+    private final Types types;
+    private int nextVarId;
+
+    public BIRAggregateScalarizer(Types types) {
+        this.types = types;
+    }
+
+    public void optimizeNode(BIRPackage pkg) {
+        BIROptimizerUtils.forEachFunction(pkg, this::optimizeFunction);
+    }
+
+    private void optimizeFunction(BIRFunction function) {
+        if (function.basicBlocks.isEmpty()) {
+            return;
+        }
+
+        List<BIRBasicBlock> basicBlocks = BIROptimizerUtils.getBasicBlocks(function);
+        Map<BIRVariableDcl, Integer> defCounts = new HashMap<>();
+        Map<BIRVariableDcl, BIRNonTerminator> defs = new HashMap<>();
+        Map<BIRNonTerminator, BIRBasicBlock> instructionBBs = new HashMap<>();
+        Map<BIRBasicBlock, Integer> predecessorCounts = new HashMap<>();
+        for (BIRBasicBlock bb : basicBlocks) {
+            for (BIRNonTerminator instruction : bb.instructions) {
+                instructionBBs.put(instruction, bb);
+                if (instruction.lhsOp != null && !STORE_INSTRUCTIONS.contains(instruction.kind)) {
+                    defCounts.merge(instruction.lhsOp.variableDcl, 1, Integer::sum);
+                    defs.put(instruction.lhsOp.variableDcl, instruction);
+                }
+            }
+            if (bb.terminator.lhsOp != null) {
+                defCounts.merge(bb.terminator.lhsOp.variableDcl, 1, Integer::sum);
+            }
+            for (BIRBasicBlock nextBB : bb.terminator.getNextBasicBlocks()) {
+                predecessorCounts.merge(nextBB, 1, Integer::sum);
+            }
+        }
+
+        Set<BIRVariableDcl> escaping = new HashSet<>();
+        for (BIRErrorEntry errorEntry : function.errorTable) {
+            if (errorEntry.errorOp != null) {
+                escaping.add(errorEntry.errorOp.variableDcl);
+            }
+            predecessorCounts.merge(errorEntry.targetBB, 1, Integer::sum);
+        }
+
+        // Find the aggregates created in this function, and the variables each of them is copied to.
+        Map<BIRVariableDcl, Aggregate> aggregates = new LinkedHashMap<>();
+        for (BIRBasicBlock bb : basicBlocks) {
+            for (BIRNonTerminator instruction : bb.instructions) {
+                Aggregate aggregate = createAggregate(instruction, defCounts, defs);
+                if (aggregate != null) {
+                    aggregates.put(instruction.lhsOp.variableDcl, aggregate);
+                }
+            }
+        }
+        if (aggregates.isEmpty()) {
+            return;
+        }
+
+        // A copy made later, e.g. in another iteration of a loop, would refer to a different value than the variable
+        // it was copied from, so copies are only followed if they are made before the value can be replaced.
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (BIRBasicBlock bb : basicBlocks) {
+                for (BIRNonTerminator instruction : bb.instructions) {
+                    if (instruction.kind != InstructionKind.MOVE) {
+                        continue;
+                    }
+
+                    BIRVariableDcl from = ((Move) instruction).rhsOp.variableDcl;
+                    BIRVariableDcl to = instruction.lhsOp.variableDcl;
+                    Aggregate aggregate = aggregates.get(from);
+                    if (aggregate == null || aggregates.containsKey(to) || !isScalarizable(to, defCounts) ||
+                            !types.isSameType(from.type, to.type) || !function.errorTable.isEmpty() ||
+                            !isExecutedRightAfter(instruction, defs.get(from), instructionBBs, predecessorCounts)) {
+                        continue;
+                    }
+
+                    aggregate.copies.add(instruction);
+                    aggregates.put(to, aggregate);
+                    changed = true;
+                }
+            }
+        }
+
+        // Every other use of an aggregate must be a load or a store of one of its members.
+        for (BIRBasicBlock bb : basicBlocks) {
+            for (BIRNonTerminator instruction : bb.instructions) {
+                checkUse(instruction, aggregates, defCounts, defs, escaping);
+            }
+            checkUse(bb.terminator, aggregates, defCounts, defs, escaping);
+        }
+
+        Set<Aggregate> scalarizable = new HashSet<>(aggregates.values());
+        for (BIRVariableDcl escapingVar : escaping) {
+            scalarizable.remove(aggregates.get(escapingVar));
+        }
+        if (scalarizable.isEmpty()) {
+            return;
+        }
+
+        scalarize(function, basicBlocks, aggregates, scalarizable, defCounts, defs);
+    }
+
+    private Aggregate createAggregate(BIRNonTerminator instruction, Map<BIRVariableDcl, Integer> defCounts,
+                                      Map<BIRVariableDcl, BIRNonTerminator> defs) {
+        if (instruction.lhsOp == null || !isScalarizable(instruction.lhsOp.variableDcl, defCounts)) {
+            return null;
+        }
+
+        BType type = instruction.lhsOp.variableDcl.type;
+        if (instruction.kind == InstructionKind.NEW_ARRAY && type.tag == TypeTags.TUPLE) {
+            BTupleType tupleType = (BTupleType) type;
+            NewArray newArray = (NewArray) instruction;
+            if (tupleType.restType != null || newArray.values.size() != tupleType.tupleTypes.size()) {
+                return null;
+            }
+
+            Aggregate aggregate = new Aggregate(instruction, new ArrayList<>(tupleType.tupleTypes));
+            aggregate.initialValues.addAll(newArray.values);
+            return aggregate;
+        }
+
+        if (instruction.kind != InstructionKind.NEW_STRUCTURE || type.tag != TypeTags.RECORD) {
+            return null;
+        }
+
+        BRecordType recordType = (BRecordType) type;
+        Aggregate aggregate = new Aggregate(instruction, new ArrayList<>());
+        for (BField field : recordType.fields.values()) {
+            if (!Symbols.isFlagOn(field.symbol.flags, Flags.REQUIRED)) {
+                return null;
+            }
+            aggregate.fieldNames.add(field.name.value);
+            aggregate.memberTypes.add(field.type);
+            aggregate.initialValues.add(null);
+        }
+
+        for (BIRMappingConstructorEntry initialValue : ((NewStructure) instruction).initialValues) {
+            if (!initialValue.isKeyValuePair()) {
+                return null;
+            }
+
+            BIRMappingConstructorKeyValueEntry keyValueEntry = (BIRMappingConstructorKeyValueEntry) initialValue;
+            int index = getMemberIndex(aggregate, keyValueEntry.keyOp, defCounts, defs);
+            if (index < 0 || aggregate.initialValues.get(index) != null) {
+                return null;
+            }
+            aggregate.initialValues.set(index, keyValueEntry.valueOp);
+        }
+        return aggregate.initialValues.contains(null) ? null : aggregate;
+    }
+
+    private void checkUse(BIRAbstractInstruction instruction, Map<BIRVariableDcl, Aggregate> aggregates,
+                          Map<BIRVariableDcl, Integer> defCounts, Map<BIRVariableDcl, BIRNonTerminator> defs,
+                          Set<BIRVariableDcl> escaping) {
+        BIRVariableDcl lhs = instruction.lhsOp != null ? instruction.lhsOp.variableDcl : null;
+        Aggregate lhsAggregate = aggregates.get(lhs);
+        if (lhsAggregate != null && lhsAggregate.copies.contains(instruction)) {
+            return;
+        }
+        if (lhsAggregate != null && lhsAggregate.allocation == instruction) {
+            // The members may not be aggregates themselves.
+            markEscaping(instruction, aggregates, escaping, instruction.lhsOp);
+            return;
+        }
+
+        switch (instruction.kind) {
+            case ARRAY_LOAD:
+            case MAP_LOAD:
+                FieldAccess load = (FieldAccess) instruction;
+                Aggregate loaded = aggregates.get(load.rhsOp.variableDcl);
+                if (loaded != null && isSupportedAccess(loaded, load, defCounts, defs)) {
+                    int index = getMemberIndex(loaded, load.keyOp, defCounts, defs);
+                    if (types.isAssignable(loaded.memberTypes.get(index), lhs.type)) {
+                        markEscaping(instruction, aggregates, escaping, load.rhsOp);
+                        return;
+                    }
+                }
+                break;
+            case ARRAY_STORE:
+            case MAP_STORE:
+                FieldAccess store = (FieldAccess) instruction;
+                if (lhsAggregate != null && isSupportedAccess(lhsAggregate, store, defCounts, defs)) {
+                    int index = getMemberIndex(lhsAggregate, store.keyOp, defCounts, defs);
+                    if (types.isAssignable(store.rhsOp.variableDcl.type, lhsAggregate.memberTypes.get(index))) {
+                        markEscaping(instruction, aggregates, escaping, store.lhsOp);
+                        return;
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+        markEscaping(instruction, aggregates, escaping, null);
+    }
+
+    private void markEscaping(BIRAbstractInstruction instruction, Map<BIRVariableDcl, Aggregate> aggregates,
+                              Set<BIRVariableDcl> escaping, BIROperand accessedOp) {
+        if (instruction.lhsOp != null && instruction.lhsOp != accessedOp &&
+                aggregates.containsKey(instruction.lhsOp.variableDcl)) {
+            escaping.add(instruction.lhsOp.variableDcl);
+        }
+        for (BIROperand rhsOp : instruction.getRhsOperands()) {
+            if (rhsOp != null && rhsOp != accessedOp && aggregates.containsKey(rhsOp.variableDcl)) {
+                escaping.add(rhsOp.variableDcl);
+            }
+        }
+    }
+
+    private boolean isSupportedAccess(Aggregate aggregate, FieldAccess access, Map<BIRVariableDcl, Integer> defCounts,
+                                      Map<BIRVariableDcl, BIRNonTerminator> defs) {
+        boolean isTupleAccess = access.kind == InstructionKind.ARRAY_LOAD || access.kind == InstructionKind.ARRAY_STORE;
+        return isTupleAccess == aggregate.fieldNames.isEmpty() && !access.optionalFieldAccess &&
+                !access.fillingRead && getMemberIndex(aggregate, access.keyOp, defCounts, defs) >= 0;
+    }
+
+    private int getMemberIndex(Aggregate aggregate, BIROperand keyOp, Map<BIRVariableDcl, Integer> defCounts,
+                               Map<BIRVariableDcl, BIRNonTerminator> defs) {
+        BIRVariableDcl keyVar = keyOp.variableDcl;
+        BIRNonTerminator keyDef = defs.get(keyVar);
+        if (defCounts.getOrDefault(keyVar, 0) != 1 || keyDef.kind != InstructionKind.CONST_LOAD) {
+            return -1;
+        }
+
+        Object key = ((ConstantLoad) keyDef).value;
+        if (aggregate.fieldNames.isEmpty()) {
+            if (!(key instanceof Long)) {
+                return -1;
+            }
+            long index = (Long) key;
+            return index >= 0 && index < aggregate.memberTypes.size() ? (int) index : -1;
+        }
+        return aggregate.fieldNames.indexOf(key);
+    }
+
+    private boolean isScalarizable(BIRVariableDcl variableDcl, Map<BIRVariableDcl, Integer> defCounts) {
+        return variableDcl.scope == VarScope.FUNCTION &&
+                (variableDcl.kind == VarKind.LOCAL || variableDcl.kind == VarKind.TEMP) &&
+                defCounts.getOrDefault(variableDcl, 0) == 1;
+    }
+
+    private boolean isExecutedRightAfter(BIRNonTerminator instruction, BIRNonTerminator previous,
+                                         Map<BIRNonTerminator, BIRBasicBlock> instructionBBs,
+                                         Map<BIRBasicBlock, Integer> predecessorCounts) {
+        BIRBasicBlock bb = instructionBBs.get(previous);
+        BIRBasicBlock targetBB = instructionBBs.get(instruction);
+        if (bb == targetBB) {
+            return bb.instructions.indexOf(instruction) > bb.instructions.indexOf(previous);
+        }
+
+        // Follow the gotos to basic blocks which cannot be reached in any other way.
+        Set<BIRBasicBlock> visited = new HashSet<>();
+        while (visited.add(bb) && bb.terminator.kind == InstructionKind.GOTO) {
+            bb = ((BIRTerminator.GOTO) bb.terminator).targetBB;
+            if (predecessorCounts.getOrDefault(bb, 0) != 1) {
+                return false;
+            }
+            if (bb == targetBB) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void scalarize(BIRFunction function, List<BIRBasicBlock> basicBlocks,
+                           Map<BIRVariableDcl, Aggregate> aggregates, Set<Aggregate> scalarizable,
+                           Map<BIRVariableDcl, Integer> defCounts, Map<BIRVariableDcl, BIRNonTerminator> defs) {
+        nextVarId = function.localVars.size();
+        for (Aggregate aggregate : scalarizable) {
+            BIRVariableDcl userVar = getUserVariable(aggregate, aggregates);
+            for (int i = 0; i < aggregate.memberTypes.size(); i++) {
+                BType memberType = aggregate.memberTypes.get(i);
+                Name name = new Name(SCALAR_VAR_PREFIX + nextVarId++);
+                BIRVariableDcl scalar;
+                if (userVar == null) {
+                    scalar = new BIRVariableDcl(memberType, name, VarScope.FUNCTION, VarKind.TEMP);
+                } else {
+                    String metaVarName = aggregate.fieldNames.isEmpty() ? userVar.metaVarName + "[" + i + "]" :
+                            userVar.metaVarName + "." + aggregate.fieldNames.get(i);
+                    scalar = BIROptimizerUtils.createDebugVar(userVar, memberType, name, metaVarName);
+                }
+                function.localVars.add(scalar);
+                aggregate.scalars.add(scalar);
+            }
+        }
+
+        for (BIRBasicBlock bb : basicBlocks) {
+            List<BIRNonTerminator> instructions = new ArrayList<>(bb.instructions.size());
+            for (BIRNonTerminator instruction : bb.instructions) {
+                BIRVariableDcl lhs = instruction.lhsOp != null ? instruction.lhsOp.variableDcl : null;
+                Aggregate lhsAggregate = aggregates.get(lhs);
+                if (lhsAggregate != null && scalarizable.contains(lhsAggregate)) {
+                    if (lhsAggregate.allocation == instruction) {
+                        for (int i = 0; i < lhsAggregate.scalars.size(); i++) {
+                            BIRVariableDcl initialValue = lhsAggregate.initialValues.get(i).variableDcl;
+                            instructions.add(createAssignment(instruction, initialValue, lhsAggregate.scalars.get(i)));
+                        }
+                    } else if (!lhsAggregate.copies.contains(instruction)) {
+                        // A store of a member.
+                        FieldAccess store = (FieldAccess) instruction;
+                        int index = getMemberIndex(lhsAggregate, store.keyOp, defCounts, defs);
+                        instructions.add(createAssignment(instruction, store.rhsOp.variableDcl,
+                                                          lhsAggregate.scalars.get(index)));
+                    }
+                    continue;
+                }
+
+                if (instruction.kind == InstructionKind.ARRAY_LOAD || instruction.kind == InstructionKind.MAP_LOAD) {
+                    FieldAccess load = (FieldAccess) instruction;
+                    Aggregate loaded = aggregates.get(load.rhsOp.variableDcl);
+                    if (loaded != null && scalarizable.contains(loaded)) {
+                        int index = getMemberIndex(loaded, load.keyOp, defCounts, defs);
+                        instructions.add(createAssignment(instruction, loaded.scalars.get(index), lhs));
+                        continue;
+                    }
+                }
+                instructions.add(instruction);
+            }
+            bb.instructions = instructions;
+        }
+
+        for (Map.Entry<BIRVariableDcl, Aggregate> entry : aggregates.entrySet()) {
+            if (scalarizable.contains(entry.getValue())) {
+                function.localVars.remove(entry.getKey());
+            }
+        }
+    }
+
+    private BIRVariableDcl getUserVariable(Aggregate aggregate, Map<BIRVariableDcl, Aggregate> aggregates) {
+        for (Map.Entry<BIRVariableDcl, Aggregate> entry : aggregates.entrySet()) {
+            BIRVariableDcl variableDcl = entry.getKey();
+            if (entry.getValue() == aggregate && variableDcl.kind == VarKind.LOCAL &&
+                    variableDcl.metaVarName != null) {
+                return variableDcl;
+            }
+        }
+        return null;
+    }
+
+    private BIRNonTerminator createAssignment(BIRNonTerminator instruction, BIRVariableDcl from, BIRVariableDcl to) {
+        BIRNonTerminator assignment;
+        if (types.isSameType(from.type, to.type)) {
+            assignment = new Move(instruction.pos, new BIROperand(from), new BIROperand(to));
+        } else {
+            assignment = new TypeCast(instruction.pos, new BIROperand(to), new BIROperand(from), to.type, false);
+        }
+        assignment.scope = instruction.scope;
+        return assignment;
+    }
+
+    /**
+     * A tuple or record created in a function, and the variables it is copied to.
+     */
+    private static class Aggregate {
+        private final BIRNonTerminator allocation;
+        private final List<BType> memberTypes;
+        private final List<String> fieldNames = new ArrayList<>();
+        private final List<BIROperand> initialValues = new ArrayList<>();
+        private final Set<BIRNonTerminator> copies = new HashSet<>();
+        private final List<BIRVariableDcl> scalars = new ArrayList<>();
+
+        private Aggregate(BIRNonTerminator allocation, List<BType> memberTypes) {
+            this.allocation = allocation;
+            this.memberTypes = memberTypes;
+        }
+    }
+}
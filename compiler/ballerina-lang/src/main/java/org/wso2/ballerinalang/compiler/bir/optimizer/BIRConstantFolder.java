@@ -0,0 +1,587 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRErrorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeTest;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.UnaryOP;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BirScope;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Simplifies the instructions of the functions of a module.
+ * <p>
+ * Within a basic block, binary and unary operations on constants of the basic types are folded into constant loads,
+ * identities such as {@code x + 0}, {@code x * 1} and concatenations with an empty string are turned into moves, and
+ * type tests on values whose static type is a basic type which always passes the test are folded to {@code true}.
+ * Uses of temporaries copied from another variable are replaced by that variable, and branches on a constant are
+ * turned into gotos. Operations which may panic, e.g. an integer overflow or a division by zero, are left to be
+ * evaluated at run time.
+ * <p>
+ * Afterwards, the basic blocks which can no longer be reached are removed, as well as the side effect free
+ * instructions assigning to temporaries which are never read, and the temporaries which are no longer used.
+ *
+ * @since 2.0.0
+ */
+public class BIRConstantFolder {
+
+    private static final Set<InstructionKind> SIDE_EFFECT_FREE_INSTRUCTIONS =
+            EnumSet.of(InstructionKind.CONST_LOAD, InstructionKind.MOVE, InstructionKind.TYPE_TEST,
+                       InstructionKind.NOT, InstructionKind.EQUAL, InstructionKind.NOT_EQUAL,
+                       InstructionKind.REF_EQUAL, InstructionKind.REF_NOT_EQUAL, InstructionKind.NEW_TYPEDESC);
+
+    private final Types types;
+
+    public BIRConstantFolder(Types types) {
+        this.types = types;
+    }
+
+    public void optimizeNode(BIRPackage pkg) {
+        pkg.functions.forEach(this::optimizeFunction);
+        for (BIRTypeDefinition typeDef : pkg.typeDefs) {
+            typeDef.attachedFuncs.forEach(this::optimizeFunction);
+        }
+    }
+
+    private void optimizeFunction(BIRFunction function) {
+        if (function.basicBlocks.isEmpty()) {
+            return;
+        }
+
+        List<BIRBasicBlock> basicBlocks = getAllBasicBlocks(function);
+        Map<BIROperand, Integer> operandRefCounts = countOperandReferences(function, basicBlocks);
+        boolean changed = false;
+        for (BIRBasicBlock bb : basicBlocks) {
+            changed |= simplifyBasicBlock(bb, operandRefCounts);
+        }
+
+        changed |= removeUnreachableBasicBlocks(function);
+        if (!changed) {
+            return;
+        }
+
+        basicBlocks = getAllBasicBlocks(function);
+        removeDeadStores(basicBlocks);
+        removeUnusedTempVars(function, basicBlocks);
+        resetUnusedScopes(function, basicBlocks);
+    }
+
+    private List<BIRBasicBlock> getAllBasicBlocks(BIRFunction function) {
+        List<BIRBasicBlock> basicBlocks = new ArrayList<>();
+        function.parameters.values().forEach(basicBlocks::addAll);
+        basicBlocks.addAll(function.basicBlocks);
+        return basicBlocks;
+    }
+
+    // Operands may be shared between instructions. An operand is only rewritten in place if it is not referred
+    // to by any other instruction.
+    private Map<BIROperand, Integer> countOperandReferences(BIRFunction function, List<BIRBasicBlock> basicBlocks) {
+        Map<BIROperand, Integer> refCounts = new IdentityHashMap<>();
+        for (BIRBasicBlock bb : basicBlocks) {
+            for (BIRNonTerminator instruction : bb.instructions) {
+                countOperandReferences(instruction, refCounts);
+            }
+            countOperandReferences(bb.terminator, refCounts);
+        }
+        for (BIRErrorEntry errorEntry : function.errorTable) {
+            refCounts.merge(errorEntry.errorOp, 1, Integer::sum);
+        }
+        return refCounts;
+    }
+
+    private void countOperandReferences(BIRAbstractInstruction instruction, Map<BIROperand, Integer> refCounts) {
+        if (instruction.lhsOp != null) {
+            refCounts.merge(instruction.lhsOp, 1, Integer::sum);
+        }
+        for (BIROperand operand : instruction.getRhsOperands()) {
+            refCounts.merge(operand, 1, Integer::sum);
+        }
+    }
+
+    private boolean simplifyBasicBlock(BIRBasicBlock bb, Map<BIROperand, Integer> operandRefCounts) {
+        boolean changed = false;
+        Map<BIRVariableDcl, ConstantLoad> constants = new HashMap<>();
+        Map<BIRVariableDcl, BIRVariableDcl> copies = new HashMap<>();
+        for (int i = 0; i < bb.instructions.size(); i++) {
+            BIRNonTerminator instruction = bb.instructions.get(i);
+            changed |= propagateCopies(instruction, copies, operandRefCounts);
+
+            BIRNonTerminator simplified = simplify(instruction, constants);
+            if (simplified != instruction) {
+                simplified.scope = instruction.scope;
+                bb.instructions.set(i, simplified);
+                changed = true;
+            }
+
+            if (simplified.lhsOp == null) {
+                continue;
+            }
+
+            // The variable assigned to is no longer a known constant or copy, nor is the value it was copied to.
+            BIRVariableDcl lhsVar = simplified.lhsOp.variableDcl;
+            constants.remove(lhsVar);
+            copies.remove(lhsVar);
+            copies.values().removeIf(source -> source == lhsVar);
+
+            if (simplified.kind == InstructionKind.CONST_LOAD) {
+                constants.put(lhsVar, (ConstantLoad) simplified);
+            } else if (simplified.kind == InstructionKind.MOVE && isCopy((Move) simplified)) {
+                copies.put(lhsVar, ((Move) simplified).rhsOp.variableDcl);
+            }
+        }
+
+        BIRTerminator terminator = bb.terminator;
+        changed |= propagateCopies(terminator, copies, operandRefCounts);
+        if (terminator.kind == InstructionKind.BRANCH) {
+            BIRTerminator.Branch branch = (BIRTerminator.Branch) terminator;
+            Object condition = getConstant(branch.op, TypeTags.BOOLEAN, constants);
+            if (condition != null) {
+                BIRTerminator.GOTO gotoIns = new BIRTerminator.GOTO(branch.pos,
+                                                                     (Boolean) condition ? branch.trueBB :
+                                                                             branch.falseBB);
+                gotoIns.scope = branch.scope;
+                bb.terminator = gotoIns;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private boolean isCopy(Move move) {
+        BIRVariableDcl lhsVar = move.lhsOp.variableDcl;
+        BIRVariableDcl rhsVar = move.rhsOp.variableDcl;
+        // Module level variables may be updated by other strands, hence they are read where they are used.
+        return lhsVar.kind == VarKind.TEMP && rhsVar != lhsVar && rhsVar.scope != VarScope.GLOBAL &&
+                rhsVar.kind != VarKind.GLOBAL && rhsVar.kind != VarKind.CONSTANT &&
+                types.isSameType(lhsVar.type, rhsVar.type);
+    }
+
+    private boolean propagateCopies(BIRAbstractInstruction instruction, Map<BIRVariableDcl, BIRVariableDcl> copies,
+                                    Map<BIROperand, Integer> operandRefCounts) {
+        if (copies.isEmpty()) {
+            return false;
+        }
+
+        boolean changed = false;
+        for (BIROperand operand : instruction.getRhsOperands()) {
+            BIRVariableDcl source = copies.get(operand.variableDcl);
+            if (source != null && operandRefCounts.getOrDefault(operand, 0) == 1) {
+                operand.variableDcl = source;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private BIRNonTerminator simplify(BIRNonTerminator instruction, Map<BIRVariableDcl, ConstantLoad> constants) {
+        if (instruction instanceof BinaryOp) {
+            return simplifyBinaryOp((BinaryOp) instruction, constants);
+        }
+
+        switch (instruction.kind) {
+            case NOT:
+            case NEGATE:
+                return simplifyUnaryOp((UnaryOP) instruction, constants);
+            case TYPE_TEST:
+                return simplifyTypeTest((TypeTest) instruction);
+            default:
+                return instruction;
+        }
+    }
+
+    private BIRNonTerminator simplifyBinaryOp(BinaryOp binaryOp, Map<BIRVariableDcl, ConstantLoad> constants) {
+        int operandTag = binaryOp.rhsOp1.variableDcl.type.tag;
+        if (binaryOp.rhsOp2.variableDcl.type.tag != operandTag) {
+            return binaryOp;
+        }
+
+        Object lhsValue = getConstant(binaryOp.rhsOp1, operandTag, constants);
+        Object rhsValue = getConstant(binaryOp.rhsOp2, operandTag, constants);
+        if (lhsValue != null && rhsValue != null) {
+            Object result = fold(binaryOp.kind, operandTag, lhsValue, rhsValue);
+            return result == null ? binaryOp : createConstantLoad(binaryOp, result);
+        }
+
+        // Identities, which hold for any value of the other operand.
+        if (binaryOp.lhsOp.variableDcl.type.tag != operandTag) {
+            return binaryOp;
+        }
+        switch (binaryOp.kind) {
+            case ADD:
+                if (isIdentity(rhsValue, operandTag, 0L, "")) {
+                    return new Move(binaryOp.pos, binaryOp.rhsOp1, binaryOp.lhsOp);
+                }
+                if (isIdentity(lhsValue, operandTag, 0L, "")) {
+                    return new Move(binaryOp.pos, binaryOp.rhsOp2, binaryOp.lhsOp);
+                }
+                return binaryOp;
+            case SUB:
+                return isIdentity(rhsValue, operandTag, 0L, null) ?
+                        new Move(binaryOp.pos, binaryOp.rhsOp1, binaryOp.lhsOp) : binaryOp;
+            case MUL:
+                if (isIdentity(rhsValue, operandTag, 1L, null)) {
+                    return new Move(binaryOp.pos, binaryOp.rhsOp1, binaryOp.lhsOp);
+                }
+                if (isIdentity(lhsValue, operandTag, 1L, null)) {
+                    return new Move(binaryOp.pos, binaryOp.rhsOp2, binaryOp.lhsOp);
+                }
+                return binaryOp;
+            default:
+                return binaryOp;
+        }
+    }
+
+    private boolean isIdentity(Object value, int typeTag, Long intIdentity, String stringIdentity) {
+        if (value == null) {
+            return false;
+        }
+        switch (typeTag) {
+            case TypeTags.INT:
+                return value.equals(intIdentity);
+            case TypeTags.STRING:
+                return value.equals(stringIdentity);
+            default:
+                return false;
+        }
+    }
+
+    private Object fold(InstructionKind kind, int operandTag, Object lhsValue, Object rhsValue) {
+        switch (operandTag) {
+            case TypeTags.INT:
+                return foldInt(kind, (Long) lhsValue, (Long) rhsValue);
+            case TypeTags.FLOAT:
+                return foldFloat(kind, (Double) lhsValue, (Double) rhsValue);
+            case TypeTags.STRING:
+                return foldString(kind, (String) lhsValue, (String) rhsValue);
+            case TypeTags.BOOLEAN:
+                return foldBoolean(kind, (Boolean) lhsValue, (Boolean) rhsValue);
+            default:
+                return null;
+        }
+    }
+
+    private Object foldInt(InstructionKind kind, long lhs, long rhs) {
+        try {
+            switch (kind) {
+                case ADD:
+                    return Math.addExact(lhs, rhs);
+                case SUB:
+                    return Math.subtractExact(lhs, rhs);
+                case MUL:
+                    return Math.multiplyExact(lhs, rhs);
+                case DIV:
+                    return rhs == 0 || rhs == -1 ? null : lhs / rhs;
+                case MOD:
+                    return rhs == 0 || rhs == -1 ? null : lhs % rhs;
+                case BITWISE_AND:
+                    return lhs & rhs;
+                case BITWISE_OR:
+                    return lhs | rhs;
+                case BITWISE_XOR:
+                    return lhs ^ rhs;
+                case EQUAL:
+                    return lhs == rhs;
+                case NOT_EQUAL:
+                    return lhs != rhs;
+                case LESS_THAN:
+                    return lhs < rhs;
+                case LESS_EQUAL:
+                    return lhs <= rhs;
+                case GREATER_THAN:
+                    return lhs > rhs;
+                case GREATER_EQUAL:
+                    return lhs >= rhs;
+                default:
+                    return null;
+            }
+        } catch (ArithmeticException e) {
+            // Overflows are left to panic at run time.
+            return null;
+        }
+    }
+
+    private Object foldFloat(InstructionKind kind, double lhs, double rhs) {
+        // Comparisons are not folded, since the way NaN is compared depends on the generated code.
+        switch (kind) {
+            case ADD:
+                return lhs + rhs;
+            case SUB:
+                return lhs - rhs;
+            case MUL:
+                return lhs * rhs;
+            case DIV:
+                return lhs / rhs;
+            case MOD:
+                return lhs % rhs;
+            default:
+                return null;
+        }
+    }
+
+    private Object foldString(InstructionKind kind, String lhs, String rhs) {
+        switch (kind) {
+            case ADD:
+                return lhs + rhs;
+            case EQUAL:
+                return lhs.equals(rhs);
+            case NOT_EQUAL:
+                return !lhs.equals(rhs);
+            default:
+                return null;
+        }
+    }
+
+    private Object foldBoolean(InstructionKind kind, boolean lhs, boolean rhs) {
+        switch (kind) {
+            case AND:
+                return lhs && rhs;
+            case OR:
+                return lhs || rhs;
+            case EQUAL:
+                return lhs == rhs;
+            case NOT_EQUAL:
+                return lhs != rhs;
+            default:
+                return null;
+        }
+    }
+
+    private BIRNonTerminator simplifyUnaryOp(UnaryOP unaryOp, Map<BIRVariableDcl, ConstantLoad> constants) {
+        int typeTag = unaryOp.rhsOp.variableDcl.type.tag;
+        Object value = getConstant(unaryOp.rhsOp, typeTag, constants);
+        if (value == null) {
+            return unaryOp;
+        }
+
+        if (unaryOp.kind == InstructionKind.NOT && typeTag == TypeTags.BOOLEAN) {
+            return createConstantLoad(unaryOp, !(Boolean) value);
+        }
+        if (unaryOp.kind == InstructionKind.NEGATE && typeTag == TypeTags.INT && (Long) value != Long.MIN_VALUE) {
+            return createConstantLoad(unaryOp, -(Long) value);
+        }
+        if (unaryOp.kind == InstructionKind.NEGATE && typeTag == TypeTags.FLOAT) {
+            return createConstantLoad(unaryOp, -(Double) value);
+        }
+        return unaryOp;
+    }
+
+    private BIRNonTerminator simplifyTypeTest(TypeTest typeTest) {
+        BType type = typeTest.rhsOp.variableDcl.type;
+        if (!isBasicType(type.tag) || typeTest.lhsOp.variableDcl.type.tag != TypeTags.BOOLEAN ||
+                !types.isAssignable(type, typeTest.type)) {
+            return typeTest;
+        }
+        return createConstantLoad(typeTest, true);
+    }
+
+    private Object getConstant(BIROperand operand, int typeTag, Map<BIRVariableDcl, ConstantLoad> constants) {
+        if (operand.variableDcl.type.tag != typeTag) {
+            return null;
+        }
+
+        ConstantLoad constantLoad = constants.get(operand.variableDcl);
+        if (constantLoad == null || constantLoad.type.tag != typeTag) {
+            return null;
+        }
+
+        Object value = constantLoad.value;
+        switch (typeTag) {
+            case TypeTags.INT:
+                return value instanceof Long ? value : null;
+            case TypeTags.FLOAT:
+                return value instanceof Double ? value : null;
+            case TypeTags.STRING:
+                return value instanceof String ? value : null;
+            case TypeTags.BOOLEAN:
+                return value instanceof Boolean ? value : null;
+            default:
+                return null;
+        }
+    }
+
+    private BIRNonTerminator createConstantLoad(BIRNonTerminator instruction, Object value) {
+        // The constant is loaded as is, hence it is only folded if the result is not converted, e.g. boxed.
+        BType type = instruction.lhsOp.variableDcl.type;
+        if (type.tag != getTypeTag(value)) {
+            return instruction;
+        }
+        return new ConstantLoad(instruction.pos, value, type, instruction.lhsOp);
+    }
+
+    private int getTypeTag(Object value) {
+        if (value instanceof Long) {
+            return TypeTags.INT;
+        } else if (value instanceof Double) {
+            return TypeTags.FLOAT;
+        } else if (value instanceof String) {
+            return TypeTags.STRING;
+        } else {
+            return TypeTags.BOOLEAN;
+        }
+    }
+
+    private boolean isBasicType(int typeTag) {
+        switch (typeTag) {
+            case TypeTags.INT:
+            case TypeTags.FLOAT:
+            case TypeTags.DECIMAL:
+            case TypeTags.STRING:
+            case TypeTags.BOOLEAN:
+            case TypeTags.NIL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private boolean removeUnreachableBasicBlocks(BIRFunction function) {
+        Set<BIRBasicBlock> reachable = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<BIRBasicBlock> worklist = new ArrayDeque<>();
+        worklist.add(function.basicBlocks.get(0));
+        // The basic blocks of the error table are kept as they are, along with the ones they lead to.
+        for (BIRErrorEntry errorEntry : function.errorTable) {
+            addIfPresent(worklist, errorEntry.trapBB);
+            addIfPresent(worklist, errorEntry.endBB);
+            addIfPresent(worklist, errorEntry.targetBB);
+        }
+
+        while (!worklist.isEmpty()) {
+            BIRBasicBlock bb = worklist.poll();
+            if (!reachable.add(bb)) {
+                continue;
+            }
+            for (BIRBasicBlock nextBB : bb.terminator.getNextBasicBlocks()) {
+                addIfPresent(worklist, nextBB);
+            }
+            addIfPresent(worklist, bb.terminator.thenBB);
+        }
+
+        return function.basicBlocks.removeIf(bb -> !reachable.contains(bb));
+    }
+
+    private void addIfPresent(Deque<BIRBasicBlock> worklist, BIRBasicBlock bb) {
+        if (bb != null) {
+            worklist.add(bb);
+        }
+    }
+
+    private void removeDeadStores(List<BIRBasicBlock> basicBlocks) {
+        boolean changed = true;
+        while (changed) {
+            Map<BIRVariableDcl, Integer> useCounts = countUses(basicBlocks);
+            changed = false;
+            for (BIRBasicBlock bb : basicBlocks) {
+                changed |= bb.instructions.removeIf(instruction -> isDeadStore(instruction, useCounts));
+            }
+        }
+    }
+
+    private boolean isDeadStore(BIRNonTerminator instruction, Map<BIRVariableDcl, Integer> useCounts) {
+        return instruction.lhsOp != null && instruction.lhsOp.variableDcl.kind == VarKind.TEMP &&
+                SIDE_EFFECT_FREE_INSTRUCTIONS.contains(instruction.kind) &&
+                !useCounts.containsKey(instruction.lhsOp.variableDcl);
+    }
+
+    private Map<BIRVariableDcl, Integer> countUses(List<BIRBasicBlock> basicBlocks) {
+        Map<BIRVariableDcl, Integer> useCounts = new HashMap<>();
+        for (BIRBasicBlock bb : basicBlocks) {
+            for (BIRNonTerminator instruction : bb.instructions) {
+                countUses(instruction, useCounts);
+            }
+            countUses(bb.terminator, useCounts);
+        }
+        return useCounts;
+    }
+
+    private void countUses(BIRAbstractInstruction instruction, Map<BIRVariableDcl, Integer> useCounts) {
+        for (BIROperand operand : instruction.getRhsOperands()) {
+            useCounts.merge(operand.variableDcl, 1, Integer::sum);
+        }
+        // Store instructions refer to the value stored into through the lhs operand, hence it is treated as a use
+        // unless the instruction is known to only assign to it.
+        if (instruction.lhsOp != null && !SIDE_EFFECT_FREE_INSTRUCTIONS.contains(instruction.kind)) {
+            useCounts.merge(instruction.lhsOp.variableDcl, 1, Integer::sum);
+        }
+    }
+
+    private void removeUnusedTempVars(BIRFunction function, List<BIRBasicBlock> basicBlocks) {
+        Set<BIRVariableDcl> usedVars = new HashSet<>(countUses(basicBlocks).keySet());
+        for (BIRBasicBlock bb : basicBlocks) {
+            for (BIRNonTerminator instruction : bb.instructions) {
+                if (instruction.lhsOp != null) {
+                    usedVars.add(instruction.lhsOp.variableDcl);
+                }
+            }
+        }
+        for (BIRErrorEntry errorEntry : function.errorTable) {
+            usedVars.add(errorEntry.errorOp.variableDcl);
+        }
+
+        function.localVars.removeIf(var -> var.kind == VarKind.TEMP && !usedVars.contains(var));
+    }
+
+    // The code generator marks the start of the scope of a local variable at the first instruction of the scope. If
+    // all the instructions of the scope were removed, the variable is treated as being in scope from the start.
+    private void resetUnusedScopes(BIRFunction function, List<BIRBasicBlock> basicBlocks) {
+        Set<BirScope> usedScopes = new HashSet<>();
+        for (BIRBasicBlock bb : basicBlocks) {
+            for (BIRNonTerminator instruction : bb.instructions) {
+                BirScope scope = instruction.scope;
+                while (scope != null && usedScopes.add(scope)) {
+                    scope = scope.parent;
+                }
+            }
+        }
+
+        for (BIRVariableDcl localVar : function.localVars) {
+            if (localVar.kind == VarKind.LOCAL && localVar.startBB != null && localVar.insScope != null &&
+                    !usedScopes.contains(localVar.insScope)) {
+                localVar.startBB = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,459 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.FieldAccess;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.IsLike;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeTest;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.UnaryOP;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Branch;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Call;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.GOTO;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.Names;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.compiler.util.diagnotic.DiagnosticPos;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inlines calls to small module functions into their callers.
+ * <p>
+ * A function is inlined only if it is short and its body consists of instructions which can neither yield nor panic,
+ * i.e. it does not call other functions and it contains no trap regions. Hence an inlined function is never recursive,
+ * and inlining it does not change the yield points and the call stacks of errors. The call, the yield check after it
+ * and the strand argument are replaced by moves into the arguments and a jump to a copy of the body of the callee.
+ * The temporary variables of the copy are reused by the {@link BirVariableOptimizer}, which runs afterwards.
+ *
+ * @since 2.0.0
+ */
+public class BIRFunctionInliner {
+
+    private static final PrintStream console = System.out;
+
+    // Maximum number of non-terminator instructions of an inlined function.
+    private static final int MAX_INLINED_INSTRUCTIONS = 8;
+
+    // Maximum number of basic blocks of an inlined function.
+    private static final int MAX_INLINED_BASIC_BLOCKS = 4;
+
+    // Maximum number of instructions inlined into a single function, to stay well within the JVM method size limit.
+    private static final int MAX_CALLER_GROWTH = 64;
+
+    private static final String INLINED_VAR_PREFIX = "%inl";
+
+    private static final Set<InstructionKind> SAFE_INSTRUCTION_KINDS = EnumSet.of(
+            InstructionKind.MOVE, InstructionKind.CONST_LOAD, InstructionKind.TYPE_TEST, InstructionKind.IS_LIKE,
+            InstructionKind.TYPEOF, InstructionKind.NOT, InstructionKind.EQUAL, InstructionKind.NOT_EQUAL,
+            InstructionKind.REF_EQUAL, InstructionKind.REF_NOT_EQUAL, InstructionKind.LESS_THAN,
+            InstructionKind.LESS_EQUAL, InstructionKind.GREATER_THAN, InstructionKind.GREATER_EQUAL,
+            InstructionKind.BITWISE_AND, InstructionKind.BITWISE_OR, InstructionKind.BITWISE_XOR);
+
+    // Arithmetic which can overflow for integers and decimals, but never panics for floats.
+    private static final Set<InstructionKind> FLOAT_ARITHMETIC_KINDS = EnumSet.of(
+            InstructionKind.ADD, InstructionKind.SUB, InstructionKind.MUL, InstructionKind.DIV,
+            InstructionKind.NEGATE);
+
+    private final boolean reportDecisions;
+
+    public BIRFunctionInliner(boolean reportDecisions) {
+        this.reportDecisions = reportDecisions;
+    }
+
+    public void optimizeNode(BIRPackage pkg) {
+        Map<String, BIRFunction> moduleFunctions = new HashMap<>();
+        for (BIRFunction function : pkg.functions) {
+            moduleFunctions.put(function.name.value, function);
+        }
+
+        // The eligibility of all the functions is decided before inlining, so that the result does not depend on the
+        // order in which the callers are visited.
+        Map<BIRFunction, String> rejections = new LinkedHashMap<>();
+        for (BIRFunction function : pkg.functions) {
+            rejections.put(function, getRejectionReason(function));
+        }
+
+        for (BIRFunction function : pkg.functions) {
+            inlineCalls(pkg, function, moduleFunctions, rejections);
+        }
+        for (BIRTypeDefinition typeDef : pkg.typeDefs) {
+            for (BIRFunction function : typeDef.attachedFuncs) {
+                inlineCalls(pkg, function, moduleFunctions, rejections);
+            }
+        }
+    }
+
+    private void inlineCalls(BIRPackage pkg, BIRFunction caller, Map<String, BIRFunction> moduleFunctions,
+                             Map<BIRFunction, String> rejections) {
+        List<BIRBasicBlock> basicBlocks = new ArrayList<>(caller.basicBlocks.size());
+        int nextBBId = getMaxBBId(caller) + 1;
+        int growth = 0;
+        boolean inlined = false;
+        for (BIRBasicBlock basicBlock : caller.basicBlocks) {
+            basicBlocks.add(basicBlock);
+            BIRTerminator terminator = basicBlock.terminator;
+            if (terminator == null || terminator.kind != InstructionKind.CALL) {
+                continue;
+            }
+
+            Call call = (Call) terminator;
+            if (call.isVirtual || !isModuleLocal(pkg, call)) {
+                continue;
+            }
+            BIRFunction callee = moduleFunctions.get(call.name.value);
+            if (callee == null) {
+                continue;
+            }
+
+            String reason = rejections.get(callee);
+            if (reason == null) {
+                reason = getCallSiteRejectionReason(call, callee);
+            }
+            int size = getInstructionCount(callee);
+            if (reason == null && growth + size > MAX_CALLER_GROWTH) {
+                reason = "the caller has reached the inlining limit";
+            }
+            if (reason != null) {
+                report("not inlined '" + callee.name + "' into '" + caller.name + "': " + reason);
+                continue;
+            }
+
+            List<BIRBasicBlock> inlinedBBs = inline(caller, basicBlock, call, callee, nextBBId);
+            basicBlocks.addAll(inlinedBBs);
+            nextBBId += inlinedBBs.size();
+            growth += size;
+            inlined = true;
+            report("inlined '" + callee.name + "' into '" + caller.name + "'");
+        }
+
+        if (inlined) {
+            caller.basicBlocks = basicBlocks;
+        }
+    }
+
+    /**
+     * Replaces the given call with a copy of the body of the callee.
+     *
+     * @param caller    function which contains the call
+     * @param callBB    basic block which is terminated by the call
+     * @param call      the call
+     * @param callee    the called function
+     * @param nextBBId  number of the first basic block id to use for the copy
+     * @return basic blocks of the copy, which are placed right after the basic block of the call
+     */
+    private List<BIRBasicBlock> inline(BIRFunction caller, BIRBasicBlock callBB, Call call, BIRFunction callee,
+                                       int nextBBId) {
+        Map<BIRVariableDcl, BIRVariableDcl> varMap = new HashMap<>();
+
+        // Function parameters are final, hence the arguments are used in place of the parameters.
+        List<BIRVariableDcl> params = getParameters(callee);
+        for (int i = 0; i < params.size(); i++) {
+            varMap.put(params.get(i), call.args.get(i).variableDcl);
+        }
+
+        // The return value is written directly to the lhs of the call, unless the lhs is also an argument, in which
+        // case it could be overwritten before the argument is read.
+        BIRVariableDcl resultVar = call.lhsOp.variableDcl;
+        boolean copyResult = resultVar.kind == VarKind.GLOBAL || isArgument(call, resultVar);
+        BIRVariableDcl returnVar = copyResult ? createInlinedVar(caller, callee.returnVariable.type) : resultVar;
+        varMap.put(callee.returnVariable, returnVar);
+
+        OperandMapper mapper = operand -> mapOperand(caller, operand, varMap);
+        Map<BIRBasicBlock, BIRBasicBlock> bbMap = new LinkedHashMap<>();
+        for (BIRBasicBlock calleeBB : callee.basicBlocks) {
+            bbMap.put(calleeBB, new BIRBasicBlock(new Name(Names.BIR_BASIC_BLOCK_PREFIX.value + nextBBId++)));
+        }
+
+        for (Map.Entry<BIRBasicBlock, BIRBasicBlock> entry : bbMap.entrySet()) {
+            BIRBasicBlock calleeBB = entry.getKey();
+            BIRBasicBlock inlinedBB = entry.getValue();
+            for (BIRNonTerminator instruction : calleeBB.instructions) {
+                BIRNonTerminator copy = copyInstruction(instruction, call.pos, mapper);
+                copy.scope = call.scope;
+                inlinedBB.instructions.add(copy);
+            }
+            inlinedBB.terminator = copyTerminator(calleeBB.terminator, call, bbMap, mapper, returnVar, inlinedBB);
+        }
+
+        GOTO gotoInlinedBody = new GOTO(call.pos, bbMap.get(callee.basicBlocks.get(0)));
+        gotoInlinedBody.scope = call.scope;
+        callBB.terminator = gotoInlinedBody;
+        return new ArrayList<>(bbMap.values());
+    }
+
+    private BIRTerminator copyTerminator(BIRTerminator terminator, Call call, Map<BIRBasicBlock, BIRBasicBlock> bbMap,
+                                         OperandMapper mapper, BIRVariableDcl returnVar, BIRBasicBlock inlinedBB) {
+        BIRTerminator copy;
+        switch (terminator.kind) {
+            case GOTO:
+                copy = new GOTO(call.pos, bbMap.get(((GOTO) terminator).targetBB));
+                break;
+            case BRANCH:
+                Branch branch = (Branch) terminator;
+                copy = new Branch(call.pos, mapper.map(branch.op), bbMap.get(branch.trueBB),
+                                  bbMap.get(branch.falseBB));
+                break;
+            case RETURN:
+                if (returnVar != call.lhsOp.variableDcl) {
+                    Move resultMove = new Move(call.pos, new BIROperand(returnVar),
+                                               new BIROperand(call.lhsOp.variableDcl));
+                    resultMove.scope = call.scope;
+                    inlinedBB.instructions.add(resultMove);
+                }
+                copy = new GOTO(call.pos, call.thenBB);
+                break;
+            default:
+                throw new IllegalStateException("unexpected terminator in an inlined function: " + terminator.kind);
+        }
+        copy.scope = call.scope;
+        return copy;
+    }
+
+    private BIRNonTerminator copyInstruction(BIRNonTerminator instruction, DiagnosticPos pos,
+                                             OperandMapper mapper) {
+        switch (instruction.kind) {
+            case MOVE:
+                Move move = (Move) instruction;
+                return new Move(pos, mapper.map(move.rhsOp), mapper.map(move.lhsOp));
+            case CONST_LOAD:
+                ConstantLoad constantLoad = (ConstantLoad) instruction;
+                return new ConstantLoad(pos, constantLoad.value, constantLoad.type, mapper.map(constantLoad.lhsOp));
+            case TYPE_TEST:
+                TypeTest typeTest = (TypeTest) instruction;
+                return new TypeTest(pos, typeTest.type, mapper.map(typeTest.lhsOp), mapper.map(typeTest.rhsOp));
+            case IS_LIKE:
+                IsLike isLike = (IsLike) instruction;
+                return new IsLike(pos, isLike.type, mapper.map(isLike.lhsOp), mapper.map(isLike.rhsOp));
+            case MAP_LOAD:
+                FieldAccess fieldAccess = (FieldAccess) instruction;
+                FieldAccess fieldAccessCopy = new FieldAccess(pos, fieldAccess.kind, mapper.map(fieldAccess.lhsOp),
+                                                              mapper.map(fieldAccess.keyOp),
+                                                              mapper.map(fieldAccess.rhsOp),
+                                                              fieldAccess.optionalFieldAccess,
+                                                              fieldAccess.fillingRead);
+                fieldAccessCopy.onInitialization = fieldAccess.onInitialization;
+                return fieldAccessCopy;
+            default:
+                if (instruction instanceof UnaryOP) {
+                    UnaryOP unaryOP = (UnaryOP) instruction;
+                    return new UnaryOP(pos, unaryOP.kind, mapper.map(unaryOP.lhsOp), mapper.map(unaryOP.rhsOp));
+                }
+                BinaryOp binaryOp = (BinaryOp) instruction;
+                return new BinaryOp(pos, binaryOp.kind, binaryOp.lhsOp.variableDcl.type, mapper.map(binaryOp.lhsOp),
+                                    mapper.map(binaryOp.rhsOp1), mapper.map(binaryOp.rhsOp2));
+        }
+    }
+
+    private BIROperand mapOperand(BIRFunction caller, BIROperand operand, Map<BIRVariableDcl, BIRVariableDcl> varMap) {
+        BIRVariableDcl variableDcl = operand.variableDcl;
+        if (variableDcl.kind == VarKind.GLOBAL || variableDcl.kind == VarKind.CONSTANT) {
+            return new BIROperand(variableDcl);
+        }
+        BIRVariableDcl mappedVar = varMap.computeIfAbsent(variableDcl,
+                                                          var -> createInlinedVar(caller, var.type));
+        return new BIROperand(mappedVar);
+    }
+
+    private BIRVariableDcl createInlinedVar(BIRFunction caller, BType type) {
+        BIRVariableDcl variableDcl = new BIRVariableDcl(type, new Name(INLINED_VAR_PREFIX + caller.localVars.size()),
+                                                        VarScope.FUNCTION, VarKind.TEMP);
+        caller.localVars.add(variableDcl);
+        return variableDcl;
+    }
+
+    /**
+     * Checks whether the given function can be inlined into any caller.
+     *
+     * @param function function to check
+     * @return the reason for not inlining the function, or null if it can be inlined
+     */
+    private String getRejectionReason(BIRFunction function) {
+        if (Symbols.isFlagOn(function.flags, Flags.NATIVE)) {
+            return "the function is external";
+        }
+        if (function.basicBlocks.isEmpty()) {
+            return "the function has no body";
+        }
+        if (!function.annotAttachments.isEmpty()) {
+            return "the function is annotated";
+        }
+        if (function.restParam != null || function.parameters.values().stream().anyMatch(bbs -> !bbs.isEmpty())) {
+            return "the function has defaultable or rest parameters";
+        }
+        if (getParameters(function).stream().anyMatch(param -> param.kind != VarKind.ARG)) {
+            return "the function has closure parameters";
+        }
+        if (!function.errorTable.isEmpty()) {
+            return "the function traps errors";
+        }
+        if (function.workerChannels != null && function.workerChannels.length > 0) {
+            return "the function has workers";
+        }
+        if (function.basicBlocks.size() > MAX_INLINED_BASIC_BLOCKS ||
+                getInstructionCount(function) > MAX_INLINED_INSTRUCTIONS) {
+            return "the function is too large";
+        }
+
+        List<BIRVariableDcl> params = getParameters(function);
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            InstructionKind terminatorKind = basicBlock.terminator.kind;
+            if (terminatorKind != InstructionKind.GOTO && terminatorKind != InstructionKind.BRANCH &&
+                    terminatorKind != InstructionKind.RETURN) {
+                return "the function may yield (" + terminatorKind + ")";
+            }
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (!isSafeInstruction(instruction)) {
+                    return "the function may panic (" + instruction.kind + ")";
+                }
+                if (instruction.lhsOp != null && (params.contains(instruction.lhsOp.variableDcl) ||
+                        instruction.lhsOp.variableDcl.kind == VarKind.GLOBAL)) {
+                    return "the function writes to a parameter or a module variable";
+                }
+            }
+        }
+        return null;
+    }
+
+    private String getCallSiteRejectionReason(Call call, BIRFunction callee) {
+        List<BIRVariableDcl> params = getParameters(callee);
+        if (call.args.size() != params.size() || call.lhsOp == null) {
+            return "the call does not match the parameters";
+        }
+        // A move between variables of different types could mismatch their JVM types.
+        for (int i = 0; i < params.size(); i++) {
+            if (call.args.get(i).variableDcl.type.tag != params.get(i).type.tag) {
+                return "an argument type differs from the parameter type";
+            }
+        }
+        if (call.lhsOp.variableDcl.type.tag != callee.returnVariable.type.tag) {
+            return "the return type differs from the type of the result";
+        }
+        return null;
+    }
+
+    private boolean isSafeInstruction(BIRNonTerminator instruction) {
+        InstructionKind kind = instruction.kind;
+        if (SAFE_INSTRUCTION_KINDS.contains(kind)) {
+            return true;
+        }
+        if (FLOAT_ARITHMETIC_KINDS.contains(kind)) {
+            return instruction.lhsOp.variableDcl.type.tag == TypeTags.FLOAT;
+        }
+        if (kind == InstructionKind.ADD) {
+            return instruction.lhsOp.variableDcl.type.tag == TypeTags.STRING;
+        }
+        if (kind == InstructionKind.MAP_LOAD) {
+            // Reading a field of a record, unlike reading a member of a map or a json, neither panics nor fills.
+            FieldAccess fieldAccess = (FieldAccess) instruction;
+            return fieldAccess.rhsOp.variableDcl.type.tag == TypeTags.RECORD && !fieldAccess.fillingRead;
+        }
+        return false;
+    }
+
+    private List<BIRVariableDcl> getParameters(BIRFunction function) {
+        // Local variables of a function start with the return variable, followed by the parameters.
+        return function.localVars.subList(1, function.argsCount + 1);
+    }
+
+    private boolean isArgument(Call call, BIRVariableDcl variableDcl) {
+        for (BIROperand arg : call.args) {
+            if (arg.variableDcl == variableDcl) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isModuleLocal(BIRPackage pkg, Call call) {
+        return call.calleePkg != null && call.calleePkg.orgName.equals(pkg.org) &&
+                call.calleePkg.name.equals(pkg.name) && call.calleePkg.version.equals(pkg.version);
+    }
+
+    private int getInstructionCount(BIRFunction function) {
+        int count = 0;
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            count += basicBlock.instructions.size();
+        }
+        return count;
+    }
+
+    private int getMaxBBId(BIRFunction function) {
+        int maxId = -1;
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            maxId = Math.max(maxId, getBBNumber(basicBlock));
+        }
+        for (List<BIRBasicBlock> paramBBs : function.parameters.values()) {
+            for (BIRBasicBlock basicBlock : paramBBs) {
+                maxId = Math.max(maxId, getBBNumber(basicBlock));
+            }
+        }
+        return maxId;
+    }
+
+    private int getBBNumber(BIRBasicBlock basicBlock) {
+        String id = basicBlock.id.value;
+        String prefix = Names.BIR_BASIC_BLOCK_PREFIX.value;
+        if (!id.startsWith(prefix)) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(id.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void report(String message) {
+        if (reportDecisions) {
+            console.println(message);
+        }
+    }
+
+    /**
+     * Maps an operand of the inlined function to an operand of the caller.
+     */
+    @FunctionalInterface
+    private interface OperandMapper {
+        BIROperand map(BIROperand operand);
+    }
+}
@@ -18,6 +18,8 @@
 
 package org.wso2.ballerinalang.compiler.bir.optimizer;
 
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.wso2.ballerinalang.compiler.PackageCache;
 import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
@@ -32,7 +34,10 @@ import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
 import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.util.Lists;
 
 import java.util.ArrayList;
@@ -53,6 +58,12 @@ public class BIROptimizer {
     private final LHSTempVarOptimizer lhsTempVarOptimizer;
     private final BIRLockOptimizer lockOptimizer;
     private final BirVariableOptimizer variableOptimizer;
+    private final BIRFunctionInliner functionInliner;
+    private final boolean inliningEnabled;
+    private final BIRAggregateScalarizer aggregateScalarizer;
+    private final BIRUnionScalarizer unionScalarizer;
+    private final BIRConstantFolder constantFolder;
+    private final BIRYieldAnalyzer yieldAnalyzer;
 
     public static BIROptimizer getInstance(CompilerContext context) {
         BIROptimizer birGen = context.get(BIR_OPTIMIZER);
@@ -69,6 +80,17 @@ public class BIROptimizer {
         this.lhsTempVarOptimizer = new LHSTempVarOptimizer();
         this.lockOptimizer = new BIRLockOptimizer();
         this.variableOptimizer = new BirVariableOptimizer();
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        this.functionInliner = new BIRFunctionInliner(Boolean.parseBoolean(
+                options.get(CompilerOptionName.DUMP_BIR_INLINING)));
+        // Inlined instructions take the position of the call, and the locals of the callee become temporaries, hence
+        // coverage reports and debuggers would not see the lines and the variables of inlined functions
+        this.inliningEnabled = !Boolean.parseBoolean(options.get(CompilerOptionName.CODE_COVERAGE)) &&
+                !Boolean.parseBoolean(options.get(CompilerOptionName.DEBUG_ENABLED));
+        this.aggregateScalarizer = new BIRAggregateScalarizer(Types.getInstance(context));
+        this.unionScalarizer = new BIRUnionScalarizer(SymbolTable.getInstance(context), Types.getInstance(context));
+        this.constantFolder = new BIRConstantFolder(Types.getInstance(context));
+        this.yieldAnalyzer = new BIRYieldAnalyzer(PackageCache.getInstance(context));
     }
 
     public void optimizePackage(BIRPackage pkg) {
@@ -78,9 +100,26 @@ public class BIROptimizer {
         // LHS temp var optimization
         this.lhsTempVarOptimizer.optimizeNode(pkg, null);
 
+        // Inline small module functions
+        if (this.inliningEnabled) {
+            this.functionInliner.optimizeNode(pkg);
+        }
+
+        // Replace the tuples and records which do not escape the function with locals
+        this.aggregateScalarizer.optimizeNode(pkg);
+
+        // Keep the locals of small unions of basic types unboxed
+        this.unionScalarizer.optimizeNode(pkg);
+
+        // Fold constants, and remove dead stores and unreachable basic blocks
+        this.constantFolder.optimizeNode(pkg);
+
         // Optimize lock statements
         this.lockOptimizer.optimizeNode(pkg);
         variableOptimizer.optimizeNode(pkg);
+
+        // Mark the functions which never yield
+        this.yieldAnalyzer.analyze(pkg);
     }
 
     /**
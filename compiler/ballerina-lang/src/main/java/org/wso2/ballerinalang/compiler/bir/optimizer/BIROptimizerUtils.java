@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Utilities shared by the BIR optimizers which rewrite functions one at a time.
+ *
+ * @since 2.0.0
+ */
+class BIROptimizerUtils {
+
+    private BIROptimizerUtils() {
+    }
+
+    /**
+     * Applies an action to the module level functions of a package, and then to the attached functions of its type
+     * definitions.
+     *
+     * @param pkg    the package
+     * @param action action to apply to each function
+     */
+    static void forEachFunction(BIRPackage pkg, Consumer<BIRFunction> action) {
+        pkg.functions.forEach(action);
+        for (BIRTypeDefinition typeDef : pkg.typeDefs) {
+            typeDef.attachedFuncs.forEach(action);
+        }
+    }
+
+    /**
+     * Returns the basic blocks of a function, i.e. the basic blocks computing the default values of its parameters
+     * followed by those of its body.
+     *
+     * @param function the function
+     * @return the basic blocks of the function
+     */
+    static List<BIRBasicBlock> getBasicBlocks(BIRFunction function) {
+        List<BIRBasicBlock> basicBlocks = new ArrayList<>();
+        for (List<BIRBasicBlock> paramBBs : function.parameters.values()) {
+            basicBlocks.addAll(paramBBs);
+        }
+        basicBlocks.addAll(function.basicBlocks);
+        return basicBlocks;
+    }
+
+    /**
+     * Creates a local which holds a part of the value of a user variable that is being replaced. The local takes over
+     * the position and the live range of the variable, so that debuggers show it in place of the variable.
+     *
+     * @param userVar     the user variable being replaced
+     * @param type        type of the local
+     * @param name        name of the local
+     * @param metaVarName name of the local shown by debuggers
+     * @return the local
+     */
+    static BIRVariableDcl createDebugVar(BIRVariableDcl userVar, BType type, Name name, String metaVarName) {
+        BIRVariableDcl variableDcl = new BIRVariableDcl(userVar.pos, type, name, VarScope.FUNCTION, VarKind.LOCAL,
+                                                        metaVarName);
+        variableDcl.startBB = userVar.startBB;
+        variableDcl.endBB = userVar.endBB;
+        variableDcl.insScope = userVar.insScope;
+        variableDcl.insOffset = userVar.insOffset;
+        return variableDcl;
+    }
+}
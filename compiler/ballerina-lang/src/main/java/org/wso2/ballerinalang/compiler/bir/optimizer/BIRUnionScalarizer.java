@@ -0,0 +1,528 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRErrorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeCast;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeTest;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Replaces the local variables of small unions of basic types, e.g. {@code int?} or {@code int|float}, with an int
+ * tag holding the index of the member type of the current value, and one variable per member type holding the value
+ * itself. The code generator keeps such variables in JVM primitive slots, so the values no longer need to be boxed
+ * when they are assigned to the variable, or unboxed after a type test narrowed its type.
+ * <p>
+ * A variable is only replaced if it is assigned constants or values of its member types, copied to or from other
+ * replaced variables, tested against one of its member types, and cast to a member type where a type test or an
+ * assignment proves that the value is of that type. Variables used in any other way, e.g. passed to a function,
+ * stored in a structure or cast where the cast may fail, keep the boxed representation. So do variables which are
+ * assigned a value loaded from a map or a list, e.g. {@code int? x = m[k]}, since the member type of such a value is
+ * only known at runtime.
+ * <p>
+ * The values of a replaced user variable are kept in named locals, which take over its debug information.
+ *
+ * @since 2.0.0
+ */
+public class BIRUnionScalarizer {
+
+    private static final String SCALARIZED_VAR_PREFIX = "%uni";
+
+    private final SymbolTable symTable;
+    private final Types types;
+    private int nextVarId;
+
+    public BIRUnionScalarizer(SymbolTable symTable, Types types) {
+        this.symTable = symTable;
+        this.types = types;
+    }
+
+    public void optimizeNode(BIRPackage pkg) {
+        BIROptimizerUtils.forEachFunction(pkg, this::optimizeFunction);
+    }
+
+    private void optimizeFunction(BIRFunction function) {
+        if (function.basicBlocks.isEmpty()) {
+            return;
+        }
+
+        Map<BIRVariableDcl, List<BType>> candidates = new LinkedHashMap<>();
+        for (BIRVariableDcl localVar : function.localVars) {
+            List<BType> memberTypes = getScalarizableMemberTypes(localVar);
+            if (memberTypes != null) {
+                candidates.put(localVar, memberTypes);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<BIRBasicBlock> basicBlocks = BIROptimizerUtils.getBasicBlocks(function);
+        for (BIRErrorEntry errorEntry : function.errorTable) {
+            if (errorEntry.errorOp != null) {
+                candidates.remove(errorEntry.errorOp.variableDcl);
+            }
+        }
+
+        // Removing a variable may invalidate a copy from or to it, or a cast which was only proven safe by a type test
+        // on it, so keep going until none of the remaining variables is removed.
+        boolean changed = true;
+        while (changed && !candidates.isEmpty()) {
+            changed = removeUnsupportedUses(basicBlocks, candidates);
+            if (!changed) {
+                changed = removeUnsafeCasts(function, basicBlocks, candidates);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        scalarize(function, basicBlocks, candidates);
+    }
+
+    private List<BType> getScalarizableMemberTypes(BIRVariableDcl variableDcl) {
+        if (variableDcl.scope != VarScope.FUNCTION ||
+                (variableDcl.kind != VarKind.LOCAL && variableDcl.kind != VarKind.TEMP) ||
+                variableDcl.type.tag != TypeTags.UNION) {
+            return null;
+        }
+
+        List<BType> memberTypes = new ArrayList<>();
+        Set<Integer> memberTags = new HashSet<>();
+        boolean hasPrimitiveMember = false;
+        for (BType memberType : ((BUnionType) variableDcl.type).getMemberTypes()) {
+            switch (memberType.tag) {
+                case TypeTags.INT:
+                case TypeTags.FLOAT:
+                case TypeTags.BOOLEAN:
+                    hasPrimitiveMember = true;
+                    break;
+                case TypeTags.NIL:
+                    break;
+                default:
+                    return null;
+            }
+            if (!memberTags.add(memberType.tag)) {
+                return null;
+            }
+            memberTypes.add(memberType);
+        }
+        return hasPrimitiveMember ? memberTypes : null;
+    }
+
+    private boolean removeUnsupportedUses(List<BIRBasicBlock> basicBlocks,
+                                          Map<BIRVariableDcl, List<BType>> candidates) {
+        Set<BIRVariableDcl> unsupported = new HashSet<>();
+        for (BIRBasicBlock bb : basicBlocks) {
+            for (BIRNonTerminator instruction : bb.instructions) {
+                if (!isSupported(instruction, candidates)) {
+                    addCandidates(instruction, candidates, unsupported);
+                }
+            }
+            addCandidates(bb.terminator, candidates, unsupported);
+        }
+
+        candidates.keySet().removeAll(unsupported);
+        return !unsupported.isEmpty();
+    }
+
+    private void addCandidates(BIRAbstractInstruction instruction, Map<BIRVariableDcl, List<BType>> candidates,
+                               Set<BIRVariableDcl> result) {
+        if (instruction.lhsOp != null && candidates.containsKey(instruction.lhsOp.variableDcl)) {
+            result.add(instruction.lhsOp.variableDcl);
+        }
+        for (BIROperand rhsOp : instruction.getRhsOperands()) {
+            if (rhsOp != null && candidates.containsKey(rhsOp.variableDcl)) {
+                result.add(rhsOp.variableDcl);
+            }
+        }
+    }
+
+    private boolean isSupported(BIRNonTerminator instruction, Map<BIRVariableDcl, List<BType>> candidates) {
+        BIRVariableDcl lhs = instruction.lhsOp != null ? instruction.lhsOp.variableDcl : null;
+        switch (instruction.kind) {
+            case CONST_LOAD:
+                return !candidates.containsKey(lhs) ||
+                        getMemberIndex(candidates.get(lhs), ((ConstantLoad) instruction).type) >= 0;
+            case MOVE:
+                return isSupportedAssignment(lhs, ((Move) instruction).rhsOp.variableDcl, candidates);
+            case TYPE_CAST:
+                TypeCast typeCast = (TypeCast) instruction;
+                BIRVariableDcl rhs = typeCast.rhsOp.variableDcl;
+                if (candidates.containsKey(rhs) && !candidates.containsKey(lhs)) {
+                    // The cast is checked to be safe later on.
+                    return getMemberIndex(candidates.get(rhs), typeCast.type) >= 0 &&
+                            lhs.type.tag == typeCast.type.tag;
+                }
+                return isSupportedAssignment(lhs, rhs, candidates);
+            case TYPE_TEST:
+                TypeTest typeTest = (TypeTest) instruction;
+                return !candidates.containsKey(typeTest.rhsOp.variableDcl) ||
+                        getMemberIndex(candidates.get(typeTest.rhsOp.variableDcl), typeTest.type) >= 0;
+            default:
+                return false;
+        }
+    }
+
+    private boolean isSupportedAssignment(BIRVariableDcl lhs, BIRVariableDcl rhs,
+                                          Map<BIRVariableDcl, List<BType>> candidates) {
+        boolean isLhsCandidate = candidates.containsKey(lhs);
+        boolean isRhsCandidate = candidates.containsKey(rhs);
+        if (isLhsCandidate && isRhsCandidate) {
+            return types.isSameType(lhs.type, rhs.type);
+        }
+        if (isLhsCandidate) {
+            return getMemberIndex(candidates.get(lhs), rhs.type) >= 0;
+        }
+        return !isRhsCandidate;
+    }
+
+    /**
+     * Tracks the member types each variable may hold at the start of each basic block, and removes the variables which
+     * are cast to a member type at a point where they may hold a value of another member type.
+     */
+    private boolean removeUnsafeCasts(BIRFunction function, List<BIRBasicBlock> basicBlocks,
+                                      Map<BIRVariableDcl, List<BType>> candidates) {
+        Map<BIRBasicBlock, Map<BIRVariableDcl, Integer>> entryStates = new HashMap<>();
+        Deque<BIRBasicBlock> worklist = new ArrayDeque<>();
+        List<BIRBasicBlock> roots = new ArrayList<>();
+        roots.add(function.basicBlocks.get(0));
+        for (List<BIRBasicBlock> paramBBs : function.parameters.values()) {
+            if (!paramBBs.isEmpty()) {
+                roots.add(paramBBs.get(0));
+            }
+        }
+        for (BIRErrorEntry errorEntry : function.errorTable) {
+            roots.add(errorEntry.targetBB);
+        }
+        for (BIRBasicBlock root : roots) {
+            if (root != null && !entryStates.containsKey(root)) {
+                entryStates.put(root, getUnknownState(candidates));
+                worklist.add(root);
+            }
+        }
+
+        while (!worklist.isEmpty()) {
+            BIRBasicBlock bb = worklist.poll();
+            Map<BIRVariableDcl, Integer> state = new HashMap<>(entryStates.get(bb));
+            Map<BIRVariableDcl, TypeTest> typeTests = new HashMap<>();
+            for (BIRNonTerminator instruction : bb.instructions) {
+                transfer(instruction, state, typeTests, candidates, null);
+            }
+            clearTypeTests(bb.terminator, typeTests);
+
+            if (bb.terminator.kind == InstructionKind.BRANCH) {
+                BIRTerminator.Branch branch = (BIRTerminator.Branch) bb.terminator;
+                TypeTest typeTest = typeTests.get(branch.op.variableDcl);
+                if (typeTest != null) {
+                    BIRVariableDcl testedVar = typeTest.rhsOp.variableDcl;
+                    int testedMask = 1 << getMemberIndex(candidates.get(testedVar), typeTest.type);
+                    Map<BIRVariableDcl, Integer> trueState = new HashMap<>(state);
+                    trueState.put(testedVar, state.get(testedVar) & testedMask);
+                    Map<BIRVariableDcl, Integer> falseState = new HashMap<>(state);
+                    falseState.put(testedVar, state.get(testedVar) & ~testedMask);
+                    mergeState(branch.trueBB, trueState, entryStates, worklist);
+                    mergeState(branch.falseBB, falseState, entryStates, worklist);
+                    continue;
+                }
+            }
+
+            for (BIRBasicBlock nextBB : bb.terminator.getNextBasicBlocks()) {
+                mergeState(nextBB, state, entryStates, worklist);
+            }
+        }
+
+        Set<BIRVariableDcl> unsafe = new HashSet<>();
+        for (BIRBasicBlock bb : basicBlocks) {
+            Map<BIRVariableDcl, Integer> entryState = entryStates.get(bb);
+            Map<BIRVariableDcl, Integer> state = new HashMap<>(entryState != null ? entryState :
+                                                                       getUnknownState(candidates));
+            Map<BIRVariableDcl, TypeTest> typeTests = new HashMap<>();
+            for (BIRNonTerminator instruction : bb.instructions) {
+                transfer(instruction, state, typeTests, candidates, unsafe);
+            }
+        }
+
+        candidates.keySet().removeAll(unsafe);
+        return !unsafe.isEmpty();
+    }
+
+    private Map<BIRVariableDcl, Integer> getUnknownState(Map<BIRVariableDcl, List<BType>> candidates) {
+        Map<BIRVariableDcl, Integer> state = new HashMap<>();
+        for (Map.Entry<BIRVariableDcl, List<BType>> entry : candidates.entrySet()) {
+            state.put(entry.getKey(), (1 << entry.getValue().size()) - 1);
+        }
+        return state;
+    }
+
+    private void mergeState(BIRBasicBlock bb, Map<BIRVariableDcl, Integer> state,
+                            Map<BIRBasicBlock, Map<BIRVariableDcl, Integer>> entryStates,
+                            Deque<BIRBasicBlock> worklist) {
+        if (bb == null) {
+            return;
+        }
+
+        Map<BIRVariableDcl, Integer> entryState = entryStates.get(bb);
+        if (entryState == null) {
+            entryStates.put(bb, new HashMap<>(state));
+            worklist.add(bb);
+            return;
+        }
+
+        boolean changed = false;
+        for (Map.Entry<BIRVariableDcl, Integer> entry : state.entrySet()) {
+            int oldMask = entryState.get(entry.getKey());
+            int newMask = oldMask | entry.getValue();
+            if (newMask != oldMask) {
+                entryState.put(entry.getKey(), newMask);
+                changed = true;
+            }
+        }
+        if (changed && !worklist.contains(bb)) {
+            worklist.add(bb);
+        }
+    }
+
+    private void transfer(BIRNonTerminator instruction, Map<BIRVariableDcl, Integer> state,
+                          Map<BIRVariableDcl, TypeTest> typeTests, Map<BIRVariableDcl, List<BType>> candidates,
+                          Set<BIRVariableDcl> unsafe) {
+        clearTypeTests(instruction, typeTests);
+        if (instruction.lhsOp == null) {
+            return;
+        }
+
+        BIRVariableDcl lhs = instruction.lhsOp.variableDcl;
+        switch (instruction.kind) {
+            case CONST_LOAD:
+                if (candidates.containsKey(lhs)) {
+                    state.put(lhs, 1 << getMemberIndex(candidates.get(lhs), ((ConstantLoad) instruction).type));
+                }
+                break;
+            case MOVE:
+            case TYPE_CAST:
+                BIRVariableDcl rhs = instruction.getRhsOperands()[0].variableDcl;
+                if (candidates.containsKey(lhs)) {
+                    state.put(lhs, candidates.containsKey(rhs) ? state.get(rhs) :
+                            1 << getMemberIndex(candidates.get(lhs), rhs.type));
+                } else if (candidates.containsKey(rhs) && unsafe != null) {
+                    int castMask = 1 << getMemberIndex(candidates.get(rhs), ((TypeCast) instruction).type);
+                    if ((state.get(rhs) & ~castMask) != 0) {
+                        unsafe.add(rhs);
+                    }
+                }
+                break;
+            case TYPE_TEST:
+                TypeTest typeTest = (TypeTest) instruction;
+                if (candidates.containsKey(typeTest.rhsOp.variableDcl)) {
+                    typeTests.put(lhs, typeTest);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void clearTypeTests(BIRAbstractInstruction instruction, Map<BIRVariableDcl, TypeTest> typeTests) {
+        if (instruction.lhsOp == null) {
+            return;
+        }
+
+        // A type test no longer holds once either its result or the tested variable is assigned to.
+        BIRVariableDcl lhs = instruction.lhsOp.variableDcl;
+        typeTests.remove(lhs);
+        typeTests.values().removeIf(typeTest -> typeTest.rhsOp.variableDcl == lhs);
+    }
+
+    private void scalarize(BIRFunction function, List<BIRBasicBlock> basicBlocks,
+                           Map<BIRVariableDcl, List<BType>> candidates) {
+        nextVarId = function.localVars.size();
+        Map<BIRVariableDcl, List<BIRVariableDcl>> scalars = new HashMap<>();
+        Map<BIRVariableDcl, BIRVariableDcl> tags = new HashMap<>();
+        for (Map.Entry<BIRVariableDcl, List<BType>> entry : candidates.entrySet()) {
+            tags.put(entry.getKey(), createTempVar(function, symTable.intType));
+            BIRVariableDcl variableDcl = entry.getKey();
+            List<BType> memberTypes = entry.getValue();
+            boolean isUserVar = variableDcl.kind == VarKind.LOCAL && variableDcl.metaVarName != null;
+            boolean qualifyNames = memberTypes.stream().filter(type -> type.tag != TypeTags.NIL).count() > 1;
+            List<BIRVariableDcl> values = new ArrayList<>();
+            for (BType memberType : memberTypes) {
+                if (memberType.tag == TypeTags.NIL) {
+                    values.add(null);
+                } else if (isUserVar) {
+                    values.add(createNamedVar(function, memberType, variableDcl, qualifyNames));
+                } else {
+                    values.add(createTempVar(function, memberType));
+                }
+            }
+            scalars.put(entry.getKey(), values);
+        }
+
+        for (BIRBasicBlock bb : basicBlocks) {
+            List<BIRNonTerminator> instructions = new ArrayList<>(bb.instructions.size());
+            for (BIRNonTerminator instruction : bb.instructions) {
+                List<BIRNonTerminator> replacement = new ArrayList<>();
+                rewrite(function, instruction, candidates, tags, scalars, replacement);
+                for (BIRNonTerminator newInstruction : replacement) {
+                    newInstruction.scope = instruction.scope;
+                }
+                instructions.addAll(replacement);
+            }
+            bb.instructions = instructions;
+        }
+
+        function.localVars.removeAll(candidates.keySet());
+    }
+
+    private void rewrite(BIRFunction function, BIRNonTerminator instruction,
+                         Map<BIRVariableDcl, List<BType>> candidates, Map<BIRVariableDcl, BIRVariableDcl> tags,
+                         Map<BIRVariableDcl, List<BIRVariableDcl>> scalars, List<BIRNonTerminator> result) {
+        BIRVariableDcl lhs = instruction.lhsOp != null ? instruction.lhsOp.variableDcl : null;
+        switch (instruction.kind) {
+            case CONST_LOAD:
+                if (candidates.containsKey(lhs)) {
+                    ConstantLoad constantLoad = (ConstantLoad) instruction;
+                    int index = getMemberIndex(candidates.get(lhs), constantLoad.type);
+                    result.add(createTagLoad(instruction, tags.get(lhs), index));
+                    BIRVariableDcl value = scalars.get(lhs).get(index);
+                    if (value != null) {
+                        result.add(new ConstantLoad(instruction.pos, constantLoad.value, constantLoad.type,
+                                                    new BIROperand(value)));
+                    }
+                    return;
+                }
+                break;
+            case MOVE:
+            case TYPE_CAST:
+                BIRVariableDcl rhs = instruction.getRhsOperands()[0].variableDcl;
+                if (candidates.containsKey(lhs) && candidates.containsKey(rhs)) {
+                    // Copy the tag and every value, since the tag of the source is not known here.
+                    result.add(createMove(instruction, tags.get(rhs), tags.get(lhs)));
+                    List<BIRVariableDcl> lhsValues = scalars.get(lhs);
+                    List<BIRVariableDcl> rhsValues = scalars.get(rhs);
+                    for (int i = 0; i < lhsValues.size(); i++) {
+                        if (lhsValues.get(i) != null) {
+                            result.add(createMove(instruction, rhsValues.get(i), lhsValues.get(i)));
+                        }
+                    }
+                    return;
+                }
+                if (candidates.containsKey(lhs)) {
+                    int index = getMemberIndex(candidates.get(lhs), rhs.type);
+                    result.add(createTagLoad(instruction, tags.get(lhs), index));
+                    BIRVariableDcl value = scalars.get(lhs).get(index);
+                    if (value != null) {
+                        result.add(createMove(instruction, rhs, value));
+                    }
+                    return;
+                }
+                if (candidates.containsKey(rhs)) {
+                    // A cast to the member type, which is known to be the type of the value at this point.
+                    int index = getMemberIndex(candidates.get(rhs), ((TypeCast) instruction).type);
+                    BIRVariableDcl value = scalars.get(rhs).get(index);
+                    result.add(value != null ? createMove(instruction, value, lhs) :
+                                       new ConstantLoad(instruction.pos, null, symTable.nilType,
+                                                        new BIROperand(lhs)));
+                    return;
+                }
+                break;
+            case TYPE_TEST:
+                TypeTest typeTest = (TypeTest) instruction;
+                BIRVariableDcl testedVar = typeTest.rhsOp.variableDcl;
+                if (candidates.containsKey(testedVar)) {
+                    BIRVariableDcl index = createTempVar(function, symTable.intType);
+                    result.add(createTagLoad(instruction, index,
+                                             getMemberIndex(candidates.get(testedVar), typeTest.type)));
+                    result.add(new BinaryOp(instruction.pos, InstructionKind.EQUAL, symTable.booleanType,
+                                            instruction.lhsOp, new BIROperand(tags.get(testedVar)),
+                                            new BIROperand(index)));
+                    return;
+                }
+                break;
+            default:
+                break;
+        }
+        result.add(instruction);
+    }
+
+    private BIRVariableDcl createTempVar(BIRFunction function, BType type) {
+        BIRVariableDcl variableDcl = new BIRVariableDcl(type, new Name(SCALARIZED_VAR_PREFIX + nextVarId++),
+                                                        VarScope.FUNCTION, VarKind.TEMP);
+        function.localVars.add(variableDcl);
+        return variableDcl;
+    }
+
+    /**
+     * Creates a local for the value of a user variable. If the variable has more than one member type besides nil,
+     * the name of the local includes the member type.
+     */
+    private BIRVariableDcl createNamedVar(BIRFunction function, BType type, BIRVariableDcl userVar,
+                                          boolean qualifyName) {
+        String metaVarName = qualifyName ? userVar.metaVarName + "." + type : userVar.metaVarName;
+        BIRVariableDcl variableDcl = BIROptimizerUtils.createDebugVar(userVar, type,
+                                                                      new Name(SCALARIZED_VAR_PREFIX + nextVarId++),
+                                                                      metaVarName);
+        function.localVars.add(variableDcl);
+        return variableDcl;
+    }
+
+    private ConstantLoad createTagLoad(BIRNonTerminator instruction, BIRVariableDcl tag, int index) {
+        return new ConstantLoad(instruction.pos, (long) index, symTable.intType, new BIROperand(tag));
+    }
+
+    private Move createMove(BIRNonTerminator instruction, BIRVariableDcl from, BIRVariableDcl to) {
+        return new Move(instruction.pos, new BIROperand(from), new BIROperand(to));
+    }
+
+    private int getMemberIndex(List<BType> memberTypes, BType type) {
+        for (int i = 0; i < memberTypes.size(); i++) {
+            if (memberTypes.get(i).tag == type.tag) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
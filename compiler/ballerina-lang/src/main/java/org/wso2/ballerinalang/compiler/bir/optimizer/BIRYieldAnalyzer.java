@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.PackageCache;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds the functions of a module which can never yield the strand they run on, and marks them with the
+ * {@link Flags#YIELD_FREE} flag. The code generator emits such functions as plain JVM methods, without the state
+ * machine and the frame class used to suspend and resume a function.
+ * <p>
+ * A function is yield-free if it is not an external function, its basic blocks only end with a goto, a branch, a
+ * return, a panic or a non-virtual call, and every function it calls is yield-free. Calls to the functions of another
+ * module are resolved through the module symbol, whose function symbols carry the flag written to the BIR of that
+ * module. Everything else, e.g. async calls, function pointer calls, worker interactions and locks, may yield.
+ *
+ * @since 2.0.0
+ */
+public class BIRYieldAnalyzer {
+
+    private final PackageCache packageCache;
+
+    public BIRYieldAnalyzer(PackageCache packageCache) {
+        this.packageCache = packageCache;
+    }
+
+    public void analyze(BIRPackage pkg) {
+        List<BIRFunction> functions = new ArrayList<>(pkg.functions);
+        for (BIRTypeDefinition typeDef : pkg.typeDefs) {
+            functions.addAll(typeDef.attachedFuncs);
+        }
+
+        Map<Name, BIRFunction> moduleFunctions = new HashMap<>();
+        for (BIRFunction function : pkg.functions) {
+            moduleFunctions.put(function.name, function);
+        }
+
+        // Start from the functions which do not yield by themselves, and drop the ones calling a function which may
+        // yield, until no more functions are dropped.
+        Set<BIRFunction> yieldFreeFunctions = new LinkedHashSet<>();
+        for (BIRFunction function : functions) {
+            function.flags &= ~Flags.YIELD_FREE;
+            if (!Symbols.isFlagOn(function.flags, Flags.NATIVE) && hasOnlyYieldFreeTerminators(function)) {
+                yieldFreeFunctions.add(function);
+            }
+        }
+
+        boolean changed = true;
+        while (changed) {
+            changed = yieldFreeFunctions.removeIf(
+                    function -> !callsOnlyYieldFreeFunctions(function, pkg, moduleFunctions, yieldFreeFunctions));
+        }
+
+        for (BIRFunction function : yieldFreeFunctions) {
+            function.flags |= Flags.YIELD_FREE;
+        }
+    }
+
+    private boolean hasOnlyYieldFreeTerminators(BIRFunction function) {
+        for (List<BIRBasicBlock> paramBBs : function.parameters.values()) {
+            if (!hasOnlyYieldFreeTerminators(paramBBs)) {
+                return false;
+            }
+        }
+        return hasOnlyYieldFreeTerminators(function.basicBlocks);
+    }
+
+    private boolean hasOnlyYieldFreeTerminators(List<BIRBasicBlock> basicBlocks) {
+        for (BIRBasicBlock bb : basicBlocks) {
+            switch (bb.terminator.kind) {
+                case GOTO:
+                case BRANCH:
+                case RETURN:
+                case PANIC:
+                    break;
+                case CALL:
+                    if (((BIRTerminator.Call) bb.terminator).isVirtual) {
+                        return false;
+                    }
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean callsOnlyYieldFreeFunctions(BIRFunction function, BIRPackage pkg,
+                                                Map<Name, BIRFunction> moduleFunctions,
+                                                Set<BIRFunction> yieldFreeFunctions) {
+        for (List<BIRBasicBlock> paramBBs : function.parameters.values()) {
+            if (!callsOnlyYieldFreeFunctions(paramBBs, pkg, moduleFunctions, yieldFreeFunctions)) {
+                return false;
+            }
+        }
+        return callsOnlyYieldFreeFunctions(function.basicBlocks, pkg, moduleFunctions, yieldFreeFunctions);
+    }
+
+    private boolean callsOnlyYieldFreeFunctions(List<BIRBasicBlock> basicBlocks, BIRPackage pkg,
+                                                Map<Name, BIRFunction> moduleFunctions,
+                                                Set<BIRFunction> yieldFreeFunctions) {
+        for (BIRBasicBlock bb : basicBlocks) {
+            if (!(bb.terminator instanceof BIRTerminator.Call)) {
+                continue;
+            }
+
+            BIRTerminator.Call call = (BIRTerminator.Call) bb.terminator;
+            if (call.calleePkg == null) {
+                return false;
+            }
+
+            boolean yieldFree;
+            if (isModuleLocal(pkg, call)) {
+                BIRFunction callee = moduleFunctions.get(call.name);
+                yieldFree = callee != null && yieldFreeFunctions.contains(callee);
+            } else {
+                yieldFree = isImportedFunctionYieldFree(call.calleePkg, call.name);
+            }
+
+            if (!yieldFree) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isModuleLocal(BIRPackage pkg, BIRTerminator.Call call) {
+        return call.calleePkg.orgName.equals(pkg.org) && call.calleePkg.name.equals(pkg.name) &&
+                call.calleePkg.version.equals(pkg.version);
+    }
+
+    private boolean isImportedFunctionYieldFree(PackageID calleePkg, Name name) {
+        BPackageSymbol pkgSymbol = packageCache.getSymbol(calleePkg);
+        if (pkgSymbol == null) {
+            return false;
+        }
+
+        BSymbol symbol = pkgSymbol.scope.lookup(name).symbol;
+        return symbol != null && (symbol.tag & SymTag.FUNCTION) == SymTag.FUNCTION &&
+                Symbols.isFlagOn(symbol.flags, Flags.YIELD_FREE);
+    }
+}
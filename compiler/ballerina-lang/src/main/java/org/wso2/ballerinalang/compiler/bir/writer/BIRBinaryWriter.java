@@ -37,15 +37,19 @@ import org.wso2.ballerinalang.compiler.bir.writer.CPEntry.ByteCPEntry;
 import org.wso2.ballerinalang.compiler.bir.writer.CPEntry.FloatCPEntry;
 import org.wso2.ballerinalang.compiler.bir.writer.CPEntry.IntegerCPEntry;
 import org.wso2.ballerinalang.compiler.bir.writer.CPEntry.StringCPEntry;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.compiler.util.diagnotic.DiagnosticPos;
+import org.wso2.ballerinalang.util.Flags;
 
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -81,10 +85,83 @@ public class BIRBinaryWriter {
         // Write type def bodies
         writeTypeDefBodies(birbuf, typeWriter, birPackage.typeDefs);
         // Write functions
-        writeFunctions(birbuf, typeWriter, birPackage.functions);
+        writeModuleFunctions(birbuf, typeWriter, birPackage.functions);
         // Write annotations
         writeAnnotations(birbuf, typeWriter, birPackage.annotations);
 
+        return withConstantPool(birbuf);
+    }
+
+    /**
+     * Serialize the interface of the module, i.e. the parts of the BIR which the modules importing it are compiled
+     * against: the public constants, type definitions, global variables, annotations and function signatures. The
+     * function flags, such as {@link Flags#YIELD_FREE}, are part of the signatures. Function bodies, module private
+     * functions, source positions and documentation of the module level constructs are left out, so that the
+     * interface only changes if the modules importing it may have to be compiled differently.
+     * <p>
+     * The constant pool of the writer is shared with {@link #serialize()}, hence each of them needs a new writer.
+     *
+     * @return the serialized interface of the module
+     */
+    public byte[] serializeInterface() {
+        ByteBuf birbuf = Unpooled.buffer();
+        birbuf.writeInt(BIRWriterUtils.addPkgCPEntry(this.birPackage, this.cp));
+
+        List<BIRNode.BIRConstant> constants = filterPublic(birPackage.constants, constant -> constant.flags);
+        birbuf.writeInt(constants.size());
+        for (BIRNode.BIRConstant constant : constants) {
+            birbuf.writeInt(addStringCPEntry(constant.name.value));
+            birbuf.writeInt(constant.flags);
+            writeType(birbuf, constant.type);
+            writeConstValue(birbuf, constant.constValue);
+        }
+
+        List<BIRTypeDefinition> typeDefs = filterPublic(birPackage.typeDefs, typeDef -> typeDef.flags);
+        birbuf.writeInt(typeDefs.size());
+        for (BIRTypeDefinition typeDef : typeDefs) {
+            birbuf.writeInt(addStringCPEntry(typeDef.name.value));
+            birbuf.writeInt(typeDef.flags);
+            birbuf.writeByte(typeDef.isLabel ? 1 : 0);
+            writeType(birbuf, typeDef.type);
+            List<BIRNode.BIRFunction> attachedFuncs = typeDef.attachedFuncs == null ? new ArrayList<>() :
+                    typeDef.attachedFuncs;
+            birbuf.writeInt(attachedFuncs.size());
+            attachedFuncs.forEach(func -> writeFunctionSignature(birbuf, func));
+        }
+
+        List<BIRGlobalVariableDcl> globalVars = filterPublic(birPackage.globalVars, globalVar -> globalVar.flags);
+        birbuf.writeInt(globalVars.size());
+        for (BIRGlobalVariableDcl globalVar : globalVars) {
+            birbuf.writeByte(globalVar.kind.getValue());
+            birbuf.writeInt(addStringCPEntry(globalVar.name.value));
+            birbuf.writeInt(globalVar.flags);
+            writeType(birbuf, globalVar.type);
+        }
+
+        List<BIRNode.BIRFunction> functions = filterPublic(birPackage.functions, function -> function.flags);
+        birbuf.writeInt(functions.size());
+        functions.forEach(function -> writeFunctionSignature(birbuf, function));
+
+        List<BIRNode.BIRAnnotation> annotations = filterPublic(birPackage.annotations,
+                annotation -> annotation.flags);
+        birbuf.writeInt(annotations.size());
+        for (BIRNode.BIRAnnotation annotation : annotations) {
+            birbuf.writeInt(addStringCPEntry(annotation.name.value));
+            birbuf.writeInt(annotation.flags);
+            birbuf.writeInt(annotation.attachPoints.size());
+            for (AttachPoint attachPoint : annotation.attachPoints) {
+                birbuf.writeInt(addStringCPEntry(attachPoint.point.getValue()));
+                birbuf.writeBoolean(attachPoint.source);
+            }
+            writeType(birbuf, annotation.annotationType);
+        }
+
+        return withConstantPool(birbuf);
+    }
+
+    // private methods
+
+    private byte[] withConstantPool(ByteBuf birbuf) {
         // Write the constant pool entries.
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         try (DataOutputStream dataOut = new DataOutputStream(baos)) {
@@ -96,7 +173,38 @@ public class BIRBinaryWriter {
         }
     }
 
-    // private methods
+    private static <T> List<T> filterPublic(List<T> nodes, ToIntFunction<T> flags) {
+        return nodes.stream()
+                .filter(node -> Symbols.isFlagOn(flags.applyAsInt(node), Flags.PUBLIC))
+                .collect(Collectors.toList());
+    }
+
+    private void writeFunctionSignature(ByteBuf buf, BIRNode.BIRFunction birFunction) {
+        buf.writeInt(addStringCPEntry(birFunction.name.value));
+        buf.writeInt(birFunction.flags);
+        writeType(buf, birFunction.type);
+
+        buf.writeInt(birFunction.parameters.size());
+        for (BIRNode.BIRFunctionParameter param : birFunction.parameters.keySet()) {
+            buf.writeInt(addStringCPEntry(param.name.value));
+            buf.writeBoolean(param.hasDefaultExpr);
+        }
+        buf.writeInt(birFunction.requiredParams.size());
+        for (BIRParameter parameter : birFunction.requiredParams) {
+            buf.writeInt(addStringCPEntry(parameter.name.value));
+            buf.writeInt(parameter.flags);
+        }
+        buf.writeBoolean(birFunction.restParam != null);
+        if (birFunction.restParam != null) {
+            buf.writeInt(addStringCPEntry(birFunction.restParam.name.value));
+        }
+        buf.writeBoolean(birFunction.receiver != null);
+        if (birFunction.receiver != null) {
+            writeType(buf, birFunction.receiver.type);
+        }
+
+        writeTaintTable(buf, birFunction.taintTable);
+    }
 
     private void writeImportModuleDecls(ByteBuf buf, List<BIRNode.BIRImportModule> birImpModList) {
         buf.writeInt(birImpModList.size());
@@ -184,6 +292,39 @@ public class BIRBinaryWriter {
         birFunctionList.forEach(func -> writeFunction(buf, typeWriter, func));
     }
 
+    /**
+     * Write the module level functions. The public functions, which make up the interface of the module, are written
+     * first. They are followed by the module private functions, each prefixed with its name and length, so that a
+     * reader can skip them and read them on demand.
+     *
+     * @param buf ByteBuf
+     * @param typeWriter Type writer
+     * @param birFunctionList Module level functions
+     */
+    private void writeModuleFunctions(ByteBuf buf, BIRTypeWriter typeWriter,
+                                      List<BIRNode.BIRFunction> birFunctionList) {
+        List<BIRNode.BIRFunction> publicFunctions = new ArrayList<>();
+        List<BIRNode.BIRFunction> privateFunctions = new ArrayList<>();
+        for (BIRNode.BIRFunction birFunction : birFunctionList) {
+            if (Symbols.isFlagOn(birFunction.flags, Flags.PUBLIC)) {
+                publicFunctions.add(birFunction);
+            } else {
+                privateFunctions.add(birFunction);
+            }
+        }
+        writeFunctions(buf, typeWriter, publicFunctions);
+
+        buf.writeInt(privateFunctions.size());
+        for (BIRNode.BIRFunction birFunction : privateFunctions) {
+            buf.writeInt(addStringCPEntry(birFunction.name.value));
+            ByteBuf funcBuf = Unpooled.buffer();
+            writeFunction(funcBuf, typeWriter, birFunction);
+            int length = funcBuf.nioBuffer().limit();
+            buf.writeInt(length);
+            buf.writeBytes(funcBuf.nioBuffer().array(), 0, length);
+        }
+    }
+
     private void writeFunction(ByteBuf buf, BIRTypeWriter typeWriter, BIRNode.BIRFunction birFunction) {
 
         // Write Position
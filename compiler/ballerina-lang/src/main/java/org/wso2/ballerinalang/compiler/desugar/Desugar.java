@@ -3087,6 +3087,14 @@ public class Desugar extends BLangNodeVisitor {
             rewrite(foreach.onFailClause, env);
         }
         BLangBlockStmt blockNode;
+        if (isIntRangeExpr(foreach.collection)) {
+            blockNode = desugarIntRangeForeachToCountedWhile(foreach);
+            rewrite(blockNode, this.env);
+            swapAndResetEnclosingOnFail(currentOnFailClause, currentOnFailCallDef);
+            result = blockNode;
+            return;
+        }
+
         // We need to create a new variable for the expression as well. This is needed because integer ranges can be
         // added as the expression so we cannot get the symbol in such cases.
         BVarSymbol dataSymbol = new BVarSymbol(0, names.fromString("$data$"), this.env.scope.owner.pkgID,
@@ -3102,6 +3110,8 @@ public class Desugar extends BLangNodeVisitor {
             case TypeTags.STRING:
             case TypeTags.ARRAY:
             case TypeTags.TUPLE:
+                blockNode = desugarListForeachToCountedWhile(foreach, dataVarDef);
+                break;
             case TypeTags.XML:
             case TypeTags.MAP:
             case TypeTags.TABLE:
@@ -3353,6 +3363,169 @@ public class Desugar extends BLangNodeVisitor {
         return blockNode;
     }
 
+    private BLangBlockStmt desugarListForeachToCountedWhile(BLangForeach foreach,
+                                                           BLangSimpleVariableDef dataVarDef) {
+
+        // Arrays, tuples and strings are iterated by index, without creating an iterator object and a result record
+        // per member.
+        //
+        // int[] data = [1, 2, 3];
+        //
+        // // Before desugaring.
+        // foreach int i in data {
+        //     io:println(i);
+        // }
+        //
+        // ---------- After desugaring -------------
+        //
+        // int[] $data$ = data;
+        // int $length$ = $data$.length();
+        // int $index$ = 0;
+        //
+        // while $index$ < $length$ {
+        //     int i = $data$[$index$];
+        //     $index$ = $index$ + 1;
+        //     ....
+        //     [foreach node body]
+        //     ....
+        // }
+        //
+        // The length is read once, before the loop, as the lang library iterators do.
+        // -------------------------------------------------------------------
+
+        DiagnosticPos pos = foreach.pos;
+        BVarSymbol dataSymbol = dataVarDef.var.symbol;
+        BLangSimpleVarRef dataRef = ASTBuilderUtil.createVariableRef(pos, dataSymbol);
+        BLangSimpleVariableDef lengthVarDef = createIntVariableDef(pos, "$length$",
+                                                                   createLengthInvocation(pos, dataRef));
+        BLangLiteral startIndexLiteral = ASTBuilderUtil.createLiteral(pos, symTable.intType, 0L);
+        BLangSimpleVariableDef indexVarDef = createIntVariableDef(pos, "$index$", startIndexLiteral);
+
+        // Note - $data$[$index$]
+        BLangIndexBasedAccess memberAccessExpr = ASTBuilderUtil.createIndexAccessExpr(
+                ASTBuilderUtil.createVariableRef(pos, dataSymbol),
+                ASTBuilderUtil.createVariableRef(pos, indexVarDef.var.symbol));
+        memberAccessExpr.pos = pos;
+        memberAccessExpr.type = foreach.varType;
+
+        BLangWhile whileNode = createCountedWhile(foreach, indexVarDef.var.symbol, OperatorKind.LESS_THAN,
+                                                  lengthVarDef.var.symbol, memberAccessExpr);
+
+        BLangBlockStmt blockNode = ASTBuilderUtil.createBlockStmt(pos);
+        blockNode.addStatement(dataVarDef);
+        blockNode.addStatement(lengthVarDef);
+        blockNode.addStatement(indexVarDef);
+        blockNode.addStatement(whileNode);
+        return blockNode;
+    }
+
+    private BLangBlockStmt desugarIntRangeForeachToCountedWhile(BLangForeach foreach) {
+
+        // Integer ranges are iterated with an int counter, instead of creating an `IntRange` object.
+        //
+        // // Before desugaring.
+        // foreach int i in a ..< b {
+        //     io:println(i);
+        // }
+        //
+        // ---------- After desugaring -------------
+        //
+        // int $index$ = a;
+        // int $end$ = b;
+        //
+        // while $index$ < $end$ {  // `$index$ <= $end$` for `a ... b`
+        //     int i = $index$;
+        //     $index$ = $index$ + 1;
+        //     ....
+        //     [foreach node body]
+        //     ....
+        // }
+        // -------------------------------------------------------------------
+
+        DiagnosticPos pos = foreach.pos;
+        BLangExpression startExpr;
+        BLangExpression endExpr;
+        OperatorKind conditionOpKind;
+        if (foreach.collection.getKind() == NodeKind.BINARY_EXPR) {
+            BLangBinaryExpr rangeExpr = (BLangBinaryExpr) foreach.collection;
+            startExpr = rangeExpr.lhsExpr;
+            endExpr = rangeExpr.rhsExpr;
+            conditionOpKind = rangeExpr.opKind == OperatorKind.HALF_OPEN_RANGE ? OperatorKind.LESS_THAN :
+                    OperatorKind.LESS_EQUAL;
+        } else {
+            // An `IntRange` created while desugaring, of which the end is inclusive.
+            BLangInvocation createIntRangeInvocation = (BLangInvocation) foreach.collection;
+            startExpr = createIntRangeInvocation.requiredArgs.get(0);
+            endExpr = createIntRangeInvocation.requiredArgs.get(1);
+            conditionOpKind = OperatorKind.LESS_EQUAL;
+        }
+
+        BLangSimpleVariableDef indexVarDef = createIntVariableDef(pos, "$index$", startExpr);
+        BLangSimpleVariableDef endVarDef = createIntVariableDef(pos, "$end$", endExpr);
+        BLangWhile whileNode = createCountedWhile(foreach, indexVarDef.var.symbol, conditionOpKind,
+                                                  endVarDef.var.symbol,
+                                                  ASTBuilderUtil.createVariableRef(pos, indexVarDef.var.symbol));
+
+        BLangBlockStmt blockNode = ASTBuilderUtil.createBlockStmt(pos);
+        blockNode.addStatement(indexVarDef);
+        blockNode.addStatement(endVarDef);
+        blockNode.addStatement(whileNode);
+        return blockNode;
+    }
+
+    private BLangWhile createCountedWhile(BLangForeach foreach, BVarSymbol indexSymbol, OperatorKind conditionOpKind,
+                                          BVarSymbol limitSymbol, BLangExpression memberExpr) {
+        DiagnosticPos pos = foreach.pos;
+
+        // Note - $index$ < $limit$
+        BLangBinaryExpr conditionExpr = ASTBuilderUtil.createBinaryExpr(pos,
+                ASTBuilderUtil.createVariableRef(pos, indexSymbol), ASTBuilderUtil.createVariableRef(pos, limitSymbol),
+                symTable.booleanType, conditionOpKind,
+                (BOperatorSymbol) symResolver.resolveBinaryOperator(conditionOpKind, symTable.intType,
+                                                                    symTable.intType));
+        BLangWhile whileNode = (BLangWhile) TreeBuilder.createWhileNode();
+        whileNode.pos = pos;
+        whileNode.expr = conditionExpr;
+        whileNode.body = foreach.body;
+
+        // Note - $index$ = $index$ + 1; < this should go after initial assignment of `item`, so that `continue`
+        // statements in the body move to the next member.
+        BLangLiteral constOneLiteral = ASTBuilderUtil.createLiteral(pos, symTable.intType, 1L);
+        BLangBinaryExpr incrementExpr = ASTBuilderUtil.createBinaryExpr(pos,
+                ASTBuilderUtil.createVariableRef(pos, indexSymbol), constOneLiteral, symTable.intType, OperatorKind.ADD,
+                (BOperatorSymbol) symResolver.resolveBinaryOperator(OperatorKind.ADD, symTable.intType,
+                                                                    symTable.intType));
+        BLangAssignment incrementAssignment = ASTBuilderUtil.createAssignmentStmt(pos,
+                ASTBuilderUtil.createVariableRef(pos, indexSymbol), incrementExpr);
+
+        VariableDefinitionNode variableDefinitionNode = foreach.variableDefinitionNode;
+        variableDefinitionNode.getVariable()
+                .setInitialExpression(addConversionExprIfRequired(memberExpr, foreach.varType));
+        whileNode.body.stmts.add(0, (BLangStatement) variableDefinitionNode);
+        whileNode.body.stmts.add(1, incrementAssignment);
+        return whileNode;
+    }
+
+    private BLangSimpleVariableDef createIntVariableDef(DiagnosticPos pos, String name, BLangExpression expr) {
+        BVarSymbol symbol = new BVarSymbol(0, names.fromString(name), this.env.scope.owner.pkgID, symTable.intType,
+                                           this.env.scope.owner, pos, VIRTUAL);
+        BLangSimpleVariable variable = ASTBuilderUtil.createVariable(pos, name, symTable.intType, expr, symbol);
+        return ASTBuilderUtil.createVariableDef(pos, variable);
+    }
+
+    private boolean isIntRangeExpr(BLangExpression expr) {
+        if (expr.getKind() == NodeKind.BINARY_EXPR) {
+            OperatorKind opKind = ((BLangBinaryExpr) expr).opKind;
+            return opKind == OperatorKind.HALF_OPEN_RANGE || opKind == OperatorKind.CLOSED_RANGE;
+        }
+        if (expr.getKind() == NodeKind.INVOCATION) {
+            BSymbol createIntRangeSymbol = symTable.langInternalModuleSymbol.scope.lookup(Names.CREATE_INT_RANGE)
+                    .symbol;
+            return ((BLangInvocation) expr).symbol == createIntRangeSymbol;
+        }
+        return false;
+    }
+
     private BLangType getUserDefineTypeNode(BType type) {
         BLangUserDefinedType recordType =
                 new BLangUserDefinedType(ASTBuilderUtil.createIdentifier(null, ""),
@@ -190,7 +190,7 @@ public class MockDesugar {
             // If the import package name matches
             if (importPkg.alias.getValue().equals(packageName)) {
                 // return the function name defined in the package entry map
-                return (BInvokableSymbol) importPkg.symbol.scope.entries.get(new Name(functionName)).symbol;
+                return (BInvokableSymbol) importPkg.symbol.scope.lookup(new Name(functionName)).symbol;
             }
         }
 
@@ -35,7 +35,8 @@ import java.util.Locale;
 import java.util.ResourceBundle;
 
 /**
- * Logger class for logging various compiler diagnostics.
+ * Logger class for logging various compiler diagnostics. Logging is synchronized, since modules may be code generated
+ * concurrently.
  * 
  * @since 2.0.0
  */
@@ -106,7 +107,7 @@ public class BLangDiagnosticLog implements DiagnosticLog {
      *
      * @return Number of errors logged.
      */
-    public int errorCount() {
+    public synchronized int errorCount() {
         return this.errorCount;
     }
 
@@ -115,14 +116,14 @@ public class BLangDiagnosticLog implements DiagnosticLog {
      * 
      * @param errorCount Error count
      */
-    public void setErrorCount(int errorCount) {
+    public synchronized void setErrorCount(int errorCount) {
         this.errorCount = errorCount;
     }
 
     /**
      * Reset error count.
      */
-    public void resetErrorCount() {
+    public synchronized void resetErrorCount() {
         this.errorCount = 0;
     }
 
@@ -166,7 +167,7 @@ public class BLangDiagnosticLog implements DiagnosticLog {
      * @param pkgId Package ID of the diagnostic associated with
      * @param diagnostic the diagnostic to be logged
      */
-    public void logDiagnostic(PackageID pkgId, Diagnostic diagnostic) {
+    public synchronized void logDiagnostic(PackageID pkgId, Diagnostic diagnostic) {
         if (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR) {
             this.errorCount++;
         }
@@ -181,7 +182,7 @@ public class BLangDiagnosticLog implements DiagnosticLog {
         return MessageFormat.format(msgKey, args);
     }
 
-    private void reportDiagnostic(DiagnosticCode diagnosticCode, DiagnosticPos pos, String msg,
+    private synchronized void reportDiagnostic(DiagnosticCode diagnosticCode, DiagnosticPos pos, String msg,
                                   DiagnosticSeverity severity) {
         if (severity == DiagnosticSeverity.ERROR) {
             this.errorCount++;
@@ -22,10 +22,12 @@ import org.ballerinalang.compiler.CompilerPhase;
 import org.ballerinalang.compiler.plugins.CompilerPlugin;
 import org.ballerinalang.compiler.plugins.SupportedAnnotationPackages;
 import org.ballerinalang.compiler.plugins.SupportedResourceParamTypes;
+import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.tree.AnnotationAttachmentNode;
 import org.ballerinalang.model.tree.FunctionNode;
 import org.ballerinalang.model.tree.TopLevelNode;
 import org.ballerinalang.util.diagnostic.DiagnosticCode;
+import org.wso2.ballerinalang.compiler.CompilerPhaseProfiler;
 import org.wso2.ballerinalang.compiler.PackageCache;
 import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLog;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolEnv;
@@ -87,8 +89,10 @@ public class CompilerPluginRunner extends BLangNodeVisitor {
     private Names names;
     private final Types types;
     private BLangDiagnosticLog dlog;
+    private CompilerPhaseProfiler profiler;
 
     private DiagnosticPos defaultPos;
+    private PackageID pkgId;
     private CompilerContext context;
     private List<CompilerPlugin> pluginList;
     private Map<DefinitionID, Set<CompilerPlugin>> processorMap;
@@ -115,6 +119,7 @@ public class CompilerPluginRunner extends BLangNodeVisitor {
         this.names = Names.getInstance(context);
         this.types = Types.getInstance(context);
         this.dlog = BLangDiagnosticLog.getInstance(context);
+        this.profiler = CompilerPhaseProfiler.getInstance(context);
         this.context = context;
 
         this.pluginList = new ArrayList<>();
@@ -129,6 +134,7 @@ public class CompilerPluginRunner extends BLangNodeVisitor {
 
     public BLangPackage runPlugins(BLangPackage pkgNode) {
         this.defaultPos = pkgNode.pos;
+        this.pkgId = pkgNode.packageID;
         loadPlugins();
         pkgNode.accept(this);
         return pkgNode;
@@ -165,7 +171,7 @@ public class CompilerPluginRunner extends BLangNodeVisitor {
             return;
         }
         try {
-            consumer.accept(arg);
+            profiler.profileCompilerPlugin(this.pkgId, plugin, () -> consumer.accept(arg));
         } catch (Throwable e) {
             dlog.warning(pkgNode.pos, DiagnosticCode.COMPILER_PLUGIN_ERROR);
             printErrorLog(e);
@@ -323,7 +329,8 @@ public class CompilerPluginRunner extends BLangNodeVisitor {
 
             List<AnnotationAttachmentNode> list = attachmentMap.get(processor);
             try {
-                notifier.accept(processor, Collections.unmodifiableList(list));
+                profiler.profileCompilerPlugin(this.pkgId, processor,
+                        () -> notifier.accept(processor, Collections.unmodifiableList(list)));
             } catch (Throwable e) {
                 dlog.warning((DiagnosticPos) list.get(0).getPosition(), DiagnosticCode.COMPILER_PLUGIN_ERROR);
                 printErrorLog(e);
@@ -414,7 +421,8 @@ public class CompilerPluginRunner extends BLangNodeVisitor {
 
     private void invokeServiceProcessor(BLangService serviceNode, List<BLangAnnotationAttachment> attachments,
             BiConsumer<CompilerPlugin, List<AnnotationAttachmentNode>> notifier, CompilerPlugin plugin) {
-        notifier.accept(plugin, Collections.unmodifiableList(attachments));
+        profiler.profileCompilerPlugin(this.pkgId, plugin,
+                () -> notifier.accept(plugin, Collections.unmodifiableList(attachments)));
         // Hacking till we figure out service type.
         if (serviceNode.listenerType == null) {
             serviceNode.listenerType = serviceListenerMap.get(plugin);
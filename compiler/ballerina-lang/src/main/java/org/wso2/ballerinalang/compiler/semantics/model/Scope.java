@@ -22,6 +22,8 @@ import org.wso2.ballerinalang.compiler.util.Name;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * @since 0.94
@@ -36,6 +38,11 @@ public class Scope implements org.ballerinalang.model.Scope {
 
     public Map<Name, ScopeEntry> entries;
 
+    // Symbols which are only defined when they are first looked up, e.g. the private functions of a compiled module.
+    // These are kept apart from the entries, so that defining them does not modify the entries while they are read.
+    private Map<Name, Supplier<BSymbol>> lazySymbols;
+    private Map<Name, ScopeEntry> lazyEntries;
+
     public Scope(BSymbol owner) {
         this.owner = owner;
         this.entries = new LinkedHashMap<>(DEFAULT_SIZE);
@@ -56,15 +63,46 @@ public class Scope implements org.ballerinalang.model.Scope {
         entries.put(name, newEntry);
     }
 
+    /**
+     * Defines a symbol which is created by the given supplier when its name is first looked up. Such symbols are not
+     * part of the entries of the scope.
+     *
+     * @param name           name of the symbol
+     * @param symbolSupplier supplier which creates the symbol
+     */
+    public void defineLazily(Name name, Supplier<BSymbol> symbolSupplier) {
+        if (lazySymbols == null) {
+            lazySymbols = new ConcurrentHashMap<>();
+            lazyEntries = new ConcurrentHashMap<>();
+        }
+        lazySymbols.putIfAbsent(name, symbolSupplier);
+    }
+
     public ScopeEntry lookup(Name name) {
         ScopeEntry entry = entries.get(name);
         if (entry == null) {
-            return NOT_FOUND_ENTRY;
+            return lazySymbols == null ? NOT_FOUND_ENTRY : lookupLazily(name);
         }
 
         return entry;
     }
 
+    private ScopeEntry lookupLazily(Name name) {
+        ScopeEntry entry = lazyEntries.get(name);
+        if (entry != null) {
+            return entry;
+        }
+        Supplier<BSymbol> symbolSupplier = lazySymbols.get(name);
+        if (symbolSupplier == null) {
+            return NOT_FOUND_ENTRY;
+        }
+        // The symbol is loaded outside the map, since loading it may look up other symbols of this scope. If another
+        // thread loads the same symbol meanwhile, the entry added first is used.
+        entry = new ScopeEntry(symbolSupplier.get(), NOT_FOUND_ENTRY);
+        ScopeEntry existingEntry = lazyEntries.putIfAbsent(name, entry);
+        return existingEntry == null ? entry : existingEntry;
+    }
+
     /**
      * @since 0.94
      */
@@ -57,6 +57,10 @@ public class Flags {
     public static final int CLASS = DISTINCT << 1;
     public static final int ISOLATED = CLASS << 1;
     public static final int ISOLATED_PARAM = ISOLATED << 1;
+    // Set on BIR functions which never yield the strand. Not a source level flag.
+    // This is bit 31, the sign bit and the last free bit of the int, so a mask which has it set is negative. It
+    // survives the int round trip through BIR, but masks must only be tested with '&' and never compared by value.
+    public static final int YIELD_FREE = ISOLATED_PARAM << 1;
 
     public static int asMask(Set<Flag> flagSet) {
         int mask = 0;
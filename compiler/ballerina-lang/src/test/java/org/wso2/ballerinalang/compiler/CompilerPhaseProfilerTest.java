@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.model.elements.PackageID;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.Names;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Tests for the {@link CompilerPhaseProfiler} class.
+ *
+ * @since 2.0.0
+ */
+public class CompilerPhaseProfilerTest {
+
+    @Test(description = "Phases should not be recorded unless profiling is enabled")
+    public void testDisabledProfiler() {
+        CompilerContext context = new CompilerContext();
+        CompilerPhaseProfiler profiler = CompilerPhaseProfiler.getInstance(context);
+        Assert.assertFalse(profiler.isEnabled());
+        Assert.assertEquals(profiler.profile(createModuleId(context), CompilerPhase.TYPE_CHECK, () -> "done"), "done");
+    }
+
+    @Test(description = "Phases which run more than once for a module should be accumulated in the report")
+    public void testReport() throws IOException {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions.getInstance(context).put(CompilerOptionName.PROFILE_COMPILATION, "true");
+        CompilerPhaseProfiler profiler = CompilerPhaseProfiler.getInstance(context);
+        Assert.assertTrue(profiler.isEnabled());
+
+        PackageID moduleId = createModuleId(context);
+        profiler.profile(moduleId, CompilerPhase.CODE_GEN, () -> new int[1024]);
+        profiler.profile(moduleId, CompilerPhase.CODE_GEN, () -> new int[1024]);
+        profiler.profile(moduleId, CompilerPhaseProfiler.JAR_WRITE, () -> { });
+
+        Path reportPath = Files.createTempFile("compiler-profile", ".json");
+        try {
+            profiler.writeReport(reportPath);
+            JsonObject report = new JsonParser().parse(new String(Files.readAllBytes(reportPath),
+                    StandardCharsets.UTF_8)).getAsJsonObject();
+
+            JsonArray modules = report.getAsJsonArray("modules");
+            Assert.assertEquals(modules.size(), 1);
+            JsonObject module = modules.get(0).getAsJsonObject();
+            Assert.assertEquals(module.get("module").getAsString(), moduleId.toString());
+
+            JsonArray phases = module.getAsJsonArray("phases");
+            Assert.assertEquals(phases.size(), 2);
+            JsonObject codeGen = phases.get(0).getAsJsonObject();
+            Assert.assertEquals(codeGen.get("phase").getAsString(), CompilerPhase.CODE_GEN.toString());
+            Assert.assertEquals(codeGen.get("count").getAsInt(), 2);
+            if (report.get("allocationsSupported").getAsBoolean()) {
+                Assert.assertTrue(codeGen.get("allocatedBytes").getAsLong() >= 2 * 1024 * Integer.BYTES);
+            }
+            Assert.assertEquals(phases.get(1).getAsJsonObject().get("phase").getAsString(),
+                    CompilerPhaseProfiler.JAR_WRITE);
+            Assert.assertEquals(report.getAsJsonArray("totals").size(), 2);
+        } finally {
+            Files.deleteIfExists(reportPath);
+        }
+    }
+
+    @Test(description = "Nested phases should be reported under the enclosing phase, and not be added to the total")
+    public void testNestedPhases() throws IOException {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions.getInstance(context).put(CompilerOptionName.PROFILE_COMPILATION, "true");
+        CompilerPhaseProfiler profiler = CompilerPhaseProfiler.getInstance(context);
+
+        PackageID moduleId = createModuleId(context);
+        profiler.profile(moduleId, CompilerPhase.CODE_GEN, () -> profiler.profile(moduleId,
+                CompilerPhaseProfiler.JVM_CLASS_GEN, () -> new int[1024]));
+        profiler.profile(moduleId, CompilerPhaseProfiler.JAR_WRITE, () -> { });
+
+        Path reportPath = Files.createTempFile("compiler-profile", ".json");
+        try {
+            profiler.writeReport(reportPath);
+            JsonObject report = new JsonParser().parse(new String(Files.readAllBytes(reportPath),
+                    StandardCharsets.UTF_8)).getAsJsonObject();
+
+            JsonArray phases = report.getAsJsonArray("modules").get(0).getAsJsonObject().getAsJsonArray("phases");
+            Assert.assertEquals(phases.size(), 2);
+            JsonObject codeGen = phases.get(0).getAsJsonObject();
+            Assert.assertEquals(codeGen.get("phase").getAsString(), CompilerPhase.CODE_GEN.toString());
+            JsonArray nestedPhases = codeGen.getAsJsonArray("phases");
+            Assert.assertEquals(nestedPhases.size(), 1);
+            JsonObject jvmClassGen = nestedPhases.get(0).getAsJsonObject();
+            Assert.assertEquals(jvmClassGen.get("phase").getAsString(), CompilerPhaseProfiler.JVM_CLASS_GEN);
+            Assert.assertEquals(jvmClassGen.get("count").getAsInt(), 1);
+            Assert.assertFalse(jvmClassGen.has("module"));
+            Assert.assertTrue(codeGen.get("wallTimeMs").getAsDouble() >= jvmClassGen.get("wallTimeMs").getAsDouble());
+
+            JsonArray totals = report.getAsJsonArray("totals");
+            Assert.assertEquals(totals.size(), 2);
+            Assert.assertEquals(totals.get(0).getAsJsonObject().getAsJsonArray("phases").size(), 1);
+            // Only the code generation and the jar writing are counted in the total
+            Assert.assertEquals(report.getAsJsonObject("total").get("count").getAsInt(), 2);
+        } finally {
+            Files.deleteIfExists(reportPath);
+        }
+    }
+
+    private PackageID createModuleId(CompilerContext context) {
+        Names names = Names.getInstance(context);
+        return new PackageID(names.fromString("abc"), names.fromString("app"), names.fromString("0.1.0"));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler;
+
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.model.symbols.SymbolOrigin;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangIdentifier;
+import org.wso2.ballerinalang.compiler.tree.BLangImportPackage;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.Names;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the {@link ModuleCompilationScheduler} class.
+ *
+ * @since 2.0.0
+ */
+public class ModuleCompilationSchedulerTest {
+
+    @Test(description = "Modules should be ordered after the modules they import, keeping the original order")
+    public void testDependencyOrder() {
+        CompilerContext context = new CompilerContext();
+        ModuleCompilationScheduler scheduler = ModuleCompilationScheduler.getInstance(context);
+        Names names = Names.getInstance(context);
+
+        BLangPackage app = createModule(names, "app");
+        BLangPackage util = createModule(names, "util");
+        BLangPackage model = createModule(names, "model");
+        BLangPackage logging = createModule(names, "logging");
+        addImport(app, util);
+        addImport(app, model);
+        addImport(model, util);
+
+        List<BLangPackage> ordered = scheduler.order(Arrays.asList(app, util, model, logging));
+        Assert.assertEquals(ordered, Arrays.asList(util, model, app, logging));
+    }
+
+    @Test(description = "Cyclic imports should not prevent ordering")
+    public void testCyclicImports() {
+        CompilerContext context = new CompilerContext();
+        ModuleCompilationScheduler scheduler = ModuleCompilationScheduler.getInstance(context);
+        Names names = Names.getInstance(context);
+
+        BLangPackage first = createModule(names, "first");
+        BLangPackage second = createModule(names, "second");
+        addImport(first, second);
+        addImport(second, first);
+
+        List<BLangPackage> ordered = scheduler.order(Arrays.asList(first, second));
+        Assert.assertEquals(ordered, Arrays.asList(second, first));
+    }
+
+    @Test(description = "Code generation of a module should run after that of the modules it imports")
+    public void testParallelCodeGenOrder() {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions.getInstance(context).put(CompilerOptionName.PARALLEL_COMPILATION, "true");
+        ModuleCompilationScheduler scheduler = ModuleCompilationScheduler.getInstance(context);
+        Names names = Names.getInstance(context);
+
+        BLangPackage app = createModule(names, "app");
+        BLangPackage util = createModule(names, "util");
+        addImport(app, util);
+
+        AtomicInteger counter = new AtomicInteger();
+        int[] completedAt = new int[2];
+        List<String> completed = Collections.synchronizedList(new ArrayList<>());
+        scheduler.submitCodeGen(util, () -> {
+            completedAt[0] = counter.incrementAndGet();
+            completed.add("util");
+        });
+        scheduler.awaitDependencies(app);
+        Assert.assertEquals(completed, Collections.singletonList("util"));
+
+        scheduler.submitCodeGen(app, () -> {
+            completedAt[1] = counter.incrementAndGet();
+            completed.add("app");
+        });
+        scheduler.awaitCodeGen();
+        Assert.assertEquals(completed, Arrays.asList("util", "app"));
+        Assert.assertTrue(completedAt[0] < completedAt[1]);
+    }
+
+    private BLangPackage createModule(Names names, String name) {
+        BLangPackage pkgNode = new BLangPackage();
+        pkgNode.packageID = new PackageID(names.fromString("abc"), names.fromString(name),
+                                          names.fromString("0.1.0"));
+        pkgNode.symbol = new BPackageSymbol(pkgNode.packageID, null, null, SymbolOrigin.SOURCE);
+        return pkgNode;
+    }
+
+    private void addImport(BLangPackage pkgNode, BLangPackage importedPkgNode) {
+        BLangIdentifier alias = new BLangIdentifier();
+        alias.value = importedPkgNode.packageID.name.value;
+        BLangImportPackage importPkg = new BLangImportPackage();
+        importPkg.pkgNameComps = Collections.singletonList(alias);
+        importPkg.alias = alias;
+        importPkg.symbol = importedPkgNode.symbol;
+        pkgNode.imports.add(importPkg);
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.ballerinalang.model.symbols.SymbolOrigin;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunctionParameter;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRMappingConstructorKeyValueEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.FieldAccess;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.NewArray;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.NewStructure;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTupleType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for the {@link BIRAggregateScalarizer} class.
+ *
+ * @since 2.0.0
+ */
+public class BIRAggregateScalarizerTest {
+
+    private final CompilerContext context = BIROptimizerTestUtils.createContext();
+    private final SymbolTable symTable = SymbolTable.getInstance(context);
+
+    @Test(description = "A tuple which is only read and written through constant indexes is replaced by locals")
+    public void testScalarizeTuple() {
+        BTupleType tupleType = new BTupleType(Arrays.asList(symTable.intType, symTable.stringType));
+        BIRFunction function = createTupleFunction(tupleType, false);
+
+        optimize(function);
+
+        for (BIRVariableDcl localVar : function.localVars) {
+            Assert.assertNotEquals(localVar.type.tag, TypeTags.TUPLE, localVar.name.value);
+        }
+        Assert.assertEquals(emitBasicBlocks(function),
+                            "bb0 {\n" +
+                            "    %3 = ConstLoad 2;\n" +
+                            "    %agg11 = %1;\n" +
+                            "    %agg12 = %2;\n" +
+                            "    %7 = ConstLoad 0;\n" +
+                            "    %8 = ConstLoad 10;\n" +
+                            "    %agg11 = %8;\n" +
+                            "    %9 = %agg11;\n" +
+                            "    %5 = ConstLoad 1;\n" +
+                            "    %6 = %agg12;\n" +
+                            "    %0 = %6;\n" +
+                            "    return;\n" +
+                            "}");
+    }
+
+    @Test(description = "A tuple which is returned escapes the function and is not replaced")
+    public void testEscapingTupleNotScalarized() {
+        BTupleType tupleType = new BTupleType(Arrays.asList(symTable.intType, symTable.stringType));
+        BIRFunction function = createTupleFunction(tupleType, true);
+        String before = emitBasicBlocks(function);
+
+        optimize(function);
+
+        Assert.assertEquals(emitBasicBlocks(function), before);
+    }
+
+    @Test(description = "A record with only required fields is replaced by locals, unlike one with default values")
+    public void testScalarizeRecord() {
+        BIRFunction function = createRecordFunction(Flags.REQUIRED);
+        optimize(function);
+        for (BIRVariableDcl localVar : function.localVars) {
+            Assert.assertNotEquals(localVar.type.tag, TypeTags.RECORD, localVar.name.value);
+        }
+        Assert.assertEquals(emitBasicBlocks(function),
+                            "bb0 {\n" +
+                            "    %4 = ConstLoad x;\n" +
+                            "    %5 = ConstLoad y;\n" +
+                            "    %agg10 = %1;\n" +
+                            "    %agg11 = %2;\n" +
+                            "    %7 = %agg10;\n" +
+                            "    %agg11 = %7;\n" +
+                            "    %8 = %agg11;\n" +
+                            "    %0 = %8;\n" +
+                            "    return;\n" +
+                            "}");
+
+        BIRFunction withDefaults = createRecordFunction(0);
+        String before = emitBasicBlocks(withDefaults);
+        optimize(withDefaults);
+        Assert.assertEquals(emitBasicBlocks(withDefaults), before);
+    }
+
+    @Test(description = "The members of a replaced user variable are kept in locals named after the member")
+    public void testScalarizedUserVariableNames() {
+        BTupleType tupleType = new BTupleType(Arrays.asList(symTable.intType, symTable.stringType));
+        BIRFunction tupleFunction = createTupleFunction(tupleType, false);
+        optimize(tupleFunction);
+        Assert.assertEquals(getUserVariableNames(tupleFunction), Arrays.asList("t[0]", "t[1]"));
+
+        BIRFunction recordFunction = createRecordFunction(Flags.REQUIRED);
+        optimize(recordFunction);
+        Assert.assertEquals(getUserVariableNames(recordFunction), Arrays.asList("p.x", "p.y"));
+    }
+
+    private List<String> getUserVariableNames(BIRFunction function) {
+        return function.localVars.stream()
+                .filter(var -> var.kind == VarKind.LOCAL)
+                .map(var -> var.metaVarName)
+                .collect(Collectors.toList());
+    }
+
+    private void optimize(BIRFunction function) {
+        new BIRAggregateScalarizer(Types.getInstance(context))
+                .optimizeNode(BIROptimizerTestUtils.createPackage(function));
+    }
+
+    private String emitBasicBlocks(BIRFunction function) {
+        return BIROptimizerTestUtils.emitBasicBlocks(context, function);
+    }
+
+    // function pair(int a, string b) returns string|[int, string] {
+    //     [int, string] t = [a, b];
+    //     t[0] = 10;
+    //     int i = t[0];
+    //     return t[1];    // or `return t;`
+    // }
+    private BIRFunction createTupleFunction(BTupleType tupleType, boolean returnTuple) {
+        BType retType = returnTuple ? tupleType : symTable.stringType;
+        BIRFunction function = createFunction("pair", retType, symTable.intType, symTable.stringType);
+        BIRVariableDcl a = function.localVars.get(1);
+        BIRVariableDcl b = function.localVars.get(2);
+        BIRVariableDcl t = new BIRVariableDcl(null, tupleType, new Name("t"), VarScope.FUNCTION, VarKind.LOCAL, "t");
+        function.localVars.add(t);
+        BIRVariableDcl size = BIROptimizerTestUtils.createVar(function, symTable.intType, "%3");
+        BIRVariableDcl tuple = BIROptimizerTestUtils.createVar(function, tupleType, "%4");
+        BIRVariableDcl one = BIROptimizerTestUtils.createVar(function, symTable.intType, "%5");
+        BIRVariableDcl second = BIROptimizerTestUtils.createVar(function, symTable.stringType, "%6");
+        BIRVariableDcl zero = BIROptimizerTestUtils.createVar(function, symTable.intType, "%7");
+        BIRVariableDcl ten = BIROptimizerTestUtils.createVar(function, symTable.intType, "%8");
+        BIRVariableDcl i = BIROptimizerTestUtils.createVar(function, symTable.intType, "%9");
+
+        BIRBasicBlock bb0 = new BIRBasicBlock(new Name("bb0"));
+        function.basicBlocks.add(bb0);
+        bb0.instructions.add(new ConstantLoad(null, 2L, symTable.intType, new BIROperand(size)));
+        bb0.instructions.add(new NewArray(null, tupleType, new BIROperand(tuple), new BIROperand(size),
+                                          Arrays.asList(new BIROperand(a), new BIROperand(b))));
+        bb0.instructions.add(new Move(null, new BIROperand(tuple), new BIROperand(t)));
+        bb0.instructions.add(new ConstantLoad(null, 0L, symTable.intType, new BIROperand(zero)));
+        bb0.instructions.add(new ConstantLoad(null, 10L, symTable.intType, new BIROperand(ten)));
+        bb0.instructions.add(new FieldAccess(null, InstructionKind.ARRAY_STORE, new BIROperand(t),
+                                             new BIROperand(zero), new BIROperand(ten)));
+        bb0.instructions.add(new FieldAccess(null, InstructionKind.ARRAY_LOAD, new BIROperand(i),
+                                             new BIROperand(zero), new BIROperand(t)));
+        if (returnTuple) {
+            bb0.instructions.add(new Move(null, new BIROperand(t), new BIROperand(function.returnVariable)));
+        } else {
+            bb0.instructions.add(new ConstantLoad(null, 1L, symTable.intType, new BIROperand(one)));
+            bb0.instructions.add(new FieldAccess(null, InstructionKind.ARRAY_LOAD, new BIROperand(second),
+                                                 new BIROperand(one), new BIROperand(t)));
+            bb0.instructions.add(new Move(null, new BIROperand(second), new BIROperand(function.returnVariable)));
+        }
+        bb0.terminator = new BIRTerminator.Return(null);
+        return function;
+    }
+
+    // type Point record {| int x; int y; |};
+    //
+    // function sum(int x, int y) returns int {
+    //     Point p = {x: x, y: y};
+    //     p.y = p.x;
+    //     return p.y;
+    // }
+    private BIRFunction createRecordFunction(int fieldFlags) {
+        BRecordType recordType = new BRecordType(null);
+        recordType.tsymbol = Symbols.createRecordSymbol(0, new Name("Point"), symTable.rootPkgSymbol.pkgID,
+                                                        recordType, symTable.rootPkgSymbol, null,
+                                                        SymbolOrigin.SOURCE);
+        recordType.sealed = true;
+        for (String fieldName : Arrays.asList("x", "y")) {
+            BVarSymbol fieldSymbol = new BVarSymbol(fieldFlags, new Name(fieldName), null, symTable.intType, null,
+                                                    null, SymbolOrigin.SOURCE);
+            recordType.fields.put(fieldName, new BField(new Name(fieldName), null, fieldSymbol));
+        }
+        BIRFunction function = createFunction("sum", symTable.intType, symTable.intType, symTable.intType);
+        BIRVariableDcl x = function.localVars.get(1);
+        BIRVariableDcl y = function.localVars.get(2);
+        BIRVariableDcl p = new BIRVariableDcl(null, recordType, new Name("p"), VarScope.FUNCTION, VarKind.LOCAL, "p");
+        function.localVars.add(p);
+        BIRVariableDcl typedesc = BIROptimizerTestUtils.createVar(function, symTable.typeDesc, "%3");
+        BIRVariableDcl xKey = BIROptimizerTestUtils.createVar(function, symTable.stringType, "%4");
+        BIRVariableDcl yKey = BIROptimizerTestUtils.createVar(function, symTable.stringType, "%5");
+        BIRVariableDcl record = BIROptimizerTestUtils.createVar(function, recordType, "%6");
+        BIRVariableDcl px = BIROptimizerTestUtils.createVar(function, symTable.intType, "%7");
+        BIRVariableDcl py = BIROptimizerTestUtils.createVar(function, symTable.intType, "%8");
+
+        BIRBasicBlock bb0 = new BIRBasicBlock(new Name("bb0"));
+        function.basicBlocks.add(bb0);
+        bb0.instructions.add(new ConstantLoad(null, "x", symTable.stringType, new BIROperand(xKey)));
+        bb0.instructions.add(new ConstantLoad(null, "y", symTable.stringType, new BIROperand(yKey)));
+        bb0.instructions.add(new NewStructure(null, new BIROperand(record), new BIROperand(typedesc),
+                Arrays.asList(new BIRMappingConstructorKeyValueEntry(new BIROperand(xKey), new BIROperand(x)),
+                              new BIRMappingConstructorKeyValueEntry(new BIROperand(yKey), new BIROperand(y)))));
+        bb0.instructions.add(new Move(null, new BIROperand(record), new BIROperand(p)));
+        bb0.instructions.add(new FieldAccess(null, InstructionKind.MAP_LOAD, new BIROperand(px),
+                                             new BIROperand(xKey), new BIROperand(p)));
+        bb0.instructions.add(new FieldAccess(null, InstructionKind.MAP_STORE, new BIROperand(p),
+                                             new BIROperand(yKey), new BIROperand(px)));
+        bb0.instructions.add(new FieldAccess(null, InstructionKind.MAP_LOAD, new BIROperand(py),
+                                             new BIROperand(yKey), new BIROperand(p)));
+        bb0.instructions.add(new Move(null, new BIROperand(py), new BIROperand(function.returnVariable)));
+        bb0.terminator = new BIRTerminator.Return(null);
+        return function;
+    }
+
+    private BIRFunction createFunction(String name, BType retType, BType... paramTypes) {
+        BIRFunction function = new BIRFunction(null, new Name(name), 0,
+                                               new BInvokableType(Arrays.asList(paramTypes), retType, null),
+                                               new Name("default"), 0, null, SymbolOrigin.SOURCE);
+        function.argsCount = paramTypes.length;
+        function.returnVariable = new BIRVariableDcl(retType, new Name("%0"), VarScope.FUNCTION, VarKind.RETURN);
+        function.localVars.add(function.returnVariable);
+        for (int i = 0; i < paramTypes.length; i++) {
+            BIRFunctionParameter parameter = new BIRFunctionParameter(null, paramTypes[i], new Name("%" + (i + 1)),
+                                                                      VarScope.FUNCTION, VarKind.ARG, "p" + i, false);
+            function.localVars.add(parameter);
+            function.parameters.put(parameter, new ArrayList<>());
+        }
+        return function;
+    }
+}
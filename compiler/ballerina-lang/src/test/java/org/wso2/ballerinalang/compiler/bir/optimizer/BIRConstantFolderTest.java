@@ -0,0 +1,303 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.ballerinalang.model.symbols.SymbolOrigin;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunctionParameter;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRMappingConstructorKeyValueEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.NewStructure;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeTest;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.UnaryOP;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BMapType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the {@link BIRConstantFolder} class. The functions are compared as emitted by the BIR emitter.
+ *
+ * @since 2.0.0
+ */
+public class BIRConstantFolderTest {
+
+    private final CompilerContext context = BIROptimizerTestUtils.createContext();
+    private final SymbolTable symTable = SymbolTable.getInstance(context);
+    private final BIRConstantFolder constantFolder = new BIRConstantFolder(Types.getInstance(context));
+
+    @Test(description = "Arithmetic on constants is folded, and the loads of the operands are removed")
+    public void testFoldArithmetic() {
+        FunctionBuilder builder = new FunctionBuilder(symTable.intType);
+        BIRVariableDcl two = builder.addConstant(2L, symTable.intType);
+        BIRVariableDcl three = builder.addConstant(3L, symTable.intType);
+        BIRVariableDcl sum = builder.addBinaryOp(InstructionKind.ADD, two, three, symTable.intType);
+        BIRVariableDcl product = builder.addBinaryOp(InstructionKind.MUL, sum, three, symTable.intType);
+        builder.addReturn(product);
+
+        assertOptimized(builder.function,
+                        "bb0 {\n" +
+                        "    %4 = ConstLoad 15;\n" +
+                        "    %0 = %4;\n" +
+                        "    return;\n" +
+                        "}");
+        Assert.assertEquals(builder.function.localVars.size(), 2);
+    }
+
+    @Test(description = "Operations which would panic at run time are not folded")
+    public void testOverflowNotFolded() {
+        FunctionBuilder builder = new FunctionBuilder(symTable.intType);
+        BIRVariableDcl max = builder.addConstant(Long.MAX_VALUE, symTable.intType);
+        BIRVariableDcl one = builder.addConstant(1L, symTable.intType);
+        BIRVariableDcl zero = builder.addConstant(0L, symTable.intType);
+        BIRVariableDcl sum = builder.addBinaryOp(InstructionKind.ADD, max, one, symTable.intType);
+        BIRVariableDcl quotient = builder.addBinaryOp(InstructionKind.DIV, sum, zero, symTable.intType);
+        builder.addReturn(quotient);
+
+        assertOptimized(builder.function,
+                        "bb0 {\n" +
+                        "    %1 = ConstLoad 9223372036854775807;\n" +
+                        "    %2 = ConstLoad 1;\n" +
+                        "    %3 = ConstLoad 0;\n" +
+                        "    %4 = %1 + %2;\n" +
+                        "    %5 = %4 / %3;\n" +
+                        "    %0 = %5;\n" +
+                        "    return;\n" +
+                        "}");
+    }
+
+    @Test(description = "Identities and concatenations of string constants are simplified")
+    public void testIdentitiesAndStrings() {
+        FunctionBuilder builder = new FunctionBuilder(symTable.stringType);
+        BIRVariableDcl x = builder.addParameter(symTable.intType);
+        BIRVariableDcl s = builder.addParameter(symTable.stringType);
+        BIRVariableDcl zero = builder.addConstant(0L, symTable.intType);
+        BIRVariableDcl sum = builder.addBinaryOp(InstructionKind.ADD, x, zero, symTable.intType);
+        BIRVariableDcl empty = builder.addConstant("", symTable.stringType);
+        BIRVariableDcl concat = builder.addBinaryOp(InstructionKind.ADD, empty, s, symTable.stringType);
+        BIRVariableDcl hello = builder.addConstant("hello ", symTable.stringType);
+        BIRVariableDcl world = builder.addConstant("world", symTable.stringType);
+        BIRVariableDcl greeting = builder.addBinaryOp(InstructionKind.ADD, hello, world, symTable.stringType);
+        BIRVariableDcl result = builder.addBinaryOp(InstructionKind.ADD, greeting, concat, symTable.stringType);
+        builder.addMove(sum, builder.addLocal(symTable.intType));
+        builder.addReturn(result);
+
+        assertOptimized(builder.function,
+                        "bb0 {\n" +
+                        "    %9 = ConstLoad hello world;\n" +
+                        "    %10 = %9 + %2;\n" +
+                        "    %11 = %1;\n" +
+                        "    %0 = %10;\n" +
+                        "    return;\n" +
+                        "}");
+    }
+
+    @Test(description = "Branches on constants are turned into gotos, and the unreachable basic blocks are removed")
+    public void testBranchOnConstant() {
+        FunctionBuilder builder = new FunctionBuilder(symTable.intType);
+        BIRVariableDcl x = builder.addParameter(symTable.intType);
+        BType intOrString = BUnionType.create(null, symTable.intType, symTable.stringType);
+        BIRVariableDcl isIntOrString = builder.addTypeTest(x, intOrString);
+        BIRVariableDcl notIntOrString = builder.addNot(isIntOrString);
+        BIRBasicBlock thenBB = builder.newBasicBlock();
+        BIRBasicBlock elseBB = builder.newBasicBlock();
+        BIRBasicBlock returnBB = builder.newBasicBlock();
+        builder.current.terminator = new BIRTerminator.Branch(null, new BIROperand(notIntOrString), thenBB, elseBB);
+
+        builder.current = thenBB;
+        builder.addMove(builder.addConstant(1L, symTable.intType), builder.function.returnVariable);
+        thenBB.terminator = new BIRTerminator.GOTO(null, returnBB);
+
+        builder.current = elseBB;
+        builder.addMove(x, builder.function.returnVariable);
+        elseBB.terminator = new BIRTerminator.GOTO(null, returnBB);
+        returnBB.terminator = new BIRTerminator.Return(null);
+
+        assertOptimized(builder.function,
+                        "bb0 {\n" +
+                        "    GOTO bb2;\n" +
+                        "}\n" +
+                        "bb2 {\n" +
+                        "    %0 = %1;\n" +
+                        "    GOTO bb3;\n" +
+                        "}\n" +
+                        "bb3 {\n" +
+                        "    return;\n" +
+                        "}");
+    }
+
+    @Test(description = "Uses of a copy are replaced by the copied variable, until either of them is assigned to")
+    public void testCopyPropagation() {
+        FunctionBuilder builder = new FunctionBuilder(symTable.intType);
+        BIRVariableDcl x = builder.addParameter(symTable.intType);
+        BIRVariableDcl y = builder.addParameter(symTable.intType);
+        BIRVariableDcl copy = builder.addTemp(symTable.intType);
+        builder.addMove(x, copy);
+        BIRVariableDcl product = builder.addBinaryOp(InstructionKind.MUL, copy, y, symTable.intType);
+        builder.addMove(product, x);
+        BIRVariableDcl sum = builder.addBinaryOp(InstructionKind.ADD, copy, x, symTable.intType);
+        builder.addReturn(sum);
+
+        assertOptimized(builder.function,
+                        "bb0 {\n" +
+                        "    %3 = %1;\n" +
+                        "    %4 = %1 * %2;\n" +
+                        "    %1 = %4;\n" +
+                        "    %5 = %3 + %1;\n" +
+                        "    %0 = %5;\n" +
+                        "    return;\n" +
+                        "}");
+    }
+
+    @Test(description = "The keys and values of a mapping constructor are kept, when the function is optimized")
+    public void testMappingConstructorOperands() {
+        BMapType mapType = new BMapType(TypeTags.MAP, symTable.intType, null);
+        FunctionBuilder builder = new FunctionBuilder(mapType);
+        BIRVariableDcl typedesc = builder.addParameter(symTable.typeDesc);
+        BIRVariableDcl two = builder.addConstant(2L, symTable.intType);
+        BIRVariableDcl three = builder.addConstant(3L, symTable.intType);
+        BIRVariableDcl sum = builder.addBinaryOp(InstructionKind.ADD, two, three, symTable.intType);
+        BIRVariableDcl key = builder.addConstant("total", symTable.stringType);
+        BIRVariableDcl value = builder.addTemp(symTable.intType);
+        builder.addMove(sum, value);
+        BIRVariableDcl map = builder.addTemp(mapType);
+        BIRMappingConstructorKeyValueEntry entry =
+                new BIRMappingConstructorKeyValueEntry(new BIROperand(key), new BIROperand(value));
+        builder.current.instructions.add(new NewStructure(null, new BIROperand(map), new BIROperand(typedesc),
+                                                          List.of(entry)));
+        builder.addReturn(map);
+
+        // The emitter does not show the entries, hence the operands of the entry are checked separately.
+        assertOptimized(builder.function,
+                        "bb0 {\n" +
+                        "    %4 = ConstLoad 5;\n" +
+                        "    %5 = ConstLoad total;\n" +
+                        "    %7 = NewMap %1;\n" +
+                        "    %0 = %7;\n" +
+                        "    return;\n" +
+                        "}");
+        Assert.assertSame(entry.keyOp.variableDcl, key);
+        Assert.assertSame(entry.valueOp.variableDcl, sum);
+        Assert.assertTrue(builder.function.localVars.contains(key));
+        Assert.assertTrue(builder.function.localVars.contains(sum));
+    }
+
+    private void assertOptimized(BIRFunction function, String expectedBasicBlocks) {
+        constantFolder.optimizeNode(BIROptimizerTestUtils.createPackage(function));
+        Assert.assertEquals(BIROptimizerTestUtils.emitBasicBlocks(context, function), expectedBasicBlocks);
+    }
+
+    /**
+     * Builds a function, appending instructions to its current basic block.
+     */
+    private class FunctionBuilder {
+        private final BIRFunction function;
+        private BIRBasicBlock current;
+        private int nextVarId = 1;
+
+        FunctionBuilder(BType retType) {
+            function = new BIRFunction(null, new Name("test"), 0,
+                                       new BInvokableType(new ArrayList<>(), retType, null), new Name("default"),
+                                       0, null, SymbolOrigin.SOURCE);
+            function.returnVariable = new BIRVariableDcl(retType, new Name("%0"), VarScope.FUNCTION, VarKind.RETURN);
+            function.localVars.add(function.returnVariable);
+            current = newBasicBlock();
+        }
+
+        BIRBasicBlock newBasicBlock() {
+            BIRBasicBlock bb = new BIRBasicBlock(new Name("bb" + function.basicBlocks.size()));
+            function.basicBlocks.add(bb);
+            return bb;
+        }
+
+        BIRVariableDcl addParameter(BType type) {
+            BIRFunctionParameter param = new BIRFunctionParameter(null, type, new Name("%" + nextVarId++),
+                                                                  VarScope.FUNCTION, VarKind.ARG, "p", false);
+            function.type.paramTypes.add(type);
+            function.argsCount++;
+            function.localVars.add(param);
+            function.parameters.put(param, new ArrayList<>());
+            return param;
+        }
+
+        BIRVariableDcl addTemp(BType type) {
+            return addVar(type, VarKind.TEMP);
+        }
+
+        BIRVariableDcl addLocal(BType type) {
+            return addVar(type, VarKind.LOCAL);
+        }
+
+        private BIRVariableDcl addVar(BType type, VarKind kind) {
+            return BIROptimizerTestUtils.createVar(function, type, "%" + nextVarId++, kind);
+        }
+
+        BIRVariableDcl addConstant(Object value, BType type) {
+            BIRVariableDcl lhs = addTemp(type);
+            current.instructions.add(new ConstantLoad(null, value, type, new BIROperand(lhs)));
+            return lhs;
+        }
+
+        BIRVariableDcl addBinaryOp(InstructionKind kind, BIRVariableDcl op1, BIRVariableDcl op2, BType type) {
+            BIRVariableDcl lhs = addTemp(type);
+            current.instructions.add(new BinaryOp(null, kind, type, new BIROperand(lhs), new BIROperand(op1),
+                                                  new BIROperand(op2)));
+            return lhs;
+        }
+
+        BIRVariableDcl addTypeTest(BIRVariableDcl op, BType type) {
+            BIRVariableDcl lhs = addTemp(symTable.booleanType);
+            current.instructions.add(new TypeTest(null, type, new BIROperand(lhs), new BIROperand(op)));
+            return lhs;
+        }
+
+        BIRVariableDcl addNot(BIRVariableDcl op) {
+            BIRVariableDcl lhs = addTemp(symTable.booleanType);
+            current.instructions.add(new UnaryOP(null, InstructionKind.NOT, new BIROperand(lhs), new BIROperand(op)));
+            return lhs;
+        }
+
+        void addMove(BIRVariableDcl from, BIRVariableDcl to) {
+            current.instructions.add(new Move(null, new BIROperand(from), new BIROperand(to)));
+        }
+
+        void addReturn(BIRVariableDcl value) {
+            addMove(value, function.returnVariable);
+            current.terminator = new BIRTerminator.Return(null);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.model.symbols.SymbolOrigin;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.SourceDirectoryManager;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunctionParameter;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+
+/**
+ * Tests for the {@link BIRFunctionInliner} class.
+ *
+ * @since 2.0.0
+ */
+public class BIRFunctionInlinerTest {
+
+    private final SymbolTable symTable = SymbolTable.getInstance(new CompilerContext());
+
+    @Test(description = "A call to a small function which cannot panic should be replaced by its body")
+    public void testInlineFunction() {
+        BIRPackage pkg = createPackage();
+        BIRFunction callee = createDoubleFunction(symTable.floatType);
+        BIRFunction caller = createCallerFunction(pkg, symTable.floatType);
+        pkg.functions.add(callee);
+        pkg.functions.add(caller);
+
+        new BIRFunctionInliner(false).optimizeNode(pkg);
+
+        Assert.assertEquals(caller.basicBlocks.size(), 3);
+        BIRBasicBlock callBB = caller.basicBlocks.get(0);
+        BIRBasicBlock inlinedBB = caller.basicBlocks.get(1);
+        BIRBasicBlock returnBB = caller.basicBlocks.get(2);
+        Assert.assertEquals(callBB.terminator.kind, InstructionKind.GOTO);
+        Assert.assertSame(((BIRTerminator.GOTO) callBB.terminator).targetBB, inlinedBB);
+        Assert.assertEquals(inlinedBB.id.value, "bb2");
+
+        // The argument is used in place of the parameter and the result is written to the lhs of the call.
+        BinaryOp add = (BinaryOp) inlinedBB.instructions.get(0);
+        Assert.assertEquals(add.kind, InstructionKind.ADD);
+        Assert.assertSame(add.rhsOp1.variableDcl, caller.localVars.get(1));
+        Assert.assertSame(add.lhsOp.variableDcl, caller.localVars.get(2));
+        Assert.assertSame(((BIRTerminator.GOTO) inlinedBB.terminator).targetBB, returnBB);
+
+        // The callee is left unchanged.
+        Assert.assertEquals(callee.basicBlocks.get(0).instructions.get(0).lhsOp.variableDcl, callee.returnVariable);
+    }
+
+    @Test(description = "A call to a function which may panic should not be inlined")
+    public void testIntegerArithmeticNotInlined() {
+        BIRPackage pkg = createPackage();
+        pkg.functions.add(createDoubleFunction(symTable.intType));
+        BIRFunction caller = createCallerFunction(pkg, symTable.intType);
+        pkg.functions.add(caller);
+
+        new BIRFunctionInliner(false).optimizeNode(pkg);
+
+        Assert.assertEquals(caller.basicBlocks.size(), 2);
+        Assert.assertEquals(caller.basicBlocks.get(0).terminator.kind, InstructionKind.CALL);
+    }
+
+    @DataProvider
+    public Object[][] inliningDisabledOptions() {
+        return new Object[][]{
+                {CompilerOptionName.CODE_COVERAGE},
+                {CompilerOptionName.DEBUG_ENABLED},
+        };
+    }
+
+    @Test(description = "Calls should not be inlined when the lines and locals of the callee must stay visible",
+          dataProvider = "inliningDisabledOptions")
+    public void testInliningDisabled(CompilerOptionName option) {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        options.put(CompilerOptionName.PROJECT_DIR, ".");
+        options.put(option, "true");
+        SourceDirectoryManager.getInstance(context);
+        BIRPackage pkg = createPackage();
+        pkg.functions.add(createDoubleFunction(symTable.floatType));
+        BIRFunction caller = createCallerFunction(pkg, symTable.floatType);
+        pkg.functions.add(caller);
+
+        BIROptimizer.getInstance(context).optimizePackage(pkg);
+
+        Assert.assertEquals(caller.basicBlocks.get(0).terminator.kind, InstructionKind.CALL);
+    }
+
+    private BIRPackage createPackage() {
+        return new BIRPackage(null, new Name("abc"), new Name("app"), new Name("0.1.0"), new Name("main.bal"));
+    }
+
+    // function double(T x) returns T {
+    //     return x + x;
+    // }
+    private BIRFunction createDoubleFunction(BType type) {
+        BIRFunction function = new BIRFunction(null, new Name("double"), 0,
+                                               new BInvokableType(Collections.singletonList(type), type, null),
+                                               new Name("default"), 0, null, SymbolOrigin.SOURCE);
+        function.argsCount = 1;
+        function.returnVariable = new BIRVariableDcl(type, new Name("%0"), VarScope.FUNCTION, VarKind.RETURN);
+        BIRFunctionParameter param = new BIRFunctionParameter(null, type, new Name("%1"), VarScope.FUNCTION,
+                                                              VarKind.ARG, "x", false);
+        function.localVars.add(function.returnVariable);
+        function.localVars.add(param);
+        function.parameters.put(param, new ArrayList<>());
+
+        BIRBasicBlock bb0 = new BIRBasicBlock(new Name("bb0"));
+        bb0.instructions.add(new BinaryOp(null, InstructionKind.ADD, type, new BIROperand(function.returnVariable),
+                                          new BIROperand(param), new BIROperand(param)));
+        bb0.terminator = new BIRTerminator.Return(null);
+        function.basicBlocks.add(bb0);
+        return function;
+    }
+
+    // function caller(T y) returns T {
+    //     return double(y);
+    // }
+    private BIRFunction createCallerFunction(BIRPackage pkg, BType type) {
+        BIRFunction function = new BIRFunction(null, new Name("caller"), 0,
+                                               new BInvokableType(Collections.singletonList(type), type, null),
+                                               new Name("default"), 0, null, SymbolOrigin.SOURCE);
+        function.argsCount = 1;
+        function.returnVariable = new BIRVariableDcl(type, new Name("%0"), VarScope.FUNCTION, VarKind.RETURN);
+        BIRFunctionParameter param = new BIRFunctionParameter(null, type, new Name("%1"), VarScope.FUNCTION,
+                                                              VarKind.ARG, "y", false);
+        BIRVariableDcl result = new BIRVariableDcl(type, new Name("%2"), VarScope.FUNCTION, VarKind.TEMP);
+        function.localVars.add(function.returnVariable);
+        function.localVars.add(param);
+        function.localVars.add(result);
+        function.parameters.put(param, new ArrayList<>());
+
+        BIRBasicBlock bb0 = new BIRBasicBlock(new Name("bb0"));
+        BIRBasicBlock bb1 = new BIRBasicBlock(new Name("bb1"));
+        bb0.terminator = new BIRTerminator.Call(null, InstructionKind.CALL, false,
+                                                new PackageID(pkg.org, pkg.name, pkg.version), new Name("double"),
+                                                Collections.singletonList(new BIROperand(param)),
+                                                new BIROperand(result), bb1, Collections.emptyList(),
+                                                new HashSet<>());
+        bb1.instructions.add(new Move(null, new BIROperand(result), new BIROperand(function.returnVariable)));
+        bb1.terminator = new BIRTerminator.Return(null);
+        function.basicBlocks.add(bb0);
+        function.basicBlocks.add(bb1);
+        return function;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.wso2.ballerinalang.compiler.SourceDirectoryManager;
+import org.wso2.ballerinalang.compiler.bir.emit.BIREmitter;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+/**
+ * Utilities for building and checking the BIR functions used in the tests of the BIR optimizers.
+ *
+ * @since 2.0.0
+ */
+public class BIROptimizerTestUtils {
+
+    private BIROptimizerTestUtils() {
+    }
+
+    /**
+     * Creates a compiler context with which the optimizers can be created.
+     *
+     * @return the compiler context
+     */
+    public static CompilerContext createContext() {
+        // The type checker used by the optimizers needs a source directory.
+        CompilerContext context = new CompilerContext();
+        CompilerOptions.getInstance(context).put(CompilerOptionName.PROJECT_DIR, ".");
+        SourceDirectoryManager.getInstance(context);
+        return context;
+    }
+
+    /**
+     * Creates a package holding the given function, to be passed to an optimizer.
+     *
+     * @param function function of the package
+     * @return the package
+     */
+    public static BIRPackage createPackage(BIRFunction function) {
+        BIRPackage pkg = new BIRPackage(null, new Name("abc"), new Name("app"), new Name("0.1.0"),
+                                        new Name("main.bal"));
+        pkg.functions.add(function);
+        return pkg;
+    }
+
+    /**
+     * Emits the basic blocks of a function, without the indentation of the function body.
+     *
+     * @param context  compiler context
+     * @param function function to emit
+     * @return the emitted basic blocks
+     */
+    public static String emitBasicBlocks(CompilerContext context, BIRFunction function) {
+        String emitted = BIREmitter.getInstance(context).emitFunction(function, 0);
+        String basicBlocks = emitted.substring(emitted.indexOf("bb0 {"), emitted.lastIndexOf('}')).trim();
+        return basicBlocks.replace("\n    ", "\n");
+    }
+
+    public static BIRVariableDcl createVar(BIRFunction function, BType type, String name) {
+        return createVar(function, type, name, VarKind.TEMP);
+    }
+
+    public static BIRVariableDcl createVar(BIRFunction function, BType type, String name, VarKind kind) {
+        BIRVariableDcl variableDcl = new BIRVariableDcl(type, new Name(name), VarScope.FUNCTION, kind);
+        function.localVars.add(variableDcl);
+        return variableDcl;
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.ballerinalang.model.symbols.SymbolOrigin;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunctionParameter;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.FieldAccess;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeCast;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeTest;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BMapType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+/**
+ * Tests for the {@link BIRUnionScalarizer} class.
+ *
+ * @since 2.0.0
+ */
+public class BIRUnionScalarizerTest {
+
+    private final CompilerContext context = BIROptimizerTestUtils.createContext();
+    private final SymbolTable symTable = SymbolTable.getInstance(context);
+    private final BType optionalIntType = BUnionType.create(null, symTable.intType, symTable.nilType);
+
+    @Test(description = "An optional int accumulator narrowed by type tests is replaced by a tag and an int")
+    public void testScalarizeAccumulator() {
+        BIRFunction function = createAccumulatorFunction(symTable.intType);
+
+        optimize(function);
+
+        for (BIRVariableDcl localVar : function.localVars) {
+            Assert.assertNotEquals(localVar.type.tag, TypeTags.UNION, localVar.name.value);
+        }
+        Assert.assertEquals(BIROptimizerTestUtils.emitBasicBlocks(context, function),
+                            "bb0 {\n" +
+                            "    %2 = ConstLoad 0;\n" +
+                            "    %uni8 = ConstLoad 1;\n" +
+                            "    %uni10 = ConstLoad 0;\n" +
+                            "    %3 = %uni8 == %uni10;\n" +
+                            "    %3? bb1 : bb2;\n" +
+                            "}\n" +
+                            "bb1 {\n" +
+                            "    %4 = %uni9;\n" +
+                            "    %5 = %4 + %1;\n" +
+                            "    %uni8 = ConstLoad 0;\n" +
+                            "    %uni9 = %5;\n" +
+                            "    GOTO bb3;\n" +
+                            "}\n" +
+                            "bb2 {\n" +
+                            "    %uni8 = ConstLoad 0;\n" +
+                            "    %uni9 = %1;\n" +
+                            "    GOTO bb3;\n" +
+                            "}\n" +
+                            "bb3 {\n" +
+                            "    %6 = %uni9;\n" +
+                            "    %0 = %6;\n" +
+                            "    return;\n" +
+                            "}");
+    }
+
+    @Test(description = "A variable cast where the cast may fail, or used as a boxed value, is not replaced")
+    public void testVariablesNotScalarized() {
+        BIRFunction returnsOptional = createAccumulatorFunction(optionalIntType);
+        optimize(returnsOptional);
+        Assert.assertTrue(returnsOptional.localVars.stream().anyMatch(var -> var.type == optionalIntType));
+
+        // Without the assignment in bb2, the cast in bb3 panics if the value is nil.
+        BIRFunction uncheckedCast = createAccumulatorFunction(symTable.intType);
+        uncheckedCast.basicBlocks.get(2).instructions.clear();
+        optimize(uncheckedCast);
+        Assert.assertTrue(uncheckedCast.localVars.stream().anyMatch(var -> var.type == optionalIntType));
+    }
+
+    @Test(description = "The value of a replaced user variable is kept in a local with the name of the variable")
+    public void testScalarizedUserVariableName() {
+        BIRFunction function = createAccumulatorFunction(symTable.intType);
+
+        optimize(function);
+
+        BIRVariableDcl value = function.localVars.stream()
+                .filter(var -> "acc".equals(var.metaVarName))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+        Assert.assertEquals(value.kind, VarKind.LOCAL);
+        Assert.assertEquals(value.type, symTable.intType);
+        Assert.assertEquals(value.name.value, "%uni9");
+    }
+
+    @Test(description = "A variable assigned a value loaded from a map is not replaced")
+    public void testMapLoadNotScalarized() {
+        // function get(map<int> m, string k) {
+        //     int? x = m[k];
+        //     boolean b = x is int;
+        // }
+        BIRFunction function = new BIRFunction(null, new Name("get"), 0,
+                                               new BInvokableType(Collections.emptyList(), symTable.nilType, null),
+                                               new Name("default"), 0, null, SymbolOrigin.SOURCE);
+        function.returnVariable = new BIRVariableDcl(symTable.nilType, new Name("%0"), VarScope.FUNCTION,
+                                                     VarKind.RETURN);
+        function.localVars.add(function.returnVariable);
+        BMapType mapType = new BMapType(TypeTags.MAP, symTable.intType, null);
+        BIRVariableDcl map = BIROptimizerTestUtils.createVar(function, mapType, "%1");
+        BIRVariableDcl key = BIROptimizerTestUtils.createVar(function, symTable.stringType, "%2");
+        BIRVariableDcl x = new BIRVariableDcl(null, optionalIntType, new Name("x"), VarScope.FUNCTION, VarKind.LOCAL,
+                                              "x");
+        function.localVars.add(x);
+        BIRVariableDcl isInt = BIROptimizerTestUtils.createVar(function, symTable.booleanType, "%3");
+
+        BIRBasicBlock bb0 = new BIRBasicBlock(new Name("bb0"));
+        function.basicBlocks.add(bb0);
+        bb0.instructions.add(new FieldAccess(null, InstructionKind.MAP_LOAD, new BIROperand(x), new BIROperand(key),
+                                             new BIROperand(map)));
+        bb0.instructions.add(new TypeTest(null, symTable.intType, new BIROperand(isInt), new BIROperand(x)));
+        bb0.terminator = new BIRTerminator.Return(null);
+
+        optimize(function);
+
+        Assert.assertTrue(function.localVars.contains(x));
+        Assert.assertEquals(bb0.instructions.size(), 2);
+        Assert.assertEquals(bb0.instructions.get(0).lhsOp.variableDcl, x);
+        Assert.assertEquals(bb0.instructions.get(1).kind, InstructionKind.TYPE_TEST);
+    }
+
+    private void optimize(BIRFunction function) {
+        new BIRUnionScalarizer(symTable, Types.getInstance(context))
+                .optimizeNode(BIROptimizerTestUtils.createPackage(function));
+    }
+
+    // function accumulate(int v) returns T {
+    //     int? acc = ();
+    //     if acc is int {
+    //         acc = acc + v;
+    //     } else {
+    //         acc = v;
+    //     }
+    //     return <int> acc;
+    // }
+    private BIRFunction createAccumulatorFunction(BType retType) {
+        BIRFunction function = new BIRFunction(null, new Name("accumulate"), 0,
+                                               new BInvokableType(Collections.singletonList(symTable.intType),
+                                                                  retType, null),
+                                               new Name("default"), 0, null, SymbolOrigin.SOURCE);
+        function.argsCount = 1;
+        function.returnVariable = new BIRVariableDcl(retType, new Name("%0"), VarScope.FUNCTION, VarKind.RETURN);
+        BIRFunctionParameter v = new BIRFunctionParameter(null, symTable.intType, new Name("%1"), VarScope.FUNCTION,
+                                                          VarKind.ARG, "v", false);
+        BIRVariableDcl acc = new BIRVariableDcl(null, optionalIntType, new Name("acc"), VarScope.FUNCTION,
+                                                VarKind.LOCAL, "acc");
+        BIRVariableDcl nil = BIROptimizerTestUtils.createVar(function, symTable.nilType, "%2");
+        function.localVars.add(0, function.returnVariable);
+        function.localVars.add(1, v);
+        function.localVars.add(acc);
+        function.parameters.put(v, new ArrayList<>());
+        BIRVariableDcl isInt = BIROptimizerTestUtils.createVar(function, symTable.booleanType, "%3");
+        BIRVariableDcl narrowed = BIROptimizerTestUtils.createVar(function, symTable.intType, "%4");
+        BIRVariableDcl sum = BIROptimizerTestUtils.createVar(function, symTable.intType, "%5");
+        BIRVariableDcl result = BIROptimizerTestUtils.createVar(function, symTable.intType, "%6");
+
+        BIRBasicBlock bb0 = new BIRBasicBlock(new Name("bb0"));
+        BIRBasicBlock bb1 = new BIRBasicBlock(new Name("bb1"));
+        BIRBasicBlock bb2 = new BIRBasicBlock(new Name("bb2"));
+        BIRBasicBlock bb3 = new BIRBasicBlock(new Name("bb3"));
+        Collections.addAll(function.basicBlocks, bb0, bb1, bb2, bb3);
+
+        bb0.instructions.add(new ConstantLoad(null, null, symTable.nilType, new BIROperand(nil)));
+        bb0.instructions.add(new TypeCast(null, new BIROperand(acc), new BIROperand(nil), optionalIntType, false));
+        bb0.instructions.add(new TypeTest(null, symTable.intType, new BIROperand(isInt), new BIROperand(acc)));
+        bb0.terminator = new BIRTerminator.Branch(null, new BIROperand(isInt), bb1, bb2);
+
+        bb1.instructions.add(new TypeCast(null, new BIROperand(narrowed), new BIROperand(acc), symTable.intType,
+                                          true));
+        bb1.instructions.add(new BinaryOp(null, InstructionKind.ADD, symTable.intType, new BIROperand(sum),
+                                          new BIROperand(narrowed), new BIROperand(v)));
+        bb1.instructions.add(new TypeCast(null, new BIROperand(acc), new BIROperand(sum), optionalIntType, false));
+        bb1.terminator = new BIRTerminator.GOTO(null, bb3);
+
+        bb2.instructions.add(new TypeCast(null, new BIROperand(acc), new BIROperand(v), optionalIntType, false));
+        bb2.terminator = new BIRTerminator.GOTO(null, bb3);
+
+        BIRVariableDcl returned = result;
+        if (retType.tag == TypeTags.UNION) {
+            returned = acc;
+        } else {
+            bb3.instructions.add(new TypeCast(null, new BIROperand(result), new BIROperand(acc), symTable.intType,
+                                              true));
+        }
+        bb3.instructions.add(new Move(null, new BIROperand(returned), new BIROperand(function.returnVariable)));
+        bb3.terminator = new BIRTerminator.Return(null);
+        return function;
+    }
+}
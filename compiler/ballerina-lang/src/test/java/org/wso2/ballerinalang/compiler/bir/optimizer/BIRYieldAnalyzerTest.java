@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.model.symbols.SymbolOrigin;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.PackageCache;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.Collections;
+import java.util.HashSet;
+
+/**
+ * Tests for the {@link BIRYieldAnalyzer} class.
+ *
+ * @since 2.0.0
+ */
+public class BIRYieldAnalyzerTest {
+
+    private final CompilerContext context = new CompilerContext();
+    private final SymbolTable symTable = SymbolTable.getInstance(context);
+
+    @Test(description = "Functions which only call yield-free functions, including recursive ones, are yield-free")
+    public void testYieldFreeFunctions() {
+        BIRPackage pkg = createPackage();
+        BIRFunction leaf = createFunction("leaf", null);
+        BIRFunction caller = createFunction("caller", createCall(pkg, "leaf", false));
+        BIRFunction even = createFunction("even", createCall(pkg, "odd", false));
+        BIRFunction odd = createFunction("odd", createCall(pkg, "even", false));
+        Collections.addAll(pkg.functions, leaf, caller, even, odd);
+
+        new BIRYieldAnalyzer(PackageCache.getInstance(context)).analyze(pkg);
+
+        for (BIRFunction function : pkg.functions) {
+            Assert.assertTrue(Symbols.isFlagOn(function.flags, Flags.YIELD_FREE), function.name.value);
+        }
+    }
+
+    @Test(description = "Functions which may yield, and the functions calling them, are not yield-free")
+    public void testFunctionsWhichMayYield() {
+        BIRPackage pkg = createPackage();
+        BIRFunction virtualCaller = createFunction("virtualCaller", createCall(pkg, "leaf", true));
+        BIRFunction importedCaller = createFunction("importedCaller",
+                                                    createCall(createPackage("ballerina", "io"), "println", false));
+        BIRFunction transitiveCaller = createFunction("transitiveCaller", createCall(pkg, "importedCaller", false));
+        BIRFunction external = createFunction("external", null);
+        external.flags |= Flags.NATIVE;
+        BIRFunction externalCaller = createFunction("externalCaller", createCall(pkg, "external", false));
+        Collections.addAll(pkg.functions, virtualCaller, importedCaller, transitiveCaller, external, externalCaller);
+
+        new BIRYieldAnalyzer(PackageCache.getInstance(context)).analyze(pkg);
+
+        for (BIRFunction function : pkg.functions) {
+            Assert.assertFalse(Symbols.isFlagOn(function.flags, Flags.YIELD_FREE), function.name.value);
+        }
+    }
+
+    private BIRPackage createPackage() {
+        return createPackage("abc", "app");
+    }
+
+    private BIRPackage createPackage(String org, String name) {
+        return new BIRPackage(null, new Name(org), new Name(name), new Name("0.1.0"), new Name("main.bal"));
+    }
+
+    private BIRTerminator.Call createCall(BIRPackage calleePkg, String name, boolean isVirtual) {
+        return new BIRTerminator.Call(null, InstructionKind.CALL, isVirtual,
+                                      new PackageID(calleePkg.org, calleePkg.name, calleePkg.version),
+                                      new Name(name), Collections.emptyList(), null, null, Collections.emptyList(),
+                                      new HashSet<>());
+    }
+
+    // function name() {
+    //     call();
+    // }
+    private BIRFunction createFunction(String name, BIRTerminator.Call call) {
+        BIRFunction function = new BIRFunction(null, new Name(name), 0,
+                                               new BInvokableType(Collections.emptyList(), symTable.nilType, null),
+                                               new Name("default"), 0, null, SymbolOrigin.SOURCE);
+        function.returnVariable = new BIRVariableDcl(symTable.nilType, new Name("%0"), VarScope.FUNCTION,
+                                                     VarKind.RETURN);
+        function.localVars.add(function.returnVariable);
+
+        BIRBasicBlock returnBB = new BIRBasicBlock(new Name(call != null ? "bb1" : "bb0"));
+        returnBB.terminator = new BIRTerminator.Return(null);
+        if (call != null) {
+            BIRBasicBlock callBB = new BIRBasicBlock(new Name("bb0"));
+            call.lhsOp = new BIROperand(function.returnVariable);
+            call.thenBB = returnBB;
+            callBB.terminator = call;
+            function.basicBlocks.add(callBB);
+        }
+        function.basicBlocks.add(returnBB);
+        return function;
+    }
+}
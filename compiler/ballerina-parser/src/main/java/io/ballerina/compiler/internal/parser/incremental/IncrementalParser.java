@@ -58,9 +58,10 @@ public class IncrementalParser extends BallerinaParser {
     }
 
     private STNode getIfReusable(STNode node, Predicate<SyntaxKind> predicate) {
-        if (node != null && predicate.test(node.kind)) {
-            this.subtreeSupplier.consume();
+        if (node == null || !predicate.test(node.kind)) {
+            return null;
         }
+        this.subtreeSupplier.consume();
         return node;
     }
 
@@ -67,6 +67,19 @@ public class ModuleLevelDeclarationTest extends AbstractIncrementalParserTest {
         Assert.assertEquals(funcName.text(), "main");
     }
 
+    @Test
+    public void testUpdatingTopLevelKeyword() {
+        String input = "public type ErrorType error<Detail>;\n";
+        SyntaxTree oldTree = SyntaxTree.from(TextDocuments.from(input));
+
+        // Applying a change, after which the first old subtree is not a module level declaration
+        TextEdit[] edits = new TextEdit[]{TextEdit.from(TextRange.from(8, 1), "function foo() {}")};
+        TextDocumentChange textDocumentChange = TextDocumentChange.from(edits);
+        SyntaxTree newTree = SyntaxTree.from(oldTree, textDocumentChange);
+
+        Assert.assertEquals(newTree.toSourceCode(), "public tfunction foo() {}pe ErrorType error<Detail>;\n");
+    }
+
     @Test
     public void testReusingModuleLevelDeclerations() {
         SyntaxTree oldTree = parseFile("module_declarations/module_declarations_old.bal");
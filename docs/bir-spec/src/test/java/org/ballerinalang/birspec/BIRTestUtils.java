@@ -35,6 +35,7 @@ import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
 import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BirScope;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BErrorType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
@@ -42,6 +43,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.types.BTypeIdSet;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.diagnotic.DiagnosticPos;
 import org.wso2.ballerinalang.programfile.CompiledBinaryFile.BIRPackageFile;
+import org.wso2.ballerinalang.util.Flags;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -49,6 +51,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -129,9 +132,16 @@ class BIRTestUtils {
 
     private static void assertFunctions(BIRNode.BIRPackage expectedBIR, Bir.Module birModule,
                                         ArrayList<Bir.ConstantPoolEntry> constantPoolEntries) {
-        List<BIRNode.BIRFunction> expectedFunctions = expectedBIR.functions;
-        ArrayList<Bir.Function> actualFunctions = birModule.functions();
-        Assert.assertEquals(birModule.functionCount(), expectedFunctions.size());
+        // Public functions are written before the module private functions
+        List<BIRNode.BIRFunction> expectedFunctions = expectedBIR.functions.stream()
+                .sorted(Comparator.comparing(function -> !Symbols.isFlagOn(function.flags, Flags.PUBLIC)))
+                .collect(Collectors.toList());
+        List<Bir.Function> actualFunctions = new ArrayList<>(birModule.functions());
+        for (Bir.PrivateFunction privateFunction : birModule.privateFunctions()) {
+            Assert.assertEquals(privateFunction.nameCpIndex(), privateFunction.function().nameCpIndex());
+            actualFunctions.add(privateFunction.function());
+        }
+        Assert.assertEquals(actualFunctions.size(), expectedFunctions.size());
 
         for (int i = 0; i < expectedFunctions.size(); i++) {
             Bir.Function actualFunction = actualFunctions.get(i);
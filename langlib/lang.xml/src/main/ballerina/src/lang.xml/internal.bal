@@ -36,3 +36,30 @@ function externNext(XMLIterator iterator) returns record {| (xml|string) value;
     'class: "org.ballerinalang.langlib.xml.Next",
     name: "next"
 } external;
+
+# Represent the iterator type of the stream returned by `elementsFromString`.
+class ElementReaderIterator {
+
+    private string s;
+    private string[] path;
+
+    public function init(string s, string[] path) {
+        self.s = s;
+        self.path = path;
+    }
+
+    # Return next element or nil if end of iteration is reached.
+    # + return - iterator result
+    public function next() returns record {| Element value; |}|error? {
+        Element|error? element = externNextElement(self);
+        if (element is Element) {
+            return {value: element};
+        }
+        return element;
+    }
+}
+
+function externNextElement(ElementReaderIterator iterator) returns Element|error? = @java:Method {
+    'class: "org.ballerinalang.langlib.xml.ElementsFromString",
+    name: "next"
+} external;
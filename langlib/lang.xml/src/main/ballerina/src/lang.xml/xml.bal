@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/lang.__internal as internal;
 import ballerina/java;
 
 # The namespace URI bound to the `xml` prefix.
@@ -321,3 +322,16 @@ public isolated function fromString(string s) returns xml|error = @java:Method {
     'class: "org.ballerinalang.langlib.xml.FromString",
     name: "fromString"
 } external;
+
+# Returns a stream of the elements of an xml document, which are at the given path.
+# The elements are parsed from the string one at a time, as the stream is iterated,
+# hence only the element being returned is constructed as an xml value. The string
+# itself is held in memory, so use `io:ReadableCharacterChannel.xmlElements()` to read
+# documents which are too large to be held in memory as a string.
+#
+# + s - a string in XML format
+# + path - expanded names of the elements starting from the document element, or empty for the top level elements
+# + return - stream of the elements at `path`, which is completed with an error if `s` is not valid XML
+public function elementsFromString(string s, string... path) returns stream<Element, error> {
+    return internal:construct(Element, new ElementReaderIterator(s, path));
+}
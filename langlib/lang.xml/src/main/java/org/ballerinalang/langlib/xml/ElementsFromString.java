@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.xml;
+
+import io.ballerina.runtime.XMLElementReader;
+import io.ballerina.runtime.api.ErrorCreator;
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.util.exceptions.BallerinaException;
+
+import java.io.StringReader;
+import java.util.Arrays;
+
+/**
+ * Native implementation of lang.xml.ElementReaderIterator:next(), which reads the elements of the stream returned by
+ * lang.xml:elementsFromString().
+ *
+ * @since 2.0.0
+ */
+public class ElementsFromString {
+
+    private static final String READER = "&reader&";
+
+    public static Object next(BObject iterator) {
+        try {
+            XMLElementReader reader = (XMLElementReader) iterator.getNativeData(READER);
+            if (reader == null) {
+                String xmlStr = iterator.getStringValue(StringUtils.fromString("s")).getValue();
+                BArray path = iterator.getArrayValue(StringUtils.fromString("path"));
+                reader = new XMLElementReader(new StringReader(xmlStr), Arrays.asList(path.getStringArray()));
+                iterator.addNativeData(READER, reader);
+            }
+
+            if (reader.hasNext()) {
+                return reader.next();
+            }
+            return null;
+        } catch (BallerinaException e) {
+            return ErrorCreator.createError(StringUtils.fromString("failed to parse xml: " + e.getMessage()));
+        }
+    }
+}
@@ -34,6 +34,7 @@ import org.testng.annotations.Test;
 import static org.ballerinalang.test.util.BAssertUtil.validateError;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -222,6 +223,19 @@ public class LangLibXMLTest {
                         "{\"message\":\"Failed to set children to xml element: Cycle detected\"}");
     }
 
+    @Test
+    public void testXMLCycleInParsedXml() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testXMLCycleInParsedXml");
+        assertEquals(returns[0].stringValue(),
+                "{ballerina/lang.xml}XMLOperationError " +
+                        "{\"message\":\"Failed to set children to xml element: Cycle detected\"}");
+    }
+
+    @Test
+    public void testSetChildrenWithElementOfAnotherParent() {
+        BRunUtil.invoke(compileResult, "testSetChildrenWithElementOfAnotherParent");
+    }
+
     @Test
     public void testGet() {
         BValue[] returns = BRunUtil.invoke(compileResult, "testGet");
@@ -267,6 +281,28 @@ public class LangLibXMLTest {
         BValue[] returns = BRunUtil.invoke(compileResult, "testElementChildrenNS");
     }
 
+    @Test
+    public void testElementsFromString() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testElementsFromString");
+        assertNull(returns[0]);
+    }
+
+    @Test
+    public void testElementsFromStringWithDefaultNamespace() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testElementsFromStringWithDefaultNamespace");
+        assertNull(returns[0]);
+    }
+
+    @Test
+    public void testDescendantsAfterUpdate() {
+        BRunUtil.invoke(compileResult, "testDescendantsAfterUpdate");
+    }
+
+    @Test
+    public void testConcatInLoop() {
+        BRunUtil.invoke(compileResult, "testConcatInLoop");
+    }
+
     @Test
     public void testNegativeCases() {
         negativeResult = BCompileUtil.compile("test-src/xmllib_test_negative.bal");
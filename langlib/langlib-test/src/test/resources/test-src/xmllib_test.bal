@@ -218,6 +218,24 @@ function testXMLCycleDueToChildrenOfChildren() returns xml|error {
     return cat;
 }
 
+function testXMLCycleInParsedXml() returns error? {
+    'xml:Element root = <'xml:Element> check 'xml:fromString("<root><child><leaf/></child></root>");
+    'xml:Element child = <'xml:Element> root.getChildren()[0];
+    'xml:Element leaf = <'xml:Element> child.getChildren()[0];
+    return trap leaf.setChildren(root);
+}
+
+function testSetChildrenWithElementOfAnotherParent() {
+    'xml:Element first = <'xml:Element> xml `<first><child>content</child></first>`;
+    'xml:Element second = <'xml:Element> xml `<second/>`;
+    second.setChildren(first.getChildren());
+
+    'xml:Element child = <'xml:Element> second.getChildren()[0];
+    child.setChildren(xml `updated`);
+    assert(first.toString(), "<first><child>content</child></first>");
+    assert(second.toString(), "<second><child>updated</child></second>");
+}
+
 function testGet() returns [xml|error, xml|error, xml|error, xml|error, xml|error] {
     var e = 'xml:createElement("elem");
     xml|error e1 = trap e.get(0);
@@ -382,6 +400,77 @@ function testElementChildrenNS() {
     assert(toNoNs.toString(), "<to>Irshad</to><to>Irshad</to>");
 }
 
+function testDescendantsAfterUpdate() {
+    'xml:Element x = xml `<a><b><c>1</c></b><c>2</c></a>`;
+    assert((x/**/<c>).toString(), "<c>1</c><c>2</c>");
+
+    'xml:Element b = <'xml:Element> x.getChildren()[0];
+    b.setChildren(xml `<c>3</c><c>4</c>`);
+    assert((x/**/<c>).toString(), "<c>3</c><c>4</c><c>2</c>");
+
+    b.setName("c");
+    assert((x/**/<c>).toString(), "<c><c>3</c><c>4</c></c><c>3</c><c>4</c><c>2</c>");
+}
+
+function testConcatInLoop() {
+    xml x = xml ``;
+    foreach int i in 0 ..< 100 {
+        x = x + xml `<item>${i}</item>`;
+        x = x + xml `a`;
+        x = x + xml `b`;
+    }
+    assert(x.length(), 200);
+    assert(x[1].toString(), "ab");
+    assert(x[198].toString(), "<item>99</item>");
+
+    xml y = xml `<item>0</item>` + xml `a`;
+    xml z = y + (xml `b` + xml `<item>1</item>`);
+    assert(z.length(), 3);
+    assert(z.toString(), "<item>0</item>ab<item>1</item>");
+    assert(y.toString(), "<item>0</item>a");
+}
+
+function testElementsFromString() returns error? {
+    string feed = "<feed xmlns:ns=\"http://example.com\"><meta><item>0</item></meta><item>1</item>text" +
+                  "<ns:item>2</ns:item><item>3</item></feed>";
+    stream<'xml:Element, error> items = 'xml:elementsFromString(feed, "feed", "item");
+    string[] values = [];
+    while (true) {
+        record {| 'xml:Element value; |}? item = check items.next();
+        if (item is record {| 'xml:Element value; |}) {
+            values.push(item.value.toString());
+        } else {
+            break;
+        }
+    }
+    assert(values, ["<item>1</item>", "<item>3</item>"]);
+
+    stream<'xml:Element, error> nsItems = 'xml:elementsFromString(feed, "feed", "{http://example.com}item");
+    record {| 'xml:Element value; |}? next = check nsItems.next();
+    assert((<record {| 'xml:Element value; |}> next).value.toString(),
+           "<ns:item xmlns:ns=\"http://example.com\">2</ns:item>");
+
+    stream<'xml:Element, error> invalid = 'xml:elementsFromString("<feed><item></feed>", "feed", "item");
+    var result = invalid.next();
+    assert(result is error, true);
+}
+
+function testElementsFromStringWithDefaultNamespace() returns error? {
+    string feed = "<feed xmlns=\"http://example.com\"><item>1</item><item>2</item></feed>";
+    stream<'xml:Element, error> items = 'xml:elementsFromString(feed, "{http://example.com}feed",
+                                                                "{http://example.com}item");
+    string[] values = [];
+    while (true) {
+        record {| 'xml:Element value; |}? item = check items.next();
+        if (item is record {| 'xml:Element value; |}) {
+            values.push(item.value.toString());
+        } else {
+            break;
+        }
+    }
+    assert(values, ["<item xmlns=\"http://example.com\">1</item>", "<item xmlns=\"http://example.com\">2</item>"]);
+}
+
 function assert(anydata actual, anydata expected) {
     if (expected != actual) {
         typedesc<anydata> expT = typeof expected;
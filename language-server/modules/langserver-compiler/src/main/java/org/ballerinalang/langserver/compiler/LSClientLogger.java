@@ -27,6 +27,7 @@ import java.io.PrintStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CancellationException;
 
 /**
  * Use this class to send notifications and log messages to the client.
@@ -74,7 +75,8 @@ public class LSClientLogger {
      */
     public static void logError(String message, Throwable error, TextDocumentIdentifier identifier,
                                 Position... position) {
-        if (!LSClientLogger.isInitializedOnce) {
+        if (!LSClientLogger.isInitializedOnce || error instanceof CancellationException) {
+            // Cancelled operations are not errors
             return;
         }
         String details = getErrorDetails(identifier, error, position);
@@ -19,6 +19,7 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import org.ballerinalang.langserver.commons.LSContext;
 import org.ballerinalang.langserver.compiler.common.modal.BallerinaFile;
+import org.ballerinalang.model.elements.PackageID;
 import org.wso2.ballerinalang.compiler.SourceDirectory;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
@@ -151,6 +152,26 @@ public class LSCompilerCache {
                 "'} cleared " + count + " cached entries for the project");
     }
 
+    /**
+     * Clears the cache entries with this source root, which contain the module or a module depending on it. The
+     * entries of the other modules are kept.
+     *
+     * @param context    {@link LSContext}
+     * @param sourceRoot source root
+     * @param packageID  id of the changed module
+     */
+    public static synchronized void clear(LSContext context, String sourceRoot, PackageID packageID) {
+        AtomicInteger count = new AtomicInteger(0);
+        packageMap.forEach((key, cacheEntry) -> {
+            if (key.sourceRoot.equals(sourceRoot) && cacheEntry.dependsOn(packageID)) {
+                packageMap.remove(key);
+                count.getAndIncrement();
+            }
+        });
+        LSClientLogger.logTrace("Operation '" + context.getOperation().getName() + "' {projectRoot: '" + sourceRoot +
+                "'} cleared " + count + " cached entries for the module '" + packageID + "'");
+    }
+
     /**
      * Clears all cache entries.
      */
@@ -171,6 +192,7 @@ public class LSCompilerCache {
      */
     public static class Key {
         private final String sourceRoot;
+        private final String moduleName;
         private final String compilerPhase;
         private final String preserveWhitespace;
         private final String testEnabled;
@@ -178,7 +200,12 @@ public class LSCompilerCache {
         private final String sourceDirectory;
 
         public Key(String sourceRoot, LSContext context) {
+            this(sourceRoot, "", context);
+        }
+
+        public Key(String sourceRoot, String moduleName, LSContext context) {
             this.sourceRoot = sourceRoot;
+            this.moduleName = moduleName;
             CompilerContext compilerContext = context.get(DocumentServiceKeys.COMPILER_CONTEXT_KEY);
             CompilerOptions options = CompilerOptions.getInstance(compilerContext);
             this.compilerPhase = options.get(COMPILER_PHASE);
@@ -196,6 +223,7 @@ public class LSCompilerCache {
             }
             Key key = (Key) o;
             return (key.sourceRoot.equals(sourceRoot)
+                    && key.moduleName.equals(moduleName)
                     && compilerPhase != null && compilerPhase.equals(key.compilerPhase)
                     && preserveWhitespace != null && preserveWhitespace.equals(key.preserveWhitespace)
                     && testEnabled != null && testEnabled.equals(key.testEnabled)
@@ -206,16 +234,17 @@ public class LSCompilerCache {
         @Override
         public int hashCode() {
             return Arrays.hashCode(
-                    new String[]{sourceRoot, compilerPhase, preserveWhitespace, testEnabled, skipTests,
+                    new String[]{sourceRoot, moduleName, compilerPhase, preserveWhitespace, testEnabled, skipTests,
                             sourceDirectory});
         }
 
         @Override
         public String toString() {
             return String.format(
-                    "sourceRoot %s, compilerPhase: %s, preserveWS: %s, testEnabled: %s, " +
+                    "sourceRoot %s, module: %s, compilerPhase: %s, preserveWS: %s, testEnabled: %s, " +
                             "skipTests: %s, sourceDirectory: %s",
                     sourceRoot,
+                    moduleName,
                     compilerPhase != null ? compilerPhase : "",
                     preserveWhitespace != null ? preserveWhitespace : "",
                     testEnabled != null ? testEnabled : "",
@@ -255,5 +284,16 @@ public class LSCompilerCache {
         public boolean isOutdated() {
             return isOutdated;
         }
+
+        private boolean dependsOn(PackageID packageID) {
+            if (bLangPackages == null || bLangPackages.get() == null) {
+                return true;
+            }
+            if (bLangPackages.isLeft()) {
+                return LSPackageCache.dependsOn(bLangPackages.getLeft(), packageID);
+            }
+            return bLangPackages.getRight().stream()
+                    .anyMatch(bLangPackage -> LSPackageCache.dependsOn(bLangPackage, packageID));
+        }
     }
 }
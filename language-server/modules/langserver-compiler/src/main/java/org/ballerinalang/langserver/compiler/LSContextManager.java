@@ -36,6 +36,7 @@ import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nullable;
@@ -99,6 +100,16 @@ public class LSContextManager {
         return compilerContext;
     }
 
+    /**
+     * Returns the compiler context of the project directory, if the project has been compiled.
+     *
+     * @param projectDir project directory path
+     * @return compiler context
+     */
+    public Optional<CompilerContext> findCompilerContext(String projectDir) {
+        return Optional.ofNullable(contextMap.get(projectDir));
+    }
+
     /**
      * Set compiler context for a given project directory.
      *
@@ -36,11 +36,13 @@ import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.channels.ClosedByInterruptException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -98,7 +100,8 @@ public class LSModuleCompiler {
      * @param context              Language Server Context
      * @param docManager           Document manager
      * @param compileFullProject   updateAndCompileFile full project from the source root
-     * @param clearProjectModules  whether clear current project modules from ls package cache
+     * @param clearProjectModules  whether clear the current module and the modules depending on it from ls package
+     *                             cache
      * @param stopOnSemanticErrors whether stop compilation on semantic errors
      * @return {@link List}      A list of packages when compile full project
      * @throws CompilationFailedException Whenever compilation fails
@@ -148,8 +151,9 @@ public class LSModuleCompiler {
 
         if (compileFullProject && !projectRoot.isEmpty() && sourceDoc.isWithinProject()) {
             if (clearProjectModules) {
-                // If the flag is set, we remove all the modules in the current project from the LSPackageCache
-                LSPackageCache.getInstance(compilerContext).invalidateProjectModules(sourceDoc.getProjectModules());
+                // If the flag is set, we remove the current module and the modules depending on it from the
+                // LSPackageCache. The other modules of the project are reused without being compiled again.
+                LSPackageCache.getInstance(compilerContext).invalidateWithDependents(pkgID);
             }
             Compiler compiler = LSCompilerUtil.getCompiler(context, compilerContext);
             List<BLangPackage> projectPackages = compilePackagesSafe(compiler, projectRoot, false, context);
@@ -192,7 +196,7 @@ public class LSModuleCompiler {
      */
     protected static BLangPackage compileSafe(Compiler compiler, String projectRoot, String pkgName, LSContext context)
             throws CompilationFailedException {
-        LSCompilerCache.Key key = new LSCompilerCache.Key(projectRoot, context);
+        LSCompilerCache.Key key = new LSCompilerCache.Key(projectRoot, pkgName, context);
         LSClientConfig config = LSClientConfigHolder.getInstance().getConfig();
         try {
             long startTime = 0L;
@@ -229,11 +233,21 @@ public class LSModuleCompiler {
                         projectRoot + "'}, compilation took " + eTime + "ms");
             }
             return bLangPackage;
+        } catch (CancellationException e) {
+            // The operation has been cancelled, which is not a failure of the compilation
+            throw e;
         } catch (RuntimeException e) {
             // NOTE: Remove current CompilerContext to try out a fresh CompilerContext next time
             // to avoid issues of reusing it.
 //            LSContextManager.getInstance().removeCompilerContext(projectRoot);
             LSCompilerCache.markOutDated(key);
+            if (isCausedByInterrupt(e)) {
+                // Reading a source or a cached module was interrupted by the cancellation of the operation
+                CancellationException cancellation = new CancellationException("compilation of '" + projectRoot +
+                        "' was cancelled");
+                cancellation.initCause(e);
+                throw cancellation;
+            }
             throw new CompilationFailedException("Oh no, something really went wrong. Bad. Sad.", e);
         }
     }
@@ -288,15 +302,52 @@ public class LSModuleCompiler {
                         projectRoot + "'}, compilation took " + eTime + "ms");
             }
             return bLangPackages;
+        } catch (CancellationException e) {
+            // The operation has been cancelled, which is not a failure of the compilation
+            throw e;
         } catch (RuntimeException e) {
             // NOTE: Remove current CompilerContext to try out a fresh CompilerContext next time
             // to avoid issues of reusing it.
 //            LSContextManager.getInstance().removeCompilerContext(projectRoot);
             LSCompilerCache.markOutDated(key);
+            if (isCausedByInterrupt(e)) {
+                // Reading a source or a cached module was interrupted by the cancellation of the operation
+                CancellationException cancellation = new CancellationException("compilation of '" + projectRoot +
+                        "' was cancelled");
+                cancellation.initCause(e);
+                throw cancellation;
+            }
             throw new CompilationFailedException("Oh no, something really went wrong. Bad. Sad.", e);
         }
     }
 
+    private static boolean isCausedByInterrupt(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ClosedByInterruptException || cause instanceof InterruptedException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Remove the compiled module of a changed source file from the ls package cache of its project, along with the
+     * modules depending on it, so that they are compiled again from the current sources.
+     *
+     * @param sourceDoc {@link LSDocumentIdentifier} of the changed source file
+     */
+    public static void invalidateModule(LSDocumentIdentifier sourceDoc) {
+        String projectRoot = sourceDoc.getProjectRoot();
+        String pkgName = sourceDoc.getOwnerModule();
+        if (pkgName.isEmpty() || !sourceDoc.isWithinProject()) {
+            // Single files are compiled again on each compilation
+            return;
+        }
+        LSContextManager.getInstance().findCompilerContext(projectRoot).ifPresent(compilerContext ->
+                LSPackageCache.getInstance(compilerContext)
+                        .invalidateWithDependents(generatePackageFromManifest(pkgName, projectRoot)));
+    }
+
     private static PackageID generatePackageFromManifest(String pkgName, String projectRoot) {
         Manifest manifest = LSCompilerUtil.getManifest(Paths.get(projectRoot));
         Name orgName = manifest.getProject().getOrgName() == null || manifest.getProject().getOrgName().isEmpty() ?
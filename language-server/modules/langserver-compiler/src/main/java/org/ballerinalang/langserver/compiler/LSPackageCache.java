@@ -25,8 +25,10 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
@@ -86,6 +88,16 @@ public class LSPackageCache {
     public void invalidateProjectModules(List<String> modules) {
         packageCache.remove(modules);
     }
+
+    /**
+     * Remove a module, along with the modules which import it directly or transitively, since they are compiled
+     * against the symbols of the module. The other modules are kept, and are reused without being compiled again.
+     *
+     * @param packageID id of the changed module
+     */
+    public void invalidateWithDependents(PackageID packageID) {
+        packageCache.removeWithDependents(packageID);
+    }
     
     public void clearCache() {
         packageCache.clearCache();
@@ -112,6 +124,49 @@ public class LSPackageCache {
         return packageCache.getMap();
     }
 
+    /**
+     * Returns whether the package is the given module, or imports it directly or transitively.
+     *
+     * @param bLangPackage package to be checked
+     * @param packageID    id of the module
+     * @return True if the package depends on the module, False otherwise
+     */
+    static boolean dependsOn(BLangPackage bLangPackage, PackageID packageID) {
+        String moduleKey = getModuleKey(packageID);
+        if (moduleKey.equals(getModuleKey(bLangPackage.packageID))) {
+            return true;
+        }
+        if (bLangPackage.symbol != null && dependsOn(bLangPackage.symbol, moduleKey, new HashSet<>())) {
+            return true;
+        }
+        // Tests of the module may import modules which the module does not
+        return bLangPackage.getTestablePkgs().stream().anyMatch(testablePkg -> testablePkg.symbol != null &&
+                dependsOn(testablePkg.symbol, moduleKey, new HashSet<>()));
+    }
+
+    private static boolean dependsOn(BPackageSymbol symbol, String moduleKey, Set<BPackageSymbol> visited) {
+        if (!visited.add(symbol)) {
+            return false;
+        }
+        if (moduleKey.equals(getModuleKey(symbol.pkgID))) {
+            return true;
+        }
+        for (BPackageSymbol importSymbol : symbol.imports) {
+            if (dependsOn(importSymbol, moduleKey, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String getModuleKey(PackageID packageID) {
+        if (packageID.isUnnamed) {
+            return PackageCache.getCacheID(packageID);
+        }
+        // Versions are not compared, since the imports of a module are resolved to a single version in a project
+        return packageID.toString().split(Names.VERSION_SEPARATOR.value)[0];
+    }
+
     static class ExtendedPackageCache extends PackageCache {
 
         private static final long MAX_CACHE_COUNT = 100L;
@@ -177,6 +232,21 @@ public class LSPackageCache {
             });
         }
         
+        public void removeWithDependents(PackageID packageID) {
+            this.packageMap.forEach((key, value) -> {
+                if (dependsOn(value, packageID)) {
+                    this.packageMap.remove(key);
+                }
+            });
+            // Symbols are looked up before the packages when resolving imports, hence they are removed as well
+            String moduleKey = getModuleKey(packageID);
+            this.packageSymbolMap.forEach((key, versionMap) -> {
+                synchronized (versionMap) {
+                    versionMap.values().removeIf(symbol -> dependsOn(symbol, moduleKey, new HashSet<>()));
+                }
+            });
+        }
+
         public void clearCache() {
             this.packageMap.clear();
             this.pkgSymbolMap.clear();
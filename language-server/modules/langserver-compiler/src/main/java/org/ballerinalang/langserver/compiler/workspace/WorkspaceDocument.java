@@ -18,7 +18,10 @@
 package org.ballerinalang.langserver.compiler.workspace;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.text.TextDocumentChange;
 import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
 import org.ballerinalang.langserver.commons.workspace.LSDocumentIdentifier;
 import org.ballerinalang.langserver.compiler.common.LSDocumentIdentifierImpl;
 import org.eclipse.lsp4j.CodeLens;
@@ -31,6 +34,9 @@ import java.util.List;
  * Represents a document open in workspace.
  */
 public class WorkspaceDocument {
+    /* Checking the source of incrementally parsed trees against their text, when assertions are enabled */
+    private static final boolean VERIFY_INCREMENTAL_PARSE = WorkspaceDocument.class.desiredAssertionStatus();
+
     /* Tracking code lenses sent to client, to make-use in compilation failures */
     private List<CodeLens> codeLenses;
     private Path path;
@@ -40,14 +46,7 @@ public class WorkspaceDocument {
 
     public WorkspaceDocument(Path path, String content, boolean isTempFile) {
         this.path = path;
-        this.content = content;
-        Path namePart = path.getFileName();
-        if (namePart != null) {
-            String fileName = namePart.toString();
-            setTree(SyntaxTree.from(TextDocuments.from(this.content), fileName));
-        } else {
-            setTree(SyntaxTree.from(TextDocuments.from(this.content)));
-        }
+        setContent(content);
         this.codeLenses = new ArrayList<>();
         lsDocument = isTempFile ? null : new LSDocumentIdentifierImpl(path.toUri().toString());
     }
@@ -72,40 +71,103 @@ public class WorkspaceDocument {
         this.path = path;
     }
 
-    public String getContent() {
-        return content;
+    public synchronized String getContent() {
+        if (this.content == null) {
+            this.content = this.tree.textDocument().toString();
+        }
+        return this.content;
     }
 
-    public void setContent(String content) {
-        this.content = content;
+    public synchronized void setContent(String content) {
+        if (this.tree != null) {
+            if (!content.equals(getContent())) {
+                applyChange(getTextDocumentChange(getContent(), content));
+            }
+            return;
+        }
         Path namePart = this.path.getFileName();
-        // TODO: Fix this, each time creates a new tree
         if (namePart != null) {
-            setTree(SyntaxTree.from(TextDocuments.from(this.content), namePart.toString()));
+            setTree(SyntaxTree.from(TextDocuments.from(content), namePart.toString()));
         } else {
-            setTree(SyntaxTree.from(TextDocuments.from(this.content)));
+            setTree(SyntaxTree.from(TextDocuments.from(content)));
         }
     }
 
     public void setIncrementContent(String content) {
-        this.content = content;
-        // TODO: Fix this, each time creates a new tree
-        Path namePath = this.path.getFileName();
-        if (namePath != null) {
-            setTree(SyntaxTree.from(TextDocuments.from(this.content), namePath.toString()));
-        } else {
-            setTree(SyntaxTree.from(TextDocuments.from(this.content)));
-        }
+        setContent(content);
     }
 
-    public SyntaxTree getTree() {
+    public synchronized SyntaxTree getTree() {
         return this.tree;
     }
 
-    public void setTree(SyntaxTree tree) {
+    public synchronized void setTree(SyntaxTree tree) {
         this.tree = tree;
-        // TODO: Added to support inter-operability. Remove this once getContent() is removed
-        this.content = tree.toSourceCode();
+        // The content is read from the tree when it is first required, since most changes do not need it
+        this.content = null;
+    }
+
+    /**
+     * Applies a change to the document. Only the changed part of the document is parsed again, by the incremental
+     * parser, reusing the rest of the current tree. The document is parsed as a whole if the incremental parser fails,
+     * or if the length of the incrementally parsed tree differs from the length of the edited document. When
+     * assertions are enabled, the document is also parsed as a whole if the source of the incrementally parsed tree
+     * differs from the new content, since checking it reads the whole document.
+     *
+     * @param textDocumentChange change to the current content
+     */
+    public synchronized void applyChange(TextDocumentChange textDocumentChange) {
+        int newLength = getEditedLength(this.tree.rootNode().textRangeWithMinutiae().length(), textDocumentChange);
+        SyntaxTree newTree;
+        try {
+            newTree = SyntaxTree.from(this.tree, textDocumentChange);
+        } catch (RuntimeException e) {
+            newTree = SyntaxTree.from(this.tree.textDocument().apply(textDocumentChange), this.tree.filePath());
+        }
+        if (newTree.rootNode().textRangeWithMinutiae().length() != newLength ||
+                (VERIFY_INCREMENTAL_PARSE && !newTree.textDocument().toString().equals(newTree.toSourceCode()))) {
+            newTree = SyntaxTree.from(newTree.textDocument(), newTree.filePath());
+        }
+        setTree(newTree);
+    }
+
+    /**
+     * Returns the length of a document after applying the given change, without reading the document.
+     *
+     * @param length             length of the document before the change
+     * @param textDocumentChange change to the document
+     * @return length of the changed document
+     */
+    static int getEditedLength(int length, TextDocumentChange textDocumentChange) {
+        for (int i = 0; i < textDocumentChange.getTextEditCount(); i++) {
+            TextEdit textEdit = textDocumentChange.getTextEdit(i);
+            length += textEdit.text().length() - textEdit.range().length();
+        }
+        return length;
+    }
+
+    /**
+     * Returns the change from the old content to the new content, as a single edit which replaces the part between
+     * the common prefix and the common suffix of the two.
+     *
+     * @param oldContent old content
+     * @param newContent new content
+     * @return {@link TextDocumentChange} from the old content to the new content
+     */
+    static TextDocumentChange getTextDocumentChange(String oldContent, String newContent) {
+        int maxLength = Math.min(oldContent.length(), newContent.length());
+        int prefix = 0;
+        while (prefix < maxLength && oldContent.charAt(prefix) == newContent.charAt(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < maxLength - prefix && oldContent.charAt(oldContent.length() - suffix - 1) ==
+                newContent.charAt(newContent.length() - suffix - 1)) {
+            suffix++;
+        }
+        TextRange range = TextRange.from(prefix, oldContent.length() - suffix - prefix);
+        String text = newContent.substring(prefix, newContent.length() - suffix);
+        return TextDocumentChange.from(new TextEdit[]{TextEdit.from(range, text)});
     }
 
     public LSDocumentIdentifier getLSDocument() {
@@ -114,6 +176,6 @@ public class WorkspaceDocument {
 
     @Override
     public String toString() {
-        return "{" + "path:" + this.path + ", content:" + this.content + "}";
+        return "{" + "path:" + this.path + ", content:" + getContent() + "}";
     }
 }
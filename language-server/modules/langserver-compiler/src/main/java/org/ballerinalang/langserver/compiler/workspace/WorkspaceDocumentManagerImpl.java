@@ -109,14 +109,14 @@ public class WorkspaceDocumentManagerImpl implements WorkspaceDocumentManager {
             );
         } else {
             // Incremental Sync
+            // The range of each change is relative to the document after the previous changes, hence they are
+            // applied one after the other, each parsing only the changed part of the previous tree
             documentList.get(filePath).getDocument().ifPresent(document -> {
-                TextEdit[] edits = new TextEdit[changeEvent.size()];
-                TextDocument textDocument = document.getTree().textDocument();
-                for (int i = 0; i < changeEvent.size(); i++) {
-                    TextDocumentContentChangeEvent change = changeEvent.get(i);
-                    edits[i] = TextEdit.from(getTextRange(textDocument, change), change.getText());
+                for (TextDocumentContentChangeEvent change : changeEvent) {
+                    TextDocument textDocument = document.getTree().textDocument();
+                    TextEdit edit = TextEdit.from(getTextRange(textDocument, change), change.getText());
+                    document.applyChange(TextDocumentChange.from(new TextEdit[]{edit}));
                 }
-                document.setTree(SyntaxTree.from(document.getTree(), TextDocumentChange.from(edits)));
             });
         }
     }
@@ -192,7 +192,7 @@ public class WorkspaceDocumentManagerImpl implements WorkspaceDocumentManager {
     @Override
     public String getFileContent(Path filePath) throws WorkspaceDocumentException {
         if (isFileOpen(filePath) && documentList.get(filePath) != null) {
-            return documentList.get(filePath).getDocument().map(doc -> doc.getTree().toSourceCode()).orElse(null);
+            return documentList.get(filePath).getDocument().map(WorkspaceDocument::getContent).orElse(null);
         }
         return readFromFileSystem(filePath).toSourceCode();
     }
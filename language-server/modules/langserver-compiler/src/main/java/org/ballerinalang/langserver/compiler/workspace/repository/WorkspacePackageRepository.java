@@ -168,12 +168,21 @@ public class WorkspacePackageRepository extends GeneralFSPackageRepository {
                 this.name = name;
                 Path filePath = getResolvedPathFromPackagePath(basePath.resolve(pkgPath)).resolve(name);
                 if (documentManager.isFileOpen(filePath)) {
+                    SyntaxTree documentTree;
                     try {
+                        documentTree = documentManager.getTree(filePath);
                         this.code = documentManager.getFileContent(filePath).getBytes("UTF-8");
                     } catch (WorkspaceDocumentException | UnsupportedEncodingException e) {
                         throw new RuntimeException("Error in loading package source entry '" + filePath +
                                 "': " + e.getMessage(), e);
                     }
+                    // The tree of an open document is kept up to date by the incremental parser, hence it is reused
+                    // instead of parsing the document again, unless it was named differently
+                    if (documentTree != null && name.equals(documentTree.filePath())) {
+                        this.tree = documentTree;
+                    } else {
+                        this.tree = SyntaxTree.from(TextDocuments.from(new String(this.code)), name);
+                    }
                 } else {
                     try {
                         this.code = Files.readAllBytes(filePath);
@@ -181,9 +190,9 @@ public class WorkspacePackageRepository extends GeneralFSPackageRepository {
                         throw new RuntimeException("Error in loading package source entry '" + filePath +
                                 "': " + e.getMessage(), e);
                     }
+                    TextDocument textDocument = TextDocuments.from(new String(this.code));
+                    this.tree = SyntaxTree.from(textDocument, name);
                 }
-                TextDocument textDocument = TextDocuments.from(new String(this.code));
-                this.tree = SyntaxTree.from(textDocument, name);
             }
 
             @Override
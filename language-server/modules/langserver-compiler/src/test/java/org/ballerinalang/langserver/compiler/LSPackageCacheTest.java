@@ -8,11 +8,15 @@ import org.ballerinalang.langserver.compiler.exception.CompilationFailedExceptio
 import org.ballerinalang.langserver.compiler.workspace.ExtendedWorkspaceDocumentManagerImpl;
 import org.ballerinalang.langserver.compiler.workspace.WorkspaceDocumentManagerImpl;
 import org.ballerinalang.langserver.compiler.workspace.repository.WorkspacePackageRepository;
+import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.model.symbols.SymbolOrigin;
 import org.ballerinalang.repository.PackageRepository;
 import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
@@ -39,6 +43,48 @@ public class LSPackageCacheTest {
         compileFileAndCheckCache(filePath);
     }
 
+    @Test
+    public void testInvalidateWithDependents() {
+        LSPackageCache packageCache = LSPackageCache.getInstance(new CompilerContext());
+        BLangPackage utils = createPackage(packageCache, "utils");
+        BLangPackage model = createPackage(packageCache, "model", utils);
+        BLangPackage service = createPackage(packageCache, "service", model);
+        BLangPackage client = createPackage(packageCache, "client");
+
+        packageCache.invalidateWithDependents(utils.packageID);
+
+        for (BLangPackage removed : new BLangPackage[]{utils, model, service}) {
+            Assert.assertNull(packageCache.get(removed.packageID));
+            Assert.assertNull(packageCache.getPackageCache().getSymbol(removed.packageID));
+        }
+        Assert.assertSame(packageCache.get(client.packageID), client);
+        Assert.assertSame(packageCache.getPackageCache().getSymbol(client.packageID), client.symbol);
+    }
+
+    @Test
+    public void testRemoveSymbol() {
+        LSPackageCache packageCache = LSPackageCache.getInstance(new CompilerContext());
+        BLangPackage utils = createPackage(packageCache, "utils");
+        BLangPackage model = createPackage(packageCache, "model", utils);
+
+        packageCache.getPackageCache().removeSymbol(utils.packageID);
+
+        Assert.assertNull(packageCache.getPackageCache().getSymbol(utils.packageID));
+        Assert.assertSame(packageCache.getPackageCache().getSymbol(model.packageID), model.symbol);
+    }
+
+    private static BLangPackage createPackage(LSPackageCache packageCache, String name, BLangPackage... imports) {
+        PackageID packageID = new PackageID(new Name("demo"), new Name(name), new Name("0.0.1"));
+        BLangPackage bLangPackage = (BLangPackage) TreeBuilder.createPackageNode();
+        bLangPackage.symbol = new BPackageSymbol(packageID, null, null, SymbolOrigin.SOURCE);
+        for (BLangPackage importPackage : imports) {
+            bLangPackage.symbol.imports.add(importPackage.symbol);
+        }
+        packageCache.put(packageID, bLangPackage);
+        packageCache.getPackageCache().putSymbol(packageID, bLangPackage.symbol);
+        return bLangPackage;
+    }
+
     private void compileFileAndCheckCache(Path filePath)
             throws IOException, CompilationFailedException, WorkspaceDocumentException {
         // Read test bal file
@@ -16,6 +16,13 @@
 
 package org.ballerinalang.langserver.compiler.workspace;
 
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -24,6 +31,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 
 /**
  * Tests for WorkspaceDocument.
@@ -36,6 +44,7 @@ public class WorkspaceDocumentTest {
     private Path filePath1;
     private Path filePath2;
     private static final String INITIAL_CONTENT = "initial content";
+    private static final String FUNCTION_CONTENT = "function foo() {\n}\n";
 
     @BeforeMethod
     public void setUp() {
@@ -70,6 +79,67 @@ public class WorkspaceDocumentTest {
         document.setContent(INITIAL_CONTENT);
     }
 
+    @Test
+    public void testSequentialChanges() throws WorkspaceDocumentException {
+        WorkspaceDocumentManagerImpl documentManager = new WorkspaceDocumentManagerImpl();
+        documentManager.openFile(filePath1, FUNCTION_CONTENT);
+        // The range of the second change is relative to the content after the first change
+        TextDocumentContentChangeEvent addVar = new TextDocumentContentChangeEvent(
+                new Range(new Position(1, 0), new Position(1, 0)), 0, "int a = 1;\n");
+        TextDocumentContentChangeEvent renameVar = new TextDocumentContentChangeEvent(
+                new Range(new Position(1, 4), new Position(1, 5)), 1, "b");
+        documentManager.updateFile(filePath1, Arrays.asList(addVar, renameVar));
+
+        String expectedContent = "function foo() {\nint b = 1;\n}\n";
+        Assert.assertEquals(documentManager.getFileContent(filePath1), expectedContent);
+        Assert.assertEquals(documentManager.getTree(filePath1).toSourceCode(), expectedContent);
+    }
+
+    @Test
+    public void testFullSyncChange() {
+        TextDocumentChange change = WorkspaceDocument.getTextDocumentChange(FUNCTION_CONTENT,
+                "function fooBar() {\n}\n");
+        Assert.assertEquals(change.getTextEditCount(), 1);
+        TextEdit edit = change.getTextEdit(0);
+        Assert.assertEquals(edit.range().startOffset(), 12);
+        Assert.assertEquals(edit.range().length(), 0);
+        Assert.assertEquals(edit.text(), "Bar");
+
+        // Repeated characters around the change are kept in the common prefix
+        edit = WorkspaceDocument.getTextDocumentChange("aaa", "aaaa").getTextEdit(0);
+        Assert.assertEquals(edit.range().startOffset(), 3);
+        Assert.assertEquals(edit.range().length(), 0);
+        Assert.assertEquals(edit.text(), "a");
+
+        edit = WorkspaceDocument.getTextDocumentChange("int a = 1;", "int b = 2;").getTextEdit(0);
+        Assert.assertEquals(edit.range().startOffset(), 4);
+        Assert.assertEquals(edit.range().length(), 5);
+        Assert.assertEquals(edit.text(), "b = 2");
+
+        WorkspaceDocument functionDocument = new WorkspaceDocument(filePath1, FUNCTION_CONTENT);
+        String newContent = "function fooBar() {\n    int a = 1;\n}\n";
+        functionDocument.setContent(newContent);
+        Assert.assertEquals(functionDocument.getContent(), newContent);
+        Assert.assertEquals(functionDocument.getTree().toSourceCode(), newContent);
+    }
+
+    @Test
+    public void testEditedLength() {
+        TextDocumentChange change = TextDocumentChange.from(new TextEdit[]{
+                TextEdit.from(TextRange.from(9, 3), "fooBar"),
+                TextEdit.from(TextRange.from(15, 2), "")});
+        Assert.assertEquals(WorkspaceDocument.getEditedLength(FUNCTION_CONTENT.length(), change),
+                FUNCTION_CONTENT.length() + 1);
+
+        // The length of the parsed tree always matches the content, with or without assertions
+        WorkspaceDocument functionDocument = new WorkspaceDocument(filePath1, FUNCTION_CONTENT);
+        functionDocument.applyChange(WorkspaceDocument.getTextDocumentChange(FUNCTION_CONTENT,
+                "function foo() {\n    int a = \"}\";\n}\n"));
+        Assert.assertEquals(functionDocument.getTree().rootNode().textRangeWithMinutiae().length(),
+                functionDocument.getContent().length());
+        Assert.assertEquals(functionDocument.getTree().toSourceCode(), functionDocument.getContent());
+    }
+
     @Test
     public void testToString() {
         Assert.assertNotNull(document.toString());
@@ -54,11 +54,13 @@ import org.ballerinalang.langserver.extensions.ballerina.semantichighlighter.Sem
 import org.ballerinalang.langserver.hover.HoverUtil;
 import org.ballerinalang.langserver.signature.SignatureHelpUtil;
 import org.ballerinalang.langserver.symbols.SymbolFindingVisitor;
-import org.ballerinalang.langserver.util.Debouncer;
+import org.ballerinalang.langserver.util.RequestScheduler;
 import org.ballerinalang.langserver.util.TokensUtil;
 import org.ballerinalang.langserver.util.definition.DefinitionUtil;
 import org.ballerinalang.langserver.util.references.ReferencesUtil;
+import org.ballerinalang.langserver.util.references.SymbolReferencesIndex;
 import org.ballerinalang.langserver.util.references.TokenOrSymbolNotFoundException;
+import org.ballerinalang.model.elements.PackageID;
 import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.CodeActionParams;
 import org.eclipse.lsp4j.CodeLens;
@@ -127,7 +129,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
     private LSClientCapabilities clientCapabilities;
     private boolean enableStdlibDefinition = true;
 
-    private final Debouncer diagPushDebouncer;
+    private final RequestScheduler requestScheduler;
 
     BallerinaTextDocumentService(LSGlobalContext globalContext) {
         this.languageServer = globalContext.get(LSGlobalContextKeys.LANGUAGE_SERVER_KEY);
@@ -136,7 +138,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
         LSClientConfigHolder.getInstance().register((oldConfig, newConfig) -> {
             this.enableStdlibDefinition = newConfig.getGoToDefinition().isEnableStdlib();
         });
-        this.diagPushDebouncer = new Debouncer(DIAG_PUSH_DEBOUNCE_DELAY);
+        this.requestScheduler = new RequestScheduler(DIAG_PUSH_DEBOUNCE_DELAY);
     }
 
     /**
@@ -151,7 +153,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
     @Override
     public CompletableFuture<Either<List<CompletionItem>, CompletionList>> completion(CompletionParams position) {
         final List<CompletionItem> completions = new ArrayList<>();
-        return CompletableFuture.supplyAsync(() -> {
+        return requestScheduler.submit(position.getTextDocument().getUri(), cancelChecker -> {
             String fileUri = position.getTextDocument().getUri();
             Optional<Path> completionPath = CommonUtil.getPathFromURI(fileUri);
 
@@ -170,7 +172,10 @@ class BallerinaTextDocumentService implements TextDocumentService {
                     .build();
 
             try {
+                // Requests superseded while waiting for the lock of the file are not compiled
+                cancelChecker.checkCanceled();
                 LSModuleCompiler.getBLangPackage(context, docManager, false, false);
+                cancelChecker.checkCanceled();
                 // Fill the current file imports
                 context.put(DocumentServiceKeys.CURRENT_DOC_IMPORTS_KEY, CommonUtil.getCurrentFileImports(context));
                 CompletionUtil.resolveSymbols(context);
@@ -195,7 +200,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<Hover> hover(TextDocumentPositionParams position) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestScheduler.submit(position.getTextDocument().getUri(), cancelChecker -> {
             String fileUri = position.getTextDocument().getUri();
 
             // Note: If the source is a cached stdlib source or path does not exist, then return early and ignore
@@ -224,7 +229,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<SignatureHelp> signatureHelp(TextDocumentPositionParams position) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestScheduler.submit(position.getTextDocument().getUri(), cancelChecker -> {
             String uri = position.getTextDocument().getUri();
             Optional<Path> sigFilePath = CommonUtil.getPathFromURI(uri);
 
@@ -311,7 +316,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
     @Override
     public CompletableFuture<Either<List<? extends Location>, List<? extends LocationLink>>> definition
             (TextDocumentPositionParams position) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestScheduler.submit(position.getTextDocument().getUri(), cancelChecker -> {
             String fileUri = position.getTextDocument().getUri();
             LSContext context = new DocumentServiceOperationContext
                     .ServiceOperationContextBuilder(LSContextOperation.TXT_DEFINITION)
@@ -334,7 +339,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<List<? extends Location>> references(ReferenceParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestScheduler.submit(params.getTextDocument().getUri(), cancelChecker -> {
             String fileUri = params.getTextDocument().getUri();
 
             // Note: If the source is a cached stdlib source, then return early and ignore
@@ -372,7 +377,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
     @Override
     public CompletableFuture<List<Either<SymbolInformation, DocumentSymbol>>>
     documentSymbol(DocumentSymbolParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestScheduler.submit(params.getTextDocument().getUri(), cancelChecker -> {
             String fileUri = params.getTextDocument().getUri();
             Optional<Path> docSymbolFilePath = CommonUtil.getPathFromURI(fileUri);
 
@@ -413,7 +418,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<List<Either<Command, CodeAction>>> codeAction(CodeActionParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestScheduler.submit(params.getTextDocument().getUri(), cancelChecker -> {
             List<CodeAction> actions = new ArrayList<>();
             TextDocumentIdentifier identifier = params.getTextDocument();
             String fileUri = identifier.getUri();
@@ -461,7 +466,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<List<? extends CodeLens>> codeLens(CodeLensParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestScheduler.submit(params.getTextDocument().getUri(), cancelChecker -> {
             List<CodeLens> lenses;
             if (!LSCodeLensesProviderHolder.getInstance().isEnabled()) {
                 // Disabled ballerina codeLens feature
@@ -512,7 +517,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<List<? extends TextEdit>> formatting(DocumentFormattingParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestScheduler.submit(params.getTextDocument().getUri(), cancelChecker -> {
             TextEdit textEdit = new TextEdit();
             String fileUri = params.getTextDocument().getUri();
             Optional<Path> formattingFilePath = CommonUtil.getPathFromURI(fileUri);
@@ -552,7 +557,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
      */
     @Override
     public CompletableFuture<List<? extends TextEdit>> rangeFormatting(DocumentRangeFormattingParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestScheduler.submit(params.getTextDocument().getUri(), cancelChecker -> {
             TextEdit textEdit = new TextEdit();
             String fileUri = params.getTextDocument().getUri();
             Optional<Path> formattingFilePath = CommonUtil.getPathFromURI(fileUri);
@@ -591,7 +596,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
 
     @Override
     public CompletableFuture<WorkspaceEdit> rename(RenameParams params) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestScheduler.submit(params.getTextDocument().getUri(), cancelChecker -> {
             String fileUri = params.getTextDocument().getUri();
 
             // Note: If the source is a cached stdlib source, then return early and ignore
@@ -622,7 +627,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
     @Override
     public CompletableFuture<Either<List<? extends Location>, List<? extends LocationLink>>> implementation
             (TextDocumentPositionParams position) {
-        return CompletableFuture.supplyAsync(() -> {
+        return requestScheduler.submit(position.getTextDocument().getUri(), cancelChecker -> {
             String fileUri = position.getTextDocument().getUri();
 
             // Note: If the source is a cached stdlib source, then return early and ignore
@@ -673,6 +678,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
             Optional<Lock> lock = docManager.lockFile(compilationPath);
             try {
                 docManager.openFile(Paths.get(new URL(docUri).toURI()), content);
+                SymbolReferencesIndex.update(compilationPath, docManager.getTree(compilationPath));
                 LSClientLogger.logTrace("Operation '" + LSContextOperation.TXT_DID_OPEN.getName() + "' {fileUri: '" +
                         compilationPath + "'} updated}");
                 ExtendedLanguageClient client = this.languageServer.getClient();
@@ -738,13 +744,14 @@ class BallerinaTextDocumentService implements TextDocumentService {
         try {
             // Update content
             docManager.updateFile(compilationPath, params.getContentChanges());
+            SymbolReferencesIndex.update(compilationPath, docManager.getTree(compilationPath));
             LSClientLogger.logTrace("Operation '" + LSContextOperation.TXT_DID_CHANGE.getName() + "' {fileUri: '" +
                     compilationPath + "'} updated}");
 
             // Schedule diagnostics
             ExtendedLanguageClient client = this.languageServer.getClient();
-            this.diagPushDebouncer.call(compilationPath, () -> {
-                // Need to lock since debouncer triggers later
+            this.requestScheduler.schedule(compilationPath, () -> {
+                // Need to lock since scheduler triggers later
                 Optional<Lock> nLock = docManager.lockFile(compilationPath);
                 try {
                     LSContext context = new DocumentServiceOperationContext
@@ -761,7 +768,13 @@ class BallerinaTextDocumentService implements TextDocumentService {
                     }
                     // Clear current cache upon successful compilation
                     // If the compiler fails, still we'll have the cached entry(marked as outdated)
-                    LSCompilerCache.clear(context, lsDocument.getProjectRoot());
+                    PackageID changedModule = context.get(DocumentServiceKeys.CURRENT_PACKAGE_ID_KEY);
+                    if (changedModule != null) {
+                        // Entries of the modules which do not depend on the changed module are still valid
+                        LSCompilerCache.clear(context, lsDocument.getProjectRoot(), changedModule);
+                    } else {
+                        LSCompilerCache.clear(context, lsDocument.getProjectRoot());
+                    }
                     CommonUtil.updateStdLibCache(context);
                 } catch (CompilationFailedException e) {
                     String msg = "Computing 'diagnostics' failed!";
@@ -798,6 +811,9 @@ class BallerinaTextDocumentService implements TextDocumentService {
         try {
             Path compilationPath = getUntitledFilePath(closedPath.toString()).orElse(closedPath.get());
             this.docManager.closeFile(compilationPath);
+            // The file may not have been saved, hence it is indexed and compiled again from the file system
+            SymbolReferencesIndex.remove(compilationPath);
+            LSModuleCompiler.invalidateModule(new LSDocumentIdentifierImpl(compilationPath.toUri().toString()));
         } catch (Throwable e) {
             String msg = "Operation 'text/didClose' failed!";
             logError(msg, e, params.getTextDocument(), (Position) null);
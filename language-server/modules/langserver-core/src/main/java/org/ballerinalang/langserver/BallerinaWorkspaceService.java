@@ -18,6 +18,7 @@ package org.ballerinalang.langserver;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import org.ballerinalang.langserver.command.LSCommandExecutorProvidersHolder;
+import org.ballerinalang.langserver.common.utils.CommonUtil;
 import org.ballerinalang.langserver.commons.LSContext;
 import org.ballerinalang.langserver.commons.capability.LSClientCapabilities;
 import org.ballerinalang.langserver.commons.command.LSCommandExecutorException;
@@ -26,10 +27,12 @@ import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentManager;
 import org.ballerinalang.langserver.compiler.DocumentServiceKeys;
 import org.ballerinalang.langserver.compiler.LSCompilerUtil;
 import org.ballerinalang.langserver.compiler.LSModuleCompiler;
+import org.ballerinalang.langserver.compiler.common.LSDocumentIdentifierImpl;
 import org.ballerinalang.langserver.compiler.config.LSClientConfig;
 import org.ballerinalang.langserver.compiler.config.LSClientConfigHolder;
 import org.ballerinalang.langserver.exception.UserErrorException;
 import org.ballerinalang.langserver.symbols.SymbolFindingVisitor;
+import org.ballerinalang.langserver.util.references.SymbolReferencesIndex;
 import org.eclipse.lsp4j.DidChangeConfigurationParams;
 import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
 import org.eclipse.lsp4j.DocumentSymbol;
@@ -41,9 +44,12 @@ import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.services.WorkspaceService;
 import org.wso2.ballerinalang.compiler.tree.BLangCompilationUnit;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
 
 import java.io.File;
+import java.net.URI;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -98,7 +104,14 @@ public class BallerinaWorkspaceService implements WorkspaceService {
                     }));
                 }
 
+                String query = params.getQuery();
+                // Generated names start with $, hence they cannot be found in the sources
+                boolean skipByName = query != null && !query.isEmpty() && !query.startsWith("$");
                 compUnits.values().forEach(compilationUnit -> {
+                    if (skipByName && !SymbolReferencesIndex.mayContainNamePrefix(
+                            Paths.get((URI) compilationUnit[0]), query, workspaceDocumentManager)) {
+                        return;
+                    }
                     symbolsContext.put(DocumentServiceKeys.SYMBOL_LIST_KEY, symbols);
                     symbolsContext.put(DocumentServiceKeys.FILE_URI_KEY, compilationUnit[0].toString());
                     symbolsContext.put(DocumentServiceKeys.SYMBOL_QUERY, params.getQuery());
@@ -139,7 +152,13 @@ public class BallerinaWorkspaceService implements WorkspaceService {
 
     @Override
     public void didChangeWatchedFiles(DidChangeWatchedFilesParams params) {
-        // Operation not supported
+        // Files changed outside the editor are indexed and compiled again, when they are next looked up
+        params.getChanges().forEach(fileEvent -> CommonUtil.getPathFromURI(fileEvent.getUri()).ifPresent(path -> {
+            SymbolReferencesIndex.remove(path);
+            if (path.toString().endsWith(ProjectDirConstants.BLANG_SOURCE_EXT)) {
+                LSModuleCompiler.invalidateModule(new LSDocumentIdentifierImpl(fileEvent.getUri()));
+            }
+        }));
     }
 
     @Override
@@ -20,6 +20,7 @@ import io.ballerina.compiler.api.impl.SymbolFactory;
 import io.ballerina.compiler.api.symbols.AnnotationSymbol;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.runtime.util.Flags;
+import org.ballerinalang.langserver.common.utils.CommonUtil;
 import org.ballerinalang.langserver.commons.LSContext;
 import org.ballerinalang.langserver.compiler.DocumentServiceKeys;
 import org.ballerinalang.langserver.compiler.LSContextManager;
@@ -38,6 +39,10 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.util.AttachPoints;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -50,6 +55,10 @@ import java.util.stream.Collectors;
  * Annotation cache for Language server.
  * <p>
  * Note: Annotation cache should be synced with the LS Package Cache
+ * <p>
+ * The SDK modules which declare public annotations are recorded in an index persisted per distribution, when the
+ * annotations are first loaded. When the index is present, only those modules are loaded at the language server
+ * start, instead of all the SDK modules.
  *
  * @since 0.970.0
  */
@@ -90,9 +99,21 @@ public class LSAnnotationCache {
         if (lsAnnotationCache == null) {
             lsAnnotationCache = new LSAnnotationCache();
             CompilerContext context = LSContextManager.getInstance().getBuiltInPackagesCompilerContext();
+            Optional<List<PackageID>> index = readIndex(CommonUtil.LS_ANNOTATION_INDEX);
+            if (index.isPresent()) {
+                new Thread(() -> loadIndexedPackages(context, index.get())).start();
+                return;
+            }
             new Thread(() -> {
                 Map<String, BPackageSymbol> packages = loadPackagesMap(context);
                 loadAnnotations(new ArrayList<>(packages.values()));
+                // The index is written only if all the sdk modules are loaded, since it replaces loading them
+                if (packages.size() == LSPackageLoader.getSdkPackages().size()) {
+                    writeIndex(CommonUtil.LS_ANNOTATION_INDEX, packages.values().stream()
+                            .filter(LSAnnotationCache::hasPublicAnnotations)
+                            .map(bPackageSymbol -> bPackageSymbol.pkgID)
+                            .collect(Collectors.toList()));
+                }
             }).start();
         }
     }
@@ -302,7 +323,7 @@ public class LSAnnotationCache {
                 .collect(Collectors.toList());
     }
 
-    private boolean isPackageProcessed(PackageID packageID) {
+    private static boolean isPackageProcessed(PackageID packageID) {
         return processedPackages
                 .stream()
                 .anyMatch(processedPkgId -> processedPkgId.toString().equals(packageID.toString()));
@@ -331,6 +352,71 @@ public class LSAnnotationCache {
         return staticPackages;
     }
 
+    private static void loadIndexedPackages(CompilerContext context, List<PackageID> indexedPackages) {
+        for (PackageID packageID : indexedPackages) {
+            try {
+                // We will wrap this with a try catch to prevent LS crashing due to compiler errors.
+                LSPackageLoader.getPackageSymbolById(context, packageID)
+                        .ifPresent(LSAnnotationCache::loadAnnotationsFromPackage);
+            } catch (Exception e) {
+                logger.warn("Error while loading package :" + packageID.getName().getValue());
+            }
+        }
+    }
+
+    private static boolean hasPublicAnnotations(BPackageSymbol bPackageSymbol) {
+        return extractAnnotationDefinitions(bPackageSymbol.scope.entries).stream()
+                .anyMatch(scopeEntry -> (scopeEntry.symbol.flags & Flags.PUBLIC) == Flags.PUBLIC);
+    }
+
+    /**
+     * Read the modules which declare public annotations, from the index.
+     *
+     * @param indexPath path of the index
+     * @return {@link Optional} modules in the index, or empty if the index is not present or cannot be read
+     */
+    static Optional<List<PackageID>> readIndex(Path indexPath) {
+        if (!Files.isRegularFile(indexPath)) {
+            return Optional.empty();
+        }
+        List<PackageID> packages = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(indexPath)) {
+                String[] parts = line.split(" ");
+                if (parts.length != 3) {
+                    return Optional.empty();
+                }
+                packages.add(new PackageID(new Name(parts[0]), new Name(parts[1]), new Name(parts[2])));
+            }
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        return Optional.of(packages);
+    }
+
+    /**
+     * Write the modules which declare public annotations, to the index.
+     *
+     * @param indexPath path of the index
+     * @param packages  modules which declare public annotations
+     */
+    static void writeIndex(Path indexPath, List<PackageID> packages) {
+        List<String> lines = packages.stream()
+                .map(pkgID -> pkgID.getOrgName().getValue() + " " + pkgID.getName().getValue() + " "
+                        + pkgID.getPackageVersion().getValue())
+                .collect(Collectors.toList());
+        try {
+            Files.createDirectories(indexPath.toAbsolutePath().getParent());
+            // Write to a temporary file first, so that a partially written index is never read
+            Path tempPath = Files.createTempFile(indexPath.toAbsolutePath().getParent(),
+                    indexPath.getFileName().toString(), ".tmp");
+            Files.write(tempPath, lines);
+            Files.move(tempPath, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Error while writing the annotation index: " + e.getMessage());
+        }
+    }
+
     private static void loadAnnotations(List<BPackageSymbol> packageList) {
         packageList.forEach(LSAnnotationCache::loadAnnotationsFromPackage);
     }
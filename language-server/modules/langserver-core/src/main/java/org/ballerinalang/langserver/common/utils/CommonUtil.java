@@ -84,10 +84,14 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.diagnotic.DiagnosticPos;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -105,6 +109,8 @@ import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
 
 import static io.ballerina.compiler.api.symbols.SymbolKind.MODULE;
 
@@ -142,15 +148,53 @@ public class CommonUtil {
 
     public static final Path LS_CONNECTOR_CACHE_DIR = TEMP_DIR.resolve("ls_connector_cache").resolve(SDK_VERSION);
 
+    public static final Path LS_ANNOTATION_INDEX;
+
     static {
         BALLERINA_HOME = System.getProperty("ballerina.home");
         BALLERINA_CMD = BALLERINA_HOME + File.separator + "bin" + File.separator + "ballerina" +
                 (SystemUtils.IS_OS_WINDOWS ? ".bat" : "");
+        LS_ANNOTATION_INDEX = TEMP_DIR.resolve("ls_annotation_index")
+                .resolve(SDK_VERSION + "-" + getDistributionStamp(BALLERINA_HOME));
     }
 
     private CommonUtil() {
     }
 
+    /**
+     * Get a stamp of the modules in the distribution, which changes when the distribution is moved or when a module
+     * in it is added, removed or modified.
+     *
+     * @param ballerinaHome distribution path
+     * @return stamp of the distribution modules
+     */
+    public static String getDistributionStamp(String ballerinaHome) {
+        CRC32 checksum = new CRC32();
+        if (ballerinaHome == null) {
+            return Long.toHexString(checksum.getValue());
+        }
+        Path homePath = Paths.get(ballerinaHome).toAbsolutePath().normalize();
+        checksum.update(homePath.toString().getBytes(StandardCharsets.UTF_8));
+        for (Path repoPath : Arrays.asList(homePath.resolve("lib").resolve("repo"),
+                homePath.resolve("cache").resolve("balo"))) {
+            if (!Files.isDirectory(repoPath)) {
+                continue;
+            }
+            // <org>/<module>/<version>/<module files>
+            try (Stream<Path> paths = Files.walk(repoPath, 4)) {
+                for (Path path : paths.sorted().collect(Collectors.toList())) {
+                    checksum.update(repoPath.relativize(path).toString().getBytes(StandardCharsets.UTF_8));
+                    checksum.update(Long.toString(Files.getLastModifiedTime(path).toMillis())
+                            .getBytes(StandardCharsets.UTF_8));
+                }
+            } catch (IOException | UncheckedIOException e) {
+                // The index is not reused across distributions which cannot be read
+                checksum.update(Long.toString(System.nanoTime()).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return Long.toHexString(checksum.getValue());
+    }
+
     /**
      * Convert the diagnostic position to a zero based positioning diagnostic position.
      *
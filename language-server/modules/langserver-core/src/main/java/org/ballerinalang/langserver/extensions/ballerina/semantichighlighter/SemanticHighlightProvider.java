@@ -55,7 +55,8 @@ public class SemanticHighlightProvider {
     public static SemanticHighlightingParams getHighlights(LSContext context, WorkspaceDocumentManager docManager)
             throws CompilationFailedException, HighlightingFailedException {
 
-        LSModuleCompiler.getBLangPackages(context, docManager, true, true, true);
+        // Highlights are sent after the diagnostics, which already compiled the changed module and its dependents
+        LSModuleCompiler.getBLangPackages(context, docManager, true, false, true);
 
         List<SemanticHighlightProvider.HighlightInfo> highlights = new ArrayList<>();
         context.put(SemanticHighlightingKeys.SEMANTIC_HIGHLIGHTING_KEY, highlights);
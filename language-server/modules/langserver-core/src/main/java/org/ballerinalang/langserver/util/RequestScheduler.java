@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.util;
+
+import org.ballerinalang.langserver.common.utils.CommonUtil;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Schedules the work of the language server, so that interactive requests such as completion are not delayed by
+ * background work such as computing diagnostics.
+ * <p>
+ * Interactive requests run on their own pool. A request cancelled by the client through {@code $/cancelRequest} is
+ * not started, and a running request is interrupted, which stops its compilation at the next compiler phase.
+ * <p>
+ * Background tasks run on a separate single thread pool, and are debounced per file. A background task is cancelled
+ * when it is superseded by a new task of the file, and is interrupted and run again later when an interactive request
+ * arrives for the file, since both need the lock of the file.
+ *
+ * @since 2.0.0
+ */
+public class RequestScheduler {
+    private final ExecutorService interactiveExecutor;
+    private final ScheduledExecutorService backgroundExecutor;
+    private final Map<Path, BackgroundTask> backgroundTasks = new ConcurrentHashMap<>();
+    private final int delay;
+
+    public RequestScheduler(int delay) {
+        this.delay = delay;
+        int interactiveThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        this.interactiveExecutor = Executors.newFixedThreadPool(interactiveThreads,
+                threadFactory("ls-interactive-", Thread.NORM_PRIORITY));
+        this.backgroundExecutor = Executors.newScheduledThreadPool(1,
+                threadFactory("ls-background-", Thread.MIN_PRIORITY));
+    }
+
+    /**
+     * Runs an interactive request on a file.
+     *
+     * @param fileUri uri of the file
+     * @param request request, which may check whether it is cancelled with the given {@link CancelChecker}
+     * @param <R>     type of the result
+     * @return future of the result, which interrupts the request when cancelled
+     */
+    public <R> CompletableFuture<R> submit(String fileUri, Function<CancelChecker, R> request) {
+        CommonUtil.getPathFromURI(fileUri).ifPresent(this::yieldBackgroundTask);
+        Interruption interruption = new Interruption();
+        CompletableFuture<R> result = CompletableFutures.computeAsync(interactiveExecutor, cancelChecker -> {
+            interruption.start();
+            try {
+                return request.apply(cancelChecker);
+            } finally {
+                interruption.finish();
+            }
+        });
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                interruption.interrupt();
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Schedules a background task of a file after the delay, cancelling the previous task of the file.
+     *
+     * @param path path of the file
+     * @param task background task
+     */
+    public void schedule(Path path, Runnable task) {
+        BackgroundTask backgroundTask = new BackgroundTask(path, task);
+        BackgroundTask previous = backgroundTasks.put(path, backgroundTask);
+        if (previous != null) {
+            previous.cancel();
+        }
+        backgroundTask.future = backgroundExecutor.schedule(backgroundTask, delay, TimeUnit.MILLISECONDS);
+    }
+
+    public void terminate() {
+        interactiveExecutor.shutdownNow();
+        backgroundExecutor.shutdownNow();
+    }
+
+    private void yieldBackgroundTask(Path path) {
+        BackgroundTask backgroundTask = backgroundTasks.get(path);
+        if (backgroundTask != null && backgroundTask.interruption.isRunning()) {
+            // Stop the running task and run it again, once the interactive requests on the file are done
+            schedule(path, backgroundTask.task);
+        }
+    }
+
+    private static ThreadFactory threadFactory(String namePrefix, int priority) {
+        AtomicInteger count = new AtomicInteger(0);
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(priority);
+            return thread;
+        };
+    }
+
+    /**
+     * A background task of a file.
+     */
+    private class BackgroundTask implements Runnable {
+        private final Path path;
+        private final Runnable task;
+        private final Interruption interruption = new Interruption();
+        private volatile Future<?> future;
+
+        BackgroundTask(Path path, Runnable task) {
+            this.path = path;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            try {
+                interruption.start();
+                try {
+                    task.run();
+                } finally {
+                    interruption.finish();
+                }
+            } catch (CancellationException e) {
+                // Superseded before it is started
+            } finally {
+                backgroundTasks.remove(path, this);
+            }
+        }
+
+        void cancel() {
+            if (future != null) {
+                future.cancel(false);
+            }
+            interruption.interrupt();
+        }
+    }
+
+    /**
+     * Interrupts the thread running a task, only while the task is running.
+     */
+    private static class Interruption {
+        private Thread thread;
+        private boolean interrupted;
+
+        synchronized void start() {
+            if (interrupted) {
+                throw new CancellationException();
+            }
+            thread = Thread.currentThread();
+        }
+
+        synchronized void finish() {
+            thread = null;
+            // Clear the interrupt, which must not affect the next task run by the thread
+            Thread.interrupted();
+        }
+
+        synchronized void interrupt() {
+            interrupted = true;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+
+        synchronized boolean isRunning() {
+            return thread != null;
+        }
+    }
+}
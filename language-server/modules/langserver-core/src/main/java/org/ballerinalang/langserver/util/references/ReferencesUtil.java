@@ -175,6 +175,11 @@ public class ReferencesUtil {
 
         // Ignore the optional check since it has been handled during prepareReference and throws exception
         String symbolOwnerPkg = symbolAtCursor.getSymbol().pkgID.toString();
+        String sourceRoot = context.get(DocumentServiceKeys.SOURCE_ROOT_KEY);
+        WorkspaceDocumentManager docManager = context.get(DocumentServiceKeys.DOC_MANAGER_KEY);
+        // References to object initializers are written with the new keyword, hence they cannot be found by name
+        boolean skipByName = sourceRoot != null && docManager != null
+                && !CommonKeys.NEW_KEYWORD_KEY.equals(tokenAtCursor.text());
 
         modules.forEach(bLangPackage -> {
             List<String> imports = bLangPackage.getImports().stream()
@@ -185,6 +190,11 @@ public class ReferencesUtil {
             }
 
             for (BLangCompilationUnit compilationUnit : bLangPackage.getCompilationUnits()) {
+                if (skipByName && !SymbolReferencesIndex.mayContainName(
+                        getCompilationUnitPath(sourceRoot, bLangPackage.packageID.name.value, compilationUnit.name),
+                        tokenAtCursor.text(), docManager)) {
+                    continue;
+                }
                 // Possible Reference tokens found within the cUnit
                 String symbolPkgName = bLangPackage.symbol.getName().value;
                 SymbolReferenceFindingVisitor refVisitor = new SymbolReferenceFindingVisitor(context,
@@ -251,16 +261,28 @@ public class ReferencesUtil {
         return references.stream()
                 .map(reference -> {
                     DiagnosticPos position = reference.getPosition();
-                    Path baseRoot = reference.getSourcePkgName().equals(".")
-                            ? Paths.get(sourceRoot)
-                            : Paths.get(sourceRoot).resolve(ProjectDirConstants.SOURCE_DIR_NAME)
-                            .resolve(reference.getSourcePkgName());
-                    String fileURI = baseRoot.resolve(reference.getCompilationUnit()).toUri().toString();
+                    String fileURI = getCompilationUnitPath(sourceRoot, reference.getSourcePkgName(),
+                            reference.getCompilationUnit()).toUri().toString();
                     return new Location(fileURI, getRange(position));
                 })
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get the path of the source file of a compilation unit.
+     *
+     * @param sourceRoot source root of the project
+     * @param pkgName    name of the package of the compilation unit
+     * @param cUnitName  name of the compilation unit
+     * @return {@link Path} of the source file
+     */
+    public static Path getCompilationUnitPath(String sourceRoot, String pkgName, String cUnitName) {
+        Path baseRoot = pkgName.equals(".")
+                ? Paths.get(sourceRoot)
+                : Paths.get(sourceRoot).resolve(ProjectDirConstants.SOURCE_DIR_NAME).resolve(pkgName);
+        return baseRoot.resolve(cUnitName);
+    }
+
     private static WorkspaceEdit getWorkspaceEdit(SymbolReferencesModel referencesModel, LSContext context,
                                                   String newName) {
         WorkspaceEdit workspaceEdit = new WorkspaceEdit();
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver.util.references;
+
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentManager;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the names occurring in each source file, used to skip the compilation units which cannot contain a
+ * reference to a given symbol, without visiting them.
+ * <p>
+ * The names of a file are read from its syntax tree, when the file is first looked up. The entry of a file is
+ * replaced on didOpen and didChange, and removed on didClose and when the file is changed in the file system, hence
+ * only the edited files are indexed again.
+ *
+ * @since 2.0.0
+ */
+public class SymbolReferencesIndex {
+    private static final Map<Path, Set<String>> NAMES = new ConcurrentHashMap<>();
+
+    private SymbolReferencesIndex() {
+    }
+
+    /**
+     * Index the names of a file again, from its updated syntax tree.
+     *
+     * @param filePath   path of the file
+     * @param syntaxTree syntax tree of the file
+     */
+    public static void update(Path filePath, SyntaxTree syntaxTree) {
+        if (syntaxTree == null) {
+            NAMES.remove(getKey(filePath));
+            return;
+        }
+        NAMES.put(getKey(filePath), collectNames(syntaxTree));
+    }
+
+    /**
+     * Remove the names of a file, to be read again when the file is next looked up.
+     *
+     * @param filePath path of the file
+     */
+    public static void remove(Path filePath) {
+        NAMES.remove(getKey(filePath));
+    }
+
+    /**
+     * Returns whether the file may contain a reference to a symbol of the given name. A file not containing the name
+     * cannot contain a reference to the symbol.
+     *
+     * @param filePath   path of the file
+     * @param name       name of the symbol
+     * @param docManager document manager
+     * @return false if the file does not contain the name
+     */
+    public static boolean mayContainName(Path filePath, String name, WorkspaceDocumentManager docManager) {
+        if (name.indexOf('\\') >= 0) {
+            // Escaped names can be written in more than one way
+            return true;
+        }
+        Optional<Set<String>> names = getNames(filePath, docManager);
+        return !names.isPresent() || names.get().contains(normalize(name));
+    }
+
+    /**
+     * Returns whether the file may define a symbol whose name starts with the given prefix.
+     *
+     * @param filePath   path of the file
+     * @param prefix     prefix of the symbol name
+     * @param docManager document manager
+     * @return false if no name in the file starts with the prefix
+     */
+    public static boolean mayContainNamePrefix(Path filePath, String prefix, WorkspaceDocumentManager docManager) {
+        Optional<Set<String>> names = getNames(filePath, docManager);
+        return !names.isPresent() || names.get().stream().anyMatch(name -> name.startsWith(prefix));
+    }
+
+    private static Optional<Set<String>> getNames(Path filePath, WorkspaceDocumentManager docManager) {
+        Path key = getKey(filePath);
+        Set<String> names = NAMES.get(key);
+        if (names != null) {
+            return Optional.of(names);
+        }
+
+        SyntaxTree syntaxTree;
+        try {
+            syntaxTree = docManager.getTree(filePath);
+        } catch (WorkspaceDocumentException e) {
+            // The file is not known, hence it is visited as usual
+            return Optional.empty();
+        }
+        if (syntaxTree == null) {
+            return Optional.empty();
+        }
+        names = collectNames(syntaxTree);
+        NAMES.putIfAbsent(key, names);
+        return Optional.of(names);
+    }
+
+    private static Set<String> collectNames(SyntaxTree syntaxTree) {
+        Set<String> names = new HashSet<>();
+        syntaxTree.rootNode().accept(new NodeVisitor() {
+            @Override
+            public void visit(Token token) {
+                // Keywords are also added, since some of them, such as error, are names of symbols as well
+                if (!token.isMissing()) {
+                    names.add(normalize(token.text()));
+                }
+            }
+        });
+        return Collections.unmodifiableSet(names);
+    }
+
+    private static String normalize(String name) {
+        // Names of quoted identifiers are compared without the quote, as in the compiler
+        return name.startsWith("'") ? name.substring(1) : name;
+    }
+
+    private static Path getKey(Path filePath) {
+        return filePath.toAbsolutePath().normalize();
+    }
+}
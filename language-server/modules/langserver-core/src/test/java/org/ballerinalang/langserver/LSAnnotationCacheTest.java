@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver;
+
+import org.ballerinalang.langserver.common.utils.CommonUtil;
+import org.ballerinalang.model.elements.PackageID;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Tests the persisted index of the modules which declare annotations.
+ */
+public class LSAnnotationCacheTest {
+    private Path indexDir;
+
+    @BeforeMethod
+    public void init() throws IOException {
+        indexDir = Files.createTempDirectory("ls_annotation_index_test");
+    }
+
+    @AfterMethod
+    public void cleanUp() throws IOException {
+        try (Stream<Path> paths = Files.walk(indexDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test(description = "Test reading the modules written to the index")
+    public void testReadIndex() {
+        Path indexPath = indexDir.resolve("2.0.0");
+        List<PackageID> packages = List.of(
+                new PackageID(new Name("ballerina"), new Name("http"), new Name("1.0.0")),
+                new PackageID(new Name("ballerina"), new Name("lang.annotations"), new Name("0.0.0")));
+        LSAnnotationCache.writeIndex(indexPath, packages);
+
+        Optional<List<PackageID>> index = LSAnnotationCache.readIndex(indexPath);
+        Assert.assertTrue(index.isPresent());
+        Assert.assertEquals(index.get().stream().map(PackageID::toString).collect(Collectors.toList()),
+                packages.stream().map(PackageID::toString).collect(Collectors.toList()));
+    }
+
+    @Test(description = "Test reading an index which is not present or cannot be read")
+    public void testReadInvalidIndex() throws IOException {
+        Path indexPath = indexDir.resolve("2.0.0");
+        Assert.assertFalse(LSAnnotationCache.readIndex(indexPath).isPresent());
+
+        Files.write(indexPath, List.of("ballerina http"));
+        Assert.assertFalse(LSAnnotationCache.readIndex(indexPath).isPresent());
+    }
+
+    @Test(description = "Test the index key changing with the distribution path and the distribution modules")
+    public void testDistributionStamp() throws IOException {
+        Path home = indexDir.resolve("home");
+        Path module = home.resolve("lib").resolve("repo").resolve("ballerina").resolve("http").resolve("1.0.0");
+        Path bir = module.resolve("http.bir");
+        Files.createDirectories(module);
+        Files.write(bir, List.of("bir"));
+        String stamp = CommonUtil.getDistributionStamp(home.toString());
+        Assert.assertEquals(CommonUtil.getDistributionStamp(home.toString()), stamp);
+
+        Files.setLastModifiedTime(bir, FileTime.fromMillis(Files.getLastModifiedTime(bir).toMillis() - 1000));
+        String modifiedStamp = CommonUtil.getDistributionStamp(home.toString());
+        Assert.assertNotEquals(modifiedStamp, stamp);
+
+        Files.createDirectories(home.resolve("lib").resolve("repo").resolve("ballerina").resolve("io"));
+        String addedStamp = CommonUtil.getDistributionStamp(home.toString());
+        Assert.assertNotEquals(addedStamp, modifiedStamp);
+
+        Path movedHome = indexDir.resolve("moved");
+        Files.move(home, movedHome);
+        Assert.assertNotEquals(CommonUtil.getDistributionStamp(movedHome.toString()), addedStamp);
+    }
+}
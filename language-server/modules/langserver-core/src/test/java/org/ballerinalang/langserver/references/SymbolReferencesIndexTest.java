@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langserver.references;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.text.TextDocuments;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentManager;
+import org.ballerinalang.langserver.compiler.workspace.WorkspaceDocumentManagerImpl;
+import org.ballerinalang.langserver.util.references.SymbolReferencesIndex;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Test suit for the index of the names in source files, used in finding references.
+ */
+public class SymbolReferencesIndexTest {
+    private final Path filePath = Paths.get("non-existent-module", "index_test.bal");
+    private final WorkspaceDocumentManager docManager = WorkspaceDocumentManagerImpl.getInstance();
+
+    @AfterMethod
+    public void removeFile() {
+        SymbolReferencesIndex.remove(filePath);
+    }
+
+    @Test(description = "Test finding names in a file")
+    public void testNames() {
+        SymbolReferencesIndex.update(filePath, syntaxTree("function getTotal(int 'count) returns int {\n" +
+                "    return calculate(count);\n" +
+                "}\n"));
+
+        Assert.assertTrue(SymbolReferencesIndex.mayContainName(filePath, "calculate", docManager));
+        Assert.assertTrue(SymbolReferencesIndex.mayContainName(filePath, "count", docManager));
+        Assert.assertTrue(SymbolReferencesIndex.mayContainName(filePath, "'count", docManager));
+        Assert.assertFalse(SymbolReferencesIndex.mayContainName(filePath, "getSum", docManager));
+        Assert.assertTrue(SymbolReferencesIndex.mayContainNamePrefix(filePath, "get", docManager));
+        Assert.assertFalse(SymbolReferencesIndex.mayContainNamePrefix(filePath, "set", docManager));
+    }
+
+    @Test(description = "Test updating the names of a changed file")
+    public void testUpdate() {
+        SymbolReferencesIndex.update(filePath, syntaxTree("int total = 0;\n"));
+        Assert.assertFalse(SymbolReferencesIndex.mayContainName(filePath, "sum", docManager));
+
+        SymbolReferencesIndex.update(filePath, syntaxTree("int sum = 0;\n"));
+        Assert.assertTrue(SymbolReferencesIndex.mayContainName(filePath, "sum", docManager));
+        Assert.assertFalse(SymbolReferencesIndex.mayContainName(filePath, "total", docManager));
+    }
+
+    @Test(description = "Test looking up names of a file which cannot be read")
+    public void testUnknownFile() {
+        Assert.assertTrue(SymbolReferencesIndex.mayContainName(filePath, "sum", docManager));
+        Assert.assertTrue(SymbolReferencesIndex.mayContainNamePrefix(filePath, "sum", docManager));
+    }
+
+    private static SyntaxTree syntaxTree(String content) {
+        return SyntaxTree.from(TextDocuments.from(content));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.util;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the scheduling and cancellation of the requests of the language server.
+ */
+public class RequestSchedulerTest {
+    private static final long TIMEOUT = 10;
+    private final Path filePath = Paths.get("scheduler_test.bal").toAbsolutePath();
+    private RequestScheduler scheduler;
+
+    @BeforeMethod
+    public void init() {
+        scheduler = new RequestScheduler(10);
+    }
+
+    @AfterMethod
+    public void terminate() {
+        scheduler.terminate();
+    }
+
+    @Test(description = "Test interrupting a running request, when it is cancelled")
+    public void testCancelRequest() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<Object> result = scheduler.submit(filePath.toUri().toString(), cancelChecker -> {
+            started.countDown();
+            waitUntilInterrupted(interrupted);
+            return null;
+        });
+
+        Assert.assertTrue(started.await(TIMEOUT, TimeUnit.SECONDS));
+        result.cancel(true);
+        Assert.assertTrue(interrupted.await(TIMEOUT, TimeUnit.SECONDS));
+    }
+
+    @Test(description = "Test cancelling a background task, when it is superseded")
+    public void testSupersedeBackgroundTask() throws InterruptedException {
+        List<String> runs = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        scheduler.schedule(filePath, () -> runs.add("first"));
+        scheduler.schedule(filePath, () -> {
+            runs.add("second");
+            done.countDown();
+        });
+
+        Assert.assertTrue(done.await(TIMEOUT, TimeUnit.SECONDS));
+        Assert.assertEquals(runs, List.of("second"));
+    }
+
+    @Test(description = "Test running a background task again, after it yields to a request on the file")
+    public void testYieldBackgroundTask() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CountDownLatch runs = new CountDownLatch(2);
+        scheduler.schedule(filePath, () -> {
+            runs.countDown();
+            if (started.getCount() > 0) {
+                started.countDown();
+                waitUntilInterrupted(interrupted);
+            }
+        });
+
+        Assert.assertTrue(started.await(TIMEOUT, TimeUnit.SECONDS));
+        scheduler.submit(filePath.toUri().toString(), cancelChecker -> null);
+        Assert.assertTrue(interrupted.await(TIMEOUT, TimeUnit.SECONDS));
+        Assert.assertTrue(runs.await(TIMEOUT, TimeUnit.SECONDS));
+    }
+
+    private static void waitUntilInterrupted(CountDownLatch interrupted) {
+        try {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(TIMEOUT * 2));
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+        }
+    }
+}
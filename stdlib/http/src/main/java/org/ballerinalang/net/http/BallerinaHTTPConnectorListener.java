@@ -20,7 +20,6 @@ package org.ballerinalang.net.http;
 import io.ballerina.runtime.api.BRuntime;
 import io.ballerina.runtime.api.connector.CallableUnitCallback;
 import io.ballerina.runtime.api.values.BMap;
-import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.observability.ObservabilityConstants;
 import io.ballerina.runtime.observability.ObserveUtils;
 import io.ballerina.runtime.observability.ObserverContext;
@@ -113,10 +112,9 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
             properties.put(ObservabilityConstants.KEY_OBSERVER_CONTEXT, observerContext);
         }
         CallableUnitCallback callback = new HttpCallableUnitCallback(inboundMessage);
-        BObject service = httpResource.getParentService().getBalService();
         BRuntime runtime = httpServicesRegistry.getRuntime();
-        runtime.invokeMethodAsync(service, httpResource.getName(), null, ON_MESSAGE_METADATA,
-                                  callback, properties, signatureParams);
+        runtime.invokeMethodAsync(httpResource.getMethodInvoker(), null, ON_MESSAGE_METADATA, callback, properties,
+                                  signatureParams);
     }
 
     protected boolean accessed(HttpCarbonMessage inboundMessage) {
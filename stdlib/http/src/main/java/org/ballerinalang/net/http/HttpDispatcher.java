@@ -156,7 +156,7 @@ public class HttpDispatcher {
         HttpUtil.populateInboundRequest(inRequest, inRequestEntity, httpCarbonMessage);
 
         SignatureParams signatureParams = httpResource.getSignatureParams();
-        Object[] paramValues = new Object[signatureParams.getParamCount() * 2];
+        Object[] paramValues = httpResource.getMethodInvoker().newArgs();
         int paramIndex = 0;
         paramValues[paramIndex++] = httpCaller;
         paramValues[paramIndex++] = true;
@@ -18,6 +18,7 @@
 package org.ballerinalang.net.http;
 
 import io.ballerina.runtime.api.BStringUtils;
+import io.ballerina.runtime.api.MethodInvoker;
 import io.ballerina.runtime.api.types.AttachedFunctionType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BMap;
@@ -68,6 +69,7 @@ public class HttpResource {
     private CorsHeaders corsHeaders;
     private SignatureParams signatureParams;
     private HttpService parentService;
+    private MethodInvoker methodInvoker;
     private boolean transactionInfectable = true; //default behavior
     private boolean interruptible;
 
@@ -77,6 +79,7 @@ public class HttpResource {
         this.balResource = resource;
         this.parentService = parentService;
         this.producesSubTypes = new ArrayList<>();
+        this.methodInvoker = new MethodInvoker(parentService.getBalService(), resource.getName());
     }
 
     public boolean isTransactionAnnotated() {
@@ -99,6 +102,10 @@ public class HttpResource {
         return parentService;
     }
 
+    public MethodInvoker getMethodInvoker() {
+        return methodInvoker;
+    }
+
     public AttachedFunctionType getBalResource() {
         return balResource;
     }
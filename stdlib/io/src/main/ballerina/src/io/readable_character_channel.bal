@@ -15,6 +15,7 @@
 // under the License.
 
 import ballerina/java;
+import ballerina/lang.'xml as xmllib;
 
 #Represents a channel, which could be used to read characters through a given ReadableByteChannel.
 public class ReadableCharacterChannel {
@@ -64,6 +65,20 @@ public class ReadableCharacterChannel {
         return readXmlExtern(self);
     }
 
+    # Returns a stream of the XML elements at the given path, which are read from the channel one at a time as the
+    # stream is iterated. Only the element being returned is held in memory, hence this could be used to read
+    # documents, which are too large to be read with `readXml()`.
+    # ```ballerina
+    # stream<xml:Element, io:Error> items = readableCharChannel.xmlElements("feed", "item");
+    # ```
+    #
+    # + path - Expanded names of the elements starting from the document element or else empty for the top level
+    #          elements
+    # + return - Stream of the elements at `path`, which is completed with an `io:Error` if the content is not valid
+    public function xmlElements(string... path) returns @tainted stream<xmllib:Element, Error> {
+        return new stream<xmllib:Element, Error>(new XmlElementIterator(self, path));
+    }
+
     # Reads a property from a .properties file with a default value.
     # ```ballerina
     # string|io:Error result = readableCharChannel.readProperty(key, defaultValue);
@@ -96,6 +111,26 @@ public class ReadableCharacterChannel {
     }
 }
 
+# Iterator of the stream returned by `ReadableCharacterChannel.xmlElements()`.
+class XmlElementIterator {
+
+    private ReadableCharacterChannel channel;
+    private string[] path;
+
+    function init(ReadableCharacterChannel channel, string[] path) {
+        self.channel = channel;
+        self.path = path;
+    }
+
+    public function next() returns @tainted record {| xmllib:Element value; |}|Error? {
+        xmllib:Element|Error? element = readXmlElementExtern(self);
+        if (element is xmllib:Element) {
+            return {value: element};
+        }
+        return element;
+    }
+}
+
 function initReadableCharacterChannel(ReadableCharacterChannel characterChannel, ReadableByteChannel byteChannel,
                                       string charset) = @java:Method {
     name: "initCharacterChannel",
@@ -118,6 +153,11 @@ function readXmlExtern(ReadableCharacterChannel characterChannel) returns @taint
     'class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
 } external;
 
+function readXmlElementExtern(XmlElementIterator iterator) returns @tainted xmllib:Element|Error? = @java:Method {
+    name: "readXmlElement",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
+} external;
+
 function readPropertyExtern(ReadableCharacterChannel characterChannel, string key, string defaultValue) returns
                             @tainted string|Error = @java:Method {
     name: "readProperty",
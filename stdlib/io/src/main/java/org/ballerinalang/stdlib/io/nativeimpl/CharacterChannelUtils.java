@@ -19,8 +19,10 @@
 package org.ballerinalang.stdlib.io.nativeimpl;
 
 import io.ballerina.runtime.JSONParser;
+import io.ballerina.runtime.XMLElementReader;
 import io.ballerina.runtime.XMLFactory;
 import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
@@ -38,6 +40,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
+import java.util.Arrays;
 
 import static org.ballerinalang.stdlib.io.utils.IOConstants.CHARACTER_CHANNEL_NAME;
 
@@ -49,6 +52,7 @@ import static org.ballerinalang.stdlib.io.utils.IOConstants.CHARACTER_CHANNEL_NA
 public class CharacterChannelUtils {
 
     private static final Logger log = LoggerFactory.getLogger(CharacterChannelUtils.class);
+    private static final String XML_ELEMENT_READER = "xmlElementReader";
 
     private CharacterChannelUtils() {
     }
@@ -107,6 +111,23 @@ public class CharacterChannelUtils {
         }
     }
 
+    public static Object readXmlElement(BObject iterator) {
+        XMLElementReader reader = (XMLElementReader) iterator.getNativeData(XML_ELEMENT_READER);
+        try {
+            if (reader == null) {
+                BObject channel = (BObject) iterator.get(StringUtils.fromString("channel"));
+                CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+                BArray path = iterator.getArrayValue(StringUtils.fromString("path"));
+                reader = new XMLElementReader(new CharacterChannelReader(charChannel),
+                                              Arrays.asList(path.getStringArray()));
+                iterator.addNativeData(XML_ELEMENT_READER, reader);
+            }
+            return reader.hasNext() ? reader.next() : null;
+        } catch (BallerinaException e) {
+            return IOUtils.createError(e);
+        }
+    }
+
     public static Object readProperty(BObject channel, BString key, BString defaultValue) {
         CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
         CharacterChannelReader reader = new CharacterChannelReader(charChannel);
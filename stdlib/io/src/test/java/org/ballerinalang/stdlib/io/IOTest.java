@@ -385,6 +385,23 @@ public class IOTest {
         BRunUtil.invoke(characterInputOutputProgramFile, "closeReadableChannel");
     }
 
+    @Test(description = "Test 'xmlElements' function in ballerina/io package")
+    public void testXmlElements() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/text/cd_catalog.xml";
+
+        //Will initialize the channel
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)), new BString("UTF-8") };
+        BRunUtil.invoke(characterInputOutputProgramFile, "initReadableChannel", args);
+
+        BValue[] returns = BRunUtil.invoke(characterInputOutputProgramFile, "readXmlElementTitles");
+        BValueArray titles = (BValueArray) returns[0];
+        Assert.assertEquals(titles.size(), 26);
+        Assert.assertEquals(titles.getString(0), "Empire Burlesque");
+        Assert.assertEquals(titles.getString(25), "Unchain my heart");
+
+        BRunUtil.invoke(characterInputOutputProgramFile, "closeReadableChannel");
+    }
+
     @Test(description = "Test function to convert string to json")
     public void convertStringToJsonTest() throws URISyntaxException {
         String content = "{\n" + "  \"test\": { \"name\": \"Foo\" }\n" + "}";
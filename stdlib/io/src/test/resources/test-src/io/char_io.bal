@@ -15,6 +15,7 @@
 // under the License.
 
 import ballerina/io;
+import ballerina/lang.'xml as xmllib;
 
 io:ReadableCharacterChannel? rch = ();
 io:WritableCharacterChannel? wch = ();
@@ -130,6 +131,24 @@ function readXml() returns @tainted xml|error {
     return e;
 }
 
+function readXmlElementTitles() returns @tainted string[]|error {
+    var rCha = rch;
+    if (rCha is io:ReadableCharacterChannel) {
+        stream<xmllib:Element, io:Error> titles = rCha.xmlElements("CATALOG", "CD", "TITLE");
+        string[] values = [];
+        while (true) {
+            record {| xmllib:Element value; |}? title = check titles.next();
+            if (title is record {| xmllib:Element value; |}) {
+                values.push(title.value.getChildren().toString());
+            } else {
+                return values;
+            }
+        }
+    }
+    io:GenericError e = io:GenericError("Character channel not initialized properly");
+    return e;
+}
+
 function readAvailableProperty(string key) returns @tainted string?|error {
     var rCha = rch;
     if(rCha is io:ReadableCharacterChannel) {
@@ -23,12 +23,13 @@ import io.ballerina.runtime.observability.ObserveUtils;
 import io.ballerina.runtime.scheduling.Strand;
 import org.ballerinalang.logging.BLogManager;
 import org.ballerinalang.logging.util.BLogLevel;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.ballerinalang.logging.util.BLogLevelMapper;
+import org.ballerinalang.logging.util.StructuredLogRecord;
 
-import java.util.function.BiConsumer;
 import java.util.function.Supplier;
+import java.util.logging.Level;
 import java.util.logging.LogManager;
+import java.util.logging.Logger;
 
 /**
  * Base class for the other log functions, containing a getter to retrieve the correct logger, given a package name.
@@ -39,28 +40,41 @@ public abstract class AbstractLogFunction {
 
     protected static final BLogManager LOG_MANAGER = (BLogManager) LogManager.getLogManager();
 
-    private static final Logger ballerinaRootLogger = LoggerFactory.getLogger(BLogManager.BALLERINA_ROOT_LOGGER_NAME);
+    private static final Logger ballerinaRootLogger = Logger.getLogger(BLogManager.BALLERINA_ROOT_LOGGER_NAME);
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
 
     protected static Logger getLogger(String pkg) {
         if (".".equals(pkg) || pkg == null) {
             return ballerinaRootLogger;
         } else {
             // TODO: Refactor this later
-            return LoggerFactory.getLogger(ballerinaRootLogger.getName() + "." + pkg);
+            return Logger.getLogger(ballerinaRootLogger.getName() + "." + pkg);
         }
     }
 
     /**
-     * Execute logging provided message.
+     * Checks whether the given log level is enabled for the given module. This only compares levels and hence is
+     * cheap enough to be called before the log message is evaluated.
+     *
+     * @param pkg      module path, or null if module log levels are not in use
+     * @param logLevel log level
+     * @return true if a message at the given level should be logged
+     */
+    static boolean isLogLevelEnabled(String pkg, BLogLevel logLevel) {
+        return LOG_MANAGER.getPackageLogLevel(pkg == null ? "." : pkg).value() <= logLevel.value();
+    }
+
+    /**
+     * Execute logging provided message. The message is logged as a {@link StructuredLogRecord}, which evaluates the
+     * message only when a handler formats the record.
      *
      * @param strand strand
      * @param message  log message
      * @param logLevel log level
      * @param pckg package
-     * @param consumer log message consumer
+     * @param err error to append to the log message, or null
      */
-    static void logMessage(Strand strand, Object message, BLogLevel logLevel, String pckg,
-                           BiConsumer<String, String> consumer) {
+    static void logMessage(Strand strand, Object message, BLogLevel logLevel, String pckg, Object err) {
         // Create a new log message supplier
         Supplier<String> logMessage = new Supplier<String>() {
             private String msg = null;
@@ -78,12 +92,22 @@ public abstract class AbstractLogFunction {
                 return msg;
             }
         };
-        consumer.accept(pckg, logMessage.get());
+        // Check the logger level before creating the record, so that disabled levels never pay for it
+        Logger logger = getLogger(pckg);
+        Level level = BLogLevelMapper.getLoggerLevel(logLevel);
+        if (logger.isLoggable(level)) {
+            StructuredLogRecord record = new StructuredLogRecord(level, err == null ? logMessage :
+                    () -> logMessage.get() + " : " + err.toString());
+            record.setLoggerName(logger.getName());
+            logger.log(record);
+        }
         ObserveUtils.logMessageToActiveSpan(logLevel.name(), logMessage, logLevel == BLogLevel.ERROR);
     }
 
     static String getPackagePath() {
-        String className = Thread.currentThread().getStackTrace()[4].getClassName();
+        // Skip this method, the native function and its generated wrapper to reach the calling Ballerina module
+        String className = STACK_WALKER.walk(frames -> frames.skip(3).findFirst())
+                .map(StackWalker.StackFrame::getClassName).orElse("");
         String[] pkgData = className.split("\\.");
         if (pkgData.length > 1) {
             return pkgData[0] + "/" + pkgData[1];
@@ -30,78 +30,43 @@ import org.ballerinalang.logging.util.BLogLevel;
 public class Utils extends AbstractLogFunction {
 
     public static void printDebug(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.DEBUG.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.DEBUG.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.DEBUG, getPackagePath(),
-                    (pkg, message) -> {
-                        getLogger(pkg).debug(message);
-                    });
+        // Resolve the calling module only once, and not at all if the level is disabled for every module
+        String modulePath = LOG_MANAGER.isModuleLogLevelEnabled() ? getPackagePath() : null;
+        if (isLogLevelEnabled(modulePath, BLogLevel.DEBUG)) {
+            logMessage(Scheduler.getStrand(), msg, BLogLevel.DEBUG,
+                    modulePath != null ? modulePath : getPackagePath(), null);
         }
     }
 
     public static void printError(Object msg, Object err) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.ERROR.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.ERROR.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.ERROR, getPackagePath(),
-                    (pkg, message) -> {
-                        String errorMsg = (err == null) ? "" : " : " + err.toString();
-                        getLogger(pkg).error(message + errorMsg);
-                    });
+        String modulePath = LOG_MANAGER.isModuleLogLevelEnabled() ? getPackagePath() : null;
+        if (isLogLevelEnabled(modulePath, BLogLevel.ERROR)) {
+            logMessage(Scheduler.getStrand(), msg, BLogLevel.ERROR,
+                    modulePath != null ? modulePath : getPackagePath(), err);
         }
     }
 
     public static void printInfo(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.INFO.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.INFO.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.INFO, getPackagePath(),
-                    (pkg, message) -> {
-                        getLogger(pkg).info(message);
-                    });
+        String modulePath = LOG_MANAGER.isModuleLogLevelEnabled() ? getPackagePath() : null;
+        if (isLogLevelEnabled(modulePath, BLogLevel.INFO)) {
+            logMessage(Scheduler.getStrand(), msg, BLogLevel.INFO,
+                    modulePath != null ? modulePath : getPackagePath(), null);
         }
     }
 
     public static void printTrace(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.TRACE.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.TRACE.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.TRACE, getPackagePath(),
-                    (pkg, message) -> {
-                        getLogger(pkg).trace(message);
-                    });
+        String modulePath = LOG_MANAGER.isModuleLogLevelEnabled() ? getPackagePath() : null;
+        if (isLogLevelEnabled(modulePath, BLogLevel.TRACE)) {
+            logMessage(Scheduler.getStrand(), msg, BLogLevel.TRACE,
+                    modulePath != null ? modulePath : getPackagePath(), null);
         }
     }
 
     public static void printWarn(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.WARN.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.WARN.value();
-        }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.WARN, getPackagePath(),
-                    (pkg, message) -> {
-                        getLogger(pkg).warn(message);
-                    });
+        String modulePath = LOG_MANAGER.isModuleLogLevelEnabled() ? getPackagePath() : null;
+        if (isLogLevelEnabled(modulePath, BLogLevel.WARN)) {
+            logMessage(Scheduler.getStrand(), msg, BLogLevel.WARN,
+                    modulePath != null ? modulePath : getPackagePath(), null);
         }
     }
 
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.logging;
+
+import org.ballerinalang.logging.formatters.JsonLogFormatter;
+import org.ballerinalang.logging.handlers.BallerinaLogApiHandler;
+import org.ballerinalang.logging.util.StructuredLogRecord;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Test cases for the console handler of the log API.
+ */
+public class BallerinaLogApiHandlerTest {
+
+    private PrintStream stdErr;
+    private ByteArrayOutputStream console;
+    private BallerinaLogApiHandler handler;
+
+    @BeforeMethod
+    public void setUp() throws UnsupportedEncodingException {
+        stdErr = System.err;
+        console = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(console, true, StandardCharsets.UTF_8.name()));
+        handler = new BallerinaLogApiHandler();
+        handler.setEncoding(StandardCharsets.UTF_8.name());
+        handler.setLevel(Level.INFO);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        System.setErr(stdErr);
+    }
+
+    @Test(description = "Test writing structured records with the JSON formatter.")
+    public void testPublishJson() {
+        handler.setFormatter(new JsonLogFormatter());
+        StructuredLogRecord record = new StructuredLogRecord(Level.INFO, () -> "caf\u00e9 : error");
+        record.setLoggerName("ballerina.orders");
+        record.setMillis(1000);
+        handler.publish(record);
+
+        String expected = "{\"time\":1000,\"level\":\"INFO\",\"logger\":\"ballerina.orders\"," +
+                "\"message\":\"caf\u00e9 : error\"}" + System.lineSeparator();
+        Assert.assertEquals(new String(console.toByteArray(), StandardCharsets.UTF_8), expected);
+    }
+
+    @Test(description = "Test that the message of a record below the level of the handler is not evaluated.")
+    public void testPublishDisabledLevel() {
+        handler.setFormatter(new JsonLogFormatter());
+        int[] evaluations = new int[1];
+        handler.publish(new StructuredLogRecord(Level.FINER, () -> {
+            evaluations[0]++;
+            return "debug message";
+        }));
+        Assert.assertEquals(evaluations[0], 0, "Message evaluated for a disabled level.");
+        Assert.assertEquals(console.size(), 0);
+    }
+
+    @Test(description = "Test writing structured records with a text formatter.")
+    public void testPublishText() {
+        handler.setFormatter(new Formatter() {
+            @Override
+            public String format(LogRecord record) {
+                return record.getLevel() + " " + record.getMessage() + "\n";
+            }
+        });
+        handler.publish(new StructuredLogRecord(Level.WARNING, () -> "disk almost full"));
+        Assert.assertEquals(new String(console.toByteArray(), StandardCharsets.UTF_8),
+                "WARNING disk almost full\n");
+    }
+}
@@ -19,11 +19,15 @@
 package org.ballerinalang.stdlib.logging;
 
 import org.ballerinalang.logging.formatters.JsonLogFormatter;
+import org.ballerinalang.logging.util.StructuredLogRecord;
 import org.testng.Assert;
 import org.testng.TestNG;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Calendar;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -95,6 +99,53 @@ public class JsonLogFormatterTest extends TestNG {
         Assert.assertTrue(str.indexOf("100") > 0, "Log record doesn't contain parameters.");
     }
 
+    @Test(description = "Test formatting of structured log records.")
+    public void testStructuredLogFormat() throws IOException {
+        StructuredLogRecord record = new StructuredLogRecord(Level.INFO, () -> "order \"placed\"\n");
+        record.setLoggerName("ballerina.orders");
+        record.setMillis(1000);
+        record.addField("orderId", 42L).addField("customer", "Jane").addField("note", null);
+
+        String str = jsonLogFormatter.format(record);
+        Assert.assertTrue(str.startsWith("{\"time\":1000,\"level\":\"INFO\",\"logger\":\"ballerina.orders\"," +
+                "\"message\":\"order \\\"placed\\\"\\n\",\"orderId\":42,\"customer\":\"Jane\",\"note\":null}"),
+                "Structured log format is incorrect: " + str);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jsonLogFormatter.format(record, out);
+        Assert.assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), str);
+    }
+
+    @Test(description = "Test formatting of structured log records with characters outside ASCII.")
+    public void testStructuredLogFormatNonAscii() throws IOException {
+        StructuredLogRecord record = new StructuredLogRecord(Level.INFO, () -> "caf\u00e9 \u20ac \ud83d\ude00");
+        record.setMillis(1000);
+        record.addField("tab\t", "\u0001\ud800");
+
+        String str = jsonLogFormatter.format(record);
+        Assert.assertTrue(str.startsWith("{\"time\":1000,\"level\":\"INFO\",\"message\":" +
+                "\"caf\u00e9 \u20ac \ud83d\ude00\",\"tab\\t\":\"\\u0001\\ud800\"}"),
+                "Structured log format is incorrect: " + str);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        jsonLogFormatter.format(record, out);
+        Assert.assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), str);
+    }
+
+    @Test(description = "Test that the message of a structured log record is evaluated lazily.")
+    public void testStructuredLogRecordLazyMessage() {
+        int[] evaluations = new int[1];
+        StructuredLogRecord record = new StructuredLogRecord(Level.FINE, () -> {
+            evaluations[0]++;
+            return "debug message";
+        });
+        record.addField("key", "value");
+        Assert.assertEquals(evaluations[0], 0, "Message evaluated before it was requested.");
+        Assert.assertEquals(record.getMessage(), "debug message key=value");
+        Assert.assertEquals(record.getRawMessage(), "debug message");
+        Assert.assertEquals(evaluations[0], 1, "Message evaluated more than once.");
+    }
+
     @Test(description = "Test header string for a set of formatted records.")
     public void testGetHead() {
         Assert.assertEquals("", jsonLogFormatter.getHead(null),
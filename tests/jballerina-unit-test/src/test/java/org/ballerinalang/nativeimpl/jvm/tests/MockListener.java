@@ -18,6 +18,7 @@
 package org.ballerinalang.nativeimpl.jvm.tests;
 
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.MethodInvoker;
 import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.async.Callback;
 import io.ballerina.runtime.api.values.BError;
@@ -61,4 +62,27 @@ public class MockListener {
         }
         return err;
     }
+
+    public static Object invokeResourceByInvoker(Environment env, BString name) throws InterruptedException {
+        if (service != null) {
+            CountDownLatch latch = new CountDownLatch(1);
+            MethodInvoker invoker = new MethodInvoker(service, name.getValue());
+            Runtime runtime = env.getRuntime();
+            runtime.invokeMethodAsync(invoker, null, null,
+                                      new Callback() {
+                                          @Override
+                                          public void notifySuccess() {
+                                              latch.countDown();
+                                          }
+
+                                          @Override
+                                          public void notifyFailure(BError error) {
+                                              err = error;
+                                              latch.countDown();
+                                          }
+                             }, new HashMap<>(), invoker.newArgs());
+            latch.await();
+        }
+        return err;
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.bir;
+
+import org.ballerinalang.core.model.values.BInteger;
+import org.ballerinalang.core.model.values.BString;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for running functions whose tuple and record locals are replaced by one local per member.
+ *
+ * @since 2.0.0
+ */
+public class AggregateScalarizationTest {
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        compileResult = BCompileUtil.compile("test-src/bir/aggregate-scalarization.bal");
+        Assert.assertEquals(compileResult.getErrorCount(), 0);
+    }
+
+    @Test
+    public void testTupleMembersReturned() {
+        BValue[] result = BRunUtil.invoke(compileResult, "testTupleMembersReturned");
+        Assert.assertEquals(result.length, 1);
+        Assert.assertTrue(result[0] instanceof BString);
+        Assert.assertEquals(result[0].stringValue(), "answer:42");
+    }
+
+    @Test
+    public void testTupleReturned() {
+        // The returned tuple escapes, hence it is created as usual: [3, 3 + 4]
+        assertInt(BRunUtil.invoke(compileResult, "testTupleReturned"), 307);
+    }
+
+    @Test
+    public void testRecordTemporaries() {
+        // |1 - 4| + |5 - 1|
+        assertInt(BRunUtil.invoke(compileResult, "testRecordTemporaries"), 7);
+    }
+
+    @Test
+    public void testRecordTemporariesInLoop() {
+        // (1 + 0) + (2 + 1) + (3 + 4) + (4 + 9)
+        assertInt(BRunUtil.invoke(compileResult, "testRecordTemporariesInLoop"), 24);
+    }
+
+    @Test
+    public void testRecordWithDefaultValues() {
+        assertInt(BRunUtil.invoke(compileResult, "testRecordWithDefaultValues"), 15);
+    }
+
+    private static void assertInt(BValue[] result, long expected) {
+        Assert.assertEquals(result.length, 1);
+        Assert.assertTrue(result[0] instanceof BInteger);
+        Assert.assertEquals(((BInteger) result[0]).intValue(), expected);
+    }
+}
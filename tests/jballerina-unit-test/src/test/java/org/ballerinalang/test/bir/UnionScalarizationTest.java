@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.bir;
+
+import org.ballerinalang.core.model.values.BFloat;
+import org.ballerinalang.core.model.values.BInteger;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for running functions whose {@code int?} and {@code int|float} locals are replaced by a tag and a value.
+ *
+ * @since 2.0.0
+ */
+public class UnionScalarizationTest {
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        compileResult = BCompileUtil.compile("test-src/bir/union-scalarization.bal");
+        Assert.assertEquals(compileResult.getErrorCount(), 0);
+    }
+
+    @Test
+    public void testOptionalIntAccumulator() {
+        assertInt(BRunUtil.invoke(compileResult, "testOptionalIntAccumulator"), 10);
+    }
+
+    @Test
+    public void testOptionalIntAccumulatorWithoutValues() {
+        assertInt(BRunUtil.invoke(compileResult, "testOptionalIntAccumulatorWithoutValues"), -1);
+    }
+
+    @Test
+    public void testOptionalIntAccumulatorReset() {
+        // Three runs, the last of which sums up to 4 + 5
+        assertInt(BRunUtil.invoke(compileResult, "testOptionalIntAccumulatorReset"), 309);
+    }
+
+    @Test
+    public void testIntOrFloatAccumulator() {
+        // 1 + 2 + 3 + 4 + 5 = 15, which exceeds 10, so the next value turns it into 15.5, then 15.5 + 7 + 8
+        assertFloat(BRunUtil.invoke(compileResult, "testIntOrFloatAccumulator"), 30.5);
+    }
+
+    @Test
+    public void testIntOrFloatAccumulatorStaysInt() {
+        assertFloat(BRunUtil.invoke(compileResult, "testIntOrFloatAccumulatorStaysInt"), 6.0);
+    }
+
+    private static void assertInt(BValue[] result, long expected) {
+        Assert.assertEquals(result.length, 1);
+        Assert.assertTrue(result[0] instanceof BInteger);
+        Assert.assertEquals(((BInteger) result[0]).intValue(), expected);
+    }
+
+    private static void assertFloat(BValue[] result, double expected) {
+        Assert.assertEquals(result.length, 1);
+        Assert.assertTrue(result[0] instanceof BFloat);
+        Assert.assertEquals(((BFloat) result[0]).floatValue(), expected);
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.test.javainterop;
+
+import io.ballerina.runtime.XMLFactory;
+import io.ballerina.runtime.api.ErrorCreator;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.util.exceptions.BLangRuntimeException;
+import io.ballerina.runtime.values.ErrorValue;
+import io.ballerina.runtime.values.XMLQName;
+import io.ballerina.runtime.values.XMLValue;
+import org.ballerinalang.core.model.values.BBoolean;
+import org.ballerinalang.core.model.values.BHandleValue;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.core.model.values.BXML;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for the conversion of interop return values, whose Java type already fixes the Ballerina type.
+ *
+ * @since 2.0.0
+ */
+public class InteropReturnTypeCastTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/javainterop/interop_return_type_cast.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+    }
+
+    @Test
+    public void testStringReturn() {
+        BValue[] returns = BRunUtil.invoke(result, "testStringReturn");
+        Assert.assertTrue(returns[0] instanceof org.ballerinalang.core.model.values.BString);
+        Assert.assertEquals(returns[0].stringValue(), "hello");
+    }
+
+    @Test
+    public void testErrorReturn() {
+        BValue[] returns = BRunUtil.invoke(result, "testErrorReturn");
+        Assert.assertTrue(returns[0] instanceof org.ballerinalang.core.model.values.BError);
+        Assert.assertEquals(((org.ballerinalang.core.model.values.BError) returns[0]).getMessage(), "failed");
+    }
+
+    @Test
+    public void testErrorValueReturn() {
+        BValue[] returns = BRunUtil.invoke(result, "testErrorValueReturn");
+        Assert.assertTrue(returns[0] instanceof org.ballerinalang.core.model.values.BError);
+        Assert.assertEquals(((org.ballerinalang.core.model.values.BError) returns[0]).getMessage(), "failed");
+    }
+
+    @Test
+    public void testXmlReturn() {
+        BValue[] returns = BRunUtil.invoke(result, "testXmlReturn");
+        Assert.assertTrue(returns[0] instanceof BXML);
+        Assert.assertTrue(returns[0].stringValue().startsWith("<book"));
+    }
+
+    @Test
+    public void testHandleReturn() {
+        BValue[] returns = BRunUtil.invoke(result, "testHandleReturn");
+        Assert.assertTrue(returns[0] instanceof BHandleValue);
+        Assert.assertEquals(((BHandleValue) returns[0]).getValue(), "hello");
+    }
+
+    @Test
+    public void testNullHandleReturn() {
+        BValue[] returns = BRunUtil.invoke(result, "testNullHandleReturn");
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test(expectedExceptions = { BLangRuntimeException.class },
+            expectedExceptionsMessageRegExp = "error: \\{ballerina\\}TypeCastError \\{\"message\":\"" +
+                    "incompatible types: '\\(\\)' cannot be cast to 'string'.*")
+    public void testNullStringReturn() {
+        BRunUtil.invoke(result, "testNullStringReturn");
+    }
+
+    @Test(expectedExceptions = { BLangRuntimeException.class },
+            expectedExceptionsMessageRegExp = "error: \\{ballerina\\}TypeCastError \\{\"message\":\"" +
+                    "incompatible types: '\\(\\)' cannot be cast to 'error'.*")
+    public void testNullErrorReturn() {
+        BRunUtil.invoke(result, "testNullErrorReturn");
+    }
+
+    @Test(expectedExceptions = { BLangRuntimeException.class },
+            expectedExceptionsMessageRegExp = "error: \\{ballerina\\}TypeCastError \\{\"message\":\"" +
+                    "incompatible types: '\\(\\)' cannot be cast to 'xml.*")
+    public void testNullXmlReturn() {
+        BRunUtil.invoke(result, "testNullXmlReturn");
+    }
+
+    @Test
+    public void testCharReturn() {
+        BValue[] returns = BRunUtil.invoke(result, "testCharReturn");
+        Assert.assertEquals(returns[0].stringValue(), "a");
+    }
+
+    @Test(expectedExceptions = { BLangRuntimeException.class },
+            expectedExceptionsMessageRegExp = "error: \\{ballerina\\}TypeCastError \\{\"message\":\"" +
+                    "incompatible types: 'string' cannot be cast to .*")
+    public void testInvalidCharReturn() {
+        BRunUtil.invoke(result, "testInvalidCharReturn");
+    }
+
+    @Test
+    public void testXmlElementReturn() {
+        BValue[] returns = BRunUtil.invoke(result, "testXmlElementReturn");
+        Assert.assertTrue(returns[0] instanceof BXML);
+        Assert.assertTrue(returns[0].stringValue().startsWith("<book"));
+    }
+
+    @Test(expectedExceptions = { BLangRuntimeException.class },
+            expectedExceptionsMessageRegExp = "error: \\{ballerina\\}TypeCastError \\{\"message\":\"" +
+                    "incompatible types: .* cannot be cast to .*")
+    public void testInvalidXmlElementReturn() {
+        BRunUtil.invoke(result, "testInvalidXmlElementReturn");
+    }
+
+    @Test(expectedExceptions = { BLangRuntimeException.class },
+            expectedExceptionsMessageRegExp = "error: \\{ballerina\\}TypeCastError \\{\"message\":\"" +
+                    "incompatible types: 'error' cannot be cast to .*")
+    public void testInvalidCustomErrorReturn() {
+        BRunUtil.invoke(result, "testInvalidCustomErrorReturn");
+    }
+
+    // Interop functions
+
+    public static BString getString(BString s) {
+        return s;
+    }
+
+    public static BString getNullString() {
+        return null;
+    }
+
+    public static BError getError(BString message) {
+        return ErrorCreator.createError(message);
+    }
+
+    public static ErrorValue getErrorValue(BString message) {
+        return (ErrorValue) ErrorCreator.createError(message);
+    }
+
+    public static BError getNullError() {
+        return null;
+    }
+
+    public static XMLValue getXml(BString name) {
+        return XMLFactory.createXMLElement(new XMLQName(name.getValue(), "", ""), "");
+    }
+
+    public static XMLValue getNullXml() {
+        return null;
+    }
+
+    public static XMLValue getXmlText(BString content) {
+        return XMLFactory.createXMLText(content);
+    }
+
+    public static Object getHandle(BString s) {
+        return s.getValue();
+    }
+
+    public static Object getNullHandle() {
+        return null;
+    }
+}
@@ -223,4 +223,24 @@ public class ForeachArrayTests {
     public void testEmptyArray() {
         BRunUtil.invoke(program, "testEmptyArray");
     }
+
+    @Test
+    public void testArrayAppendInForeach() {
+        BRunUtil.invoke(program, "testArrayAppendInForeach");
+    }
+
+    @Test
+    public void testContinueInForeach() {
+        BRunUtil.invoke(program, "testContinueInForeach");
+    }
+
+    @Test
+    public void testTupleAndStringForeach() {
+        BRunUtil.invoke(program, "testTupleAndStringForeach");
+    }
+
+    @Test
+    public void testIntRangeForeach() {
+        BRunUtil.invoke(program, "testIntRangeForeach");
+    }
 }
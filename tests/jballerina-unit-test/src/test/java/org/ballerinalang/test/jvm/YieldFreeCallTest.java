@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.jvm;
+
+import org.ballerinalang.core.model.values.BInteger;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for calling functions which never yield, from strands which yield.
+ *
+ * @since 2.0.0
+ */
+public class YieldFreeCallTest {
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        compileResult = BCompileUtil.compile("test-src/jvm/yield-free-calls.bal");
+        Assert.assertEquals(compileResult.getErrorCount(), 0);
+    }
+
+    @Test
+    public void testYieldFreeCallsAcrossWait() {
+        // scale(1) = 4, scale(4) = 13, scale(13) = 40
+        assertInt(BRunUtil.invoke(compileResult, "testYieldFreeCallsAcrossWait"), 57);
+    }
+
+    @Test
+    public void testYieldFreeCallsInLoopWithWait() {
+        // 2 * (scale(0) + scale(1) + scale(2) + scale(3) + scale(4)) = 2 * (1 + 4 + 7 + 10 + 13)
+        assertInt(BRunUtil.invoke(compileResult, "testYieldFreeCallsInLoopWithWait"), 70);
+    }
+
+    @Test
+    public void testYieldFreeCallsBetweenWorkerMessages() {
+        // scale(scale(1)) + scale(scale(2)) = scale(4) + scale(7) = 13 + 22
+        assertInt(BRunUtil.invoke(compileResult, "testYieldFreeCallsBetweenWorkerMessages"), 35);
+    }
+
+    private static void assertInt(BValue[] result, long expected) {
+        Assert.assertEquals(result.length, 1);
+        Assert.assertTrue(result[0] instanceof BInteger);
+        Assert.assertEquals(((BInteger) result[0]).intValue(), expected);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.services;
+
+import io.ballerina.runtime.api.ErrorCreator;
+import io.ballerina.runtime.api.MethodInvoker;
+import io.ballerina.runtime.api.StringUtils;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.scheduling.Scheduler;
+import io.ballerina.runtime.util.exceptions.BLangRuntimeException;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Tests calling object methods by the index resolved by the generated {@code getMethodIndex} method.
+ */
+public class MethodInvokerTest {
+
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        compileResult = BCompileUtil.compile("test-src/services/method_invoker.bal");
+    }
+
+    @Test(description = "Tests invoking a resource through the runtime with a method invoker")
+    public void testResourceCallByInvoker() {
+        BRunUtil.invoke(compileResult, "testResourceCallByInvoker");
+    }
+
+    @Test(description = "Tests calling methods by the index returned by getMethodIndex")
+    public void testCallByIndex() {
+        BRunUtil.invoke(compileResult, "testCallByIndex");
+    }
+
+    @Test(description = "Tests calling methods with a method invoker")
+    public void testCallByInvoker() {
+        BRunUtil.invoke(compileResult, "testCallByInvoker");
+    }
+
+    @Test(description = "Tests calling a method with an index, which is out of range")
+    public void testCallByInvalidIndex() {
+        BRunUtil.invoke(compileResult, "testCallByInvalidIndex");
+    }
+
+    @Test(description = "Tests calling a method, which does not exist, with a method invoker")
+    public void testCallByInvokerWithUnknownName() {
+        BRunUtil.invoke(compileResult, "testCallByInvokerWithUnknownName");
+    }
+
+    public static long getMethodIndex(BObject calculator, BString name) {
+        return calculator.getMethodIndex(name.getValue());
+    }
+
+    public static Object callByIndex(BObject calculator, long index, long a, long b) {
+        try {
+            return calculator.call(Scheduler.getStrand(), (int) index, new Object[]{a, true, b, true});
+        } catch (BLangRuntimeException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+
+    public static Object callByInvoker(BObject calculator, BString name, long a, long b) {
+        MethodInvoker invoker = new MethodInvoker(calculator, name.getValue());
+        Object[] args = invoker.newArgs();
+        // The argument array is sized for the parameters of the method
+        for (int i = 0; i < args.length; i += 2) {
+            args[i] = i == 0 ? a : b;
+            args[i + 1] = true;
+        }
+        try {
+            return invoker.call(Scheduler.getStrand(), args);
+        } catch (BLangRuntimeException e) {
+            return ErrorCreator.createError(StringUtils.fromString(e.getMessage()));
+        }
+    }
+}
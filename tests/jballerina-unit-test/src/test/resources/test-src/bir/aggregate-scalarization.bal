@@ -0,0 +1,83 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Point record {|
+    int x;
+    int y;
+|};
+
+type Counter record {|
+    int count = 10;
+    int step;
+|};
+
+function swap(int a, string b) returns [string, int] {
+    [int, string] t = [a, b];
+    t[0] = t[0] * 2;
+    return [t[1], t[0]];
+}
+
+function accumulate(int a, int b) returns [int, int] {
+    [int, int] t = [a, b];
+    t[1] = t[0] + t[1];
+    return t;
+}
+
+function distance(int x1, int y1, int x2, int y2) returns int {
+    Point p = {x: x1, y: y1};
+    Point q = {x: x2, y: y2};
+    int dx = p.x > q.x ? p.x - q.x : q.x - p.x;
+    int dy = p.y > q.y ? p.y - q.y : q.y - p.y;
+    return dx + dy;
+}
+
+function sumPoints(int n) returns int {
+    int total = 0;
+    foreach int i in 0 ..< n {
+        Point p = {x: i, y: i * i};
+        p.x = p.x + 1;
+        total += p.x + p.y;
+    }
+    return total;
+}
+
+function countUp(int step) returns int {
+    Counter c = {step: step};
+    c.count = c.count + c.step;
+    return c.count;
+}
+
+function testTupleMembersReturned() returns string {
+    [string, int] result = swap(21, "answer");
+    return result[0] + ":" + result[1].toString();
+}
+
+function testTupleReturned() returns int {
+    [int, int] result = accumulate(3, 4);
+    return result[0] * 100 + result[1];
+}
+
+function testRecordTemporaries() returns int {
+    return distance(1, 5, 4, 1);
+}
+
+function testRecordTemporariesInLoop() returns int {
+    return sumPoints(4);
+}
+
+function testRecordWithDefaultValues() returns int {
+    return countUp(5);
+}
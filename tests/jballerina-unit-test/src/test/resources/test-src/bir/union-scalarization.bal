@@ -0,0 +1,88 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+function sumOptional(int[] values) returns int {
+    int? acc = ();
+    foreach int v in values {
+        if acc is int {
+            acc = acc + v;
+        } else {
+            acc = v;
+        }
+    }
+    if acc is int {
+        return acc;
+    }
+    return -1;
+}
+
+function sumMixed(int[] values) returns float {
+    int|float acc = 0;
+    foreach int v in values {
+        if acc is int {
+            if acc > 10 {
+                acc = <float> acc + 0.5;
+            } else {
+                acc = acc + v;
+            }
+        } else {
+            acc = acc + <float> v;
+        }
+    }
+    if acc is float {
+        return acc;
+    }
+    return <float> acc;
+}
+
+function sumRuns(int[] values) returns int {
+    int? current = ();
+    int runs = 0;
+    foreach int v in values {
+        if v < 0 {
+            current = ();
+        } else if current is () {
+            current = v;
+            runs += 1;
+        } else {
+            current = current + v;
+        }
+    }
+    if current is int {
+        return runs * 100 + current;
+    }
+    return runs * 100;
+}
+
+function testOptionalIntAccumulator() returns int {
+    return sumOptional([1, 2, 3, 4]);
+}
+
+function testOptionalIntAccumulatorWithoutValues() returns int {
+    return sumOptional([]);
+}
+
+function testOptionalIntAccumulatorReset() returns int {
+    return sumRuns([1, 2, -1, 3, -2, -3, 4, 5]);
+}
+
+function testIntOrFloatAccumulator() returns float {
+    return sumMixed([1, 2, 3, 4, 5, 6, 7, 8]);
+}
+
+function testIntOrFloatAccumulatorStaysInt() returns float {
+    return sumMixed([1, 2, 3]);
+}
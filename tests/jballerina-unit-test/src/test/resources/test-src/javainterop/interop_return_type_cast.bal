@@ -0,0 +1,120 @@
+import ballerina/java;
+
+type CustomError distinct error;
+
+// Returns whose Java type fixes the Ballerina type
+
+function testStringReturn() returns string {
+    return getString("hello");
+}
+
+function testErrorReturn() returns error {
+    return getError("failed");
+}
+
+function testErrorValueReturn() returns error {
+    return getErrorValue("failed");
+}
+
+function testXmlReturn() returns xml {
+    return getXml("book");
+}
+
+function testHandleReturn() returns handle {
+    return getHandle("hello");
+}
+
+function testNullHandleReturn() returns boolean {
+    return java:isNull(getNullHandle());
+}
+
+function testNullStringReturn() returns string {
+    return getNullString();
+}
+
+function testNullErrorReturn() returns error {
+    return getNullError();
+}
+
+function testNullXmlReturn() returns xml {
+    return getNullXml();
+}
+
+// Returns declared with a narrower type than the one fixed by the Java type
+
+function testCharReturn() returns string:Char {
+    return getChar("a");
+}
+
+function testInvalidCharReturn() returns string:Char {
+    return getChar("ab");
+}
+
+function testXmlElementReturn() returns xml:Element {
+    return getXmlElement("book");
+}
+
+function testInvalidXmlElementReturn() returns xml:Element {
+    return getXmlText("book");
+}
+
+function testInvalidCustomErrorReturn() returns CustomError {
+    return getCustomError("failed");
+}
+
+// Interop functions
+
+function getString(string s) returns string = @java:Method {
+    'class:"org/ballerinalang/test/javainterop/InteropReturnTypeCastTest"
+} external;
+
+function getNullString() returns string = @java:Method {
+    'class:"org/ballerinalang/test/javainterop/InteropReturnTypeCastTest"
+} external;
+
+function getChar(string s) returns string:Char = @java:Method {
+    name:"getString",
+    'class:"org/ballerinalang/test/javainterop/InteropReturnTypeCastTest"
+} external;
+
+function getError(string message) returns error = @java:Method {
+    'class:"org/ballerinalang/test/javainterop/InteropReturnTypeCastTest"
+} external;
+
+function getErrorValue(string message) returns error = @java:Method {
+    'class:"org/ballerinalang/test/javainterop/InteropReturnTypeCastTest"
+} external;
+
+function getNullError() returns error = @java:Method {
+    'class:"org/ballerinalang/test/javainterop/InteropReturnTypeCastTest"
+} external;
+
+function getCustomError(string message) returns CustomError = @java:Method {
+    name:"getError",
+    'class:"org/ballerinalang/test/javainterop/InteropReturnTypeCastTest"
+} external;
+
+function getXml(string name) returns xml = @java:Method {
+    'class:"org/ballerinalang/test/javainterop/InteropReturnTypeCastTest"
+} external;
+
+function getNullXml() returns xml = @java:Method {
+    'class:"org/ballerinalang/test/javainterop/InteropReturnTypeCastTest"
+} external;
+
+function getXmlElement(string name) returns xml:Element = @java:Method {
+    name:"getXml",
+    'class:"org/ballerinalang/test/javainterop/InteropReturnTypeCastTest"
+} external;
+
+function getXmlText(string content) returns xml:Element = @java:Method {
+    'class:"org/ballerinalang/test/javainterop/InteropReturnTypeCastTest"
+} external;
+
+function getHandle(string s) returns handle = @java:Method {
+    'class:"org/ballerinalang/test/javainterop/InteropReturnTypeCastTest"
+} external;
+
+function getNullHandle() returns handle = @java:Method {
+    'class:"org/ballerinalang/test/javainterop/InteropReturnTypeCastTest"
+} external;
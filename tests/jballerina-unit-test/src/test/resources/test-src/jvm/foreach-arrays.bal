@@ -247,6 +247,64 @@ function testEmptyArray() {
     assertEquality(output, "hello");
 }
 
+function testArrayAppendInForeach() {
+    int[] data = [1, 2, 3];
+    int sum = 0;
+    foreach int i in data {
+        data.push(i);
+        sum += i;
+    }
+    assertEquality(6, sum);
+    assertEquality(6, data.length());
+}
+
+function testContinueInForeach() {
+    float[] data = [1.5, 2.5, 3.5, 4.5];
+    float sum = 0.0;
+    foreach float f in data {
+        if f == 2.5 {
+            continue;
+        }
+        sum += f;
+    }
+    assertEquality(9.5, sum);
+}
+
+function testTupleAndStringForeach() {
+    [int, string, boolean] tuple = [1, "a", true];
+    string output = "";
+    foreach var member in tuple {
+        output += member.toString();
+    }
+    assertEquality("1atrue", output);
+
+    string chars = "";
+    foreach var c in "a\u{1F600}b" {
+        chars += c + ",";
+    }
+    assertEquality("a,\u{1F600},b,", chars);
+}
+
+function testIntRangeForeach() {
+    int sum = 0;
+    foreach int i in 1 ..< 5 {
+        sum += i;
+    }
+    assertEquality(10, sum);
+
+    sum = 0;
+    foreach int i in 1 ... 5 {
+        sum += i;
+    }
+    assertEquality(15, sum);
+
+    sum = 0;
+    foreach int i in 5 ..< 1 {
+        sum += i;
+    }
+    assertEquality(0, sum);
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertEquality(any|error expected, any|error actual) {
@@ -0,0 +1,60 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Never yields, hence it is generated without the strand state machine.
+function scale(int value) returns int {
+    int result = 0;
+    int i = 0;
+    while (i < 3) {
+        result += value;
+        i += 1;
+    }
+    return result + 1;
+}
+
+function testYieldFreeCallsAcrossWait() returns int {
+    int before = scale(1);
+    future<int> f = start scale(before);
+    // The strand yields here, and resumes with the locals of the yield-free calls.
+    int after = wait f;
+    return before + after + scale(after);
+}
+
+function testYieldFreeCallsInLoopWithWait() returns int {
+    int sum = 0;
+    int i = 0;
+    while (i < 5) {
+        future<int> f = start scale(i);
+        int scaled = scale(i);
+        sum += scaled + (wait f);
+        i += 1;
+    }
+    return sum;
+}
+
+function testYieldFreeCallsBetweenWorkerMessages() returns int {
+    worker w1 returns int {
+        int x = <- w2;
+        int y = scale(x);
+        int z = <- w2;
+        return y + scale(z);
+    }
+    worker w2 {
+        scale(1) -> w1;
+        scale(2) -> w1;
+    }
+    return wait w1;
+}
@@ -0,0 +1,131 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/java;
+import ballerina/lang.'object as lang;
+
+public class Listener {
+    *lang:Listener;
+    public isolated function __start() returns error? {
+    }
+    public isolated function __gracefulStop() returns error? {
+    }
+    public isolated function __immediateStop() returns error? {
+    }
+    public isolated function __detach(service s) returns error? {
+    }
+    public isolated function __attach(service s, string? name = ()) returns error? {
+        return externAttach(s);
+    }
+}
+
+isolated function externAttach(service s) returns error? = @java:Method {
+    'class: "org.ballerinalang.nativeimpl.jvm.tests.MockListener",
+    name: "attach"
+} external;
+
+function invokeResourceByInvoker(string name) returns error? = @java:Method {
+    'class: "org.ballerinalang.nativeimpl.jvm.tests.MockListener",
+    name: "invokeResourceByInvoker"
+} external;
+
+listener Listener lsn = new();
+int count = 0;
+
+service counter on lsn {
+    resource function increment() {
+        count += 1;
+    }
+}
+
+class Calculator {
+    function add(int a, int b) returns int {
+        return a + b;
+    }
+
+    function subtract(int a, int b) returns int {
+        return a - b;
+    }
+
+    function negate(int a) returns int {
+        return -a;
+    }
+}
+
+function getMethodIndex(Calculator calculator, string name) returns int = @java:Method {
+    'class: "org.ballerinalang.test.services.MethodInvokerTest"
+} external;
+
+function callByIndex(Calculator calculator, int index, int a, int b) returns int|error = @java:Method {
+    'class: "org.ballerinalang.test.services.MethodInvokerTest"
+} external;
+
+function callByInvoker(Calculator calculator, string name, int a, int b) returns int|error = @java:Method {
+    'class: "org.ballerinalang.test.services.MethodInvokerTest"
+} external;
+
+function testResourceCallByInvoker() {
+    error? err = invokeResourceByInvoker("increment");
+    assertEquality((), err);
+    err = invokeResourceByInvoker("increment");
+    assertEquality((), err);
+    assertEquality(2, count);
+}
+
+function testCallByIndex() {
+    Calculator calculator = new;
+    int addIndex = getMethodIndex(calculator, "add");
+    int subtractIndex = getMethodIndex(calculator, "subtract");
+    assertEquality(true, addIndex >= 0);
+    assertEquality(true, subtractIndex >= 0);
+    assertEquality(true, addIndex != subtractIndex);
+    assertEquality(5, callByIndex(calculator, addIndex, 3, 2));
+    assertEquality(1, callByIndex(calculator, subtractIndex, 3, 2));
+}
+
+function testCallByInvoker() {
+    Calculator calculator = new;
+    assertEquality(5, callByInvoker(calculator, "add", 3, 2));
+    assertEquality(1, callByInvoker(calculator, "subtract", 3, 2));
+    assertEquality(-3, callByInvoker(calculator, "negate", 3, 2));
+}
+
+function testCallByInvalidIndex() {
+    Calculator calculator = new;
+    assertEquality(-1, getMethodIndex(calculator, "multiply"));
+
+    int|error result = callByIndex(calculator, 100, 3, 2);
+    assertEquality(true, result is error);
+    assertEquality("No method with index: 100", (<error> result).message());
+
+    result = callByIndex(calculator, -1, 3, 2);
+    assertEquality(true, result is error);
+    assertEquality("No method with index: -1", (<error> result).message());
+}
+
+function testCallByInvokerWithUnknownName() {
+    Calculator calculator = new;
+    int|error result = callByInvoker(calculator, "multiply", 3, 2);
+    assertEquality(true, result is error);
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if (expected == actual) {
+        return;
+    }
+    panic error("AssertionError", message = "expected '" + expected.toString() + "', found '" +
+                actual.toString() + "'");
+}